@@ -48,6 +48,12 @@ public abstract class AbstractProvisioningOperationRetryCancelBulkAction extends
 		return service;
 	}
 
+	@Override
+	protected boolean supportsChunks() {
+		// entities are processed in custom way
+		return false;
+	}
+	
 	@Override
 	protected OperationResult processEntities(Collection<UUID> entitiesId) {
 		for (UUID entityId : entitiesId) {
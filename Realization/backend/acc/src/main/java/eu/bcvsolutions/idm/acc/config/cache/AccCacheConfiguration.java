@@ -1,15 +1,18 @@
 package eu.bcvsolutions.idm.acc.config.cache;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import eu.bcvsolutions.idm.acc.domain.ProvisioningMappingPlan;
 import eu.bcvsolutions.idm.acc.dto.AccPasswordFilterEchoItemDto;
 import eu.bcvsolutions.idm.acc.dto.AttributeValueWrapperDto;
 import eu.bcvsolutions.idm.acc.dto.SysProvisioningBreakItems;
 import eu.bcvsolutions.idm.acc.service.api.PasswordFilterManager;
+import eu.bcvsolutions.idm.acc.service.api.ProvisioningMappingPlanManager;
 import eu.bcvsolutions.idm.acc.service.api.SynchronizationEntityExecutor;
 import eu.bcvsolutions.idm.acc.service.api.SynchronizationService;
 import eu.bcvsolutions.idm.acc.service.impl.AbstractSynchronizationExecutor;
@@ -84,4 +87,38 @@ public class AccCacheConfiguration {
 				.withTtl(Duration.ofHours(12))
 				.build();
 	}
+
+	/**
+	 * Define distributed cache for compiled provisioning mapping plans ({@link ProvisioningMappingPlan}).
+	 * Plans are evicted, when provisioning configuration is changed.
+	 *
+	 * @return {@link IdMCacheConfiguration} for {@link ProvisioningMappingPlanManager}
+	 * @since 12.3.0
+	 */
+	@Bean
+	public IdMCacheConfiguration provisioningMappingPlanCacheConfig() {
+		return DistributedIdMCacheConfiguration.<String, ProvisioningMappingPlan> builder()
+				.withName(ProvisioningMappingPlanManager.CACHE_NAME)
+				.withKeyType(String.class)
+				.withValueType(ProvisioningMappingPlan.class)
+				.withTtl(Duration.ofHours(1))
+				.build();
+	}
+
+	/**
+	 * Define local only cache for final attributes compiled with overloading attributes by provisioning mapping plan.
+	 *
+	 * @return {@link IdMCacheConfiguration} for {@link ProvisioningMappingPlanManager}
+	 * @since 12.3.0
+	 */
+	@Bean
+	@SuppressWarnings("rawtypes")
+	public IdMCacheConfiguration provisioningCompiledAttributesCacheConfig() {
+		return LocalIdMCacheConfiguration.<String, List> builder()
+				.withName(ProvisioningMappingPlanManager.COMPILED_ATTRIBUTES_CACHE_NAME)
+				.withKeyType(String.class) // plan id and overloading attributes signature
+				.withValueType(List.class) // compiled attributes
+				.withTtl(Duration.ofHours(1))
+				.build();
+	}
 }
@@ -1,13 +1,21 @@
 package eu.bcvsolutions.idm.acc.domain;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.Map;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import eu.bcvsolutions.idm.acc.dto.ProvisioningAttributeDto;
 import eu.bcvsolutions.idm.ic.api.IcConnectorObject;
 
 /**
- * Contains provisioning content
+ * Contains provisioning content.
+ * 
+ * Context loaded from persisted form is inflated lazily - attributes are deserialized, when some attribute is needed,
+ * see {@link ProvisioningContextFormat}. Persisted (compressed) form is still loaded together with the operation
+ * - deserialization is deferred only, persisted form is held in memory until context is inflated.
  * 
  * @author Radek Tomiška
  * @author Ondrej Husnik
@@ -19,6 +27,7 @@ public class ProvisioningContext implements Serializable {
 	private Map<ProvisioningAttributeDto, Object> accountObject; // account attributes 	
 	private IcConnectorObject connectorObject; // provisioning attributes
 	private IcConnectorObject systemConnectorObject; // attributes on system 
+	private transient byte[] payload; // persisted form - not inflated yet
 	
 	public ProvisioningContext() {
 	}
@@ -33,8 +42,14 @@ public class ProvisioningContext implements Serializable {
 	}
 	
 	public ProvisioningContext(ProvisioningContext context) {
-		this(context.getAccountObject(), context.getConnectorObject());
-		this.systemConnectorObject = context.getSystemConnectorObject();
+		if (!context.isInflated()) {
+			// not inflated yet => attributes will be inflated independently
+			this.payload = context.payload;
+		} else {
+			this.accountObject = context.getAccountObject();
+			this.connectorObject = context.getConnectorObject();
+			this.systemConnectorObject = context.getSystemConnectorObject();
+		}
 	}
 	
 	public ProvisioningContext(IcConnectorObject connectorObject) {
@@ -48,10 +63,12 @@ public class ProvisioningContext implements Serializable {
 	 * @return
 	 */
 	public Map<ProvisioningAttributeDto, Object> getAccountObject() {
+		inflate();
 		return accountObject;
 	}
 	
 	public void setAccountObject(Map<ProvisioningAttributeDto, Object> accountObject) {
+		inflate();
 		this.accountObject = accountObject;
 	}
 	
@@ -61,10 +78,12 @@ public class ProvisioningContext implements Serializable {
 	 * @return
 	 */
 	public IcConnectorObject getConnectorObject() {
+		inflate();
 		return connectorObject;
 	}
 
 	public void setConnectorObject(IcConnectorObject connectorObject) {
+		inflate();
 		this.connectorObject = connectorObject;
 	}
 
@@ -74,10 +93,62 @@ public class ProvisioningContext implements Serializable {
 	 * @return
 	 */
 	public IcConnectorObject getSystemConnectorObject() {
+		inflate();
 		return systemConnectorObject;
 	}
 
 	public void setSystemConnectorObject(IcConnectorObject systemConnectorObject) {
+		inflate();
 		this.systemConnectorObject = systemConnectorObject;
-	}	
+	}
+	
+	/**
+	 * Returns true, if context attributes are deserialized (context is not loaded from persisted form or some attribute
+	 * was already used).
+	 * 
+	 * @return true - attributes are inflated
+	 * @since 12.3.0
+	 */
+	@JsonIgnore
+	public boolean isInflated() {
+		return payload == null;
+	}
+	
+	/**
+	 * Persisted form - not inflated yet.
+	 * 
+	 * @return persisted form or {@code null}, if context is inflated
+	 */
+	byte[] getPayload() {
+		return payload;
+	}
+	
+	/**
+	 * Set persisted form - attributes will be inflated lazily.
+	 * 
+	 * @param payload persisted form
+	 */
+	void setPayload(byte[] payload) {
+		this.payload = payload;
+	}
+	
+	/**
+	 * Deserialize attributes from persisted form.
+	 */
+	private void inflate() {
+		if (payload == null) {
+			return;
+		}
+		ProvisioningContext context = ProvisioningContextFormat.deserialize(payload);
+		payload = null;
+		//
+		accountObject = context.getAccountObject();
+		connectorObject = context.getConnectorObject();
+		systemConnectorObject = context.getSystemConnectorObject();
+	}
+	
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		inflate();
+		out.defaultWriteObject();
+	}
 }
@@ -0,0 +1,137 @@
+package eu.bcvsolutions.idm.acc.domain;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.springframework.util.Assert;
+
+import eu.bcvsolutions.idm.acc.dto.ProvisioningAttributeDto;
+import eu.bcvsolutions.idm.core.api.exception.CoreException;
+import eu.bcvsolutions.idm.ic.api.IcConnectorObject;
+
+/**
+ * Persisted (compact) form of {@link ProvisioningContext}.
+ * 
+ * Versioned format - header with version is followed by compressed attributes (account object, connector object
+ * and system connector object). Confidential values are persisted as references into confidential storage
+ * (replaced before operation is saved). Context persisted by previous versions (java serialization of the whole context
+ * without header) is supported for reading.
+ * 
+ * @since 12.3.0
+ */
+public final class ProvisioningContextFormat {
+
+	/**
+	 * Current format version.
+	 */
+	public static final int VERSION = 1;
+	/**
+	 * Legacy format - java serialization of the whole context.
+	 */
+	public static final int VERSION_LEGACY = 0;
+	//
+	private static final byte[] HEADER = new byte[] { 'I', 'D', 'M', 'P', 'C' }; // + version
+	
+	private ProvisioningContextFormat() {
+	}
+	
+	/**
+	 * Context with attributes inflated lazily from given persisted form.
+	 * 
+	 * @param payload persisted form (current or legacy)
+	 * @return context
+	 */
+	public static ProvisioningContext lazy(byte[] payload) {
+		Assert.notNull(payload, "Persisted context is required.");
+		//
+		ProvisioningContext context = new ProvisioningContext();
+		context.setPayload(payload);
+		//
+		return context;
+	}
+	
+	/**
+	 * Serialize given context into current format.
+	 * Not inflated context already persisted in current format is returned as it is (without inflating).
+	 * 
+	 * @param context provisioning context
+	 * @return persisted form
+	 */
+	public static byte[] serialize(ProvisioningContext context) {
+		Assert.notNull(context, "Context is required.");
+		//
+		byte[] payload = context.getPayload();
+		if (payload != null && getVersion(payload) == VERSION) {
+			return payload;
+		}
+		//
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		bytes.write(HEADER, 0, HEADER.length);
+		bytes.write(VERSION);
+		try (ObjectOutputStream out = new ObjectOutputStream(new GZIPOutputStream(bytes))) {
+			out.writeObject(context.getAccountObject());
+			out.writeObject(context.getConnectorObject());
+			out.writeObject(context.getSystemConnectorObject());
+		} catch (IOException ex) {
+			throw new CoreException("Provisioning context cannot be serialized.", ex);
+		}
+		//
+		return bytes.toByteArray();
+	}
+	
+	/**
+	 * Deserialize context from given persisted form (current or legacy).
+	 * 
+	 * @param payload persisted form
+	 * @return inflated context
+	 */
+	@SuppressWarnings("unchecked")
+	public static ProvisioningContext deserialize(byte[] payload) {
+		Assert.notNull(payload, "Persisted context is required.");
+		//
+		int version = getVersion(payload);
+		if (version == VERSION_LEGACY) {
+			return (ProvisioningContext) SerializationUtils.deserialize(payload);
+		}
+		if (version != VERSION) {
+			throw new CoreException(String.format("Provisioning context version [%s] is not supported.", version));
+		}
+		//
+		int offset = HEADER.length + 1;
+		try (ObjectInputStream in = new ObjectInputStream(
+				new GZIPInputStream(new ByteArrayInputStream(payload, offset, payload.length - offset)))) {
+			ProvisioningContext context = new ProvisioningContext();
+			context.setAccountObject((Map<ProvisioningAttributeDto, Object>) in.readObject());
+			context.setConnectorObject((IcConnectorObject) in.readObject());
+			context.setSystemConnectorObject((IcConnectorObject) in.readObject());
+			//
+			return context;
+		} catch (IOException | ClassNotFoundException ex) {
+			throw new CoreException("Provisioning context cannot be deserialized.", ex);
+		}
+	}
+	
+	/**
+	 * Version of given persisted form.
+	 * 
+	 * @param payload persisted form
+	 * @return version, {@link #VERSION_LEGACY} for context persisted by previous versions
+	 */
+	public static int getVersion(byte[] payload) {
+		Assert.notNull(payload, "Persisted context is required.");
+		//
+		if (payload.length <= HEADER.length
+				|| !Arrays.equals(HEADER, Arrays.copyOf(payload, HEADER.length))) {
+			return VERSION_LEGACY;
+		}
+		return payload[HEADER.length];
+	}
+}
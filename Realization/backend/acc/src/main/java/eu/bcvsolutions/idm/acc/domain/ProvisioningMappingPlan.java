@@ -0,0 +1,121 @@
+package eu.bcvsolutions.idm.acc.domain;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.util.Assert;
+
+import eu.bcvsolutions.idm.acc.dto.SysSchemaAttributeDto;
+import eu.bcvsolutions.idm.acc.dto.SysSchemaObjectClassDto;
+import eu.bcvsolutions.idm.acc.dto.SysSystemAttributeMappingDto;
+import eu.bcvsolutions.idm.acc.dto.SysSystemMappingDto;
+
+/**
+ * Compiled provisioning mapping plan for one system and entity type - provisioning mapping, schema object class,
+ * schema attributes and mapped attributes loaded once. Final attributes compiled with overloading role-system attributes
+ * are cached separately by plan identifier and overloading attributes signature.
+ *
+ * Plan is cached and shared - contained dtos cannot be modified.
+ *
+ * @since 12.3.0
+ */
+public class ProvisioningMappingPlan implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+	//
+	private final UUID id = UUID.randomUUID(); // compiled plan version
+	private final SysSystemMappingDto systemMapping;
+	private final SysSchemaObjectClassDto schemaObjectClass;
+	private final List<SysSystemAttributeMappingDto> attributeMappings;
+	private final Map<UUID, SysSchemaAttributeDto> schemaAttributes = new LinkedHashMap<>(); // by id, sorted as loaded
+	private final Map<String, SysSchemaAttributeDto> schemaAttributesByName = new LinkedHashMap<>();
+
+	public ProvisioningMappingPlan(
+			SysSystemMappingDto systemMapping,
+			SysSchemaObjectClassDto schemaObjectClass,
+			List<SysSchemaAttributeDto> schemaAttributes,
+			List<SysSystemAttributeMappingDto> attributeMappings) {
+		Assert.notNull(systemMapping, "System mapping is required.");
+		Assert.notNull(schemaObjectClass, "Schema object class is required.");
+		Assert.notNull(schemaAttributes, "Schema attributes are required.");
+		Assert.notNull(attributeMappings, "Attribute mappings are required.");
+		//
+		this.systemMapping = systemMapping;
+		this.schemaObjectClass = schemaObjectClass;
+		this.attributeMappings = Collections.unmodifiableList(new ArrayList<>(attributeMappings));
+		schemaAttributes.forEach(schemaAttribute -> {
+			this.schemaAttributes.put(schemaAttribute.getId(), schemaAttribute);
+			this.schemaAttributesByName.putIfAbsent(schemaAttribute.getName(), schemaAttribute);
+		});
+	}
+
+	/**
+	 * Plan identifier - new identifier is generated, when plan is compiled (~ plan version).
+	 *
+	 * @return plan identifier
+	 */
+	public UUID getId() {
+		return id;
+	}
+
+	/**
+	 * Provisioning mapping.
+	 *
+	 * @return mapping
+	 */
+	public SysSystemMappingDto getSystemMapping() {
+		return systemMapping;
+	}
+
+	/**
+	 * Mapped schema object class.
+	 *
+	 * @return object class
+	 */
+	public SysSchemaObjectClassDto getSchemaObjectClass() {
+		return schemaObjectClass;
+	}
+
+	/**
+	 * Mapped attributes used for provisioning (attributes for password change only are not included).
+	 *
+	 * @return unmodifiable attributes
+	 */
+	public List<SysSystemAttributeMappingDto> getAttributeMappings() {
+		return attributeMappings;
+	}
+
+	/**
+	 * Schema attributes of mapped object class.
+	 *
+	 * @return schema attributes
+	 */
+	public List<SysSchemaAttributeDto> getSchemaAttributes() {
+		return new ArrayList<>(schemaAttributes.values());
+	}
+
+	/**
+	 * Schema attribute of mapped object class by id.
+	 *
+	 * @param schemaAttributeId schema attribute identifier
+	 * @return schema attribute or {@code null}, if schema attribute is not in mapped object class
+	 */
+	public SysSchemaAttributeDto getSchemaAttribute(UUID schemaAttributeId) {
+		return schemaAttributes.get(schemaAttributeId);
+	}
+
+	/**
+	 * Schema attribute of mapped object class by name.
+	 *
+	 * @param name schema attribute name
+	 * @return schema attribute or {@code null}, if schema attribute is not in mapped object class
+	 */
+	public SysSchemaAttributeDto getSchemaAttribute(String name) {
+		return schemaAttributesByName.get(name);
+	}
+}
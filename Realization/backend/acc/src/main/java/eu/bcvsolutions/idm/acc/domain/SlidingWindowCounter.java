@@ -0,0 +1,213 @@
+package eu.bcvsolutions.idm.acc.domain;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.util.Assert;
+
+/**
+ * Counts items (e.g. executed provisioning operations) processed in the sliding time window (period).
+ *
+ * Period is split into fixed count of buckets (ring buffer) - item is counted into bucket by its timestamp,
+ * old buckets are reused (reset) by new items => O(1) add and count without holding all timestamps in memory.
+ * Count is computed with bucket precision (~ period / {@value #BUCKET_COUNT}) - items from the bucket, which contains
+ * window start, are counted (=> count can be slightly higher, never lower).
+ *
+ * Counter is thread safe without locks - bucket epoch and count are packed into one long and updated by CAS.
+ * Serialized form contains period and non empty buckets only.
+ *
+ * @since 12.3.0
+ */
+public class SlidingWindowCounter implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+	//
+	public static final int BUCKET_COUNT = 60;
+	private static final int SLOT_COUNT = BUCKET_COUNT + 1; // window start can be in the middle of bucket
+	private static final int COUNT_BITS = 20;
+	private static final long COUNT_MASK = (1L << COUNT_BITS) - 1; // max count in one bucket (counter is saturated)
+	//
+	private final long period;
+	private final long bucketWidth;
+	private transient AtomicLongArray buckets;
+
+	/**
+	 * Counter for given period.
+	 *
+	 * @param period window length in milliseconds
+	 */
+	public SlidingWindowCounter(long period) {
+		Assert.isTrue(period > 0, "Period has to be greater than zero.");
+		//
+		this.period = period;
+		this.bucketWidth = (period + BUCKET_COUNT - 1) / BUCKET_COUNT; // ceil => window is covered by BUCKET_COUNT buckets at most
+		this.buckets = new AtomicLongArray(SLOT_COUNT);
+	}
+
+	/**
+	 * Window length in milliseconds.
+	 *
+	 * @return period
+	 */
+	public long getPeriod() {
+		return period;
+	}
+
+	/**
+	 * Add item processed in given time. Item older than the oldest held bucket is ignored (is out of window).
+	 *
+	 * @param timestamp item timestamp in milliseconds
+	 */
+	public void add(long timestamp) {
+		add(timestamp, 1);
+	}
+
+	/**
+	 * Count items processed in window (period) ended by given time.
+	 *
+	 * @param timestamp window end in milliseconds
+	 * @return count of items
+	 */
+	public int count(long timestamp) {
+		long newestEpoch = getEpoch(timestamp);
+		long oldestEpoch = getEpoch(timestamp - period);
+		long count = 0;
+		for (int slot = 0; slot < SLOT_COUNT; slot++) {
+			long bucket = buckets.get(slot);
+			long epoch = bucket >>> COUNT_BITS;
+			if (epoch >= oldestEpoch && epoch <= newestEpoch) {
+				count += bucket & COUNT_MASK;
+			}
+		}
+		return (int) Math.min(count, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Start of the oldest bucket with items in window (period) ended by given time.
+	 *
+	 * @param timestamp window end in milliseconds
+	 * @return timestamp of the oldest bucket start in milliseconds, {@code null} if window is empty
+	 */
+	public Long getOldestTimestamp(long timestamp) {
+		long newestEpoch = getEpoch(timestamp);
+		long oldestEpoch = getEpoch(timestamp - period);
+		Long oldest = null;
+		for (int slot = 0; slot < SLOT_COUNT; slot++) {
+			long bucket = buckets.get(slot);
+			long epoch = bucket >>> COUNT_BITS;
+			if ((bucket & COUNT_MASK) > 0 && epoch >= oldestEpoch && epoch <= newestEpoch) {
+				long start = (epoch - 1) * bucketWidth;
+				if (oldest == null || start < oldest) {
+					oldest = start;
+				}
+			}
+		}
+		return oldest;
+	}
+
+	/**
+	 * Start of the newest bucket with items.
+	 *
+	 * @return timestamp of the newest bucket start in milliseconds, {@code null} if counter is empty
+	 */
+	public Long getNewestTimestamp() {
+		long newestEpoch = 0;
+		for (int slot = 0; slot < SLOT_COUNT; slot++) {
+			long bucket = buckets.get(slot);
+			if ((bucket & COUNT_MASK) > 0) {
+				newestEpoch = Math.max(newestEpoch, bucket >>> COUNT_BITS);
+			}
+		}
+		return newestEpoch == 0 ? null : (newestEpoch - 1) * bucketWidth;
+	}
+
+	/**
+	 * Remove all items.
+	 */
+	public void clear() {
+		for (int slot = 0; slot < SLOT_COUNT; slot++) {
+			buckets.set(slot, 0);
+		}
+	}
+
+	/**
+	 * Returns counter with given period. Held items are moved into new counter (by bucket start), if period is different.
+	 *
+	 * @param newPeriod window length in milliseconds
+	 * @return counter with given period
+	 */
+	public SlidingWindowCounter withPeriod(long newPeriod) {
+		if (newPeriod == period) {
+			return this;
+		}
+		SlidingWindowCounter counter = new SlidingWindowCounter(newPeriod);
+		for (int slot = 0; slot < SLOT_COUNT; slot++) {
+			long bucket = buckets.get(slot);
+			long count = bucket & COUNT_MASK;
+			if (count > 0) {
+				counter.add(((bucket >>> COUNT_BITS) - 1) * bucketWidth, count);
+			}
+		}
+		return counter;
+	}
+
+	private void add(long timestamp, long count) {
+		long epoch = getEpoch(timestamp);
+		int slot = (int) (epoch % SLOT_COUNT);
+		while (true) {
+			long bucket = buckets.get(slot);
+			long bucketEpoch = bucket >>> COUNT_BITS;
+			long updated;
+			if (bucketEpoch == epoch) {
+				updated = (epoch << COUNT_BITS) | Math.min((bucket & COUNT_MASK) + count, COUNT_MASK);
+			} else if (bucketEpoch < epoch) {
+				// bucket is reused for newer window
+				updated = (epoch << COUNT_BITS) | Math.min(count, COUNT_MASK);
+			} else {
+				// item is out of window
+				return;
+			}
+			if (buckets.compareAndSet(slot, bucket, updated)) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Bucket epoch - epoch 0 is reserved for empty bucket.
+	 */
+	private long getEpoch(long timestamp) {
+		return Math.max(0, timestamp) / bucketWidth + 1;
+	}
+
+	private void writeObject(ObjectOutputStream output) throws IOException {
+		output.defaultWriteObject();
+		int size = 0;
+		for (int slot = 0; slot < SLOT_COUNT; slot++) {
+			if ((buckets.get(slot) & COUNT_MASK) > 0) {
+				size++;
+			}
+		}
+		output.writeByte(size);
+		for (int slot = 0; slot < SLOT_COUNT; slot++) {
+			long bucket = buckets.get(slot);
+			if ((bucket & COUNT_MASK) > 0) {
+				output.writeByte(slot);
+				output.writeLong(bucket);
+			}
+		}
+	}
+
+	private void readObject(ObjectInputStream input) throws IOException, ClassNotFoundException {
+		input.defaultReadObject();
+		buckets = new AtomicLongArray(SLOT_COUNT);
+		int size = input.readUnsignedByte();
+		for (int index = 0; index < size; index++) {
+			int slot = input.readUnsignedByte();
+			buckets.set(slot, input.readLong());
+		}
+	}
+}
@@ -84,6 +84,7 @@ public class SynchronizationContext implements Serializable {
 	// Properties - map for additionally data. Good as cache for contract ...
 	private Map<String, Object> properties = new HashMap<String, Object>();
 	private boolean isEntityDifferent = false;
+	private SynchronizationCorrelationIndex correlationIndex;
 
 	public String getUid() {
 		return uid;
@@ -311,6 +312,28 @@ public class SynchronizationContext implements Serializable {
 		return this;
 	}
 
+	/**
+	 * Index of system entities, accounts and correlated entities loaded for the chunk of items, which contains this item.
+	 * 
+	 * @return index or {@code null}, if item was not loaded in chunk
+	 * @since 12.3.0
+	 */
+	public SynchronizationCorrelationIndex getCorrelationIndex() {
+		return correlationIndex;
+	}
+
+	/**
+	 * Index of system entities, accounts and correlated entities loaded for the chunk of items, which contains this item.
+	 * 
+	 * @param correlationIndex index
+	 * @return context
+	 * @since 12.3.0
+	 */
+	public SynchronizationContext addCorrelationIndex(SynchronizationCorrelationIndex correlationIndex) {
+		this.correlationIndex = correlationIndex;
+		return this;
+	}
+
 	public static SynchronizationContext cloneContext(SynchronizationContext context){
 		SynchronizationContext newContext = new SynchronizationContext();
 		newContext.addAccount(context.getAccount())
@@ -0,0 +1,279 @@
+package eu.bcvsolutions.idm.acc.domain;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.StringUtils;
+
+import eu.bcvsolutions.idm.acc.dto.AccAccountDto;
+import eu.bcvsolutions.idm.acc.dto.SysSystemAttributeMappingDto;
+import eu.bcvsolutions.idm.acc.dto.SysSystemEntityDto;
+import eu.bcvsolutions.idm.core.api.dto.AbstractDto;
+
+/**
+ * In-memory index of system entities, accounts and entities found by correlation attribute
+ * for one chunk of synchronized items - loaded by set based (IN) queries for the whole chunk.
+ *
+ * Index is snapshot loaded before chunk items are processed. Only keys contained in index can be used
+ * (e.g. key with no system entity found => system entity doesn't exist), other keys have to be found
+ * directly in database. Keys used by more items in one chunk are not indexed - previous item can change them.
+ * Keys of processed item are evicted (see {@link #evictItem(String)}) - item can create or link system entity, account or entity.
+ * String keys are normalized (see {@link #getKey(Object)}). Index can be used by parallel workers.
+ *
+ * @since 12.3.0
+ */
+public class SynchronizationCorrelationIndex implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+	private static final String ACCOUNT_KEY_PREFIX = "account:";
+	private static final String CORRELATION_KEY_PREFIX = "correlation:";
+	//
+	private final Map<String, List<SysSystemEntityDto>> systemEntities = new ConcurrentHashMap<>(); // by uid key
+	private final Map<UUID, List<AccAccountDto>> systemEntityAccounts = new ConcurrentHashMap<>(); // by system entity id
+	private final Map<String, List<AccAccountDto>> accounts = new ConcurrentHashMap<>(); // by account uid key
+	private final Map<String, List<AbstractDto>> correlatedEntities = new ConcurrentHashMap<>(); // by correlation value key
+	private final Map<String, Set<String>> itemKeys = new ConcurrentHashMap<>(); // account uid and correlation value keys by item uid key
+	private SysSystemAttributeMappingDto correlationAttribute;
+
+	/**
+	 * System entities for given uid were loaded.
+	 *
+	 * @param uid system entity uid
+	 * @return true - indexed
+	 */
+	public boolean containsSystemEntities(String uid) {
+		return uid != null && systemEntities.containsKey(getKey(uid));
+	}
+
+	/**
+	 * Loaded system entities for given uid.
+	 *
+	 * @param uid system entity uid
+	 * @return system entities (empty list, if uid is not indexed)
+	 */
+	public List<SysSystemEntityDto> getSystemEntities(String uid) {
+		if (uid == null) {
+			return Collections.emptyList();
+		}
+		return systemEntities.getOrDefault(getKey(uid), Collections.emptyList());
+	}
+
+	/**
+	 * Index system entity uid - uid without system entities can be indexed to.
+	 *
+	 * @param uid system entity uid
+	 * @param systemEntity [optional] loaded system entity
+	 */
+	public void addSystemEntity(String uid, SysSystemEntityDto systemEntity) {
+		List<SysSystemEntityDto> uidSystemEntities = systemEntities.computeIfAbsent(getKey(uid), key -> new ArrayList<>(1));
+		if (systemEntity != null) {
+			uidSystemEntities.add(systemEntity);
+		}
+	}
+
+	/**
+	 * Accounts for given system entity were loaded.
+	 *
+	 * @param systemEntityId system entity identifier
+	 * @return true - indexed
+	 */
+	public boolean containsSystemEntityAccounts(UUID systemEntityId) {
+		return systemEntityId != null && systemEntityAccounts.containsKey(systemEntityId);
+	}
+
+	/**
+	 * Loaded accounts for given system entity.
+	 *
+	 * @param systemEntityId system entity identifier
+	 * @return accounts (empty list, if system entity is not indexed)
+	 */
+	public List<AccAccountDto> getSystemEntityAccounts(UUID systemEntityId) {
+		if (systemEntityId == null) {
+			return Collections.emptyList();
+		}
+		return systemEntityAccounts.getOrDefault(systemEntityId, Collections.emptyList());
+	}
+
+	/**
+	 * Index system entity accounts - system entity without accounts can be indexed to.
+	 *
+	 * @param systemEntityId system entity identifier
+	 * @param account [optional] loaded account
+	 */
+	public void addSystemEntityAccount(UUID systemEntityId, AccAccountDto account) {
+		List<AccAccountDto> systemEntityAccountList = systemEntityAccounts.computeIfAbsent(systemEntityId, key -> new ArrayList<>(1));
+		if (account != null) {
+			systemEntityAccountList.add(account);
+		}
+	}
+
+	/**
+	 * Accounts for given account uid were loaded.
+	 *
+	 * @param uid account uid
+	 * @return true - indexed
+	 */
+	public boolean containsAccounts(String uid) {
+		return uid != null && accounts.containsKey(getKey(uid));
+	}
+
+	/**
+	 * Loaded accounts for given account uid.
+	 *
+	 * @param uid account uid
+	 * @return accounts (empty list, if uid is not indexed)
+	 */
+	public List<AccAccountDto> getAccounts(String uid) {
+		if (uid == null) {
+			return Collections.emptyList();
+		}
+		return accounts.getOrDefault(getKey(uid), Collections.emptyList());
+	}
+
+	/**
+	 * Index account uid - uid without accounts can be indexed to.
+	 *
+	 * @param uid account uid
+	 * @param account [optional] loaded account
+	 */
+	public void addAccount(String uid, AccAccountDto account) {
+		List<AccAccountDto> uidAccounts = accounts.computeIfAbsent(getKey(uid), key -> new ArrayList<>(1));
+		if (account != null) {
+			uidAccounts.add(account);
+		}
+	}
+
+	/**
+	 * Loaded correlation attribute.
+	 *
+	 * @return correlation attribute
+	 */
+	public SysSystemAttributeMappingDto getCorrelationAttribute() {
+		return correlationAttribute;
+	}
+
+	/**
+	 * Loaded correlation attribute.
+	 *
+	 * @param correlationAttribute correlation attribute
+	 */
+	public void setCorrelationAttribute(SysSystemAttributeMappingDto correlationAttribute) {
+		this.correlationAttribute = correlationAttribute;
+	}
+
+	/**
+	 * Entities for given correlation value were loaded.
+	 *
+	 * @param value correlation value
+	 * @return true - indexed
+	 */
+	public boolean containsCorrelatedEntities(Object value) {
+		return value != null && correlatedEntities.containsKey(getKey(value));
+	}
+
+	/**
+	 * Loaded entities for given correlation value.
+	 *
+	 * @param value correlation value
+	 * @return entities (empty list, if value is not indexed)
+	 */
+	public List<AbstractDto> getCorrelatedEntities(Object value) {
+		if (value == null) {
+			return Collections.emptyList();
+		}
+		return correlatedEntities.getOrDefault(getKey(value), Collections.emptyList());
+	}
+
+	/**
+	 * Index correlation value - value without entities can be indexed to.
+	 *
+	 * @param value correlation value
+	 * @param entity [optional] loaded entity
+	 */
+	public void addCorrelatedEntity(Object value, AbstractDto entity) {
+		List<AbstractDto> entities = correlatedEntities.computeIfAbsent(getKey(value), key -> new ArrayList<>(1));
+		if (entity != null && !entities.contains(entity)) {
+			entities.add(entity);
+		}
+	}
+
+	/**
+	 * Evict indexed entities for given correlation value - e.g. entity with the value was created or linked.
+	 *
+	 * @param value correlation value
+	 */
+	public void evictCorrelatedEntities(Object value) {
+		if (value != null) {
+			correlatedEntities.remove(getKey(value));
+		}
+	}
+
+	/**
+	 * Register account uid and correlation value of chunk item - keys will be evicted with the item.
+	 *
+	 * @param uid item (system entity) uid
+	 * @param accountUid [optional] account uid generated for the item
+	 * @param correlationValue [optional] correlation value of the item
+	 */
+	public void addItemKeys(String uid, String accountUid, Object correlationValue) {
+		if (uid == null) {
+			return;
+		}
+		Set<String> keys = itemKeys.computeIfAbsent(getKey(uid), key -> ConcurrentHashMap.newKeySet());
+		if (accountUid != null) {
+			keys.add(ACCOUNT_KEY_PREFIX + getKey(accountUid));
+		}
+		if (correlationValue != null) {
+			keys.add(CORRELATION_KEY_PREFIX + getKey(correlationValue));
+		}
+	}
+
+	/**
+	 * Evict all indexed keys of processed chunk item - item can create or link system entity, account or entity,
+	 * so loaded keys cannot be used anymore.
+	 *
+	 * @param uid item (system entity) uid
+	 */
+	public void evictItem(String uid) {
+		if (uid == null) {
+			return;
+		}
+		String uidKey = getKey(uid);
+		List<SysSystemEntityDto> uidSystemEntities = systemEntities.remove(uidKey);
+		if (uidSystemEntities != null) {
+			uidSystemEntities.forEach(systemEntity -> systemEntityAccounts.remove(systemEntity.getId()));
+		}
+		accounts.remove(uidKey);
+		Set<String> keys = itemKeys.remove(uidKey);
+		if (keys == null) {
+			return;
+		}
+		keys.forEach(key -> {
+			if (key.startsWith(ACCOUNT_KEY_PREFIX)) {
+				accounts.remove(key.substring(ACCOUNT_KEY_PREFIX.length()));
+			} else {
+				correlatedEntities.remove(key.substring(CORRELATION_KEY_PREFIX.length()));
+			}
+		});
+	}
+
+	/**
+	 * Normalized key for uid or correlation value - database can compare values case insensitive and without trailing spaces
+	 * (depends on database collation) => values with the same key cannot be indexed together.
+	 *
+	 * @param value uid or correlation value
+	 * @return normalized key
+	 */
+	public static String getKey(Object value) {
+		if (value == null) {
+			return null;
+		}
+		return StringUtils.stripEnd(value.toString(), null).toLowerCase();
+	}
+}
@@ -4,6 +4,7 @@ import java.util.UUID;
 
 import org.springframework.hateoas.core.Relation;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonProperty.Access;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
@@ -48,6 +49,8 @@ public abstract class AbstractSysSyncConfigDto extends AbstractDto {
 	private String description;
 	private boolean reconciliation = false;
 	private boolean differentialSync = false;
+	@ApiModelProperty(notes = "Count of parallel workers - items are processed sequentially, if count is not set or is lower than 2.")
+	private Integer workerCount;
 	private boolean customFilter = false;
 	private String token;
 	private String customFilterScript;
@@ -124,6 +127,38 @@ public abstract class AbstractSysSyncConfigDto extends AbstractDto {
 		this.differentialSync = differentialSync;
 	}
 
+	/**
+	 * Count of parallel workers - items are processed sequentially, if count is not set or is lower than 2.
+	 * Items are partitioned into workers by UID - item with the same UID is never processed twice at the same time.
+	 *
+	 * @return count of parallel workers
+	 * @since 12.3.0
+	 */
+	public Integer getWorkerCount() {
+		return workerCount;
+	}
+
+	/**
+	 * Count of parallel workers - items are processed sequentially, if count is not set or is lower than 2.
+	 *
+	 * @param workerCount count of parallel workers
+	 * @since 12.3.0
+	 */
+	public void setWorkerCount(Integer workerCount) {
+		this.workerCount = workerCount;
+	}
+
+	/**
+	 * Items are processed in parallel by more workers.
+	 *
+	 * @return true - parallel processing is enabled
+	 * @since 12.3.0
+	 */
+	@JsonIgnore
+	public boolean isParallel() {
+		return workerCount != null && workerCount > 1;
+	}
+
 	public boolean isCustomFilter() {
 		return customFilter;
 	}
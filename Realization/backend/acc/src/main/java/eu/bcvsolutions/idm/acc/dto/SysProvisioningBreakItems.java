@@ -1,129 +1,179 @@
 package eu.bcvsolutions.idm.acc.dto;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.springframework.util.Assert;
 
 import eu.bcvsolutions.idm.acc.domain.ProvisioningEventType;
+import eu.bcvsolutions.idm.acc.domain.SlidingWindowCounter;
 
 /**
- * Class for cache processed items in provisioning. There is stored only
- * timestamp
- * 
- * @author Ondrej Kopr
+ * Class for cache processed items in provisioning. Processed items are counted
+ * in sliding window counter for each provisioning type - timestamps are not stored.
  *
+ * @author Ondrej Kopr
+ * @see SlidingWindowCounter
  */
 public class SysProvisioningBreakItems implements Serializable {
-	
-	private static final long serialVersionUID = 1L;
+
+	private static final long serialVersionUID = 2L;
+	/**
+	 * Period used for counting items before provisioning break configuration is evaluated.
+	 *
+	 * @since 12.3.0
+	 */
+	public static final long DEFAULT_PERIOD = TimeUnit.HOURS.toMillis(1);
 	//
-	private final Map<ProvisioningEventType, List<Long>> executedItems;
+	private transient Map<ProvisioningEventType, SlidingWindowCounter> executedItems;
+	private transient ReadWriteLock periodLock; // items are not added, when counter period is changed
 
 	public SysProvisioningBreakItems() {
-		this.executedItems = new HashMap<>();
-		this.executedItems.put(ProvisioningEventType.CREATE, Collections.synchronizedList(new LinkedList<Long>()));
-		this.executedItems.put(ProvisioningEventType.DELETE, Collections.synchronizedList(new LinkedList<Long>()));
-		this.executedItems.put(ProvisioningEventType.UPDATE, Collections.synchronizedList(new LinkedList<Long>()));
+		this.executedItems = new ConcurrentHashMap<>();
+		this.periodLock = new ReentrantReadWriteLock();
 	}
 
 	/**
 	 * Add new item to executed items for specific provisioning type
-	 * 
-	 * @param event
+	 *
+	 * @param provisioningType
 	 * @param timestamp
 	 */
 	public void addItem(ProvisioningEventType provisioningType, Long timestamp) {
-		this.getExecutedItems(provisioningType).add(timestamp);
+		Assert.notNull(timestamp, "Timestamp is required.");
+		//
+		periodLock.readLock().lock();
+		try {
+			this.getCounter(provisioningType).add(timestamp);
+		} finally {
+			periodLock.readLock().unlock();
+		}
 	}
 
 	/**
-	 * Return executed items for specific provisioning type
-	 * 
+	 * Get count of processed items in given period ended by given timestamp for specific provisioning type.
+	 *
 	 * @param provisioningType
+	 * @param period in milliseconds
+	 * @param timestamp window end
 	 * @return
+	 * @since 12.3.0
 	 */
-	public synchronized List<Long> getExecutedItems(ProvisioningEventType provisioningType) {
-		return this.executedItems.get(provisioningType);
+	public int getCount(ProvisioningEventType provisioningType, long period, long timestamp) {
+		if (period <= 0) {
+			// empty window
+			return 0;
+		}
+		return this.getCounter(provisioningType, period).count(timestamp);
 	}
 
 	/**
-	 * Get size of all processed items for specific provisioning type
-	 * 
+	 * Get size of all processed items (in the last period) for specific provisioning type
+	 *
 	 * @param provisioningType
 	 * @return
 	 */
 	public int getSize(ProvisioningEventType provisioningType) {
-		return this.getExecutedItems(provisioningType).size();
+		Assert.notNull(provisioningType, "Provisioning type is required.");
+		SlidingWindowCounter counter = executedItems.get(provisioningType);
+		//
+		return counter == null ? 0 : counter.count(System.currentTimeMillis());
 	}
 
-	/**
-	 * Remove all order items that given timestamp for specific provisioning
-	 * type
-	 * 
-	 * @param provisioningType
-	 * @param timestamp
-	 */
-	public void removeOlderRecordsThan(ProvisioningEventType provisioningType, Long timestamp) {
-		this.getExecutedItems(provisioningType).removeIf(item -> item < timestamp);
-	}
-	
 	/**
 	 * Return timestamp different between first and actual timestamp given in
 	 * parameter, if actualParameter will be null return diff between fisrt and
-	 * last timestamp in list.
-	 * 
+	 * last timestamp in list. Timestamps are computed with counter bucket precision.
+	 *
 	 * @return
 	 */
 	public Long getDiffBetweenActualAndLast(ProvisioningEventType provisioningType, Long actualTimestamp) {
-		if (this.getSize(provisioningType) == 0) {
+		Assert.notNull(provisioningType, "Provisioning type is required.");
+		SlidingWindowCounter counter = executedItems.get(provisioningType);
+		if (counter == null) {
 			return null;
 		}
-		Long first = this.getExecutedItems(provisioningType).get(0);
 		Long last = actualTimestamp;
 		if (last == null) {
-			last = this.getExecutedItems(provisioningType).get(this.getSize(provisioningType) - 1);
+			last = counter.getNewestTimestamp();
+			if (last == null) {
+				return null;
+			}
+		}
+		Long first = counter.getOldestTimestamp(last);
+		if (first == null) {
+			return null;
 		}
 		return last - first;
 	}
 
 	/**
-	 * Return all processed items newer than timestamp for specific provisioning
-	 * type
-	 * 
+	 * Clear all records for given {@link ProvisioningEventType}
+	 *
 	 * @param provisioningType
-	 * @param timestamp
-	 * @return
 	 */
-	public List<Long> getRecordsNewerThan(ProvisioningEventType provisioningType, Long timestamp) {
-		return this.getExecutedItems(provisioningType).stream().filter(item -> item >= timestamp)
-				.collect(Collectors.toList());
+	public void clearRecords(ProvisioningEventType provisioningType) {
+		Assert.notNull(provisioningType, "Provisioning type is required.");
+		SlidingWindowCounter counter = executedItems.get(provisioningType);
+		if (counter != null) {
+			counter.clear();
+		}
 	}
 
 	/**
-	 * Return size all processed items newer than timestamp for specific
-	 * provisioning type
-	 * 
-	 * @param provisioningType
-	 * @param timestamp
-	 * @return
+	 * Counter for given provisioning type with the last used period.
 	 */
-	public int getSizeRecordsNewerThan(ProvisioningEventType provisioningType, Long timestamp) {
-		return getRecordsNewerThan(provisioningType, timestamp).size();
+	private SlidingWindowCounter getCounter(ProvisioningEventType provisioningType) {
+		Assert.notNull(provisioningType, "Provisioning type is required.");
+		//
+		return executedItems.computeIfAbsent(provisioningType, type -> new SlidingWindowCounter(DEFAULT_PERIOD));
 	}
-	
+
 	/**
-	 * Clear all records for given {@link ProvisioningEventType}
-	 * 
-	 * @param provisioningType
+	 * Counter for given provisioning type with given period - held items are preserved, when period is changed
+	 * (items are not added into previous counter, when period is changed).
 	 */
-	public void clearRecords(ProvisioningEventType provisioningType) {
+	private SlidingWindowCounter getCounter(ProvisioningEventType provisioningType, long period) {
 		Assert.notNull(provisioningType, "Provisioning type is required.");
-		this.getExecutedItems(provisioningType).clear();
+		//
+		SlidingWindowCounter counter = executedItems.get(provisioningType);
+		if (counter != null && counter.getPeriod() == period) {
+			return counter;
+		}
+		periodLock.writeLock().lock();
+		try {
+			return executedItems.compute(provisioningType, (type, previousCounter) -> {
+				return previousCounter == null ? new SlidingWindowCounter(period) : previousCounter.withPeriod(period);
+			});
+		} finally {
+			periodLock.writeLock().unlock();
+		}
+	}
+
+	private void writeObject(ObjectOutputStream output) throws IOException {
+		output.defaultWriteObject();
+		output.writeByte(executedItems.size());
+		for (Map.Entry<ProvisioningEventType, SlidingWindowCounter> entry : executedItems.entrySet()) {
+			output.writeUTF(entry.getKey().name());
+			output.writeObject(entry.getValue());
+		}
+	}
+
+	private void readObject(ObjectInputStream input) throws IOException, ClassNotFoundException {
+		input.defaultReadObject();
+		executedItems = new ConcurrentHashMap<>();
+		periodLock = new ReentrantReadWriteLock();
+		int size = input.readUnsignedByte();
+		for (int index = 0; index < size; index++) {
+			ProvisioningEventType provisioningType = ProvisioningEventType.valueOf(input.readUTF());
+			executedItems.put(provisioningType, (SlidingWindowCounter) input.readObject());
+		}
 	}
 }
@@ -26,7 +26,7 @@ public class SysSyncLogDto extends AbstractDto implements Loggable {
 	@Embedded(dtoClass = SysSyncConfigDto.class)
 	private UUID synchronizationConfig;
 	private boolean running;
-	private boolean containsError;
+	private volatile boolean containsError;
 	private ZonedDateTime started;
 	private ZonedDateTime ended;
 	private String token;
@@ -81,27 +81,34 @@ public class SysSyncLogDto extends AbstractDto implements Loggable {
 		this.token = token;
 	}
 
-	public String getLog() {
+	public synchronized String getLog() {
 		return log;
 	}
 
-	public void setLog(String log) {
+	public synchronized void setLog(String log) {
 		this.log = log;
 	}
 
+	/**
+	 * Log is shared by parallel synchronization workers - text is appended under lock.
+	 */
 	@Override
 	public String addToLog(String text) {
-		if (text != null) {
-			LOG.info(text);
+		if (text == null) {
+			return this.getLog();
+		}
+		LOG.info(text);
+		synchronized (this) {
 			StringBuilder builder = new StringBuilder();
 			if (this.log != null) {
 				builder.append(this.log);
 				builder.append("\n" + Loggable.LOG_SEPARATOR + "\n");
 			}
 			builder.append(text);
-			this.setLog(builder.toString());
+			this.log = builder.toString();
+			//
+			return this.log;
 		}
-		return this.getLog();
 	}
 
 	public List<SysSyncActionLogDto> getSyncActionLogs() {
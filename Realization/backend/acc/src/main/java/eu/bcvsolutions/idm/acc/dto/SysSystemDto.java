@@ -112,7 +112,7 @@ public class SysSystemDto extends IdmSystemDto {
 	@JsonIgnore
 	@Deprecated
 	public IcConnectorInstance getConnectorInstance() {
-		return new IcConnectorInstanceImpl(this.getConnectorServer(), this.getConnectorKey(), this.isRemote());
+		return new IcConnectorInstanceImpl(this.getConnectorServer(), this.getConnectorKey(), this.isRemote(), this.getId());
 	}
 
 	public SysBlockedOperationDto getBlockedOperation() {
@@ -1,5 +1,6 @@
 package eu.bcvsolutions.idm.acc.dto.filter;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.util.LinkedMultiValueMap;
@@ -32,6 +33,8 @@ public class AccAccountFilter extends DataFilter {
 	private UUID uniformPasswordId; // Used for unite password change and validate
 	private Boolean supportPasswordFilter;
 	private Boolean includeEcho; // Returned account will contains echo record in embedded
+	private List<UUID> systemEntityIds; // OR
+	private List<String> uids; // OR
 	
 	public AccAccountFilter() {
 		this(new LinkedMultiValueMap<>());
@@ -137,4 +140,43 @@ public class AccAccountFilter extends DataFilter {
 		this.includeEcho = includeEcho;
 	}
 
+	/**
+	 * Accounts of given system entities - OR.
+	 * 
+	 * @return system entity identifiers
+	 * @since 12.3.0
+	 */
+	public List<UUID> getSystemEntityIds() {
+		return systemEntityIds;
+	}
+
+	/**
+	 * Accounts of given system entities - OR.
+	 * 
+	 * @param systemEntityIds system entity identifiers
+	 * @since 12.3.0
+	 */
+	public void setSystemEntityIds(List<UUID> systemEntityIds) {
+		this.systemEntityIds = systemEntityIds;
+	}
+
+	/**
+	 * Accounts with given uids - OR.
+	 * 
+	 * @return account uids
+	 * @since 12.3.0
+	 */
+	public List<String> getUids() {
+		return uids;
+	}
+
+	/**
+	 * Accounts with given uids - OR.
+	 * 
+	 * @param uids account uids
+	 * @since 12.3.0
+	 */
+	public void setUids(List<String> uids) {
+		this.uids = uids;
+	}
 }
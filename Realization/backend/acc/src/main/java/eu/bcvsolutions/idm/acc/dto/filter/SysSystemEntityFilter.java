@@ -1,5 +1,6 @@
 package eu.bcvsolutions.idm.acc.dto.filter;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.util.LinkedMultiValueMap;
@@ -20,6 +21,7 @@ public class SysSystemEntityFilter extends DataFilter {
 	
 	public static final String PARAMETER_SYSTEM_ID = "systemId";
 	public static final String PARAMETER_UID = "uid";
+	public static final String PARAMETER_UIDS = "uids"; // list - OR
 	public static final String PARAMETER_ENTITY_TYPE = "entityType";
 	
 	public SysSystemEntityFilter() {
@@ -57,4 +59,24 @@ public class SysSystemEntityFilter extends DataFilter {
 	public void setUid(String uid) {
 		set(PARAMETER_UID, uid);
 	}
+	
+	/**
+	 * System entities with given uids - OR.
+	 * 
+	 * @return uids
+	 * @since 12.3.0
+	 */
+	public List<String> getUids() {
+		return getParameterConverter().toStrings(getData(), PARAMETER_UIDS);
+	}
+	
+	/**
+	 * System entities with given uids - OR.
+	 * 
+	 * @param uids uids
+	 * @since 12.3.0
+	 */
+	public void setUids(List<String> uids) {
+		put(PARAMETER_UIDS, uids);
+	}
 }
@@ -16,6 +16,7 @@ import javax.persistence.Table;
 import javax.validation.constraints.NotNull;
 
 import eu.bcvsolutions.idm.acc.domain.ProvisioningContext;
+import eu.bcvsolutions.idm.acc.domain.ProvisioningContextFormat;
 import eu.bcvsolutions.idm.acc.domain.ProvisioningEventType;
 import eu.bcvsolutions.idm.acc.domain.SystemEntityType;
 import eu.bcvsolutions.idm.core.api.domain.OperationState;
@@ -54,7 +55,7 @@ public class SysProvisioningArchive extends AbstractEntity {
 	
 	@NotNull
 	@Column(name = "provisioning_context", length = Integer.MAX_VALUE, nullable = false)
-	private ProvisioningContext provisioningContext; 
+	private byte[] provisioningContext; // persisted form, see ProvisioningContextFormat
 	
 	@NotNull
 	@Enumerated(EnumType.STRING)
@@ -162,12 +163,24 @@ public class SysProvisioningArchive extends AbstractEntity {
 		this.result = result;
 	}
 	
+	/**
+	 * Provisioning context - attributes are inflated lazily, when some attribute is needed.
+	 * 
+	 * @return context
+	 */
 	public ProvisioningContext getProvisioningContext() {
-		return provisioningContext;
+		if (provisioningContext == null) {
+			return null;
+		}
+		return ProvisioningContextFormat.lazy(provisioningContext);
 	}
 	
 	public void setProvisioningContext(ProvisioningContext provisioningContext) {
-		this.provisioningContext = provisioningContext;
+		if (provisioningContext == null) {
+			this.provisioningContext = null;
+		} else {
+			this.provisioningContext = ProvisioningContextFormat.serialize(provisioningContext);
+		}
 	}
 
 	public UUID getRoleRequestId() {
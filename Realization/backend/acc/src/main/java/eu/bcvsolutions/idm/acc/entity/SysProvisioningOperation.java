@@ -21,6 +21,7 @@ import org.hibernate.annotations.NotFoundAction;
 import java.time.ZonedDateTime;
 
 import eu.bcvsolutions.idm.acc.domain.ProvisioningContext;
+import eu.bcvsolutions.idm.acc.domain.ProvisioningContextFormat;
 import eu.bcvsolutions.idm.acc.domain.ProvisioningEventType;
 import eu.bcvsolutions.idm.acc.domain.SystemEntityType;
 import eu.bcvsolutions.idm.core.api.entity.AbstractEntity;
@@ -54,7 +55,7 @@ public class SysProvisioningOperation extends AbstractEntity {
 	
 	@NotNull
 	@Column(name = "provisioning_context", length = Integer.MAX_VALUE, nullable = false)
-	private ProvisioningContext provisioningContext; 
+	private byte[] provisioningContext; // persisted form, see ProvisioningContextFormat
 	
 	@NotNull
 	@ManyToOne(optional = false)
@@ -139,12 +140,24 @@ public class SysProvisioningOperation extends AbstractEntity {
 		this.entityIdentifier = entityIdentifier;
 	}
 	
+	/**
+	 * Provisioning context - attributes are inflated lazily, when some attribute is needed.
+	 * 
+	 * @return context
+	 */
 	public ProvisioningContext getProvisioningContext() {
-		return provisioningContext;
+		if (provisioningContext == null) {
+			return null;
+		}
+		return ProvisioningContextFormat.lazy(provisioningContext);
 	}
 	
 	public void setProvisioningContext(ProvisioningContext provisioningContext) {
-		this.provisioningContext = provisioningContext;
+		if (provisioningContext == null) {
+			this.provisioningContext = null;
+		} else {
+			this.provisioningContext = ProvisioningContextFormat.serialize(provisioningContext);
+		}
 	}
 	
 	public int getCurrentAttempt() {
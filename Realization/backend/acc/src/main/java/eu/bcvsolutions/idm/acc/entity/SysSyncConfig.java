@@ -73,6 +73,10 @@ public class SysSyncConfig extends AbstractEntity {
 	@NotNull
 	@Column(name = "differential_sync", nullable = false)
 	private boolean differentialSync = false;
+	
+	@Audited
+	@Column(name = "worker_count")
+	private Integer workerCount;
 
 	@Audited
 	@NotNull
@@ -187,6 +191,26 @@ public class SysSyncConfig extends AbstractEntity {
 		this.differentialSync = differentialSync;
 	}
 
+	/**
+	 * Count of parallel workers - items are processed sequentially, if count is not set or is lower than 2.
+	 *
+	 * @return count of parallel workers
+	 * @since 12.3.0
+	 */
+	public Integer getWorkerCount() {
+		return workerCount;
+	}
+
+	/**
+	 * Count of parallel workers - items are processed sequentially, if count is not set or is lower than 2.
+	 *
+	 * @param workerCount count of parallel workers
+	 * @since 12.3.0
+	 */
+	public void setWorkerCount(Integer workerCount) {
+		this.workerCount = workerCount;
+	}
+
 	public void setName(String name) {
 		this.name = name;
 	}
@@ -0,0 +1,70 @@
+package eu.bcvsolutions.idm.acc.event.processor;
+
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Description;
+import org.springframework.stereotype.Component;
+
+import eu.bcvsolutions.idm.acc.AccModuleDescriptor;
+import eu.bcvsolutions.idm.acc.service.api.ProvisioningMappingPlanManager;
+import eu.bcvsolutions.idm.core.api.dto.IdmRoleDto;
+import eu.bcvsolutions.idm.core.api.event.CoreEvent;
+import eu.bcvsolutions.idm.core.api.event.CoreEventProcessor;
+import eu.bcvsolutions.idm.core.api.event.DefaultEventResult;
+import eu.bcvsolutions.idm.core.api.event.EntityEvent;
+import eu.bcvsolutions.idm.core.api.event.EventResult;
+import eu.bcvsolutions.idm.core.api.event.processor.RoleProcessor;
+import eu.bcvsolutions.idm.core.model.event.RoleEvent.RoleEventType;
+import eu.bcvsolutions.idm.core.security.api.domain.Enabled;
+
+/**
+ * Evict compiled provisioning mapping plans, when role priority or code is changed.
+ * Overloading attributes are compiled by role priority and code.
+ *
+ * @since 12.3.0
+ */
+@Component(RoleEvictMappingPlanProcessor.PROCESSOR_NAME)
+@Enabled(AccModuleDescriptor.MODULE_ID)
+@Description("Evict compiled provisioning mapping plans, when role priority or code is changed.")
+public class RoleEvictMappingPlanProcessor
+		extends CoreEventProcessor<IdmRoleDto>
+		implements RoleProcessor {
+
+	public static final String PROCESSOR_NAME = "acc-role-evict-mapping-plan-processor";
+	//
+	@Autowired private ProvisioningMappingPlanManager mappingPlanManager;
+
+	public RoleEvictMappingPlanProcessor() {
+		super(RoleEventType.UPDATE);
+	}
+
+	@Override
+	public String getName() {
+		return PROCESSOR_NAME;
+	}
+
+	@Override
+	public boolean conditional(EntityEvent<IdmRoleDto> event) {
+		IdmRoleDto originalSource = event.getOriginalSource();
+		IdmRoleDto role = event.getContent();
+		if (originalSource == null) {
+			return true;
+		}
+		//
+		return originalSource.getPriority() != role.getPriority()
+				|| !Objects.equals(originalSource.getCode(), role.getCode());
+	}
+
+	@Override
+	public EventResult<IdmRoleDto> process(EntityEvent<IdmRoleDto> event) {
+		mappingPlanManager.evictPlans();
+		//
+		return new DefaultEventResult<>(event, this);
+	}
+
+	@Override
+	public int getOrder() {
+		return CoreEvent.DEFAULT_ORDER + 10;
+	}
+}
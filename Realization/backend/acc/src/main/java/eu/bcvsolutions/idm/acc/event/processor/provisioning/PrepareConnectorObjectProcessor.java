@@ -9,31 +9,25 @@ import eu.bcvsolutions.idm.acc.domain.AccResultCode;
 import eu.bcvsolutions.idm.acc.domain.AttributeMappingStrategyType;
 import eu.bcvsolutions.idm.acc.domain.ProvisioningContext;
 import eu.bcvsolutions.idm.acc.domain.ProvisioningEventType;
+import eu.bcvsolutions.idm.acc.domain.ProvisioningMappingPlan;
 import eu.bcvsolutions.idm.acc.domain.SystemEntityType;
-import eu.bcvsolutions.idm.acc.domain.SystemOperationType;
 import eu.bcvsolutions.idm.acc.dto.ProvisioningAttributeDto;
 import eu.bcvsolutions.idm.acc.dto.SysProvisioningOperationDto;
 import eu.bcvsolutions.idm.acc.dto.SysSchemaAttributeDto;
-import eu.bcvsolutions.idm.acc.dto.SysSchemaObjectClassDto;
 import eu.bcvsolutions.idm.acc.dto.SysSystemAttributeMappingDto;
 import eu.bcvsolutions.idm.acc.dto.SysSystemDto;
 import eu.bcvsolutions.idm.acc.dto.SysSystemEntityDto;
-import eu.bcvsolutions.idm.acc.dto.SysSystemMappingDto;
-import eu.bcvsolutions.idm.acc.dto.filter.SysSchemaAttributeFilter;
-import eu.bcvsolutions.idm.acc.entity.SysSchemaAttribute;
 import eu.bcvsolutions.idm.acc.entity.SysSystemAttributeMapping_;
 import eu.bcvsolutions.idm.acc.exception.ProvisioningException;
 import eu.bcvsolutions.idm.acc.service.api.ConnectorManager;
 import eu.bcvsolutions.idm.acc.service.api.ConnectorType;
+import eu.bcvsolutions.idm.acc.service.api.ProvisioningMappingPlanManager;
 import eu.bcvsolutions.idm.acc.service.api.ProvisioningService;
 import eu.bcvsolutions.idm.acc.service.api.SysProvisioningArchiveService;
 import eu.bcvsolutions.idm.acc.service.api.SysProvisioningAttributeService;
 import eu.bcvsolutions.idm.acc.service.api.SysProvisioningOperationService;
-import eu.bcvsolutions.idm.acc.service.api.SysSchemaAttributeService;
-import eu.bcvsolutions.idm.acc.service.api.SysSchemaObjectClassService;
 import eu.bcvsolutions.idm.acc.service.api.SysSystemAttributeMappingService;
 import eu.bcvsolutions.idm.acc.service.api.SysSystemEntityService;
-import eu.bcvsolutions.idm.acc.service.api.SysSystemMappingService;
 import eu.bcvsolutions.idm.acc.service.api.SysSystemService;
 import eu.bcvsolutions.idm.acc.service.api.UniformPasswordManager;
 import eu.bcvsolutions.idm.core.api.domain.IdmPasswordPolicyType;
@@ -88,12 +82,9 @@ public class PrepareConnectorObjectProcessor extends AbstractEntityEventProcesso
 	public static final String PROCESSOR_NAME = "prepare-connector-object-processor";
 	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(PrepareConnectorObjectProcessor.class);
 	//
-	private final SysSystemMappingService systemMappingService;
 	private final SysSystemAttributeMappingService attributeMappingService;
 	private final SysSystemService systemService;
 	private final SysProvisioningOperationService provisioningOperationService;
-	private final SysSchemaAttributeService schemaAttributeService;
-	private final SysSchemaObjectClassService schemaObjectClassService;
 	private final ProvisioningConfiguration provisioningConfiguration;
 	//
 	@Autowired private ProvisioningService provisioningService;
@@ -103,6 +94,7 @@ public class PrepareConnectorObjectProcessor extends AbstractEntityEventProcesso
 	@Autowired private SysProvisioningAttributeService provisioningAttributeService;
 	@Autowired private UniformPasswordManager uniformPasswordManager;
 	@Autowired private ConnectorManager connectorManager;
+	@Autowired private ProvisioningMappingPlanManager mappingPlanManager;
 	
 	@Autowired
 	public PrepareConnectorObjectProcessor(
@@ -110,30 +102,21 @@ public class PrepareConnectorObjectProcessor extends AbstractEntityEventProcesso
 			SysSystemService systemService,
 			SysSystemEntityService systemEntityService,
 			SysProvisioningOperationService provisioningOperationService,
-			SysSystemMappingService systemMappingService,
 			SysSystemAttributeMappingService attributeMappingService,
-			SysSchemaAttributeService schemaAttributeService,
 			SysProvisioningArchiveService provisioningArchiveService,
-			SysSchemaObjectClassService schemaObjectClassService,
 			ProvisioningConfiguration provisioningConfiguration) {
 		super(ProvisioningEventType.CREATE, ProvisioningEventType.UPDATE);
 		//
 		Assert.notNull(systemEntityService, "Service is required.");
-		Assert.notNull(systemMappingService, "Service is required.");
 		Assert.notNull(attributeMappingService, "Service is required.");
 		Assert.notNull(systemService, "Service is required.");
 		Assert.notNull(provisioningOperationService, "Service is required.");
-		Assert.notNull(schemaAttributeService, "Service is required.");
 		Assert.notNull(provisioningArchiveService, "Service is required.");
-		Assert.notNull(schemaObjectClassService, "Service is required.");
 		Assert.notNull(provisioningConfiguration, "Configuration is required.");
 		//
-		this.systemMappingService = systemMappingService;
 		this.attributeMappingService = attributeMappingService;
 		this.systemService = systemService;
 		this.provisioningOperationService = provisioningOperationService;
-		this.schemaAttributeService = schemaAttributeService;
-		this.schemaObjectClassService = schemaObjectClassService;
 		this.provisioningConfiguration = provisioningConfiguration;
 	}
 
@@ -223,13 +206,10 @@ public class PrepareConnectorObjectProcessor extends AbstractEntityEventProcesso
 		if (fullAccountObject != null) {
 			connectorObject.getAttributes().clear();
 
-			SysSystemMappingDto mapping = getMapping(system, provisioningOperation.getEntityType());
-			SysSchemaObjectClassDto schemaObjectClassDto = schemaObjectClassService.get(mapping.getObjectClass());
-
-			List<SysSchemaAttributeDto> schemaAttributes = findSchemaAttributes(system, schemaObjectClassDto);
+			ProvisioningMappingPlan plan = getMappingPlan(system, provisioningOperation.getEntityType());
 
 			List<SysSystemAttributeMappingDto> passwordAttributes = attributeMappingService
-					.getAllPasswordAttributes(system.getId(), mapping.getId());
+					.getAllPasswordAttributes(system.getId(), plan.getSystemMapping().getId());
 			GuardedString generatedPassword = null;
 			// If exists at least one password attribute generate password and try set echos for current system
 			if (!passwordAttributes.isEmpty()) {
@@ -276,11 +256,7 @@ public class PrepareConnectorObjectProcessor extends AbstractEntityEventProcesso
 				// transformed. Then will be set as new attribute into fullAccountObject
 				GuardedString transformPassword = transformPassword(provisioningOperation, system.getId(),
 						passwordAttribute, generatedPassword);
-				SysSchemaAttributeDto schemaAttribute = schemaAttributes //
-						.stream() //
-						.filter(schemaAtt -> schemaAtt.getId().equals(passwordAttribute.getSchemaAttribute())) //
-						.findFirst()//
-						.orElse(null);
+				SysSchemaAttributeDto schemaAttribute = plan.getSchemaAttribute(passwordAttribute.getSchemaAttribute());
 				ProvisioningAttributeDto passwordProvisiongAttributeDto = ProvisioningAttributeDto
 						.createProvisioningAttributeKey(passwordAttribute, schemaAttribute.getName(),
 								schemaAttribute.getClassType());
@@ -301,18 +277,13 @@ public class PrepareConnectorObjectProcessor extends AbstractEntityEventProcesso
 			for (Entry<ProvisioningAttributeDto, Object> entry : fullAccountObject.entrySet()) {
 
 				ProvisioningAttributeDto provisioningAttribute = entry.getKey();
-				Optional<SysSchemaAttributeDto> schemaAttributeOptional = schemaAttributes.stream()
-						.filter(schemaAttribute -> {
-							return provisioningAttribute.getSchemaAttributeName().equals(schemaAttribute.getName());
-						}).findFirst();
-
-				if (!schemaAttributeOptional.isPresent()) {
+				SysSchemaAttributeDto schemaAttribute = plan.getSchemaAttribute(provisioningAttribute.getSchemaAttributeName());
+				if (schemaAttribute == null) {
 					throw new ProvisioningException(AccResultCode.PROVISIONING_SCHEMA_ATTRIBUTE_IS_FOUND,
 							ImmutableMap.of("attribute", provisioningAttribute.getSchemaAttributeName()));
 				}
 
 				Object idmValue = fullAccountObject.get(provisioningAttribute);
-				SysSchemaAttributeDto schemaAttribute = schemaAttributeOptional.get();
 
 				if (provisioningAttribute.isSendOnlyIfNotNull()) {
 					if (this.isValueEmpty(idmValue)) {
@@ -413,16 +384,14 @@ public class PrepareConnectorObjectProcessor extends AbstractEntityEventProcesso
 					.getFullAccountObject(provisioningOperation);
 			updateConnectorObject = new IcConnectorObjectImpl(systemEntityUid, objectClass, null);
 
-			SysSystemMappingDto mapping = getMapping(system, provisioningOperation.getEntityType());
-			SysSchemaObjectClassDto schemaObjectClassDto = schemaObjectClassService.get(mapping.getObjectClass());
-			List<SysSchemaAttributeDto> schemaAttributes = findSchemaAttributes(system, schemaObjectClassDto);
+			ProvisioningMappingPlan plan = getMappingPlan(system, provisioningOperation.getEntityType());
 
 			for (Entry<ProvisioningAttributeDto, Object> entry : fullAccountObject.entrySet()) {
 
 				ProvisioningAttributeDto provisioningAttribute = entry.getKey();
 				//  Resolve update for given attribute
 				processUpdateByAttribute(provisioningAttribute, provisioningOperation, existsConnectorObject, system,
-						systemEntityUid, updateConnectorObject, fullAccountObject, schemaAttributes, connectorType);
+						systemEntityUid, updateConnectorObject, fullAccountObject, plan, connectorType);
 			}
 		}
 		//
@@ -440,7 +409,7 @@ public class PrepareConnectorObjectProcessor extends AbstractEntityEventProcesso
 	 * @param systemEntityUid
 	 * @param updateConnectorObject
 	 * @param fullAccountObject
-	 * @param schemaAttributes
+	 * @param plan
 	 */
 	private void processUpdateByAttribute(ProvisioningAttributeDto provisioningAttribute,
 										  SysProvisioningOperationDto provisioningOperation,
@@ -449,21 +418,14 @@ public class PrepareConnectorObjectProcessor extends AbstractEntityEventProcesso
 										  String systemEntityUid,
 										  IcConnectorObject updateConnectorObject,
 										  Map<ProvisioningAttributeDto, Object> fullAccountObject,
-										  List<SysSchemaAttributeDto> schemaAttributes,
+										  ProvisioningMappingPlan plan,
 										  ConnectorType connectorType) {
-		Optional<SysSchemaAttributeDto> schemaAttributeOptional = schemaAttributes //
-				.stream() //
-				.filter(schemaAttribute -> { //
-					return provisioningAttribute.getSchemaAttributeName().equals(schemaAttribute.getName());
-				}) //
-				.findFirst();
-
-		if (!schemaAttributeOptional.isPresent()) {
+		SysSchemaAttributeDto schemaAttribute = plan.getSchemaAttribute(provisioningAttribute.getSchemaAttributeName());
+		if (schemaAttribute == null) {
 			throw new ProvisioningException(AccResultCode.PROVISIONING_SCHEMA_ATTRIBUTE_IS_FOUND,
 					ImmutableMap.of("attribute", provisioningAttribute.getSchemaAttributeName()));
 		}
 
-		SysSchemaAttributeDto schemaAttribute = schemaAttributeOptional.get();
 		if (schemaAttribute.isUpdateable()) {
 			Object idmValue = fullAccountObject.get(provisioningAttribute);
 
@@ -666,35 +628,22 @@ public class PrepareConnectorObjectProcessor extends AbstractEntityEventProcesso
 		return false;
 	}
 
-	private SysSystemMappingDto getMapping(SysSystemDto system, SystemEntityType entityType) {
-		List<SysSystemMappingDto> systemMappings = systemMappingService.findBySystem(system,
-				SystemOperationType.PROVISIONING, entityType);
-		if (systemMappings == null || systemMappings.isEmpty()) {
+	/**
+	 * Compiled provisioning mapping plan - mapping, object class and schema attributes.
+	 * 
+	 * @param system system
+	 * @param entityType mapped entity type
+	 * @return plan
+	 * @throws IllegalStateException if system doesn't have provisioning mapping for given entity type
+	 */
+	private ProvisioningMappingPlan getMappingPlan(SysSystemDto system, SystemEntityType entityType) {
+		ProvisioningMappingPlan plan = mappingPlanManager.getPlan(system, entityType);
+		if (plan == null) {
 			throw new IllegalStateException(MessageFormat.format(
 					"System [{0}] does not have mapping, provisioning will not be executed. Add some mapping for entity type [{1}]",
 					system.getName(), entityType));
 		}
-		if (systemMappings.size() != 1) {
-			throw new IllegalStateException(MessageFormat.format(
-					"System [{0}] is wrong configured! Remove duplicit mapping for entity type [{1}]", system.getName(),
-					entityType));
-		}
-		return systemMappings.get(0);
-	}
-
-	/**
-	 * Find list of {@link SysSchemaAttribute} by system and objectClass
-	 * 
-	 * @param objectClass
-	 * @param system
-	 * @return
-	 */
-	private List<SysSchemaAttributeDto> findSchemaAttributes(SysSystemDto system, SysSchemaObjectClassDto objectClass) {
-
-		SysSchemaAttributeFilter schemaAttributeFilter = new SysSchemaAttributeFilter();
-		schemaAttributeFilter.setSystemId(system.getId());
-		schemaAttributeFilter.setObjectClassId(objectClass.getId());
-		return schemaAttributeService.find(schemaAttributeFilter, null).getContent();
+		return plan;
 	}
 
 	/**
@@ -1,6 +1,9 @@
 package eu.bcvsolutions.idm.acc.event.processor.provisioning;
 
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -59,6 +62,7 @@ public class ProvisioningBreakProcessor extends AbstractEntityEventProcessor<Sys
 	private final SysProvisioningBreakRecipientService breakRecipientService;
 	private final NotificationManager notificationManager;
 	private final SysProvisioningOperationService provisioningOperationService;
+	private final Map<UUID, Object> systemLocks = new ConcurrentHashMap<>(); // provisioning break is evaluated for each system separately
 
 	@Autowired
 	public ProvisioningBreakProcessor(SysSystemService systemService,
@@ -128,8 +132,10 @@ public class ProvisioningBreakProcessor extends AbstractEntityEventProcessor<Sys
 				return new DefaultEventResult<>(event, this, blocked);
 			}
 
-			// Process provisioning break in synchronized method
-			blocked = processProvisioningBreak(provisioningOperation, operationType, system, breakConfig);
+			// Process provisioning break synchronized by system
+			synchronized (systemLocks.computeIfAbsent(system.getId(), systemId -> new Object())) {
+				blocked = processProvisioningBreak(provisioningOperation, operationType, system, breakConfig);
+			}
 
 			event.setContent(provisioningOperation);
 			return new DefaultEventResult<>(event, this, blocked);
@@ -269,19 +275,15 @@ public class ProvisioningBreakProcessor extends AbstractEntityEventProcessor<Sys
 				recipients);
 	}
 
-	private synchronized boolean processProvisioningBreak(SysProvisioningOperationDto provisioningOperation,
+	private boolean processProvisioningBreak(SysProvisioningOperationDto provisioningOperation,
 			ProvisioningEventType operationType, SysSystemDto system, SysProvisioningBreakConfigDto breakConfig) {
 		boolean blocked = false;
 		Long currentTimeMillis = System.currentTimeMillis();
 		//
 		// get cache for system
 		SysProvisioningBreakItems cache = breakConfigService.getCacheProcessedItems(system.getId());
-		// calculate timestamp without period
-		Long timestampWithoutPeriod = currentTimeMillis - breakConfig.getPeriod(TimeUnit.MILLISECONDS);
-		// remove older records
-		cache.removeOlderRecordsThan(operationType, timestampWithoutPeriod);
-		// get actual count - processed items from timestampWithoutPeriod
-		int actualCount = cache.getSizeRecordsNewerThan(operationType, timestampWithoutPeriod);
+		// get actual count - processed items in period (older items are not counted)
+		int actualCount = cache.getCount(operationType, breakConfig.getPeriod(TimeUnit.MILLISECONDS), currentTimeMillis);
 		//
 		if (isReachedDisableLimit(breakConfig, actualCount)) {
 			// check count is higher than disable limit
@@ -0,0 +1,72 @@
+package eu.bcvsolutions.idm.acc.event.processor.system;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Description;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import eu.bcvsolutions.idm.acc.dto.SysSystemDto;
+import eu.bcvsolutions.idm.acc.event.SystemEvent.SystemEventType;
+import eu.bcvsolutions.idm.acc.event.processor.SystemProcessor;
+import eu.bcvsolutions.idm.core.api.event.AbstractEntityEventProcessor;
+import eu.bcvsolutions.idm.core.api.event.DefaultEventResult;
+import eu.bcvsolutions.idm.core.api.event.EntityEvent;
+import eu.bcvsolutions.idm.core.api.event.EventResult;
+import eu.bcvsolutions.idm.ic.service.api.IcConnectorFacadeFactory;
+
+/**
+ * Evict (and dispose) cached connector facades of system, when system or its connector configuration (eav) is changed or system is deleted.
+ * Facades are evicted after transaction is committed - facade with previous configuration can be created till commit.
+ * Facade used by running operation is disposed, after operation ends.
+ *
+ * @since 12.3.0
+ */
+@Component(SystemEvictConnectorFacadeProcessor.PROCESSOR_NAME)
+@Description("Evict cached connector facades, when system or its connector configuration is changed or system is deleted.")
+public class SystemEvictConnectorFacadeProcessor extends AbstractEntityEventProcessor<SysSystemDto> implements SystemProcessor {
+
+	public static final String PROCESSOR_NAME = "acc-system-evict-connector-facade-processor";
+	//
+	@Autowired private IcConnectorFacadeFactory facadeFactory;
+
+	public SystemEvictConnectorFacadeProcessor() {
+		super(SystemEventType.UPDATE, SystemEventType.EAV_SAVE, SystemEventType.DELETE);
+	}
+
+	@Override
+	public String getName() {
+		return PROCESSOR_NAME;
+	}
+
+	@Override
+	public EventResult<SysSystemDto> process(EntityEvent<SysSystemDto> event) {
+		// facades are cached by system => facades of other systems with the same connector are not evicted
+		UUID systemId = event.getContent().getId();
+		if (systemId == null) {
+			return new DefaultEventResult<>(event, this);
+		}
+		//
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			facadeFactory.evictConnectorFacades(systemId);
+		} else {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+				@Override
+				public void afterCommit() {
+					facadeFactory.evictConnectorFacades(systemId);
+				}
+			});
+		}
+		//
+		return new DefaultEventResult<>(event, this);
+	}
+
+	@Override
+	public int getOrder() {
+		// after save
+		return 1000;
+	}
+}
@@ -50,4 +50,35 @@ public interface AccAccountRepository extends AbstractEntityRepository<AccAccoun
 	 * @return
 	 */
 	Page<AccAccount> findByEndOfProtectionLessThanAndInProtectionIsTrue(@Param("endOfProtection") ZonedDateTime endOfProtection, Pageable pageable);
+	
+	/**
+	 * Account identifiers and real uids (uid of system entity or account uid, if system entity doesn't exist) on given system
+	 * ordered by account identifier - first page of keyset pagination.
+	 * 
+	 * @param systemId
+	 * @param pageable page size only, offset is not used
+	 * @return [id, realUid]
+	 * @since 12.3.0
+	 */
+	@Query("SELECT e.id, COALESCE(se.uid, e.uid) FROM AccAccount e LEFT JOIN e.systemEntity se WHERE "
+			+ "e.system.id = :systemId "
+			+ "ORDER BY e.id")
+	List<Object[]> findRealUids(@Param("systemId") UUID systemId, Pageable pageable);
+	
+	/**
+	 * Account identifiers and real uids (uid of system entity or account uid, if system entity doesn't exist) on given system
+	 * ordered by account identifier - next page of keyset pagination (accounts after given account identifier).
+	 * 
+	 * @param systemId
+	 * @param lastAccountId last account identifier from the previous page
+	 * @param pageable page size only, offset is not used
+	 * @return [id, realUid]
+	 * @since 12.3.0
+	 */
+	@Query("SELECT e.id, COALESCE(se.uid, e.uid) FROM AccAccount e LEFT JOIN e.systemEntity se WHERE "
+			+ "e.system.id = :systemId "
+			+ "AND "
+			+ "e.id > :lastAccountId "
+			+ "ORDER BY e.id")
+	List<Object[]> findRealUids(@Param("systemId") UUID systemId, @Param("lastAccountId") UUID lastAccountId, Pageable pageable);
 }
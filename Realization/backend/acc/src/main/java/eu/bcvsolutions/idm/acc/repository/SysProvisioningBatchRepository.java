@@ -63,7 +63,51 @@ public interface SysProvisioningBatchRepository extends AbstractEntityRepository
 			+ " o.result.state = :state"
 			+ " and o.system.queue = TRUE)")
 	Page<SysProvisioningBatch>  findByVirtualSystemAndOperationState(@Param("virtualSystem") Boolean virtualSystem, @Param("state") OperationState state, Pageable pageable);
-	
+
+	/**
+	 * Returns batches by their request's state with identifier after given identifier (keyset pagination).
+	 *
+	 * @param state
+	 * @param idAfter
+	 * @param pageable
+	 * @return
+	 * @since 12.3.0
+	 */
+	@Query(value = "select e from #{#entityName} e where e.id > :idAfter and exists (select o.id from SysProvisioningOperation o"
+			+ " where"
+			+ " o.batch = e"
+			+ " and"
+			+ " o.result.state = :state"
+			+ " and o.system.queue = TRUE)")
+	Page<SysProvisioningBatch> findByOperationStateAndIdAfter(
+			@Param("state") OperationState state,
+			@Param("idAfter") UUID idAfter,
+			Pageable pageable);
+
+	/**
+	 * Returns batches by their system is virtual and request's state with identifier after given identifier (keyset pagination).
+	 *
+	 * @param virtualSystem
+	 * @param state
+	 * @param idAfter
+	 * @param pageable
+	 * @return
+	 * @since 12.3.0
+	 */
+	@Query(value = "select e from #{#entityName} e where e.id > :idAfter and exists (select o.id from SysProvisioningOperation o"
+			+ " where"
+			+ " o.batch = e"
+			+ " and"
+			+ " o.system.virtual = :virtualSystem"
+			+ " and"
+			+ " o.result.state = :state"
+			+ " and o.system.queue = TRUE)")
+	Page<SysProvisioningBatch> findByVirtualSystemAndOperationStateAndIdAfter(
+			@Param("virtualSystem") Boolean virtualSystem,
+			@Param("state") OperationState state,
+			@Param("idAfter") UUID idAfter,
+			Pageable pageable);
+
 	/**
 	 * Returns unprocessed planned batches
 	 * 
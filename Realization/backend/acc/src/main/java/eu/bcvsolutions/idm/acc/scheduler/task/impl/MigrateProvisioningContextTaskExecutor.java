@@ -0,0 +1,129 @@
+package eu.bcvsolutions.idm.acc.scheduler.task.impl;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.quartz.DisallowConcurrentExecution;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import eu.bcvsolutions.idm.acc.domain.ProvisioningContextFormat;
+import eu.bcvsolutions.idm.acc.dto.filter.SysProvisioningOperationFilter;
+import eu.bcvsolutions.idm.acc.repository.SysProvisioningArchiveRepository;
+import eu.bcvsolutions.idm.acc.repository.SysProvisioningOperationRepository;
+import eu.bcvsolutions.idm.acc.service.api.SysProvisioningArchiveService;
+import eu.bcvsolutions.idm.acc.service.api.SysProvisioningOperationService;
+import eu.bcvsolutions.idm.core.api.entity.AbstractEntity_;
+import eu.bcvsolutions.idm.core.api.service.ReadDtoService;
+import eu.bcvsolutions.idm.core.scheduler.api.service.AbstractSchedulableTaskExecutor;
+
+/**
+ * Migrate provisioning context of provisioning operations (queue) and archived operations persisted by previous versions
+ * into current compact format ({@link ProvisioningContextFormat}).
+ * Each page is migrated in new transaction => large data support. Pages are loaded by keyset pagination (by identifier).
+ * 
+ * @since 12.3.0
+ */
+@DisallowConcurrentExecution
+@Component(MigrateProvisioningContextTaskExecutor.TASK_NAME)
+public class MigrateProvisioningContextTaskExecutor extends AbstractSchedulableTaskExecutor<Boolean> {
+
+	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(MigrateProvisioningContextTaskExecutor.class);
+	public static final String TASK_NAME = "acc-migrate-provisioning-context-long-running-task";
+	private static final int PAGE_SIZE = 100;
+	//
+	@Autowired private SysProvisioningOperationRepository operationRepository;
+	@Autowired private SysProvisioningArchiveRepository archiveRepository;
+	@Autowired private SysProvisioningOperationService operationService;
+	@Autowired private SysProvisioningArchiveService archiveService;
+	@Autowired private PlatformTransactionManager platformTransactionManager;
+	
+	@Override
+	public String getName() {
+		return TASK_NAME;
+	}
+	
+	@Override
+	public Boolean process() {
+		counter = 0L;
+		count = operationRepository.count() + archiveRepository.count();
+		LOG.info("Starting to migrate provisioning context of [{}] operations.", count);
+		//
+		TransactionTemplate template = new TransactionTemplate(platformTransactionManager);
+		template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		//
+		UUID idAfter = null;
+		boolean canContinue = true;
+		// operations in queue
+		do {
+			Page<UUID> operationIds = findIds(operationService, idAfter);
+			template.execute(status -> {
+				operationRepository.findAllById(operationIds.getContent()).forEach(entity -> {
+					// context persisted in current format is not inflated - the same persisted form is used
+					entity.setProvisioningContext(entity.getProvisioningContext());
+				});
+				//
+				return null;
+			});
+			counter += operationIds.getNumberOfElements();
+			idAfter = getLastId(operationIds, idAfter);
+			canContinue = updateState() && operationIds.hasNext();
+		} while (canContinue);
+		//
+		idAfter = null;
+		canContinue = updateState();
+		// archived operations
+		while (canContinue) {
+			Page<UUID> archiveIds = findIds(archiveService, idAfter);
+			template.execute(status -> {
+				archiveRepository.findAllById(archiveIds.getContent()).forEach(entity -> {
+					// context persisted in current format is not inflated - the same persisted form is used
+					entity.setProvisioningContext(entity.getProvisioningContext());
+				});
+				//
+				return null;
+			});
+			counter += archiveIds.getNumberOfElements();
+			idAfter = getLastId(archiveIds, idAfter);
+			canContinue = updateState() && archiveIds.hasNext();
+		}
+		//
+		LOG.info("Provisioning context of [{}/{}] operations was migrated.", counter, count);
+		//
+		return Boolean.TRUE;
+	}
+	
+	@Override
+	public boolean supportsQueue() {
+		return false;
+	}
+	
+	@Override
+	public boolean isRecoverable() {
+		return true;
+	}
+	
+	/**
+	 * Next page of identifiers - keyset pagination by identifier (without offset and total count).
+	 */
+	private Page<UUID> findIds(ReadDtoService<?, SysProvisioningOperationFilter> service, UUID idAfter) {
+		SysProvisioningOperationFilter filter = new SysProvisioningOperationFilter();
+		filter.setIdAfter(idAfter);
+		filter.setCount(false);
+		//
+		return service.findIds(filter, PageRequest.of(0, PAGE_SIZE, new Sort(Direction.ASC, AbstractEntity_.id.getName())));
+	}
+
+	private UUID getLastId(Page<UUID> ids, UUID idAfter) {
+		List<UUID> content = ids.getContent();
+		//
+		return content.isEmpty() ? idAfter : content.get(content.size() - 1);
+	}
+}
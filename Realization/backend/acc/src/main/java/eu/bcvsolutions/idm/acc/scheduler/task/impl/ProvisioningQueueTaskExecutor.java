@@ -3,6 +3,7 @@ package eu.bcvsolutions.idm.acc.scheduler.task.impl;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.quartz.DisallowConcurrentExecution;
 import org.quartz.PersistJobDataAfterExecution;
@@ -76,10 +77,20 @@ public class ProvisioningQueueTaskExecutor extends AbstractSchedulableStatefulEx
 
 	@Override
 	public Page<SysProvisioningBatchDto> getItemsToProcess(Pageable pageable) {
-		// TODO: we want to execute provisioning in more threads - we aren't using pagination here to prevent collisions
+		return getItemsToProcess(pageable, null);
+	}
+	
+	@Override
+	public Page<SysProvisioningBatchDto> getItemsToProcess(Pageable pageable, UUID lastItemId) {
+		// keyset pagination - processed batches are not returned again, even if new operations are added into queue meanwhile
 		// TODO: we can add Sort by some priority (CREATE ... etc.)
 		// TODO: we can add algorithm to reduce / merge provisioning operations by system entity
-		return provisioningBatchService.findBatchesToProcess(virtualSystem, null);
+		return provisioningBatchService.findBatchesToProcess(virtualSystem, lastItemId, pageable);
+	}
+	
+	@Override
+	protected boolean supportsKeysetPagination() {
+		return true;
 	}
 
 	@Override
@@ -1,6 +1,7 @@
 package eu.bcvsolutions.idm.acc.service.api;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import java.time.ZonedDateTime;
@@ -64,6 +65,18 @@ public interface AccAccountService extends//
 	 * @return
 	 */
 	Page<AccAccountDto> findExpired(ZonedDateTime expirationDate, Pageable pageable);
+	
+	/**
+	 * Returns account identifiers and real uids (uid of system entity or account uid, if system entity doesn't exist)
+	 * on given system ordered by account identifier - keyset pagination, accounts are not loaded as dtos.
+	 * 
+	 * @param systemId system identifier
+	 * @param lastAccountId [optional] last account identifier from the previous page - first page is returned, if {@code null} is given
+	 * @param pageSize maximum count of returned accounts
+	 * @return account identifier - real uid, ordered by account identifier
+	 * @since 12.3.0
+	 */
+	Map<UUID, String> findRealUids(UUID systemId, UUID lastAccountId, int pageSize);
 
 	/**
 	 * Load object from the connector.
@@ -0,0 +1,57 @@
+package eu.bcvsolutions.idm.acc.service.api;
+
+import java.util.List;
+import java.util.function.BiFunction;
+
+import eu.bcvsolutions.idm.acc.AccModuleDescriptor;
+import eu.bcvsolutions.idm.acc.domain.AttributeMapping;
+import eu.bcvsolutions.idm.acc.domain.ProvisioningMappingPlan;
+import eu.bcvsolutions.idm.acc.domain.SystemEntityType;
+import eu.bcvsolutions.idm.acc.dto.SysRoleSystemAttributeDto;
+import eu.bcvsolutions.idm.acc.dto.SysSystemAttributeMappingDto;
+import eu.bcvsolutions.idm.acc.dto.SysSystemDto;
+
+/**
+ * Compiled provisioning mapping plans - provisioning mapping, schema and mapped attributes are loaded once for system and entity type
+ * and reused by all provisioning operations. Cached plans are evicted, when system mapping, mapped attributes, schema,
+ * role-system mapping or overloading attributes are changed.
+ *
+ * @see ProvisioningMappingPlan
+ * @since 12.3.0
+ */
+public interface ProvisioningMappingPlanManager {
+
+	String CACHE_NAME = String.format("%s:provisioning-mapping-plan-cache", AccModuleDescriptor.MODULE_ID);
+	String COMPILED_ATTRIBUTES_CACHE_NAME = String.format("%s:provisioning-compiled-attributes-cache", AccModuleDescriptor.MODULE_ID);
+
+	/**
+	 * Get (cached) provisioning mapping plan for given system and entity type.
+	 *
+	 * @param system system
+	 * @param entityType mapped entity type
+	 * @return plan or {@code null}, if system doesn't have provisioning mapping for given entity type
+	 * @throws IllegalStateException if system has more provisioning mappings for given entity type
+	 */
+	ProvisioningMappingPlan getPlan(SysSystemDto system, SystemEntityType entityType);
+
+	/**
+	 * Get (cached) final attributes used for provisioning - mapped attributes compiled with given overloading attributes.
+	 * Attributes are compiled by given compiler only once for the same overloading attributes.
+	 * Returned attributes are shared - cannot be modified.
+	 *
+	 * @param plan provisioning mapping plan
+	 * @param overloadingAttributes overloading role-system attributes
+	 * @param compiler compiles mapped attributes with overloading attributes
+	 * @return unmodifiable final attributes
+	 */
+	List<AttributeMapping> getCompiledAttributes(
+			ProvisioningMappingPlan plan,
+			List<SysRoleSystemAttributeDto> overloadingAttributes,
+			BiFunction<List<SysSystemAttributeMappingDto>, List<SysRoleSystemAttributeDto>, List<AttributeMapping>> compiler);
+
+	/**
+	 * Evict all cached plans and compiled attributes - provisioning configuration was changed.
+	 * Plans are evicted after current transaction is completed.
+	 */
+	void evictPlans();
+}
@@ -37,6 +37,17 @@ public interface SysProvisioningBatchService extends ReadWriteDtoService<SysProv
 	 */
 	Page<SysProvisioningBatchDto> findBatchesToProcess(Boolean virtualSystem, Pageable pageable);
 	
+	/**
+	 * Gets batches to process (created requests) with identifier after given identifier (keyset pagination).
+	 * 
+	 * @param virtualSystem true - virtual system only, false - normal system, null - all systems
+	 * @param idAfter batch identifier - batches with greater identifier will be returned. Null - all batches.
+	 * @param pageable
+	 * @return
+	 * @since 12.3.0
+	 */
+	Page<SysProvisioningBatchDto> findBatchesToProcess(Boolean virtualSystem, UUID idAfter, Pageable pageable);
+	
 	/**
 	 * Gets batches to retry
 	 * 
@@ -1,5 +1,7 @@
 package eu.bcvsolutions.idm.acc.service.api;
 
+import java.util.List;
+
 import eu.bcvsolutions.idm.acc.dto.SysSyncItemLogDto;
 import eu.bcvsolutions.idm.acc.dto.filter.SysSyncItemLogFilter;
 import eu.bcvsolutions.idm.core.api.service.ReadWriteDtoService;
@@ -11,4 +13,13 @@ import eu.bcvsolutions.idm.core.api.service.ReadWriteDtoService;
  */
 public interface SysSyncItemLogService extends ReadWriteDtoService<SysSyncItemLogDto, SysSyncItemLogFilter> {
 
+	/**
+	 * Save given item logs together - item logs are flushed at once and inserted in JDBC batches.
+	 * Item logs are saved without permission check and without event processing (internal usage in synchronization only).
+	 *
+	 * @param itemLogs item logs with filled action log
+	 * @return saved item logs
+	 * @since 12.3.0
+	 */
+	List<SysSyncItemLogDto> saveAllInternal(List<SysSyncItemLogDto> itemLogs);
 }
@@ -31,6 +31,7 @@ import eu.bcvsolutions.idm.acc.domain.AttributeMappingStrategyType;
 import eu.bcvsolutions.idm.acc.domain.MappingContext;
 import eu.bcvsolutions.idm.acc.domain.ProvisioningContext;
 import eu.bcvsolutions.idm.acc.domain.ProvisioningEventType;
+import eu.bcvsolutions.idm.acc.domain.ProvisioningMappingPlan;
 import eu.bcvsolutions.idm.acc.domain.ProvisioningOperationType;
 import eu.bcvsolutions.idm.acc.domain.SystemEntityType;
 import eu.bcvsolutions.idm.acc.domain.SystemOperationType;
@@ -64,6 +65,7 @@ import eu.bcvsolutions.idm.acc.exception.SystemEntityNotFoundException;
 import eu.bcvsolutions.idm.acc.service.api.AccAccountService;
 import eu.bcvsolutions.idm.acc.service.api.ProvisioningEntityExecutor;
 import eu.bcvsolutions.idm.acc.service.api.ProvisioningExecutor;
+import eu.bcvsolutions.idm.acc.service.api.ProvisioningMappingPlanManager;
 import eu.bcvsolutions.idm.acc.service.api.ProvisioningService;
 import eu.bcvsolutions.idm.acc.service.api.SysRoleSystemAttributeService;
 import eu.bcvsolutions.idm.acc.service.api.SysRoleSystemService;
@@ -125,6 +127,8 @@ public abstract class AbstractProvisioningExecutor<DTO extends AbstractDto> impl
 	private final SysSystemAttributeMappingService systemAttributeMappingService;
 	protected final SysRoleSystemService roleSystemService;
 	private final IdmRoleService roleService;
+	//
+	@Autowired private ProvisioningMappingPlanManager mappingPlanManager;
 
 	@Autowired
 	public AbstractProvisioningExecutor(SysSystemMappingService systemMappingService,
@@ -691,12 +695,13 @@ public abstract class AbstractProvisioningExecutor<DTO extends AbstractDto> impl
 
 		// One IDM object can be mapped to one connector object (= one connector
 		// class).
-		SysSystemMappingDto mapping = getMapping(system, systemEntity.getEntityType());
-		if (mapping == null) {
+		ProvisioningMappingPlan plan = getMappingPlan(system, systemEntity.getEntityType());
+		if (plan == null) {
 			// mapping not found - nothing to do
 			// TODO: delete operation?
 			return null;
 		}
+		SysSystemMappingDto mapping = plan.getSystemMapping();
 		// Create mapping context from the script defined on the mapping and by checked options.
 		// This context will be propagate to all attributes (transformation to the system).
 		MappingContext mappingContext = systemMappingService.getMappingContext(mapping, systemEntity, dto, system);
@@ -714,7 +719,7 @@ public abstract class AbstractProvisioningExecutor<DTO extends AbstractDto> impl
 		}
 
 		// public provisioning event
-		SysSchemaObjectClassDto schemaObjectClassDto = schemaObjectClassService.get(mapping.getObjectClass());
+		SysSchemaObjectClassDto schemaObjectClassDto = plan.getSchemaObjectClass();
 		IcConnectorObject connectorObject = new IcConnectorObjectImpl(systemEntity.getUid(),
 				new IcObjectClassImpl(schemaObjectClassDto.getObjectClassName()), null);
 		// Propagate the role-request ID to the connector (for virtual systems ...)
@@ -973,10 +978,16 @@ public abstract class AbstractProvisioningExecutor<DTO extends AbstractDto> impl
 				account, entityType);
 
 		// All default mapped attributes from system
-		List<? extends AttributeMapping> defaultAttributes = findAttributeMappings(system, entityType);
+		ProvisioningMappingPlan plan = getMappingPlan(system, entityType);
+		if (plan == null) {
+			return null;
+		}
 
-		// Final list of attributes use for provisioning
-		return compileAttributes(defaultAttributes, roleSystemAttributesAll, entityType);
+		// Final list of attributes use for provisioning - compiled once for the same overloading attributes
+		return mappingPlanManager.getCompiledAttributes(plan, roleSystemAttributesAll,
+				(defaultAttributes, overloadingAttributes) -> {
+					return compileAttributes(defaultAttributes, overloadingAttributes, entityType);
+				});
 	}
 
 	private List<AttributeMapping> resolveAdditionalPasswordChangeAttributes(AccAccountDto account, DTO dto,
@@ -1173,20 +1184,27 @@ public abstract class AbstractProvisioningExecutor<DTO extends AbstractDto> impl
 			AccAccountDto account, SystemEntityType entityType);
 
 	protected SysSystemMappingDto getMapping(SysSystemDto system, SystemEntityType entityType) {
-		List<SysSystemMappingDto> systemMappings = systemMappingService.findBySystem(system,
-				SystemOperationType.PROVISIONING, entityType);
-		if (systemMappings == null || systemMappings.isEmpty()) {
+		ProvisioningMappingPlan plan = getMappingPlan(system, entityType);
+		//
+		return plan == null ? null : plan.getSystemMapping();
+	}
+
+	/**
+	 * Compiled (cached) provisioning mapping plan for given system and entity type.
+	 * 
+	 * @param system system
+	 * @param entityType mapped entity type
+	 * @return plan or {@code null}, if system doesn't have provisioning mapping for given entity type
+	 * @since 12.3.0
+	 */
+	protected ProvisioningMappingPlan getMappingPlan(SysSystemDto system, SystemEntityType entityType) {
+		ProvisioningMappingPlan plan = mappingPlanManager.getPlan(system, entityType);
+		if (plan == null) {
 			LOG.info(MessageFormat.format(
 					"System [{0}] does not have provisioning mapping set, provisioning will not be executed. Add provisioning mapping for entity type [{1}]",
 					system.getName(), entityType));
-			return null;
-		}
-		if (systemMappings.size() != 1) {
-			throw new IllegalStateException(MessageFormat.format(
-					"System [{0}] is not configured properly! Remove duplicit provisioning mapping for entity type [{1}]", system.getName(),
-					entityType));
 		}
-		return systemMappings.get(0);
+		return plan;
 	}
 
 	/**
@@ -1198,16 +1216,12 @@ public abstract class AbstractProvisioningExecutor<DTO extends AbstractDto> impl
 	 * @return
 	 */
 	protected List<? extends AttributeMapping> findAttributeMappings(SysSystemDto system, SystemEntityType entityType) {
-		SysSystemMappingDto mapping = getMapping(system, entityType);
-		if (mapping == null) {
+		ProvisioningMappingPlan plan = getMappingPlan(system, entityType);
+		if (plan == null) {
 			return null;
 		}
-		SysSystemAttributeMappingFilter filter = new SysSystemAttributeMappingFilter();
-		filter.setSystemMappingId(mapping.getId());
-		// We don't want attributes for password change only.
-		filter.setSendOnlyOnPasswordChange(Boolean.FALSE);
-		
-		return attributeMappingService.find(filter, null).getContent();
+		// We don't want attributes for password change only - attributes are shared (cannot be modified).
+		return plan.getAttributeMappings();
 	}
 
 	protected List<SysSystemMappingDto> findSystemMappingsForEntityType(DTO dto, SystemEntityType entityType) {
@@ -8,12 +8,16 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.persistence.EntityManager;
@@ -30,6 +34,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
@@ -47,6 +52,7 @@ import eu.bcvsolutions.idm.acc.domain.OperationResultType;
 import eu.bcvsolutions.idm.acc.domain.ReconciliationMissingAccountActionType;
 import eu.bcvsolutions.idm.acc.domain.SynchronizationActionType;
 import eu.bcvsolutions.idm.acc.domain.SynchronizationContext;
+import eu.bcvsolutions.idm.acc.domain.SynchronizationCorrelationIndex;
 import eu.bcvsolutions.idm.acc.domain.SynchronizationLinkedActionType;
 import eu.bcvsolutions.idm.acc.domain.SynchronizationMissingEntityActionType;
 import eu.bcvsolutions.idm.acc.domain.SynchronizationSituationType;
@@ -100,6 +106,7 @@ import eu.bcvsolutions.idm.core.api.dto.BaseDto;
 import eu.bcvsolutions.idm.core.api.dto.FormableDto;
 import eu.bcvsolutions.idm.core.api.dto.filter.BaseFilter;
 import eu.bcvsolutions.idm.core.api.dto.filter.CorrelationFilter;
+import eu.bcvsolutions.idm.core.api.dto.filter.DataFilter;
 import eu.bcvsolutions.idm.core.api.event.CoreEvent;
 import eu.bcvsolutions.idm.core.api.event.EventResult;
 import eu.bcvsolutions.idm.core.api.exception.CoreException;
@@ -112,10 +119,12 @@ import eu.bcvsolutions.idm.core.api.service.ReadWriteDtoService;
 import eu.bcvsolutions.idm.core.api.utils.DtoUtils;
 import eu.bcvsolutions.idm.core.api.utils.EntityUtils;
 import eu.bcvsolutions.idm.core.api.utils.ExceptionUtils;
+import eu.bcvsolutions.idm.core.eav.api.domain.PersistentType;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormAttributeDto;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormDefinitionDto;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormInstanceDto;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormValueDto;
+import eu.bcvsolutions.idm.core.eav.api.dto.filter.IdmFormValueFilter;
 import eu.bcvsolutions.idm.core.eav.api.service.FormService;
 import eu.bcvsolutions.idm.core.scheduler.api.service.AbstractSchedulableTaskExecutor;
 import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
@@ -155,6 +164,8 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 			.getLogger(AbstractSynchronizationExecutor.class);
 
 	public static final String CACHE_NAME = AccModuleDescriptor.MODULE_ID + ":sync-mapping-cache";
+	private static final int RECONCILIATION_PAGE_SIZE = 1000; // accounts loaded in one page in reconciliation
+	public static final int DEFAULT_CORRELATION_CHUNK_SIZE = 100; // items loaded together - system entities, accounts and correlated entities are found by one query for the whole chunk
 
 	@Autowired
 	private WorkflowProcessInstanceService workflowProcessInstanceService;
@@ -202,10 +213,21 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 	private ProvisioningService provisioningService;
 	@Autowired(required = false)
 	private IdmCacheManager idmCacheManager;
+	@Autowired
+	private PlatformTransactionManager platformTransactionManager;
 	// Instance of LRT
 	protected AbstractSchedulableTaskExecutor<Boolean> longRunningTaskExecutor;
 	// Context for whole sync.
 	protected SynchronizationContext syncContext;
+	// Workers for parallel synchronization - null, if items are processed sequentially.
+	private SynchronizationWorkerPool workerPool;
+	// Token of items processed in parallel - null, if items are processed sequentially.
+	private SynchronizationTokenTracker tokenTracker;
+	// Buffered writer of action and item logs - null, if synchronization process is not running.
+	private SynchronizationLogWriter logWriter;
+	// Writer used, when process is overridden without buffered writer - writer is reused for items of the same synchronization log.
+	private SynchronizationLogWriter fallbackLogWriter;
+	private UUID fallbackLogWriterLogId;
 
 	/**
 	 * Returns entity type for this synchronization executor
@@ -227,6 +249,8 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 		// Create basic synchronization log
 		log.setSynchronizationConfig(synchronizationConfigId);
 		log.setStarted(ZonedDateTime.now());
+		// All accounts keys (used in reconciliation) - sorted in temporary files, when count of accounts is huge
+		ExternalUidSorter systemAccountsList = null;
 		try {
 			// Validate and create basic context
 			SynchronizationContext context = this.validate(synchronizationConfigId);
@@ -246,8 +270,9 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 			log.setRunning(true);
 			log = syncStarted(log, context);
 
-			// List of all accounts keys (used in reconciliation)
-			Set<String> systemAccountsList = new HashSet<>();
+			if (config.isReconciliation()) {
+				systemAccountsList = new ExternalUidSorter();
+			}
 
 			longRunningTaskExecutor.setCounter(0L);
 
@@ -256,6 +281,7 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 
 			// add logs to context
 			context.addLog(log).addActionLogs(actionsLog);
+			startLogWriter(actionsLog);
 
 			// Is differential sync enabled?
 			if (config.isDifferentialSync()) {
@@ -279,20 +305,43 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 				IcFilter filter = resolveSynchronizationFilter(config);
 				log.addToLog(MessageFormat.format("Start search with filter [{0}].", filter != null ? filter : "NONE"));
 				
-				connectorFacade.search(systemService.getConnectorInstance(system), connectorConfig, objectClass, filter,
-						new DefaultResultHandler(context, systemAccountsList));
+				DefaultResultHandler resultHandler = new DefaultResultHandler(context, systemAccountsList);
+				startWorkers(config, log);
+				try {
+					connectorFacade.search(systemService.getConnectorInstance(system), connectorConfig, objectClass, filter,
+							resultHandler);
+				} finally {
+					try {
+						// process the rest of read items
+						resultHandler.finish();
+					} finally {
+						finishWorkers(config, log);
+					}
+				}
 			} else {
 				// Inner Sync
 				log.addToLog("Synchronization will use inner connector synchronization implementation.");
 				DefalutSyncResultHandler syncResultsHandler = new DefalutSyncResultHandler(context, systemAccountsList);
-				connectorFacade.synchronization(systemService.getConnectorInstance(system), connectorConfig, objectClass,
-						lastIcToken, syncResultsHandler);
+				startWorkers(config, log);
+				try {
+					connectorFacade.synchronization(systemService.getConnectorInstance(system), connectorConfig, objectClass,
+							lastIcToken, syncResultsHandler);
+				} finally {
+					try {
+						// process the rest of read items
+						syncResultsHandler.finish();
+					} finally {
+						finishWorkers(config, log);
+					}
+				}
 			}
 
 			// We do reconciliation (find missing account)
 			if (config.isReconciliation() && log.isRunning()) {
 				startReconciliation(entityType, systemAccountsList, config, system, log, actionsLog);
 			}
+			// all logs are persisted before synchronization ends
+			flushLogWriter();
 			// Sync is correctly ends if wasn't cancelled
 			if (log.isRunning()) {
 				log = syncCorrectlyEnded(log, context);
@@ -305,6 +354,10 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 			log.addToLog(Throwables.getStackTraceAsString(e));
 			throw e;
 		} finally {
+			if (systemAccountsList != null) {
+				systemAccountsList.close();
+			}
+			finishLogWriter(log);
 			syncEnd(log, syncContext);
 			log.setRunning(false);
 			log.setEnded(ZonedDateTime.now());
@@ -433,7 +486,7 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 		try {
 
 			// Find system entity for uid
-			SysSystemEntityDto systemEntity = findSystemEntity(uid, system, entityType);
+			SysSystemEntityDto systemEntity = findSystemEntity(context);
 			context.addSystemEntity(systemEntity);
 
 			// Find acc account for uid or system entity
@@ -539,8 +592,16 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 
 		addToItemLog(logItem, "Account doesn't exist in IdM");
 
-		DTO entity = findByCorrelationAttribute(systemAttributeMappingService.get(config.getCorrelationAttribute()),
-				icAttributes, context);
+		SynchronizationCorrelationIndex correlationIndex = context.getCorrelationIndex();
+		SysSystemAttributeMappingDto correlationAttribute = null;
+		if (correlationIndex != null
+				&& correlationIndex.getCorrelationAttribute() != null
+				&& correlationIndex.getCorrelationAttribute().getId().equals(config.getCorrelationAttribute())) {
+			correlationAttribute = correlationIndex.getCorrelationAttribute();
+		} else {
+			correlationAttribute = systemAttributeMappingService.get(config.getCorrelationAttribute());
+		}
+		DTO entity = findByCorrelationAttribute(correlationAttribute, icAttributes, context);
 		if (entity != null) {
 			// Account not exist but, entity by correlation was
 			// found (UNLINKED)
@@ -604,6 +665,12 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 		// Token is saved in Sync as String, therefore we transform token (from
 		// IcObject) to String too.
 		String token = tokenObj != null ? tokenObj.toString() : null;
+		if (tokenTracker != null) {
+			// items are processed in parallel - token is saved, when item and all previously read items are processed
+			tokenTracker.register(itemContext, token);
+			//
+			return synchronizeItem(itemContext);
+		}
 
 		// In custom filter mode, we don't have token. We find
 		// token in object by tokenAttribute, but
@@ -619,10 +686,475 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 			config.setToken(token);
 		}
 
-		boolean result = startItemSynchronization(itemContext);
+		return synchronizeItem(itemContext);
+	}
+
+	/**
+	 * Synchronize one item - item is processed directly or submitted into parallel worker.
+	 *
+	 * @param itemContext
+	 * @return false - synchronization was canceled
+	 * @since 12.3.0
+	 */
+	protected boolean synchronizeItem(SynchronizationContext itemContext) {
+		if (workerPool != null) {
+			return workerPool.submit(itemContext);
+		}
+		return processItem(itemContext);
+	}
+
+	/**
+	 * Executor supports parallel item processing. Executors, which share a state between items, should not support it.
+	 *
+	 * @return true - items can be processed in parallel, if it's configured in synchronization config
+	 * @since 12.3.0
+	 */
+	protected boolean supportsParallelProcessing() {
+		return true;
+	}
+
+	/**
+	 * Count of items read from connector and processed together - system entities, accounts and entities
+	 * by correlation attribute are loaded for the whole chunk (see {@link #createCorrelationIndex(List)}).
+	 *
+	 * @return chunk size, chunks are not used, if size is lower or equal to one
+	 * @since 12.3.0
+	 */
+	protected int getCorrelationChunkSize() {
+		return DEFAULT_CORRELATION_CHUNK_SIZE;
+	}
+
+	/**
+	 * Load system entities, accounts and entities by correlation attribute for all given items by set based queries.
+	 * Each part of index is loaded independently - if some part cannot be loaded, then items of the part
+	 * will be found directly (item by item) as before.
+	 *
+	 * @param itemContexts chunk items
+	 * @return loaded index
+	 * @since 12.3.0
+	 */
+	protected SynchronizationCorrelationIndex createCorrelationIndex(List<SynchronizationContext> itemContexts) {
+		Assert.notEmpty(itemContexts, "Chunk items are required.");
+		//
+		SynchronizationCorrelationIndex correlationIndex = new SynchronizationCorrelationIndex();
+		SynchronizationContext firstContext = itemContexts.get(0);
+		SysSystemDto system = firstContext.getSystem();
+		AbstractSysSyncConfigDto config = firstContext.getConfig();
+		//
+		// system entities by uid
+		try {
+			Map<String, String> uids = getUniqueKeys(itemContexts
+					.stream()
+					.filter(itemContext -> itemContext.getAccount() == null)
+					.map(SynchronizationContext::getUid)
+					.collect(Collectors.toList()));
+			if (!uids.isEmpty()) {
+				SysSystemEntityFilter systemEntityFilter = new SysSystemEntityFilter();
+				systemEntityFilter.setEntityType(firstContext.getEntityType());
+				systemEntityFilter.setSystemId(system.getId());
+				systemEntityFilter.setUids(new ArrayList<>(uids.values()));
+				Map<String, List<SysSystemEntityDto>> systemEntities = indexByKey(
+						uids.keySet(),
+						systemEntityService.find(systemEntityFilter, null).getContent(),
+						SysSystemEntityDto::getUid);
+				if (systemEntities != null) {
+					uids.forEach((key, uid) -> {
+						List<SysSystemEntityDto> uidSystemEntities = systemEntities.get(key);
+						if (uidSystemEntities == null) {
+							correlationIndex.addSystemEntity(uid, null);
+						} else if (uidSystemEntities.size() == 1) { // ambiguous keys are not indexed
+							correlationIndex.addSystemEntity(uid, uidSystemEntities.get(0));
+						}
+					});
+				}
+			}
+		} catch (Exception ex) {
+			LOG.warn("System entities for synchronization chunk cannot be loaded, system entities will be found for each item.", ex);
+		}
+		//
+		// accounts by system entities
+		try {
+			List<UUID> systemEntityIds = itemContexts
+					.stream()
+					.filter(itemContext -> itemContext.getAccount() == null)
+					.map(itemContext -> getIndexedSystemEntity(correlationIndex, itemContext.getUid()))
+					.filter(systemEntity -> systemEntity != null)
+					.map(SysSystemEntityDto::getId)
+					.distinct()
+					.collect(Collectors.toList());
+			if (!systemEntityIds.isEmpty()) {
+				AccAccountFilter accountFilter = new AccAccountFilter();
+				accountFilter.setSystemId(system.getId());
+				accountFilter.setSystemEntityIds(systemEntityIds);
+				Map<UUID, List<AccAccountDto>> systemEntityAccounts = accountService
+						.find(accountFilter, null)
+						.getContent()
+						.stream()
+						.collect(Collectors.groupingBy(AccAccountDto::getSystemEntity));
+				if (systemEntityIds.containsAll(systemEntityAccounts.keySet())) {
+					systemEntityIds.forEach(systemEntityId -> {
+						correlationIndex.addSystemEntityAccount(systemEntityId, null);
+						systemEntityAccounts
+							.getOrDefault(systemEntityId, new ArrayList<>())
+							.forEach(account -> correlationIndex.addSystemEntityAccount(systemEntityId, account));
+					});
+				}
+			}
+		} catch (Exception ex) {
+			LOG.warn("Accounts for synchronization chunk cannot be loaded, accounts will be found for each item.", ex);
+		}
+		//
+		// accounts by generated uid - items without account found by system entity
+		try {
+			List<String> accountUids = new ArrayList<>();
+			for (SynchronizationContext itemContext : itemContexts) {
+				if (itemContext.getAccount() != null || itemContext.getIcObject() == null) {
+					continue;
+				}
+				SysSystemEntityDto systemEntity = getIndexedSystemEntity(correlationIndex, itemContext.getUid());
+				if (systemEntity != null
+						&& !CollectionUtils.isEmpty(correlationIndex.getSystemEntityAccounts(systemEntity.getId()))) {
+					continue;
+				}
+				try {
+					String accountUid = generateUID(itemContext);
+					accountUids.add(accountUid);
+					correlationIndex.addItemKeys(itemContext.getUid(), accountUid, null);
+				} catch (Exception ex) {
+					LOG.debug("Uid for item [{}] cannot be generated, account will be found for the item directly.",
+							itemContext.getUid(), ex);
+				}
+			}
+			Map<String, String> uids = getUniqueKeys(accountUids);
+			if (!uids.isEmpty()) {
+				AccAccountFilter accountFilter = new AccAccountFilter();
+				accountFilter.setSystemId(system.getId());
+				accountFilter.setUids(new ArrayList<>(uids.values()));
+				Map<String, List<AccAccountDto>> accounts = indexByKey(
+						uids.keySet(),
+						accountService.find(accountFilter, null).getContent(),
+						AccAccountDto::getUid);
+				if (accounts != null) {
+					uids.forEach((key, uid) -> {
+						List<AccAccountDto> uidAccounts = accounts.get(key);
+						if (uidAccounts == null) {
+							correlationIndex.addAccount(uid, null);
+						} else if (uidAccounts.size() == 1) { // ambiguous keys are not indexed
+							correlationIndex.addAccount(uid, uidAccounts.get(0));
+						}
+					});
+				}
+			}
+		} catch (Exception ex) {
+			LOG.warn("Accounts for synchronization chunk cannot be loaded by uid, accounts will be found for each item.", ex);
+		}
+		//
+		// entities by correlation attribute - items without account only
+		try {
+			if (config.getCorrelationAttribute() != null) {
+				SysSystemAttributeMappingDto correlationAttribute = systemAttributeMappingService.get(config.getCorrelationAttribute());
+				if (correlationAttribute != null) {
+					correlationIndex.setCorrelationAttribute(correlationAttribute);
+					indexCorrelatedEntities(correlationIndex, correlationAttribute, itemContexts);
+				}
+			}
+		} catch (Exception ex) {
+			LOG.warn("Entities for synchronization chunk cannot be loaded by correlation attribute, "
+					+ "entities will be found for each item.", ex);
+		}
+		//
+		return correlationIndex;
+	}
+
+	/**
+	 * Load entities by correlation attribute for items without account.
+	 *
+	 * @param correlationIndex filled index
+	 * @param correlationAttribute correlation attribute
+	 * @param itemContexts chunk items
+	 */
+	private void indexCorrelatedEntities(
+			SynchronizationCorrelationIndex correlationIndex,
+			SysSystemAttributeMappingDto correlationAttribute,
+			List<SynchronizationContext> itemContexts) {
+		List<String> values = new ArrayList<>();
+		for (SynchronizationContext itemContext : itemContexts) {
+			IcSyncDeltaTypeEnum type = itemContext.getType();
+			if (itemContext.getAccount() != null
+					|| itemContext.getIcObject() == null
+					|| (IcSyncDeltaTypeEnum.CREATE != type
+						&& IcSyncDeltaTypeEnum.UPDATE != type
+						&& IcSyncDeltaTypeEnum.CREATE_OR_UPDATE != type)) {
+				continue;
+			}
+			// account will be found by system entity
+			SysSystemEntityDto systemEntity = getIndexedSystemEntity(correlationIndex, itemContext.getUid());
+			if (systemEntity != null
+					&& !CollectionUtils.isEmpty(correlationIndex.getSystemEntityAccounts(systemEntity.getId()))) {
+				continue;
+			}
+			try {
+				Object value = getValueByMappedAttribute(correlationAttribute, itemContext.getIcObject().getAttributes(), itemContext);
+				if (value instanceof String) {
+					values.add((String) value);
+					correlationIndex.addItemKeys(itemContext.getUid(), null, value);
+				}
+			} catch (Exception ex) {
+				LOG.debug("Correlation value for item [{}] cannot be resolved, entity will be found for the item directly.",
+						itemContext.getUid(), ex);
+			}
+		}
+		Map<String, String> uniqueValues = getUniqueKeys(values);
+		if (uniqueValues.isEmpty()) {
+			return;
+		}
+		SynchronizationContext firstContext = itemContexts.get(0);
+		Map<String, List<DTO>> entities = null;
+		@SuppressWarnings("unchecked")
+		ReadWriteDtoService<DTO, BaseFilter> service = (ReadWriteDtoService<DTO, BaseFilter>) getService();
+		if (correlationAttribute.isEntityAttribute()) {
+			String propertyName = correlationAttribute.getIdmPropertyName();
+			CorrelationFilter filter = getEntityFilter(firstContext);
+			filter.setProperty(propertyName);
+			filter.setValues(new ArrayList<>(uniqueValues.values()));
+			//
+			entities = indexByKey(
+					uniqueValues.keySet(),
+					service.find((BaseFilter) filter, (Pageable) null).getContent(),
+					dto -> {
+						try {
+							Object value = EntityUtils.getEntityValue(dto, propertyName);
+							return value == null ? null : value.toString();
+						} catch (IntrospectionException | IllegalAccessException | InvocationTargetException ex) {
+							throw new CoreException(ex);
+						}
+					});
+		} else if (correlationAttribute.isExtendedAttribute()) {
+			IdmFormAttributeDto formAttribute = formService.getAttribute(
+					firstContext.getEntityType().getExtendedAttributeOwnerType(),
+					correlationAttribute.getIdmPropertyName());
+			CorrelationFilter filter = getEntityFilter(firstContext);
+			if (formAttribute == null
+					|| formAttribute.isConfidential()
+					|| !(filter instanceof DataFilter)
+					|| (PersistentType.SHORTTEXT != formAttribute.getPersistentType()
+						&& PersistentType.TEXT != formAttribute.getPersistentType())) {
+				// find owners by other persistent types is not supported in chunk => entities will be found for each item
+				return;
+			}
+			boolean shortText = PersistentType.SHORTTEXT == formAttribute.getPersistentType();
+			IdmFormValueFilter<?> formValueFilter = new IdmFormValueFilter<>();
+			formValueFilter.setAttributeId(formAttribute.getId());
+			if (shortText) {
+				formValueFilter.setShortTextValues(new ArrayList<>(uniqueValues.values()));
+			} else {
+				formValueFilter.setStringValues(new ArrayList<>(uniqueValues.values()));
+			}
+			Map<String, List<IdmFormValueDto>> formValues = indexByKey(
+					uniqueValues.keySet(),
+					formService.findValues(formValueFilter, null).getContent(),
+					formValue -> shortText ? formValue.getShortTextValue() : formValue.getStringValue());
+			if (formValues == null) {
+				return;
+			}
+			// load owners
+			List<UUID> ownerIds = formValues
+					.values()
+					.stream()
+					.flatMap(List::stream)
+					.map(formValue -> EntityUtils.toUuid(formValue.getOwnerId()))
+					.distinct()
+					.collect(Collectors.toList());
+			Map<UUID, DTO> owners = new HashMap<>();
+			if (!ownerIds.isEmpty()) {
+				((DataFilter) filter).setIds(ownerIds);
+				service
+					.find((BaseFilter) filter, (Pageable) null)
+					.getContent()
+					.forEach(owner -> owners.put(owner.getId(), owner));
+				if (owners.size() != ownerIds.size() || !owners.keySet().containsAll(ownerIds)) {
+					return;
+				}
+			}
+			entities = new HashMap<>();
+			for (Entry<String, List<IdmFormValueDto>> entry : formValues.entrySet()) {
+				List<DTO> keyOwners = new ArrayList<>();
+				entry.getValue().forEach(formValue -> {
+					DTO owner = owners.get(EntityUtils.toUuid(formValue.getOwnerId()));
+					if (!keyOwners.contains(owner)) {
+						keyOwners.add(owner);
+					}
+				});
+				entities.put(entry.getKey(), keyOwners);
+			}
+		}
+		if (entities == null) {
+			return;
+		}
+		for (Entry<String, String> entry : uniqueValues.entrySet()) {
+			List<DTO> valueEntities = entities.get(entry.getKey());
+			if (valueEntities == null) {
+				correlationIndex.addCorrelatedEntity(entry.getValue(), null);
+			} else if (valueEntities.size() == 1) { // ambiguous keys are not indexed
+				correlationIndex.addCorrelatedEntity(entry.getValue(), valueEntities.get(0));
+			}
+		}
+	}
+
+	/**
+	 * Evict entities indexed for correlation value of created entity - other chunk item can be correlated with it.
+	 *
+	 * @param entity created entity
+	 * @param context item context
+	 */
+	private void evictCorrelatedEntity(DTO entity, SynchronizationContext context) {
+		SynchronizationCorrelationIndex correlationIndex = context.getCorrelationIndex();
+		if (correlationIndex == null
+				|| correlationIndex.getCorrelationAttribute() == null
+				|| !correlationIndex.getCorrelationAttribute().isEntityAttribute()) {
+			// extended attribute value is evicted with item keys
+			return;
+		}
+		try {
+			correlationIndex.evictCorrelatedEntities(
+					EntityUtils.getEntityValue(entity, correlationIndex.getCorrelationAttribute().getIdmPropertyName()));
+		} catch (IntrospectionException | IllegalAccessException | InvocationTargetException ex) {
+			throw new CoreException(ex);
+		}
+	}
+
+	/**
+	 * Returns system entity indexed for the given uid.
+	 *
+	 * @param correlationIndex index
+	 * @param uid system entity uid
+	 * @return indexed system entity, or {@code null}, if uid is not indexed or system entity doesn't exist
+	 */
+	private SysSystemEntityDto getIndexedSystemEntity(SynchronizationCorrelationIndex correlationIndex, String uid) {
+		List<SysSystemEntityDto> systemEntities = correlationIndex.getSystemEntities(uid);
+		if (systemEntities.size() != 1) {
+			return null;
+		}
+		return systemEntities.get(0);
+	}
+
+	/**
+	 * Unique values by normalized key - values with the same key (used by more chunk items) are excluded,
+	 * because previously processed item can change them.
+	 *
+	 * @param values values
+	 * @return values by key
+	 */
+	private Map<String, String> getUniqueKeys(List<String> values) {
+		Map<String, Long> counts = values
+				.stream()
+				.filter(value -> !Strings.isNullOrEmpty(value))
+				.collect(Collectors.groupingBy(SynchronizationCorrelationIndex::getKey, Collectors.counting()));
+		Map<String, String> uniqueValues = new HashMap<>();
+		values
+			.stream()
+			.filter(value -> !Strings.isNullOrEmpty(value))
+			.filter(value -> counts.get(SynchronizationCorrelationIndex.getKey(value)) == 1)
+			.forEach(value -> uniqueValues.put(SynchronizationCorrelationIndex.getKey(value), value));
+		return uniqueValues;
+	}
+
+	/**
+	 * Group loaded results by normalized key.
+	 *
+	 * @param keys requested keys
+	 * @param results loaded results
+	 * @param keyMapper result value
+	 * @return results by key, or {@code null}, if unexpected result (not requested key) was loaded - e.g. by database collation
+	 */
+	private <V> Map<String, List<V>> indexByKey(Set<String> keys, List<V> results, Function<V, String> keyMapper) {
+		Map<String, List<V>> index = new HashMap<>();
+		for (V result : results) {
+			String key = SynchronizationCorrelationIndex.getKey(keyMapper.apply(result));
+			if (!keys.contains(key)) {
+				return null;
+			}
+			index.computeIfAbsent(key, k -> new ArrayList<>()).add(result);
+		}
+		return index;
+	}
+
+	/**
+	 * Process one item and update state of synchronization.
+	 *
+	 * @param itemContext
+	 * @return false - synchronization was canceled
+	 */
+	private boolean processItem(SynchronizationContext itemContext) {
+		boolean result;
+		try {
+			result = startItemSynchronization(itemContext);
+		} finally {
+			// item can create or link system entity, account or entity => loaded keys are not valid anymore
+			SynchronizationCorrelationIndex correlationIndex = itemContext.getCorrelationIndex();
+			if (correlationIndex != null) {
+				correlationIndex.evictItem(itemContext.getUid());
+			}
+		}
+		if (tokenTracker != null) {
+			tokenTracker.processed(itemContext);
+		}
 		// Update (increased counter) and check state of sync (maybe was cancelled from
 		// sync or LRT)
-		return updateAndCheckState(result, log);
+		return updateAndCheckState(result, itemContext.getLog());
+	}
+
+	/**
+	 * Start workers for parallel synchronization, if it's configured.
+	 *
+	 * @param config
+	 * @param log
+	 */
+	private void startWorkers(AbstractSysSyncConfigDto config, SysSyncLogDto log) {
+		if (!config.isParallel()) {
+			return;
+		}
+		if (!supportsParallelProcessing()) {
+			log.addToLog("Parallel processing is not supported by this synchronization, items will be processed sequentially.");
+			return;
+		}
+		log.addToLog(MessageFormat.format("Synchronization items will be processed in parallel by [{0}] workers.",
+				config.getWorkerCount()));
+		// items are not read ordered by token, when custom filter is used => greater token is preserved
+		tokenTracker = new SynchronizationTokenTracker(
+				config.isReconciliation() ? null : config.getToken(),
+				config.isCustomFilter() || config.isReconciliation());
+		workerPool = new SynchronizationWorkerPool(
+				"sync-worker",
+				config.getWorkerCount(),
+				SynchronizationWorkerPool.DEFAULT_QUEUE_CAPACITY,
+				this::processItem);
+		workerPool.start();
+	}
+
+	/**
+	 * Wait for parallel workers process all submitted items.
+	 * Token of the last item processed together with all previously read items is set - items drained from queue after 
+	 * synchronization was canceled are not processed, token is not moved past them.
+	 * 
+	 * @param config
+	 * @param log
+	 */
+	private void finishWorkers(AbstractSysSyncConfigDto config, SysSyncLogDto log) {
+		if (workerPool == null) {
+			return;
+		}
+		try {
+			workerPool.finish();
+		} finally {
+			String token = tokenTracker.getToken();
+			log.setToken(token);
+			if (!config.isReconciliation()) {
+				config.setToken(token);
+			}
+			workerPool = null;
+			tokenTracker = null;
+		}
 	}
 
 	/**
@@ -640,12 +1172,11 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 		SysSyncItemLogDto itemLog = itemContext.getLogItem();
 		boolean ignored = false;
 
-		List<SysSyncActionLogDto> actionsLog = new ArrayList<>();
+		// Parallel workers collect action logs for one item only - logs are merged into synchronization action logs at the end.
+		boolean parallel = workerPool != null;
+		SynchronizationLogWriter writer = getLogWriter(log);
+		List<SysSyncActionLogDto> actionsLog = parallel ? new ArrayList<>() : writer.getActionLogs();
 		try {
-
-			SysSyncActionLogFilter actionFilter = new SysSyncActionLogFilter();
-			actionFilter.setSynchronizationLogId(log.getId());
-			actionsLog.addAll(syncActionLogService.find(actionFilter, null).getContent());
 			itemContext.addActionLogs(actionsLog);
 
 			// Default setting for log item
@@ -682,17 +1213,24 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 			}
 			return true;
 		} finally {
-			synchronizationConfigService.save(config);
-			if (!ignored) {
-				boolean existingItemLog = existItemLogInActions(actionsLog, itemLog);
-				actionsLog = saveActionLogs(actionsLog, log.getId());
-				//
-				if (!existingItemLog) {
+			if (parallel) {
+				// token is saved, after workers are finished - items are not processed in the same order as read from connector
+				if (!ignored) {
+					if (!existItemLogInActions(actionsLog, itemLog)) {
+						addToItemLog(itemLog, MessageFormat.format("Missing action log for UID [{0}]!", uid));
+						initSyncActionLog(SynchronizationActionType.UNKNOWN, OperationResultType.ERROR, itemLog, log,
+								actionsLog);
+					}
+					writer.merge(actionsLog);
+				}
+			} else {
+				if (!ignored && !existItemLogInActions(actionsLog, itemLog)) {
 					addToItemLog(itemLog, MessageFormat.format("Missing action log for UID [{0}]!", uid));
 					initSyncActionLog(SynchronizationActionType.UNKNOWN, OperationResultType.ERROR, itemLog, log,
 							actionsLog);
-					syncItemLogService.save(itemLog);
 				}
+				// token is saved together with logs
+				writer.itemProcessed(config);
 			}
 		}
 	}
@@ -711,20 +1249,70 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 	protected void startReconciliation(SystemEntityType entityType, Set<String> allAccountsSet,
 			AbstractSysSyncConfigDto config, SysSystemDto system, SysSyncLogDto log,
 			List<SysSyncActionLogDto> actionsLog) {
+		try (ExternalUidSorter allAccounts = new ExternalUidSorter()) {
+			allAccountsSet.forEach(allAccounts::add);
+			//
+			startReconciliation(entityType, allAccounts, config, system, log, actionsLog);
+		}
+	}
+
+	/**
+	 * Start reconciliation. Is call after synchronization. Main purpose is find and
+	 * resolve missing accounts.
+	 * 
+	 * Accounts are read by pages (account identifier and uid only) and sorted together with uids 
+	 * read from system (both in temporary files, if needed) => memory is bounded regardless of system size.
+	 *
+	 * @param entityType
+	 * @param allAccounts uids read from system
+	 * @param config
+	 * @param system
+	 * @param log
+	 * @param actionsLog
+	 * @since 12.3.0
+	 */
+	protected void startReconciliation(SystemEntityType entityType, ExternalUidSorter allAccounts,
+			AbstractSysSyncConfigDto config, SysSystemDto system, SysSyncLogDto log,
+			List<SysSyncActionLogDto> actionsLog) {
 		if (!log.isRunning()) {
 			return;
 		}
-		AccAccountFilter accountFilter = new AccAccountFilter();
-		accountFilter.setSystemId(system.getId());
-
-		List<AccAccountDto> accounts = accountService.find(accountFilter, null).getContent();
-
-		for (AccAccountDto account : accounts) {
-			if (!log.isRunning()) {
-				return;
-			}
-			String uid = account.getRealUid();
-			if (!allAccountsSet.contains(uid)) {
+		// action logs are written by buffered writer
+		SynchronizationLogWriter writer = getLogWriter(log);
+		actionsLog = writer.getActionLogs();
+		try (ExternalUidSorter existingAccounts = new ExternalUidSorter()) {
+			// Accounts are read by keyset pages - all accounts are read before processing (processing can delete accounts)
+			UUID lastAccountId = null;
+			Map<UUID, String> realUids;
+			do {
+				realUids = accountService.findRealUids(system.getId(), lastAccountId, RECONCILIATION_PAGE_SIZE);
+				for (Entry<UUID, String> realUid : realUids.entrySet()) {
+					existingAccounts.add(realUid.getValue(), realUid.getKey());
+					lastAccountId = realUid.getKey();
+				}
+			} while (realUids.size() == RECONCILIATION_PAGE_SIZE);
+			//
+			// Both sides are sorted by uid => missing accounts are found by merge
+			Iterator<ExternalUidSorter.Entry> systemUids = allAccounts.iterator();
+			String systemUid = systemUids.hasNext() ? systemUids.next().getUid() : null;
+			Iterator<ExternalUidSorter.Entry> accountUids = existingAccounts.iterator();
+			while (accountUids.hasNext()) {
+				if (!log.isRunning()) {
+					return;
+				}
+				ExternalUidSorter.Entry accountUid = accountUids.next();
+				String uid = accountUid.getUid();
+				while (systemUid != null && systemUid.compareTo(uid) < 0) {
+					systemUid = systemUids.hasNext() ? systemUids.next().getUid() : null;
+				}
+				if (uid.equals(systemUid)) {
+					continue;
+				}
+				AccAccountDto account = accountService.get(accountUid.getAccountId());
+				if (account == null) {
+					// account was deleted in the meantime
+					continue;
+				}
 				SysSyncItemLogDto itemLog = new SysSyncItemLogDto();
 				boolean ignored = false;
 				try {
@@ -762,18 +1350,12 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 					log.addToLog(Throwables.getStackTraceAsString(ex));
 					LOG.error(message, ex);
 				} finally {
-					config = synchronizationConfigService.save(config);
-					if (!ignored) {
-						boolean existingItemLog = existItemLogInActions(actionsLog, itemLog);
-						actionsLog = saveActionLogs(actionsLog, log.getId());
-						//
-						if (!existingItemLog) {
-							addToItemLog(itemLog, MessageFormat.format("Missing action log for UID [{0}]!", uid));
-							initSyncActionLog(SynchronizationActionType.UNKNOWN, OperationResultType.ERROR, itemLog, log,
-									actionsLog);
-							syncItemLogService.save(itemLog);
-						}
+					if (!ignored && !existItemLogInActions(actionsLog, itemLog)) {
+						addToItemLog(itemLog, MessageFormat.format("Missing action log for UID [{0}]!", uid));
+						initSyncActionLog(SynchronizationActionType.UNKNOWN, OperationResultType.ERROR, itemLog, log,
+								actionsLog);
 					}
+					writer.itemProcessed(config);
 				}
 			}
 		}
@@ -791,7 +1373,8 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 		SystemEntityType entityType = context.getEntityType();
 		AbstractSysSyncConfigDto config = context.getConfig();
 		SysSyncLogDto log = context.getLog();
-		List<SysSyncActionLogDto> actionsLog = context.getActionLogs();
+		SynchronizationLogWriter writer = getLogWriter(log);
+		List<SysSyncActionLogDto> actionsLog = writer.getActionLogs();
 		SysSystemDto system = context.getSystem();
 		SysSyncItemLogDto itemLog = new SysSyncItemLogDto();
 		boolean ignored = false;
@@ -847,18 +1430,12 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 			log.addToLog(Throwables.getStackTraceAsString(ex));
 			LOG.error(message, ex);
 		} finally {
-			synchronizationConfigService.save(config);
-			if (!ignored) {
-				boolean existingItemLog = existItemLogInActions(actionsLog, itemLog);
-				actionsLog = (List<SysSyncActionLogDto>) syncActionLogService.saveAll(actionsLog);
-				//
-				if (!existingItemLog) {
-					addToItemLog(itemLog, MessageFormat.format("Missing action log for entity [{0}]!", entity.getId()));
-					initSyncActionLog(SynchronizationActionType.UNKNOWN, OperationResultType.ERROR, itemLog, log,
-							actionsLog);
-					syncItemLogService.save(itemLog);
-				}
+			if (!ignored && !existItemLogInActions(actionsLog, itemLog)) {
+				addToItemLog(itemLog, MessageFormat.format("Missing action log for entity [{0}]!", entity.getId()));
+				initSyncActionLog(SynchronizationActionType.UNKNOWN, OperationResultType.ERROR, itemLog, log,
+						actionsLog);
 			}
+			writer.itemProcessed(config);
 		}
 	}
 
@@ -1354,6 +1931,7 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 		}
 		// Create new entity
 		entity = this.save(entity, true, context);
+		evictCorrelatedEntity(entity, context);
 
 		EntityAccountDto roleAccount = createEntityAccount(account, entity, context);
 		this.getEntityAccountService().save(roleAccount);
@@ -1567,6 +2145,25 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 		if (value == null) {
 			return null;
 		}
+		// entities loaded for the whole chunk
+		SynchronizationCorrelationIndex correlationIndex = context.getCorrelationIndex();
+		if (correlationIndex != null
+				&& correlationIndex.getCorrelationAttribute() != null
+				&& attribute instanceof SysSystemAttributeMappingDto
+				&& correlationIndex.getCorrelationAttribute().getId().equals(((SysSystemAttributeMappingDto) attribute).getId())
+				&& correlationIndex.containsCorrelatedEntities(value)) {
+			List<AbstractDto> entities = correlationIndex.getCorrelatedEntities(value);
+			if (entities.isEmpty()) {
+				return null;
+			}
+			if (entities.size() > 1) {
+				throw new ProvisioningException(AccResultCode.SYNCHRONIZATION_CORRELATION_TO_MANY_RESULTS,
+						ImmutableMap.of(
+								"correlationAttribute", attribute.isEntityAttribute() ? attribute.getIdmPropertyName() : attribute.getName(), 
+								"value", value));
+			}
+			return (DTO) entities.get(0);
+		}
 		if (attribute.isEntityAttribute()) {
 			return findByAttribute(attribute.getIdmPropertyName(), value.toString(), context);
 		} else if (attribute.isExtendedAttribute()) {
@@ -2014,6 +2611,7 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 		SysSystemDto system = context.getSystem();
 		SysSyncItemLogDto logItem = context.getLogItem();
 		SysSystemEntityDto systemEntity = context.getSystemEntity();
+		SynchronizationCorrelationIndex correlationIndex = context.getCorrelationIndex();
 
 		AccAccountFilter accountFilter = new AccAccountFilter();
 		accountFilter.setSystemId(system.getId());
@@ -2024,8 +2622,13 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 			addToItemLog(logItem, MessageFormat.format(
 					"System entity [{1}] for this UID [{0}] was found. We try to find account for this system entity",
 					uid, systemEntity.getId()));
-			accountFilter.setSystemEntityId(systemEntity.getId());
-			accounts = accountService.find(accountFilter, null).getContent();
+			if (correlationIndex != null && correlationIndex.containsSystemEntityAccounts(systemEntity.getId())) {
+				// accounts loaded for the whole chunk
+				accounts = correlationIndex.getSystemEntityAccounts(systemEntity.getId());
+			} else {
+				accountFilter.setSystemEntityId(systemEntity.getId());
+				accounts = accountService.find(accountFilter, null).getContent();
+			}
 		}
 		if (CollectionUtils.isEmpty(accounts)) {
 			// System entity was not found. We will find account by generated UID directly.
@@ -2038,9 +2641,14 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 					"Account was not found. We try to find account for UID [{0}] (generated from the mapped attribute marked as Identifier)",
 					attributeUid));
 
-			accountFilter.setUid(attributeUid);
-			accountFilter.setSystemEntityId(null);
-			accounts = accountService.find(accountFilter, null).getContent();
+			if (correlationIndex != null && correlationIndex.containsAccounts(attributeUid)) {
+				// accounts loaded for the whole chunk
+				accounts = correlationIndex.getAccounts(attributeUid);
+			} else {
+				accountFilter.setUid(attributeUid);
+				accountFilter.setSystemEntityId(null);
+				accounts = accountService.find(accountFilter, null).getContent();
+			}
 		}
 		if (accounts != null && accounts.size() > 1) {
 			throw new ProvisioningException(AccResultCode.SYNCHRONIZATION_TO_MANY_ACC_ACCOUNT, uid);
@@ -2085,6 +2693,25 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 		return systemEntityService.save(systemEntityNew);
 	}
 
+	/**
+	 * Find system entity for item uid - system entity loaded for the whole chunk is used, if uid is indexed.
+	 *
+	 * @param context item context
+	 * @return system entity, or {@code null}, if system entity doesn't exist
+	 */
+	private SysSystemEntityDto findSystemEntity(SynchronizationContext context) {
+		String uid = context.getUid();
+		SynchronizationCorrelationIndex correlationIndex = context.getCorrelationIndex();
+		if (correlationIndex == null || !correlationIndex.containsSystemEntities(uid)) {
+			return findSystemEntity(uid, context.getSystem(), context.getEntityType());
+		}
+		List<SysSystemEntityDto> systemEntities = correlationIndex.getSystemEntities(uid);
+		if (systemEntities.size() > 1) {
+			throw new ProvisioningException(AccResultCode.SYNCHRONIZATION_TO_MANY_SYSTEM_ENTITY, uid);
+		}
+		return systemEntities.isEmpty() ? null : systemEntities.get(0);
+	}
+
 	private SysSystemEntityDto findSystemEntity(String uid, SysSystemDto system, SystemEntityType entityType) {
 		SysSystemEntityFilter systemEntityFilter = new SysSystemEntityFilter();
 		systemEntityFilter.setEntityType(entityType);
@@ -2532,10 +3159,22 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 	 * @param result
 	 * @param log
 	 */
-	private boolean updateAndCheckState(boolean result, SysSyncLogDto log) {
+	private synchronized boolean updateAndCheckState(boolean result, SysSyncLogDto log) {
+		longRunningTaskExecutor.increaseCounter();
+		return checkState(result, log);
+	}
+
+	/**
+	 * Check state of sync without counter is increased (maybe was cancelled from sync or LRT).
+	 *
+	 * @param result
+	 * @param log
+	 * @return false - synchronization was canceled
+	 * @since 12.3.0
+	 */
+	private synchronized boolean checkState(boolean result, SysSyncLogDto log) {
 		// We reload log (maybe was synchronization canceled)
 		log.setRunning(synchronizationLogService.get(log.getId()).isRunning());
-		longRunningTaskExecutor.increaseCounter();
 		boolean lrtResult = longRunningTaskExecutor.updateState();
 		if (!log.isRunning() || !lrtResult) {
 			result = false;
@@ -2556,9 +3195,10 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 	private class DefaultResultHandler implements IcResultsHandler {
 
 		private final SynchronizationContext context;
-		private final Set<String> systemAccountsList;
+		private final ExternalUidSorter systemAccountsList;
+		private final SynchronizationChunk chunk = new SynchronizationChunk();
 
-		public DefaultResultHandler(final SynchronizationContext context, final Set<String> systemAccountsList) {
+		public DefaultResultHandler(final SynchronizationContext context, final ExternalUidSorter systemAccountsList) {
 			this.context = context;
 			this.systemAccountsList = systemAccountsList;
 		}
@@ -2579,7 +3219,16 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 					.addIcObject(connectorObject) //
 					.addGeneratedUid(null); //
 
-			return handleIcObject(itemContext);
+			return chunk.add(itemContext, () -> handleIcObject(itemContext));
+		}
+
+		/**
+		 * Process the rest of read items.
+		 *
+		 * @return false - synchronization was canceled
+		 */
+		public boolean finish() {
+			return chunk.process();
 		}
 	}
 	
@@ -2596,9 +3245,10 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 	private class DefalutSyncResultHandler implements IcSyncResultsHandler {
 
 		private final SynchronizationContext context;
-		private final Set<String> systemAccountsList;
+		private final ExternalUidSorter systemAccountsList;
+		private final SynchronizationChunk chunk = new SynchronizationChunk();
 
-		public DefalutSyncResultHandler(final SynchronizationContext context, final Set<String> systemAccountsList) {
+		public DefalutSyncResultHandler(final SynchronizationContext context, final ExternalUidSorter systemAccountsList) {
 			this.context = context;
 			this.systemAccountsList = systemAccountsList;
 		}
@@ -2616,11 +3266,6 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 			IcConnectorObject icObject = delta.getObject();
 			IcSyncToken token = delta.getToken();
 			String tokenObject = token.getValue() != null ? token.getValue().toString() : null;
-			// Save token
-			log.setToken(tokenObject);
-			if (!config.isReconciliation()) {
-				config.setToken(tokenObject);
-			}
 			//
 			if (config.isReconciliation()) {
 				systemAccountsList.add(uid);
@@ -2634,12 +3279,89 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 					.addIcObject(icObject) //
 					.addGeneratedUid(null); //
 
-			boolean result = startItemSynchronization(itemContext);
+			return chunk.add(itemContext, () -> {
+				if (tokenTracker != null) {
+					// items are processed in parallel - token is saved, when item and all previously read items are processed
+					tokenTracker.register(itemContext, tokenObject);
+					//
+					return synchronizeItem(itemContext);
+				}
+				// Save token - token is saved, when item is processed
+				log.setToken(tokenObject);
+				if (!config.isReconciliation()) {
+					config.setToken(tokenObject);
+				}
+				//
+				return synchronizeItem(itemContext);
+			});
+		}
 
-			// Update (increased counter) and check state of sync (maybe was cancelled from
-			// sync or LRT)
-			return updateAndCheckState(result, log);
+		/**
+		 * Process the rest of read items.
+		 *
+		 * @return false - synchronization was canceled
+		 */
+		public boolean finish() {
+			return chunk.process();
+		}
+	}
 
+	/**
+	 * Items read from connector are processed in chunks - system entities, accounts and entities by correlation attribute
+	 * are loaded for the whole chunk before chunk items are processed (see {@link #createCorrelationIndex(List)}).
+	 *
+	 * @since 12.3.0
+	 */
+	private class SynchronizationChunk {
+
+		private final List<SynchronizationContext> itemContexts = new ArrayList<>();
+		private final List<BooleanSupplier> processors = new ArrayList<>();
+
+		/**
+		 * Add item into chunk - chunk is processed, when chunk size is reached.
+		 * State is checked for each added item - items are not read, when synchronization was canceled.
+		 *
+		 * @param itemContext item context
+		 * @param processor item processor
+		 * @return false - synchronization was canceled
+		 */
+		public boolean add(SynchronizationContext itemContext, BooleanSupplier processor) {
+			if (getCorrelationChunkSize() > 1 && !checkState(true, itemContext.getLog())) {
+				return false;
+			}
+			itemContexts.add(itemContext);
+			processors.add(processor);
+			//
+			if (itemContexts.size() < getCorrelationChunkSize()) {
+				return true;
+			}
+			return process();
+		}
+
+		/**
+		 * Process all items in chunk.
+		 *
+		 * @return false - synchronization was canceled
+		 */
+		public boolean process() {
+			if (itemContexts.isEmpty()) {
+				return true;
+			}
+			List<SynchronizationContext> chunkItemContexts = new ArrayList<>(itemContexts);
+			List<BooleanSupplier> chunkProcessors = new ArrayList<>(processors);
+			itemContexts.clear();
+			processors.clear();
+			//
+			if (chunkItemContexts.size() > 1) {
+				SynchronizationCorrelationIndex correlationIndex = createCorrelationIndex(chunkItemContexts);
+				chunkItemContexts.forEach(itemContext -> itemContext.addCorrelationIndex(correlationIndex));
+			}
+			for (BooleanSupplier processor : chunkProcessors) {
+				if (!processor.getAsBoolean()) {
+					return false;
+				}
+			}
+			return true;
 		}
 	}
 
@@ -2713,16 +3435,81 @@ public abstract class AbstractSynchronizationExecutor<DTO extends AbstractDto>
 	}
 
 	/**
-	 * Save action logs
+	 * Start buffered writer of action and item logs for synchronization process.
 	 *
-	 * @param actionsLog
-	 * @return
+	 * @param actionLogs action logs of synchronization
+	 * @since 12.3.0
+	 */
+	protected void startLogWriter(List<SysSyncActionLogDto> actionLogs) {
+		logWriter = new SynchronizationLogWriter(
+				syncActionLogService,
+				syncItemLogService,
+				synchronizationConfigService,
+				platformTransactionManager,
+				actionLogs);
+	}
+
+	/**
+	 * Persist all buffered action and item logs.
+	 *
+	 * @since 12.3.0
+	 */
+	protected void flushLogWriter() {
+		if (logWriter != null) {
+			logWriter.flush();
+		}
+	}
+
+	/**
+	 * Persist the rest of buffered action and item logs and stop the writer. Error is added into synchronization log
+	 * (synchronization ends in any case).
+	 *
+	 * @param log
+	 * @since 12.3.0
 	 */
-	private List<SysSyncActionLogDto> saveActionLogs(List<SysSyncActionLogDto> actionsLog, UUID syncLogId) {
-		syncActionLogService.saveAll(actionsLog);
+	protected void finishLogWriter(SysSyncLogDto log) {
+		if (logWriter == null) {
+			return;
+		}
+		try {
+			logWriter.flush();
+		} catch (Exception ex) {
+			String message = "Synchronization logs cannot be saved";
+			log.addToLog(message);
+			log.setContainsError(true);
+			log.addToLog(Throwables.getStackTraceAsString(ex));
+			LOG.error(message, ex);
+		} finally {
+			logWriter = null;
+		}
+	}
+
+	/**
+	 * Buffered writer of running synchronization process. If process is overridden without writer, then
+	 * persisted action logs are loaded once for the synchronization log and logs are written after each item.
+	 *
+	 * @param log
+	 * @return writer
+	 */
+	private SynchronizationLogWriter getLogWriter(SysSyncLogDto log) {
+		if (logWriter != null) {
+			return logWriter;
+		}
+		if (fallbackLogWriter != null && Objects.equals(fallbackLogWriterLogId, log.getId())) {
+			return fallbackLogWriter;
+		}
 		SysSyncActionLogFilter actionFilter = new SysSyncActionLogFilter();
-		actionFilter.setSynchronizationLogId(syncLogId);
-		return new ArrayList<>(syncActionLogService.find(actionFilter, null).getContent());
+		actionFilter.setSynchronizationLogId(log.getId());
+		fallbackLogWriterLogId = log.getId();
+		fallbackLogWriter = new SynchronizationLogWriter(
+				syncActionLogService,
+				syncItemLogService,
+				synchronizationConfigService,
+				platformTransactionManager,
+				new ArrayList<>(syncActionLogService.find(actionFilter, null).getContent()),
+				1,
+				0);
+		return fallbackLogWriter;
 	}
 
 	/**
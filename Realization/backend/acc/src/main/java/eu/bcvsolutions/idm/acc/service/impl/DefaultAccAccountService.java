@@ -61,6 +61,7 @@ import eu.bcvsolutions.idm.ic.api.IcObjectClassInfo;
 import eu.bcvsolutions.idm.ic.impl.IcConnectorObjectImpl;
 import java.text.MessageFormat;
 import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -76,6 +77,7 @@ import org.apache.commons.lang3.BooleanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.plugin.core.OrderAwarePluginRegistry;
 import org.springframework.plugin.core.PluginRegistry;
@@ -222,6 +224,23 @@ public class DefaultAccAccountService extends AbstractEventableDtoService<AccAcc
 		return toDtoPage(
 				accountRepository.findByEndOfProtectionLessThanAndInProtectionIsTrue(expirationDate, pageable));
 	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public Map<UUID, String> findRealUids(UUID systemId, UUID lastAccountId, int pageSize) {
+		Assert.notNull(systemId, "System identifier is required.");
+		Assert.isTrue(pageSize > 0, "Page size has to be greater than zero.");
+		//
+		PageRequest page = PageRequest.of(0, pageSize);
+		List<Object[]> rows = lastAccountId == null
+				? accountRepository.findRealUids(systemId, page)
+				: accountRepository.findRealUids(systemId, lastAccountId, page);
+		Map<UUID, String> realUids = new LinkedHashMap<>(rows.size());
+		for (Object[] row : rows) {
+			realUids.put((UUID) row[0], (String) row[1]);
+		}
+		return realUids;
+	}
 
 	@Override
 	public IcConnectorObject getConnectorObject(AccAccountDto account, BasePermission... permissions) {
@@ -327,6 +346,12 @@ public class DefaultAccAccountService extends AbstractEventableDtoService<AccAcc
 		if (filter.getUid() != null) {
 			predicates.add(builder.equal(root.get(AccAccount_.uid), filter.getUid()));
 		}
+		if (filter.getSystemEntityIds() != null && !filter.getSystemEntityIds().isEmpty()) {
+			predicates.add(root.get(AccAccount_.systemEntity).get(SysSystemEntity_.id).in(filter.getSystemEntityIds()));
+		}
+		if (filter.getUids() != null && !filter.getUids().isEmpty()) {
+			predicates.add(root.get(AccAccount_.uid).in(filter.getUids()));
+		}
 		if (filter.getIdentityId() != null || filter.getOwnership() != null) {
 			Subquery<AccIdentityAccount> identityAccountSubquery = query.subquery(AccIdentityAccount.class);
 			Root<AccIdentityAccount> subRootIdentityAccount = identityAccountSubquery.from(AccIdentityAccount.class);
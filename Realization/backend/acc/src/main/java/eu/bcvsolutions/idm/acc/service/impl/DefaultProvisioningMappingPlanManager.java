@@ -0,0 +1,189 @@
+package eu.bcvsolutions.idm.acc.service.impl;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import eu.bcvsolutions.idm.acc.domain.AttributeMapping;
+import eu.bcvsolutions.idm.acc.domain.ProvisioningMappingPlan;
+import eu.bcvsolutions.idm.acc.domain.SystemEntityType;
+import eu.bcvsolutions.idm.acc.domain.SystemOperationType;
+import eu.bcvsolutions.idm.acc.dto.SysRoleSystemAttributeDto;
+import eu.bcvsolutions.idm.acc.dto.SysSchemaAttributeDto;
+import eu.bcvsolutions.idm.acc.dto.SysSchemaObjectClassDto;
+import eu.bcvsolutions.idm.acc.dto.SysSystemAttributeMappingDto;
+import eu.bcvsolutions.idm.acc.dto.SysSystemDto;
+import eu.bcvsolutions.idm.acc.dto.SysSystemMappingDto;
+import eu.bcvsolutions.idm.acc.dto.filter.SysSchemaAttributeFilter;
+import eu.bcvsolutions.idm.acc.dto.filter.SysSystemAttributeMappingFilter;
+import eu.bcvsolutions.idm.acc.entity.SysSystemAttributeMapping_;
+import eu.bcvsolutions.idm.acc.service.api.ProvisioningMappingPlanManager;
+import eu.bcvsolutions.idm.acc.service.api.SysSchemaAttributeService;
+import eu.bcvsolutions.idm.acc.service.api.SysSchemaObjectClassService;
+import eu.bcvsolutions.idm.acc.service.api.SysSystemAttributeMappingService;
+import eu.bcvsolutions.idm.acc.service.api.SysSystemMappingService;
+import eu.bcvsolutions.idm.core.api.config.cache.domain.ValueWrapper;
+import eu.bcvsolutions.idm.core.api.dto.AbstractDto;
+import eu.bcvsolutions.idm.core.api.service.IdmCacheManager;
+
+/**
+ * Compiled provisioning mapping plans stored in distributed cache, compiled attributes are stored in local cache.
+ *
+ * @since 12.3.0
+ */
+@Service("provisioningMappingPlanManager")
+public class DefaultProvisioningMappingPlanManager implements ProvisioningMappingPlanManager {
+
+	@Autowired private IdmCacheManager cacheManager;
+	@Autowired private SysSystemMappingService systemMappingService;
+	@Autowired private SysSchemaObjectClassService schemaObjectClassService;
+	@Autowired private SysSchemaAttributeService schemaAttributeService;
+	@Autowired private SysSystemAttributeMappingService attributeMappingService;
+
+	@Override
+	public ProvisioningMappingPlan getPlan(SysSystemDto system, SystemEntityType entityType) {
+		Assert.notNull(system, "System is required.");
+		Assert.notNull(entityType, "Entity type is required.");
+		//
+		String cacheKey = getCacheKey(system.getId(), entityType);
+		ValueWrapper value = cacheManager.getValue(CACHE_NAME, cacheKey);
+		if (value != null) {
+			return (ProvisioningMappingPlan) value.get();
+		}
+		//
+		ProvisioningMappingPlan plan = compilePlan(system, entityType);
+		if (plan != null) {
+			cacheManager.cacheValue(CACHE_NAME, cacheKey, plan);
+		}
+		//
+		return plan;
+	}
+
+	@Override
+	public List<AttributeMapping> getCompiledAttributes(
+			ProvisioningMappingPlan plan,
+			List<SysRoleSystemAttributeDto> overloadingAttributes,
+			BiFunction<List<SysSystemAttributeMappingDto>, List<SysRoleSystemAttributeDto>, List<AttributeMapping>> compiler) {
+		Assert.notNull(plan, "Plan is required.");
+		Assert.notNull(overloadingAttributes, "List of overloading attributes cannot be null!");
+		Assert.notNull(compiler, "Compiler is required.");
+		//
+		// compiled attributes are cached locally only - plan identifier is changed, when plan is compiled again
+		String cacheKey = String.format("%s:%s", plan.getId(), getSignature(overloadingAttributes));
+		ValueWrapper value = cacheManager.getValue(COMPILED_ATTRIBUTES_CACHE_NAME, cacheKey);
+		if (value != null) {
+			@SuppressWarnings("unchecked")
+			List<AttributeMapping> compiledAttributes = (List<AttributeMapping>) value.get();
+			return compiledAttributes;
+		}
+		List<AttributeMapping> compiledAttributes = compiler.apply(plan.getAttributeMappings(), overloadingAttributes);
+		if (compiledAttributes == null) {
+			return null;
+		}
+		// overloading attributes are filled by default attribute schema => schema attribute will be used from plan
+		compiledAttributes.forEach(attribute -> embedSchemaAttribute(plan, attribute));
+		compiledAttributes = Collections.unmodifiableList(new ArrayList<>(compiledAttributes));
+		cacheManager.cacheValue(COMPILED_ATTRIBUTES_CACHE_NAME, cacheKey, compiledAttributes);
+		//
+		return compiledAttributes;
+	}
+
+	@Override
+	public void evictPlans() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			evictCaches();
+			return;
+		}
+		// evict after commit - plan can be loaded in the meantime (by other transaction) with previous configuration
+		// plan loaded in current transaction can contain uncommitted configuration => evicted after rollback too
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+			@Override
+			public void afterCompletion(int status) {
+				evictCaches();
+			}
+		});
+	}
+
+	/**
+	 * Load mapping, schema and mapped attributes.
+	 *
+	 * @param system system
+	 * @param entityType mapped entity type
+	 * @return plan or {@code null}, if system doesn't have provisioning mapping for given entity type
+	 */
+	protected ProvisioningMappingPlan compilePlan(SysSystemDto system, SystemEntityType entityType) {
+		List<SysSystemMappingDto> systemMappings = systemMappingService.findBySystem(system,
+				SystemOperationType.PROVISIONING, entityType);
+		if (systemMappings == null || systemMappings.isEmpty()) {
+			return null;
+		}
+		if (systemMappings.size() != 1) {
+			throw new IllegalStateException(MessageFormat.format(
+					"System [{0}] is not configured properly! Remove duplicit provisioning mapping for entity type [{1}]", system.getName(),
+					entityType));
+		}
+		SysSystemMappingDto mapping = systemMappings.get(0);
+		SysSchemaObjectClassDto schemaObjectClass = schemaObjectClassService.get(mapping.getObjectClass());
+		//
+		SysSchemaAttributeFilter schemaAttributeFilter = new SysSchemaAttributeFilter();
+		schemaAttributeFilter.setSystemId(system.getId());
+		schemaAttributeFilter.setObjectClassId(schemaObjectClass.getId());
+		List<SysSchemaAttributeDto> schemaAttributes = schemaAttributeService.find(schemaAttributeFilter, null).getContent();
+		//
+		SysSystemAttributeMappingFilter attributeFilter = new SysSystemAttributeMappingFilter();
+		attributeFilter.setSystemMappingId(mapping.getId());
+		// We don't want attributes for password change only.
+		attributeFilter.setSendOnlyOnPasswordChange(Boolean.FALSE);
+		List<SysSystemAttributeMappingDto> attributeMappings = attributeMappingService.find(attributeFilter, null).getContent();
+		//
+		ProvisioningMappingPlan plan = new ProvisioningMappingPlan(mapping, schemaObjectClass, schemaAttributes, attributeMappings);
+		plan.getAttributeMappings().forEach(attribute -> embedSchemaAttribute(plan, attribute));
+		//
+		return plan;
+	}
+
+	private void embedSchemaAttribute(ProvisioningMappingPlan plan, AttributeMapping attribute) {
+		if (attribute.getSchemaAttribute() == null || !(attribute instanceof AbstractDto)) {
+			return;
+		}
+		SysSchemaAttributeDto schemaAttribute = plan.getSchemaAttribute(attribute.getSchemaAttribute());
+		if (schemaAttribute != null) {
+			((AbstractDto) attribute).getEmbedded().putIfAbsent(SysSystemAttributeMapping_.schemaAttribute.getName(), schemaAttribute);
+		}
+	}
+
+	private void evictCaches() {
+		cacheManager.evictCache(CACHE_NAME);
+		cacheManager.evictCache(COMPILED_ATTRIBUTES_CACHE_NAME);
+	}
+
+	/**
+	 * Overloading attributes signature - overloading attributes are configured by role (not by owner) => owners
+	 * with the same overloading attributes have the same compiled attributes.
+	 * Order matters - compiled attributes with the same priority are ordered as given.
+	 *
+	 * @param overloadingAttributes overloading role-system attributes
+	 * @return signature
+	 */
+	private String getSignature(List<SysRoleSystemAttributeDto> overloadingAttributes) {
+		return overloadingAttributes
+				.stream()
+				.map(attribute -> String.valueOf(attribute.getId()))
+				.collect(Collectors.joining(","));
+	}
+
+	private String getCacheKey(UUID systemId, SystemEntityType entityType) {
+		return String.format("%s:%s", systemId, entityType);
+	}
+}
@@ -83,6 +83,18 @@ public class DefaultSysProvisioningBatchService
 		return toDtoPage(repository.findByVirtualSystemAndOperationState(virtualSystem, OperationState.CREATED, pageable));
 	}
 	
+	@Override
+	@Transactional(readOnly = true)
+	public Page<SysProvisioningBatchDto> findBatchesToProcess(Boolean virtualSystem, UUID idAfter, Pageable pageable) {
+		if (idAfter == null) {
+			return findBatchesToProcess(virtualSystem, pageable);
+		}
+		if (virtualSystem == null) {
+			return toDtoPage(repository.findByOperationStateAndIdAfter(OperationState.CREATED, idAfter, pageable));
+		}
+		return toDtoPage(repository.findByVirtualSystemAndOperationStateAndIdAfter(virtualSystem, OperationState.CREATED, idAfter, pageable));
+	}
+	
 	@Override
 	@Transactional(readOnly = true)
 	public Page<SysProvisioningBatchDto> findBatchesToRetry(ZonedDateTime date, Pageable pageable) {
@@ -347,10 +347,8 @@ public class DefaultSysProvisioningOperationService
 		Map<String, Serializable> confidentialValues = replaceGuardedStrings(dto.getProvisioningContext());
 		// save operation
 		dto = super.saveInternal(dto);
-		// save prepared guarded strings into confidential storage 
-		for(Entry<String, Serializable> entry : confidentialValues.entrySet()) {
-			confidentialStorage.save(dto.getId(), SysProvisioningOperation.class, entry.getKey(), entry.getValue());
-		}
+		// save prepared guarded strings into confidential storage together
+		confidentialStorage.saveAll(dto.getId(), SysProvisioningOperation.class, confidentialValues);
 		//
 		return dto;
 	}
@@ -453,6 +451,7 @@ public class DefaultSysProvisioningOperationService
 		//
 		Map<ProvisioningAttributeDto, Object> fullAccountObject = new HashMap<>();
 		Map<ProvisioningAttributeDto, Object> accountObject = provisioningOperation.getProvisioningContext().getAccountObject();
+		Map<String, Serializable> confidentialValues = getConfidentialValues(provisioningOperation);
 		for (Entry<ProvisioningAttributeDto, Object> entry : accountObject.entrySet()) {
 			if (entry.getValue() == null) {
 				fullAccountObject.put(entry.getKey(), entry.getValue());
@@ -463,10 +462,7 @@ public class DefaultSysProvisioningOperationService
 			if (idmValue instanceof ConfidentialString) {
 				fullAccountObject.put(
 						entry.getKey(), 
-						confidentialStorage.getGuardedString(
-								provisioningOperation.getId(), 
-								SysProvisioningOperation.class, 
-								((ConfidentialString)idmValue).getKey())
+						getGuardedString(confidentialValues, ((ConfidentialString)idmValue).getKey())
 						);
 				continue;
 			}
@@ -478,10 +474,7 @@ public class DefaultSysProvisioningOperationService
 					for(int j = 0; j < idmValues.length; j++) {
 						Object singleValue = idmValues[j];
 						if (singleValue instanceof ConfidentialString) {
-							processedValues.add(confidentialStorage.getGuardedString(
-									provisioningOperation.getId(), 
-									SysProvisioningOperation.class, 
-									((ConfidentialString)singleValue).getKey()));
+							processedValues.add(getGuardedString(confidentialValues, ((ConfidentialString)singleValue).getKey()));
 						}
 					}
 					if (!processedValues.isEmpty()) {
@@ -496,10 +489,7 @@ public class DefaultSysProvisioningOperationService
 				List<GuardedString> processedValues = new ArrayList<>();
 				idmValues.forEach(singleValue -> {
 					if (singleValue instanceof ConfidentialString) {													
-						processedValues.add(confidentialStorage.getGuardedString(
-								provisioningOperation.getId(), 
-								SysProvisioningOperation.class, 
-								((ConfidentialString)singleValue).getKey()));
+						processedValues.add(getGuardedString(confidentialValues, ((ConfidentialString)singleValue).getKey()));
 					}
 				});
 				if (!processedValues.isEmpty()) {
@@ -529,6 +519,7 @@ public class DefaultSysProvisioningOperationService
 			return null;
 		}
 		List<IcAttribute> attributes = new ArrayList<>();
+		Map<String, Serializable> confidentialValues = getConfidentialValues(provisioningOperation);
 		//
 		IcConnectorObject connectorObject = provisioningOperation.getProvisioningContext().getConnectorObject();		
 		connectorObject.getAttributes().forEach(attribute -> {
@@ -539,19 +530,13 @@ public class DefaultSysProvisioningOperationService
 			} else if (attribute instanceof IcPasswordAttribute && attribute.getValue() != null) {
 				attributeCopy = new IcPasswordAttributeImpl(
 						attribute.getName(), 
-						confidentialStorage.getGuardedString(
-								provisioningOperation.getId(), 
-								SysProvisioningOperation.class, 
-								((ConfidentialString) attribute.getValue()).getKey()));
+						getGuardedString(confidentialValues, ((ConfidentialString) attribute.getValue()).getKey()));
 			} else if (attribute instanceof IcPasswordAttribute && attribute.getValue() == null) {
 				attributeCopy = new IcPasswordAttributeImpl(attribute.getName(), (GuardedString) null);
 			} else if (attribute.getValue() instanceof ConfidentialString) {
 				attributeCopy = new IcAttributeImpl(
 						attribute.getName(),
-						confidentialStorage.getGuardedString(
-						provisioningOperation.getId(),
-						SysProvisioningOperation.class,
-						((ConfidentialString) attribute.getValue()).getKey()));
+						getGuardedString(confidentialValues, ((ConfidentialString) attribute.getValue()).getKey()));
 			} else {
 				attributeCopy = new IcAttributeImpl(attribute.getName(), attribute.getValue());
 			}
@@ -562,6 +547,35 @@ public class DefaultSysProvisioningOperationService
 		return newConnectorObject;
 	}
 	
+	/**
+	 * Loads all confidential values of given provisioning operation together.
+	 * 
+	 * @param provisioningOperation
+	 * @return key - value
+	 */
+	private Map<String, Serializable> getConfidentialValues(SysProvisioningOperationDto provisioningOperation) {
+		if (provisioningOperation.getId() == null) {
+			return Collections.emptyMap();
+		}
+		return confidentialStorage.getAll(provisioningOperation.getId(), SysProvisioningOperation.class);
+	}
+	
+	/**
+	 * Loaded confidential value as guarded string - empty guarded string is returned, if value is not found
+	 * (the same behavior as {@link ConfidentialStorage#getGuardedString(UUID, Class, String)}).
+	 * 
+	 * @param confidentialValues
+	 * @param key
+	 * @return
+	 */
+	private GuardedString getGuardedString(Map<String, Serializable> confidentialValues, String key) {
+		Serializable value = confidentialValues.get(key);
+		if (value == null) {
+			return new GuardedString();
+		}
+		return new GuardedString(value.toString());
+	}
+	
 	/**
 	 * REQUIRES_NEW => we handle success in the new transaction too, we need to prepare (save) her in new transaction too.
 	 */
@@ -689,6 +703,10 @@ public class DefaultSysProvisioningOperationService
 			if (context == null) {
 				return confidentialValues;
 			}
+			if (!context.isInflated()) {
+				// context loaded from persisted form was not used => guarded strings were replaced before context was persisted
+				return confidentialValues;
+			}
 			//
 			Map<ProvisioningAttributeDto, Object> accountObject = context.getAccountObject();
 			if (accountObject != null) {
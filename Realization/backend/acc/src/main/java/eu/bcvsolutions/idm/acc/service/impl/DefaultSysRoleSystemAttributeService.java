@@ -4,6 +4,7 @@ import eu.bcvsolutions.idm.acc.domain.SystemGroupType;
 import eu.bcvsolutions.idm.acc.entity.SysSystemGroupSystem;
 import eu.bcvsolutions.idm.acc.entity.SysSystemGroupSystem_;
 import eu.bcvsolutions.idm.acc.entity.SysSystemGroup_;
+import eu.bcvsolutions.idm.acc.service.api.ProvisioningMappingPlanManager;
 import eu.bcvsolutions.idm.core.model.entity.IdmIdentityRole;
 import java.io.Serializable;
 import java.text.MessageFormat;
@@ -20,6 +21,7 @@ import javax.persistence.criteria.Subquery;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
@@ -109,6 +111,7 @@ public class DefaultSysRoleSystemAttributeService extends
 	private RequestManager requestManager;
 	@Autowired
 	private SysAttributeControlledValueService attributeControlledValueService;
+	@Autowired @Lazy private ProvisioningMappingPlanManager mappingPlanManager;
 
 	@Autowired
 	public DefaultSysRoleSystemAttributeService(SysRoleSystemAttributeRepository repository) {
@@ -257,7 +260,11 @@ public class DefaultSysRoleSystemAttributeService extends
 		// Attribute created/updated, so we need evict the cache
 		systemAttributeMapping.setEvictControlledValuesCache(true);
 		systemAttributeMappingService.save(systemAttributeMapping);
-		return super.saveInternal(dto);
+		SysRoleSystemAttributeDto savedDto = super.saveInternal(dto);
+		// compiled provisioning mapping plans are not valid anymore - evicted after commit
+		mappingPlanManager.evictPlans();
+		//
+		return savedDto;
 	}
 
 	@Override
@@ -623,4 +630,12 @@ public class DefaultSysRoleSystemAttributeService extends
 //		// Execute recalculation LRT
 //		longRunningTaskManager.execute(attributeControlledValueRecalculationTask);
 	}
+
+	@Override
+	@Transactional
+	public void deleteInternal(SysRoleSystemAttributeDto dto) {
+		super.deleteInternal(dto);
+		// compiled provisioning mapping plans are not valid anymore - evicted after commit
+		mappingPlanManager.evictPlans();
+	}
 }
@@ -26,6 +26,7 @@ import eu.bcvsolutions.idm.acc.entity.SysSystem_;
 import eu.bcvsolutions.idm.acc.exception.ProvisioningException;
 import eu.bcvsolutions.idm.acc.repository.SysRoleSystemRepository;
 import eu.bcvsolutions.idm.acc.service.api.AccIdentityAccountService;
+import eu.bcvsolutions.idm.acc.service.api.ProvisioningMappingPlanManager;
 import eu.bcvsolutions.idm.acc.service.api.SysRoleSystemAttributeService;
 import eu.bcvsolutions.idm.acc.service.api.SysRoleSystemService;
 import eu.bcvsolutions.idm.acc.service.api.SysSystemGroupSystemService;
@@ -65,6 +66,7 @@ import javax.persistence.criteria.Root;
 import javax.persistence.criteria.Subquery;
 import org.apache.commons.collections.CollectionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.core.Ordered;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -92,6 +94,7 @@ public class DefaultSysRoleSystemService
 	@Autowired private LookupService lookupService;
 	@Autowired private SysSystemGroupSystemService systemGroupSystemService;
 	@Autowired private IdmIdentityRoleService identityRoleService;
+	@Autowired @Lazy private ProvisioningMappingPlanManager mappingPlanManager;
 
 	@Autowired
 	public DefaultSysRoleSystemService(SysRoleSystemRepository repository) {
@@ -413,4 +416,21 @@ public class DefaultSysRoleSystemService
 		return predicates;
 	}
 
+	@Override
+	@Transactional
+	public SysRoleSystemDto saveInternal(SysRoleSystemDto dto) {
+		SysRoleSystemDto savedDto = super.saveInternal(dto);
+		// compiled provisioning mapping plans are not valid anymore - evicted after commit
+		mappingPlanManager.evictPlans();
+		//
+		return savedDto;
+	}
+
+	@Override
+	@Transactional
+	public void deleteInternal(SysRoleSystemDto dto) {
+		super.deleteInternal(dto);
+		// compiled provisioning mapping plans are not valid anymore - evicted after commit
+		mappingPlanManager.evictPlans();
+	}
 }
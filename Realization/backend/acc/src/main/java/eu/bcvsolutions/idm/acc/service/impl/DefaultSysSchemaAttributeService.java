@@ -3,6 +3,7 @@ package eu.bcvsolutions.idm.acc.service.impl;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -15,6 +16,7 @@ import eu.bcvsolutions.idm.acc.entity.SysSchemaAttribute;
 import eu.bcvsolutions.idm.acc.event.SchemaAttributeEvent;
 import eu.bcvsolutions.idm.acc.event.SchemaAttributeEvent.SchemaAttributeEventType;
 import eu.bcvsolutions.idm.acc.repository.SysSchemaAttributeRepository;
+import eu.bcvsolutions.idm.acc.service.api.ProvisioningMappingPlanManager;
 import eu.bcvsolutions.idm.acc.service.api.SysSchemaAttributeService;
 import eu.bcvsolutions.idm.core.api.service.AbstractReadWriteDtoService;
 import eu.bcvsolutions.idm.core.api.service.EntityEventManager;
@@ -33,7 +35,8 @@ public class DefaultSysSchemaAttributeService extends AbstractReadWriteDtoServic
 
 	private final SysSchemaAttributeRepository repository;
 	private final EntityEventManager entityEventManager;
-	
+	@Autowired @Lazy private ProvisioningMappingPlanManager mappingPlanManager;
+
 	@Autowired
 	public DefaultSysSchemaAttributeService(
 			SysSchemaAttributeRepository repository,
@@ -73,4 +76,22 @@ public class DefaultSysSchemaAttributeService extends AbstractReadWriteDtoServic
 		EntityUtils.clearAuditFields(original);
 		return original;
 	}
+
+	@Override
+	@Transactional
+	public SysSchemaAttributeDto saveInternal(SysSchemaAttributeDto dto) {
+		SysSchemaAttributeDto savedDto = super.saveInternal(dto);
+		// compiled provisioning mapping plans are not valid anymore - evicted after commit
+		mappingPlanManager.evictPlans();
+		//
+		return savedDto;
+	}
+
+	@Override
+	@Transactional
+	public void deleteInternal(SysSchemaAttributeDto dto) {
+		super.deleteInternal(dto);
+		// compiled provisioning mapping plans are not valid anymore - evicted after commit
+		mappingPlanManager.evictPlans();
+	}
 }
@@ -11,6 +11,7 @@ import eu.bcvsolutions.idm.acc.entity.SysSchemaAttribute_;
 import eu.bcvsolutions.idm.acc.entity.SysSchemaObjectClass;
 import eu.bcvsolutions.idm.acc.entity.SysSystemMapping_;
 import eu.bcvsolutions.idm.acc.repository.SysSchemaObjectClassRepository;
+import eu.bcvsolutions.idm.acc.service.api.ProvisioningMappingPlanManager;
 import eu.bcvsolutions.idm.acc.service.api.SysSchemaAttributeService;
 import eu.bcvsolutions.idm.acc.service.api.SysSchemaObjectClassService;
 import eu.bcvsolutions.idm.acc.service.api.SysSystemMappingService;
@@ -25,6 +26,7 @@ import eu.bcvsolutions.idm.ic.impl.IcObjectClassImpl;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -46,7 +48,8 @@ public class DefaultSysSchemaObjectClassService extends AbstractReadWriteDtoServ
 	private final SysSystemMappingService systemMappingService;
 	@Autowired
 	private ExportManager exportManager;
-	
+	@Autowired @Lazy private ProvisioningMappingPlanManager mappingPlanManager;
+
 	@Autowired
 	public DefaultSysSchemaObjectClassService(
 			SysSchemaObjectClassRepository repository,
@@ -140,4 +143,22 @@ public class DefaultSysSchemaObjectClassService extends AbstractReadWriteDtoServ
 
 		return new IcObjectClassImpl(objectClass.getObjectClassName());
 	}
+
+	@Override
+	@Transactional
+	public SysSchemaObjectClassDto saveInternal(SysSchemaObjectClassDto dto) {
+		SysSchemaObjectClassDto savedDto = super.saveInternal(dto);
+		// compiled provisioning mapping plans are not valid anymore - evicted after commit
+		mappingPlanManager.evictPlans();
+		//
+		return savedDto;
+	}
+
+	@Override
+	@Transactional
+	public void deleteInternal(SysSchemaObjectClassDto dto) {
+		super.deleteInternal(dto);
+		// compiled provisioning mapping plans are not valid anymore - evicted after commit
+		mappingPlanManager.evictPlans();
+	}
 }
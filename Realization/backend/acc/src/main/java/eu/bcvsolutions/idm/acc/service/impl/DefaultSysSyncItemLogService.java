@@ -1,17 +1,22 @@
 package eu.bcvsolutions.idm.acc.service.impl;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import javax.persistence.EntityManager;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
 import org.apache.commons.lang3.StringUtils;
+import org.hibernate.Session;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
 
 import eu.bcvsolutions.idm.acc.dto.SysSyncItemLogDto;
 import eu.bcvsolutions.idm.acc.dto.filter.SysSyncItemLogFilter;
@@ -24,6 +29,7 @@ import eu.bcvsolutions.idm.acc.entity.SysSyncLog_;
 import eu.bcvsolutions.idm.acc.entity.SysSystemMapping_;
 import eu.bcvsolutions.idm.acc.repository.SysSyncItemLogRepository;
 import eu.bcvsolutions.idm.acc.service.api.SysSyncItemLogService;
+import eu.bcvsolutions.idm.core.api.config.datasource.CoreEntityManager;
 import eu.bcvsolutions.idm.core.api.entity.AbstractEntity_;
 import eu.bcvsolutions.idm.core.api.service.AbstractReadWriteDtoService;
 
@@ -38,11 +44,46 @@ public class DefaultSysSyncItemLogService
 		extends AbstractReadWriteDtoService<SysSyncItemLogDto, SysSyncItemLog, SysSyncItemLogFilter>
 		implements SysSyncItemLogService {
 	
+	public static final int JDBC_BATCH_SIZE = 50;
+	//
+	@Autowired
+	@CoreEntityManager
+	private EntityManager entityManager;
+	
 	@Autowired
 	public DefaultSysSyncItemLogService(SysSyncItemLogRepository repository) {
 		super(repository);
 	}
 	
+	@Override
+	@Transactional
+	public List<SysSyncItemLogDto> saveAllInternal(List<SysSyncItemLogDto> itemLogs) {
+		Assert.notNull(itemLogs, "Item logs are required.");
+		if (itemLogs.isEmpty()) {
+			return new ArrayList<>();
+		}
+		//
+		// inserts are executed in JDBC batches on flush - batch size is set for the current session only
+		Session session = entityManager.unwrap(Session.class);
+		Integer jdbcBatchSize = session.getJdbcBatchSize();
+		session.setJdbcBatchSize(JDBC_BATCH_SIZE);
+		try {
+			List<SysSyncItemLog> entities = new ArrayList<>(itemLogs.size());
+			for (SysSyncItemLogDto itemLog : itemLogs) {
+				SysSyncItemLogDto dto = validateDto(itemLog);
+				SysSyncItemLog persistedEntity = dto.getId() == null ? null : getEntity(dto.getId());
+				entities.add(validateEntity(toEntity(dto, persistedEntity)));
+			}
+			List<SysSyncItemLog> savedEntities = new ArrayList<>(entities.size());
+			getRepository().saveAll(entities).forEach(savedEntities::add);
+			entityManager.flush();
+			//
+			return toDtos(savedEntities, false);
+		} finally {
+			session.setJdbcBatchSize(jdbcBatchSize);
+		}
+	}
+	
 	@Override
 	protected List<Predicate> toPredicates(Root<SysSyncItemLog> root, CriteriaQuery<?> query, CriteriaBuilder builder,
 			SysSyncItemLogFilter filter) {
@@ -1,6 +1,7 @@
 package eu.bcvsolutions.idm.acc.service.impl;
 
 import eu.bcvsolutions.idm.acc.dto.filter.SysSystemGroupSystemFilter;
+import eu.bcvsolutions.idm.acc.service.api.ProvisioningMappingPlanManager;
 import eu.bcvsolutions.idm.acc.service.api.SysSystemGroupSystemService;
 import java.beans.IntrospectionException;
 import java.io.IOException;
@@ -26,6 +27,7 @@ import javax.persistence.criteria.Subquery;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.plugin.core.OrderAwarePluginRegistry;
 import org.springframework.plugin.core.PluginRegistry;
 import org.springframework.stereotype.Service;
@@ -150,6 +152,7 @@ public class DefaultSysSystemAttributeMappingService
 	@Autowired
 	private SysSystemGroupSystemService systemGroupSystemService;
 
+	@Autowired @Lazy private ProvisioningMappingPlanManager mappingPlanManager;
 
 	@Autowired
 	public DefaultSysSystemAttributeMappingService(SysSystemAttributeMappingRepository repository,
@@ -535,7 +538,11 @@ public class DefaultSysSystemAttributeMappingService
 			dto.setSendOnlyOnPasswordChange(false);
 		}
 		
-		return super.saveInternal(dto);
+		SysSystemAttributeMappingDto savedDto = super.saveInternal(dto);
+		// compiled provisioning mapping plans are not valid anymore - evicted after commit
+		mappingPlanManager.evictPlans();
+		//
+		return savedDto;
 	}
 
 	/**
@@ -1314,4 +1321,12 @@ public class DefaultSysSystemAttributeMappingService
 		result.put(SysSystemAttributeMappingService.MAPPING_SCRIPT_FAIL_SCRIPT_PATH_KEY, sb.toString());
 		return result;
 	}
+
+	@Override
+	@Transactional
+	public void deleteInternal(SysSystemAttributeMappingDto dto) {
+		super.deleteInternal(dto);
+		// compiled provisioning mapping plans are not valid anymore - evicted after commit
+		mappingPlanManager.evictPlans();
+	}
 }
@@ -174,6 +174,10 @@ public class DefaultSysSystemEntityService
 		if (StringUtils.isNotEmpty(uid)) {
 			predicates.add(builder.equal(root.get(SysSystemEntity_.uid), uid));
 		}
+		List<String> uids = filter.getUids();
+		if (!uids.isEmpty()) {
+			predicates.add(root.get(SysSystemEntity_.uid).in(uids));
+		}
 		SystemEntityType entityType = filter.getEntityType();
 		if (entityType != null) {
 			predicates.add(builder.equal(root.get(SysSystemEntity_.entityType), entityType));
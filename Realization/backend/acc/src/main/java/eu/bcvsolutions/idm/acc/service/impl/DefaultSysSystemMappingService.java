@@ -53,6 +53,7 @@ import eu.bcvsolutions.idm.acc.entity.SysSystem_;
 import eu.bcvsolutions.idm.acc.exception.ProvisioningException;
 import eu.bcvsolutions.idm.acc.repository.SysSystemMappingRepository;
 import eu.bcvsolutions.idm.acc.service.api.AccIdentityAccountService;
+import eu.bcvsolutions.idm.acc.service.api.ProvisioningMappingPlanManager;
 import eu.bcvsolutions.idm.acc.service.api.SysSchemaAttributeService;
 import eu.bcvsolutions.idm.acc.service.api.SysSystemAttributeMappingService;
 import eu.bcvsolutions.idm.acc.service.api.SysSystemEntityService;
@@ -120,6 +121,7 @@ public class DefaultSysSystemMappingService
 	@Lazy
 	@Autowired
 	private SysSystemEntityService systemEntityService;
+	@Autowired @Lazy private ProvisioningMappingPlanManager mappingPlanManager;
 
 	@Autowired
 	public DefaultSysSystemMappingService(
@@ -152,7 +154,11 @@ public class DefaultSysSystemMappingService
 				.findBySystemMapping(dto).forEach(attribute -> {
 					getAttributeMappingService().validate(attribute, dto);
 				});
-		return super.saveInternal(dto);
+		SysSystemMappingDto savedDto = super.saveInternal(dto);
+		// compiled provisioning mapping plans are not valid anymore - evicted after commit
+		mappingPlanManager.evictPlans();
+		//
+		return savedDto;
 	}
 
 	@Override
@@ -632,4 +638,12 @@ public class DefaultSysSystemMappingService
 		//
 		return predicates;
 	}
+
+	@Override
+	@Transactional
+	public void deleteInternal(SysSystemMappingDto dto) {
+		super.deleteInternal(dto);
+		// compiled provisioning mapping plans are not valid anymore - evicted after commit
+		mappingPlanManager.evictPlans();
+	}
 }
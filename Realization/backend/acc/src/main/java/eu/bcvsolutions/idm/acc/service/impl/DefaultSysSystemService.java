@@ -1210,7 +1210,8 @@ public class DefaultSysSystemService
 		return new IcConnectorInstanceImpl(
 				connectorServer,
 				system.getConnectorKey(),
-				system.isRemote());
+				system.isRemote(),
+				system.getId());
 	}
 	
 }
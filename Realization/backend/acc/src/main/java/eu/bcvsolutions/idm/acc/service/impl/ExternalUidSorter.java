@@ -0,0 +1,355 @@
+package eu.bcvsolutions.idm.acc.service.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+import org.springframework.util.Assert;
+
+import eu.bcvsolutions.idm.core.api.exception.CoreException;
+
+/**
+ * Sorts (large) set of uids with bounded memory - used in reconciliation for comparing uids read from system with accounts.
+ *
+ * Added uids are collected in memory buffer. When buffer is full, buffer is sorted and spilled into temporary file (sorted run).
+ * Sorted runs are merged (k-way merge) in {@link #iterator()} - uids are iterated in ascending order ({@link String#compareTo(String)})
+ * without duplicates. Temporary files are deleted on {@link #close()}.
+ *
+ * Uid can be added together with account identifier - the same uid can be added with different accounts.
+ *
+ * @since 12.3.0
+ */
+public class ExternalUidSorter implements Closeable {
+
+	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(ExternalUidSorter.class);
+	public static final int DEFAULT_BUFFER_SIZE = 50000; // uids in memory, before buffer is spilled into temporary file
+	private static final String TEMP_FILE_PREFIX = "idm-uid-sort-";
+	//
+	private final int bufferSize;
+	private final List<Entry> buffer;
+	private final List<Path> runs = new ArrayList<>();
+	private final List<RunReader> readers = new ArrayList<>();
+	private boolean iterated = false;
+
+	public ExternalUidSorter() {
+		this(DEFAULT_BUFFER_SIZE);
+	}
+
+	/**
+	 * Sorter with given memory buffer size.
+	 *
+	 * @param bufferSize count of uids held in memory
+	 */
+	public ExternalUidSorter(int bufferSize) {
+		Assert.isTrue(bufferSize > 0, "Buffer size has to be greater than zero.");
+		//
+		this.bufferSize = bufferSize;
+		this.buffer = new ArrayList<>(Math.min(bufferSize, 1024));
+	}
+
+	/**
+	 * Add uid.
+	 *
+	 * @param uid uid
+	 */
+	public void add(String uid) {
+		add(uid, null);
+	}
+
+	/**
+	 * Add uid with account identifier.
+	 *
+	 * @param uid uid
+	 * @param accountId [optional] account identifier
+	 */
+	public void add(String uid, UUID accountId) {
+		Assert.notNull(uid, "Uid is required.");
+		Assert.isTrue(!iterated, "Uids are already iterated, new uid cannot be added.");
+		//
+		buffer.add(new Entry(uid, accountId));
+		if (buffer.size() >= bufferSize) {
+			spill();
+		}
+	}
+
+	/**
+	 * Returns count of temporary files (sorted runs) spilled on disk.
+	 *
+	 * @return count of temporary files
+	 */
+	public int getRunCount() {
+		return runs.size();
+	}
+
+	/**
+	 * Iterate all added uids in ascending order without duplicates.
+	 * Sorter can be iterated once, new uids cannot be added after.
+	 *
+	 * @return sorted uids (with account identifiers)
+	 */
+	public Iterator<Entry> iterator() {
+		Assert.isTrue(!iterated, "Uids are already iterated.");
+		iterated = true;
+		//
+		List<Iterator<Entry>> sources = new ArrayList<>(runs.size() + 1);
+		try {
+			for (Path run : runs) {
+				RunReader reader = new RunReader(run);
+				readers.add(reader);
+				sources.add(reader);
+			}
+		} catch (IOException ex) {
+			throw new CoreException("Sorted uids cannot be read from temporary file.", ex);
+		}
+		Collections.sort(buffer);
+		sources.add(buffer.iterator());
+		//
+		return new MergeIterator(sources);
+	}
+
+	/**
+	 * Close opened temporary files and delete them.
+	 */
+	@Override
+	public void close() {
+		for (RunReader reader : readers) {
+			reader.close();
+		}
+		readers.clear();
+		for (Path run : runs) {
+			try {
+				Files.deleteIfExists(run);
+			} catch (IOException ex) {
+				LOG.warn("Temporary file [{}] with sorted uids cannot be deleted.", run, ex);
+			}
+		}
+		runs.clear();
+		buffer.clear();
+	}
+
+	private void spill() {
+		Collections.sort(buffer);
+		Path run = null;
+		try {
+			run = Files.createTempFile(TEMP_FILE_PREFIX, ".tmp");
+			runs.add(run);
+			try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(run)))) {
+				Entry previous = null;
+				for (Entry entry : buffer) {
+					if (!entry.equals(previous)) {
+						write(output, entry);
+					}
+					previous = entry;
+				}
+			}
+		} catch (IOException ex) {
+			throw new CoreException(String.format("Sorted uids cannot be written into temporary file [%s].", run), ex);
+		}
+		LOG.debug("Sorted uids [{}] were spilled into temporary file [{}].", buffer.size(), run);
+		buffer.clear();
+	}
+
+	private static void write(DataOutputStream output, Entry entry) throws IOException {
+		byte[] uid = entry.getUid().getBytes(StandardCharsets.UTF_8);
+		output.writeInt(uid.length);
+		output.write(uid);
+		UUID accountId = entry.getAccountId();
+		output.writeBoolean(accountId != null);
+		if (accountId != null) {
+			output.writeLong(accountId.getMostSignificantBits());
+			output.writeLong(accountId.getLeastSignificantBits());
+		}
+	}
+
+	/**
+	 * Sorted uid with optional account identifier.
+	 *
+	 * @since 12.3.0
+	 */
+	public static final class Entry implements Comparable<Entry> {
+
+		private static final Comparator<Entry> COMPARATOR = Comparator
+				.comparing(Entry::getUid)
+				.thenComparing(Entry::getAccountId, Comparator.nullsFirst(Comparator.naturalOrder()));
+		//
+		private final String uid;
+		private final UUID accountId;
+
+		public Entry(String uid, UUID accountId) {
+			this.uid = uid;
+			this.accountId = accountId;
+		}
+
+		public String getUid() {
+			return uid;
+		}
+
+		public UUID getAccountId() {
+			return accountId;
+		}
+
+		@Override
+		public int compareTo(Entry other) {
+			return COMPARATOR.compare(this, other);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Entry)) {
+				return false;
+			}
+			Entry other = (Entry) obj;
+			return uid.equals(other.uid) && Objects.equals(accountId, other.accountId);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(uid, accountId);
+		}
+	}
+
+	/**
+	 * Reads one sorted run from temporary file.
+	 */
+	private static class RunReader implements Iterator<Entry>, Closeable {
+
+		private final Path run;
+		private final DataInputStream input;
+		private Entry next;
+
+		RunReader(Path run) throws IOException {
+			this.run = run;
+			this.input = new DataInputStream(new BufferedInputStream(Files.newInputStream(run)));
+			this.next = read();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next != null;
+		}
+
+		@Override
+		public Entry next() {
+			if (next == null) {
+				throw new NoSuchElementException();
+			}
+			Entry current = next;
+			try {
+				next = read();
+			} catch (IOException ex) {
+				throw new CoreException(String.format("Sorted uids cannot be read from temporary file [%s].", run), ex);
+			}
+			return current;
+		}
+
+		@Override
+		public void close() {
+			try {
+				input.close();
+			} catch (IOException ex) {
+				LOG.warn("Temporary file [{}] with sorted uids cannot be closed.", run, ex);
+			}
+		}
+
+		private Entry read() throws IOException {
+			int length;
+			try {
+				length = input.readInt();
+			} catch (EOFException ex) {
+				return null;
+			}
+			byte[] uid = new byte[length];
+			input.readFully(uid);
+			UUID accountId = null;
+			if (input.readBoolean()) {
+				accountId = new UUID(input.readLong(), input.readLong());
+			}
+			return new Entry(new String(uid, StandardCharsets.UTF_8), accountId);
+		}
+	}
+
+	/**
+	 * K-way merge of sorted sources, duplicate entries are skipped.
+	 */
+	private static class MergeIterator implements Iterator<Entry> {
+
+		private final PriorityQueue<Head> heads;
+		private Entry previous;
+		private Entry next;
+
+		MergeIterator(List<Iterator<Entry>> sources) {
+			this.heads = new PriorityQueue<>(Math.max(1, sources.size()));
+			for (Iterator<Entry> source : sources) {
+				if (source.hasNext()) {
+					heads.add(new Head(source.next(), source));
+				}
+			}
+			this.next = fetch();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next != null;
+		}
+
+		@Override
+		public Entry next() {
+			if (next == null) {
+				throw new NoSuchElementException();
+			}
+			Entry current = next;
+			next = fetch();
+			return current;
+		}
+
+		private Entry fetch() {
+			while (!heads.isEmpty()) {
+				Head head = heads.poll();
+				Entry entry = head.entry;
+				if (head.source.hasNext()) {
+					heads.add(new Head(head.source.next(), head.source));
+				}
+				if (!entry.equals(previous)) {
+					previous = entry;
+					return entry;
+				}
+			}
+			return null;
+		}
+	}
+
+	private static class Head implements Comparable<Head> {
+
+		private final Entry entry;
+		private final Iterator<Entry> source;
+
+		Head(Entry entry, Iterator<Entry> source) {
+			this.entry = entry;
+			this.source = source;
+		}
+
+		@Override
+		public int compareTo(Head other) {
+			return entry.compareTo(other.entry);
+		}
+	}
+}
@@ -132,6 +132,7 @@ public class RoleCatalogueSynchronizationExecutor extends AbstractSynchronizatio
 			List<SysSyncActionLogDto> actionsLog = new ArrayList<>();
 			// Add logs to context
 			context.addLog(log).addActionLogs(actionsLog);
+			startLogWriter(actionsLog);
 
 			if (config.getTokenAttribute() == null && !config.isReconciliation()) {
 				throw new ProvisioningException(AccResultCode.SYNCHRONIZATION_TOKEN_ATTRIBUTE_NOT_FOUND);
@@ -147,6 +148,8 @@ public class RoleCatalogueSynchronizationExecutor extends AbstractSynchronizatio
 			// Execute sync for this catalogue and searched accounts
 			processTreeSync(context, accountsMap);
 			log = context.getLog();
+			// all logs are persisted before synchronization ends
+			flushLogWriter();
 			// Sync is correctly ends if wasn't cancelled
 			if (log.isRunning()) {
 				log = syncCorrectlyEnded(log, context);
@@ -160,6 +163,7 @@ public class RoleCatalogueSynchronizationExecutor extends AbstractSynchronizatio
 			log.addToLog(Throwables.getStackTraceAsString(e));
 			LOG.error(message, e);
 		} finally {
+			finishLogWriter(log);
 			log.setRunning(false);
 			log.setEnded(ZonedDateTime.now());
 			log = synchronizationLogService.save(log);
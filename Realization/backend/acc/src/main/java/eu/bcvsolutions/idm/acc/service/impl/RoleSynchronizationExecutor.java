@@ -469,6 +469,14 @@ public class RoleSynchronizationExecutor extends AbstractSynchronizationExecutor
 		super.syncEnd(log, syncContext);
 	}
 
+	/**
+	 * Role requests for members are shared between synchronized roles.
+	 */
+	@Override
+	protected boolean supportsParallelProcessing() {
+		return false;
+	}
+
 	/**
 	 * Check if role catalog is different then value form transformation.
 	 */
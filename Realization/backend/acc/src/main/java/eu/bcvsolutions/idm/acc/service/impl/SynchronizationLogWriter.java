@@ -0,0 +1,215 @@
+package eu.bcvsolutions.idm.acc.service.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import eu.bcvsolutions.idm.acc.dto.AbstractSysSyncConfigDto;
+import eu.bcvsolutions.idm.acc.dto.SysSyncActionLogDto;
+import eu.bcvsolutions.idm.acc.dto.SysSyncItemLogDto;
+import eu.bcvsolutions.idm.acc.service.api.SysSyncActionLogService;
+import eu.bcvsolutions.idm.acc.service.api.SysSyncConfigService;
+import eu.bcvsolutions.idm.acc.service.api.SysSyncItemLogService;
+
+/**
+ * Buffered writer of synchronization action and item logs.
+ *
+ * Action logs are held in memory for the whole synchronization - operation counters are increased in memory and item logs
+ * of processed items are collected. Changed action logs and collected item logs are saved together in one transaction
+ * (item logs are inserted in JDBC batches), when count of processed items or time from the last flush exceeds
+ * configured threshold (checked, when item is processed) and when synchronization ends.
+ * Synchronization token is saved together with logs => persisted token is never ahead of persisted logs.
+ *
+ * Counter of processed items and cancel check of long running task are not affected - they are still updated after each item.
+ *
+ * @since 12.3.0
+ */
+public class SynchronizationLogWriter {
+
+	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(SynchronizationLogWriter.class);
+	public static final int DEFAULT_FLUSH_SIZE = 100; // processed items
+	public static final long DEFAULT_FLUSH_INTERVAL = 5000; // ms
+	//
+	private final SysSyncActionLogService syncActionLogService;
+	private final SysSyncItemLogService syncItemLogService;
+	private final SysSyncConfigService synchronizationConfigService;
+	private final TransactionTemplate transactionTemplate;
+	private final List<SysSyncActionLogDto> actionLogs;
+	private final int flushSize;
+	private final long flushInterval;
+	private final Map<UUID, Integer> persistedCounts = new HashMap<>(); // action log => persisted operation count
+	private AbstractSysSyncConfigDto config; // config with changed token - saved on flush
+	private int processedItems = 0; // processed items from the last flush
+	private long lastFlush = System.currentTimeMillis();
+
+	/**
+	 * Writer with default flush thresholds.
+	 *
+	 * @param syncActionLogService action log service
+	 * @param syncItemLogService item log service
+	 * @param synchronizationConfigService config service - token is saved
+	 * @param platformTransactionManager logs are flushed in one transaction
+	 * @param actionLogs action logs of synchronization (new or already persisted)
+	 */
+	public SynchronizationLogWriter(
+			SysSyncActionLogService syncActionLogService,
+			SysSyncItemLogService syncItemLogService,
+			SysSyncConfigService synchronizationConfigService,
+			PlatformTransactionManager platformTransactionManager,
+			List<SysSyncActionLogDto> actionLogs) {
+		this(syncActionLogService, syncItemLogService, synchronizationConfigService, platformTransactionManager,
+				actionLogs, DEFAULT_FLUSH_SIZE, DEFAULT_FLUSH_INTERVAL);
+	}
+
+	/**
+	 * Writer with given flush thresholds.
+	 *
+	 * @param syncActionLogService action log service
+	 * @param syncItemLogService item log service
+	 * @param synchronizationConfigService config service - token is saved
+	 * @param platformTransactionManager logs are flushed in one transaction
+	 * @param actionLogs action logs of synchronization (new or already persisted)
+	 * @param flushSize logs are flushed after given count of processed items (1 - logs are flushed after each item)
+	 * @param flushInterval logs are flushed, when item is processed and given time (ms) elapsed from the last flush
+	 */
+	public SynchronizationLogWriter(
+			SysSyncActionLogService syncActionLogService,
+			SysSyncItemLogService syncItemLogService,
+			SysSyncConfigService synchronizationConfigService,
+			PlatformTransactionManager platformTransactionManager,
+			List<SysSyncActionLogDto> actionLogs,
+			int flushSize,
+			long flushInterval) {
+		Assert.notNull(syncActionLogService, "Service is required.");
+		Assert.notNull(syncItemLogService, "Service is required.");
+		Assert.notNull(synchronizationConfigService, "Service is required.");
+		Assert.notNull(platformTransactionManager, "Transaction manager is required.");
+		Assert.notNull(actionLogs, "Action logs are required.");
+		Assert.isTrue(flushSize > 0, "Flush size has to be greater than zero.");
+		//
+		this.syncActionLogService = syncActionLogService;
+		this.syncItemLogService = syncItemLogService;
+		this.synchronizationConfigService = synchronizationConfigService;
+		this.transactionTemplate = new TransactionTemplate(platformTransactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
+		this.actionLogs = actionLogs;
+		this.flushSize = flushSize;
+		this.flushInterval = flushInterval;
+		//
+		actionLogs
+			.stream()
+			.filter(actionLog -> actionLog.getId() != null)
+			.forEach(actionLog -> persistedCounts.put(actionLog.getId(), actionLog.getOperationCount()));
+	}
+
+	/**
+	 * Action logs of synchronization. Sequentially processed items increase counters and add item logs directly into returned list.
+	 * Persisted action logs are replaced in the list on flush - list has to be used between flushes only
+	 * (e.g. during one item processing).
+	 *
+	 * @return live list of action logs
+	 */
+	public List<SysSyncActionLogDto> getActionLogs() {
+		return actionLogs;
+	}
+
+	/**
+	 * Item was processed sequentially - action logs were updated directly in {@link #getActionLogs()}.
+	 * Logs are flushed, if threshold is exceeded.
+	 *
+	 * @param config config with token - will be saved together with logs, {@code null} - token is not saved
+	 */
+	public synchronized void itemProcessed(AbstractSysSyncConfigDto config) {
+		if (config != null) {
+			this.config = config;
+		}
+		processedItems++;
+		if (processedItems >= flushSize || System.currentTimeMillis() - lastFlush >= flushInterval) {
+			flush();
+		}
+	}
+
+	/**
+	 * Merge action logs of one item processed by parallel worker into synchronization action logs.
+	 * Logs are flushed, if threshold is exceeded.
+	 *
+	 * @param itemActionLogs action logs created for one item
+	 */
+	public synchronized void merge(List<SysSyncActionLogDto> itemActionLogs) {
+		Assert.notNull(itemActionLogs, "Item action logs are required.");
+		//
+		for (SysSyncActionLogDto itemActionLog : itemActionLogs) {
+			if (itemActionLog.getLogItems().isEmpty() && itemActionLog.getOperationCount() == 0) {
+				// nothing to merge (e.g. count was decremented after exception)
+				continue;
+			}
+			SysSyncActionLogDto actionLog = actionLogs
+					.stream()
+					.filter(al -> itemActionLog.getSyncAction() == al.getSyncAction()
+							&& itemActionLog.getOperationResult() == al.getOperationResult())
+					.findFirst()
+					.orElse(null);
+			if (actionLog == null) {
+				actionLogs.add(itemActionLog);
+			} else {
+				actionLog.setOperationCount(actionLog.getOperationCount() + itemActionLog.getOperationCount());
+				itemActionLog.getLogItems().forEach(actionLog::addLogItems);
+			}
+		}
+		itemProcessed(null);
+	}
+
+	/**
+	 * Save changed action logs, collected item logs and token in one transaction.
+	 * In memory state is changed after transaction is committed only => flush can be called again after failure.
+	 */
+	public synchronized void flush() {
+		Map<Integer, SysSyncActionLogDto> savedActionLogs = transactionTemplate.execute(status -> {
+			Map<Integer, SysSyncActionLogDto> results = new HashMap<>();
+			List<SysSyncItemLogDto> itemLogs = new ArrayList<>();
+			//
+			for (int index = 0; index < actionLogs.size(); index++) {
+				SysSyncActionLogDto actionLog = actionLogs.get(index);
+				if (!isChanged(actionLog)) {
+					continue;
+				}
+				// counter only - item logs are inserted in batch below
+				SysSyncActionLogDto savedActionLog = syncActionLogService.saveInternal(actionLog);
+				actionLog.getLogItems().forEach(itemLog -> {
+					itemLog.setSyncActionLog(savedActionLog.getId());
+					itemLogs.add(itemLog);
+				});
+				results.put(index, savedActionLog);
+			}
+			syncItemLogService.saveAllInternal(itemLogs);
+			if (config != null) {
+				synchronizationConfigService.save(config);
+			}
+			LOG.trace("Synchronization logs flushed: action logs [{}], item logs [{}].", results.size(), itemLogs.size());
+			//
+			return results;
+		});
+		// persisted action logs without item logs replace logs in memory
+		savedActionLogs.forEach((index, savedActionLog) -> {
+			actionLogs.set(index, savedActionLog);
+			persistedCounts.put(savedActionLog.getId(), savedActionLog.getOperationCount());
+		});
+		config = null;
+		processedItems = 0;
+		lastFlush = System.currentTimeMillis();
+	}
+
+	private boolean isChanged(SysSyncActionLogDto actionLog) {
+		return actionLog.getId() == null
+				|| !actionLog.getLogItems().isEmpty()
+				|| !Objects.equals(persistedCounts.get(actionLog.getId()), actionLog.getOperationCount());
+	}
+}
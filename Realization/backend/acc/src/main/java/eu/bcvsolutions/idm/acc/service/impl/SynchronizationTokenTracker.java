@@ -0,0 +1,80 @@
+package eu.bcvsolutions.idm.acc.service.impl;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Synchronization token for items processed in parallel.
+ *
+ * Items are registered with token in the same order as they were read from connector. Token is advanced to the token
+ * of the last item, which was processed together with all previously read items => token is never saved past item,
+ * which was not processed (e.g. item is still waiting in worker queue or synchronization was canceled).
+ *
+ * @since 12.3.0
+ */
+public class SynchronizationTokenTracker {
+
+	private final boolean keepGreater;
+	private final Map<Object, Long> items = new IdentityHashMap<>(); // registered item => order
+	private final Map<Long, String> tokens = new HashMap<>(); // order => item token
+	private final Set<Long> processed = new HashSet<>(); // processed items, which are not in processed sequence yet
+	private long nextOrder = 0;
+	private long nextProcessedOrder = 0;
+	private String token;
+
+	/**
+	 * Tracker with initial token.
+	 *
+	 * @param token token saved before synchronization started
+	 * @param keepGreater true - items are not read from connector ordered by token (e.g. custom filter is used) => greater token
+	 * is preserved (string compare)
+	 */
+	public SynchronizationTokenTracker(String token, boolean keepGreater) {
+		this.token = token;
+		this.keepGreater = keepGreater;
+	}
+
+	/**
+	 * Register item read from connector - has to be called before item is submitted to processing.
+	 *
+	 * @param item item
+	 * @param itemToken item token
+	 */
+	public synchronized void register(Object item, String itemToken) {
+		items.put(item, nextOrder);
+		tokens.put(nextOrder, itemToken);
+		nextOrder++;
+	}
+
+	/**
+	 * Item was processed.
+	 *
+	 * @param item registered item
+	 */
+	public synchronized void processed(Object item) {
+		Long order = items.remove(item);
+		if (order == null) {
+			return;
+		}
+		processed.add(order);
+		while (processed.remove(nextProcessedOrder)) {
+			String itemToken = tokens.remove(nextProcessedOrder);
+			if (!keepGreater || itemToken == null || token == null || itemToken.compareTo(token) >= 0) {
+				token = itemToken;
+			}
+			nextProcessedOrder++;
+		}
+	}
+
+	/**
+	 * Token of the last item processed together with all previously read items.
+	 *
+	 * @return token
+	 */
+	public synchronized String getToken() {
+		return token;
+	}
+}
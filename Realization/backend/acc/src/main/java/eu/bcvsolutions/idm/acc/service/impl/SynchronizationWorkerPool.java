@@ -0,0 +1,198 @@
+package eu.bcvsolutions.idm.acc.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.util.Assert;
+
+import eu.bcvsolutions.idm.acc.domain.SynchronizationContext;
+import eu.bcvsolutions.idm.core.api.exception.CoreException;
+import eu.bcvsolutions.idm.core.config.DelegatingTransactionContextRunnable;
+
+/**
+ * Bounded worker pool for parallel synchronization.
+ *
+ * Connector reader thread submits synchronization items, items are partitioned by UID into workers - item with the same UID is
+ * processed by the same worker in the same order as it was read from connector (=> never twice at the same time).
+ * Reader thread is blocked, when worker queue is full (=> reading from connector is slowed down to processing speed).
+ * Security and transaction context of the thread, which starts the pool, is propagated into workers.
+ *
+ * @since 12.3.0
+ */
+public class SynchronizationWorkerPool {
+
+	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(SynchronizationWorkerPool.class);
+	public static final int DEFAULT_QUEUE_CAPACITY = 100; // waiting items for one worker
+	private static final long OFFER_TIMEOUT = 500; // ms - cancel check interval, when reader thread waits for free place in queue
+	private static final SynchronizationContext FINISH = new SynchronizationContext(); // all items were submitted
+	//
+	private final String name;
+	private final Predicate<SynchronizationContext> itemProcessor;
+	private final List<BlockingQueue<SynchronizationContext>> queues;
+	private final List<Thread> workers = new ArrayList<>();
+	private final AtomicReference<Throwable> failure = new AtomicReference<>();
+	private volatile boolean canceled = false;
+	private volatile boolean started = false;
+
+	/**
+	 * Pool with given worker count.
+	 *
+	 * @param name pool name - used as worker thread name prefix
+	 * @param workerCount count of worker threads
+	 * @param queueCapacity maximum count of items waiting for one worker
+	 * @param itemProcessor processes one synchronization item - returns false, if synchronization should be canceled
+	 */
+	public SynchronizationWorkerPool(
+			String name,
+			int workerCount,
+			int queueCapacity,
+			Predicate<SynchronizationContext> itemProcessor) {
+		Assert.hasLength(name, "Pool name is required.");
+		Assert.isTrue(workerCount > 0, "Worker count has to be greater than zero.");
+		Assert.isTrue(queueCapacity > 0, "Queue capacity has to be greater than zero.");
+		Assert.notNull(itemProcessor, "Item processor is required.");
+		//
+		this.name = name;
+		this.itemProcessor = itemProcessor;
+		this.queues = new ArrayList<>(workerCount);
+		for (int index = 0; index < workerCount; index++) {
+			queues.add(new ArrayBlockingQueue<>(queueCapacity));
+		}
+	}
+
+	/**
+	 * Start worker threads. Security and transaction context of the current thread is propagated into workers.
+	 */
+	public synchronized void start() {
+		Assert.isTrue(!started, "Worker pool is already started.");
+		//
+		started = true;
+		for (int index = 0; index < queues.size(); index++) {
+			BlockingQueue<SynchronizationContext> queue = queues.get(index);
+			Thread worker = new Thread(
+					new DelegatingSecurityContextRunnable(new DelegatingTransactionContextRunnable(() -> work(queue))),
+					String.format("%s-%s", name, index));
+			worker.setDaemon(true);
+			workers.add(worker);
+			worker.start();
+		}
+		LOG.info("Synchronization worker pool [{}] started with [{}] workers.", name, queues.size());
+	}
+
+	/**
+	 * Submit item into worker queue by item UID. Caller is blocked, if worker queue is full.
+	 *
+	 * @param itemContext item context with filled UID
+	 * @return false - synchronization was canceled (by worker or when caller was interrupted) and item was not submitted
+	 */
+	public boolean submit(SynchronizationContext itemContext) {
+		Assert.notNull(itemContext, "Item context is required.");
+		Assert.notNull(itemContext.getUid(), "Item uid is required.");
+		Assert.isTrue(started, "Worker pool is not started.");
+		//
+		BlockingQueue<SynchronizationContext> queue = queues.get(getWorkerIndex(itemContext.getUid()));
+		try {
+			while (!canceled) {
+				if (queue.offer(itemContext, OFFER_TIMEOUT, TimeUnit.MILLISECONDS)) {
+					return true;
+				}
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			cancel();
+		}
+		return false;
+	}
+
+	/**
+	 * Wait for all submitted items are processed and stop workers.
+	 * Exception thrown in worker (not processed in item processor) is propagated.
+	 */
+	public void finish() {
+		try {
+			for (int index = 0; index < workers.size(); index++) {
+				Thread worker = workers.get(index);
+				BlockingQueue<SynchronizationContext> queue = queues.get(index);
+				while (worker.isAlive() && !queue.offer(FINISH, OFFER_TIMEOUT, TimeUnit.MILLISECONDS)) {
+					// worker drains queue
+				}
+			}
+			for (Thread worker : workers) {
+				worker.join();
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			cancel();
+			throw new CoreException("Waiting for synchronization workers was interrupted.", ex);
+		}
+		LOG.info("Synchronization worker pool [{}] finished.", name);
+		//
+		Throwable ex = failure.get();
+		if (ex instanceof RuntimeException) {
+			throw (RuntimeException) ex;
+		}
+		if (ex != null) {
+			throw new CoreException(ex);
+		}
+	}
+
+	/**
+	 * Cancel processing - waiting items will not be processed, running items will be completed.
+	 */
+	public void cancel() {
+		canceled = true;
+	}
+
+	public boolean isCanceled() {
+		return canceled;
+	}
+
+	public int getWorkerCount() {
+		return queues.size();
+	}
+
+	/**
+	 * Worker index for item with given uid.
+	 *
+	 * @param uid item uid
+	 * @return worker index
+	 */
+	public int getWorkerIndex(String uid) {
+		return Math.floorMod(uid.hashCode(), queues.size());
+	}
+
+	private void work(BlockingQueue<SynchronizationContext> queue) {
+		while (true) {
+			SynchronizationContext itemContext;
+			try {
+				itemContext = queue.take();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				cancel();
+				return;
+			}
+			if (itemContext == FINISH) {
+				return;
+			}
+			if (canceled) {
+				// drain queue - reader thread can wait for free place
+				continue;
+			}
+			try {
+				if (!itemProcessor.test(itemContext)) {
+					cancel();
+				}
+			} catch (Exception ex) {
+				LOG.error("Synchronization item [{}] processing failed, synchronization will be canceled.", itemContext.getUid(), ex);
+				failure.compareAndSet(null, ex);
+				cancel();
+			}
+		}
+	}
+}
@@ -141,6 +141,7 @@ public class TreeSynchronizationExecutor extends AbstractSynchronizationExecutor
 			List<SysSyncActionLogDto> actionsLog = new ArrayList<>();
 			// Add logs to context
 			context.addLog(log).addActionLogs(actionsLog);
+			startLogWriter(actionsLog);
 
 			if (config.getTokenAttribute() == null && !config.isReconciliation()) {
 				throw new ProvisioningException(AccResultCode.SYNCHRONIZATION_TOKEN_ATTRIBUTE_NOT_FOUND);
@@ -156,6 +157,8 @@ public class TreeSynchronizationExecutor extends AbstractSynchronizationExecutor
 			// Execute sync for this tree and searched accounts
 			processTreeSync(context, accountsMap);
 			log = context.getLog();
+			// all logs are persisted before synchronization ends
+			flushLogWriter();
 			// Sync is correctly ends if wasn't cancelled
 			if (log.isRunning()) {
 				log = syncCorrectlyEnded(log, context);
@@ -169,6 +172,7 @@ public class TreeSynchronizationExecutor extends AbstractSynchronizationExecutor
 			log.addToLog(Throwables.getStackTraceAsString(e));
 			LOG.error(message, e);
 		} finally {
+			finishLogWriter(log);
 			log.setRunning(false);
 			log.setEnded(ZonedDateTime.now());
 			log = synchronizationLogService.save(log);
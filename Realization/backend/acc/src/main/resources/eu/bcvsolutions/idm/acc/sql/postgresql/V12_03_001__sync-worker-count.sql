@@ -0,0 +1,9 @@
+--
+-- CzechIdM 12.3.0 Flyway script 
+-- BCV solutions s.r.o.
+--
+-- Synchronization - count of parallel workers.
+
+ALTER TABLE sys_sync_config ADD COLUMN worker_count int4;
+ALTER TABLE sys_sync_config_a ADD COLUMN worker_count int4;
+ALTER TABLE sys_sync_config_a ADD COLUMN worker_count_m boolean;
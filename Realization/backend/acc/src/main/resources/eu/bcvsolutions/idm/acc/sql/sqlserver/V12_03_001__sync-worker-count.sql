@@ -0,0 +1,9 @@
+--
+-- CzechIdM 12.3.0 Flyway script 
+-- BCV solutions s.r.o.
+--
+-- Synchronization - count of parallel workers.
+
+ALTER TABLE sys_sync_config ADD worker_count int;
+ALTER TABLE sys_sync_config_a ADD worker_count int;
+ALTER TABLE sys_sync_config_a ADD worker_count_m bit;
@@ -0,0 +1,113 @@
+package eu.bcvsolutions.idm.acc.benchmark;
+
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import eu.bcvsolutions.idm.acc.domain.ProvisioningEventType;
+import eu.bcvsolutions.idm.acc.dto.SysProvisioningBreakItems;
+
+/**
+ * Provisioning break counting - one provisioning operation = count operations in period + add operation.
+ * Sliding window counter is compared with previously used list of all timestamps.
+ *
+ * Run from IDE or by {@link #main(String[])} with test classpath.
+ *
+ * @since 12.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@Threads(4)
+public class ProvisioningBreakItemsBenchmark {
+
+	private static final ProvisioningEventType OPERATION_TYPE = ProvisioningEventType.UPDATE;
+	//
+	@Param({ "1000", "100000" })
+	private int itemsInPeriod; // operations executed in period before benchmark
+	private long period;
+	private SysProvisioningBreakItems items;
+	private TimestampListItems timestampItems;
+
+	@Setup(Level.Iteration)
+	public void setup() {
+		period = TimeUnit.MINUTES.toMillis(1);
+		items = new SysProvisioningBreakItems();
+		timestampItems = new TimestampListItems();
+		long now = System.currentTimeMillis();
+		for (int index = 0; index < itemsInPeriod; index++) {
+			long timestamp = now - (period * index / itemsInPeriod);
+			items.addItem(OPERATION_TYPE, timestamp);
+			timestampItems.addItem(timestamp);
+		}
+	}
+
+	@Benchmark
+	public int slidingWindowCounter() {
+		long now = System.currentTimeMillis();
+		int actualCount = items.getCount(OPERATION_TYPE, period, now);
+		items.addItem(OPERATION_TYPE, now);
+		//
+		return actualCount;
+	}
+
+	@Benchmark
+	public int timestampList() {
+		long now = System.currentTimeMillis();
+		int actualCount;
+		// previously used processor was synchronized
+		synchronized (timestampItems) {
+			long timestampWithoutPeriod = now - period;
+			timestampItems.removeOlderRecordsThan(timestampWithoutPeriod);
+			actualCount = timestampItems.getSizeRecordsNewerThan(timestampWithoutPeriod);
+			timestampItems.addItem(now);
+		}
+		return actualCount;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(ProvisioningBreakItemsBenchmark.class.getSimpleName()).build()).run();
+	}
+
+	/**
+	 * Previously used implementation - all timestamps in list.
+	 */
+	private static class TimestampListItems {
+
+		private final List<Long> executedItems = Collections.synchronizedList(new LinkedList<Long>());
+
+		void addItem(Long timestamp) {
+			executedItems.add(timestamp);
+		}
+
+		void removeOlderRecordsThan(Long timestamp) {
+			executedItems.removeIf(item -> item < timestamp);
+		}
+
+		int getSizeRecordsNewerThan(Long timestamp) {
+			return executedItems.stream().filter(item -> item >= timestamp).collect(Collectors.toList()).size();
+		}
+	}
+}
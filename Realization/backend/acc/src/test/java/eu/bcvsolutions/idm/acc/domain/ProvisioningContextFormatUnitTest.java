@@ -0,0 +1,97 @@
+package eu.bcvsolutions.idm.acc.domain;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+import eu.bcvsolutions.idm.acc.dto.ProvisioningAttributeDto;
+import eu.bcvsolutions.idm.core.security.api.domain.ConfidentialString;
+import eu.bcvsolutions.idm.ic.api.IcAttribute;
+import eu.bcvsolutions.idm.ic.impl.IcAttributeImpl;
+import eu.bcvsolutions.idm.ic.impl.IcConnectorObjectImpl;
+import eu.bcvsolutions.idm.ic.impl.IcObjectClassImpl;
+import eu.bcvsolutions.idm.test.api.AbstractUnitTest;
+
+/**
+ * Persisted form of provisioning context
+ * - serialize and deserialize
+ * - legacy format is readable
+ * - lazy inflating
+ *
+ * @since 12.3.0
+ */
+public class ProvisioningContextFormatUnitTest extends AbstractUnitTest {
+
+	@Test
+	public void testSerializeAndDeserialize() {
+		ProvisioningContext context = createContext();
+		//
+		byte[] payload = ProvisioningContextFormat.serialize(context);
+		//
+		Assert.assertEquals(ProvisioningContextFormat.VERSION, ProvisioningContextFormat.getVersion(payload));
+		ProvisioningContext deserialized = ProvisioningContextFormat.deserialize(payload);
+		assertContext(deserialized);
+	}
+
+	@Test
+	public void testDeserializeLegacy() {
+		byte[] payload = SerializationUtils.serialize(createContext());
+		//
+		Assert.assertEquals(ProvisioningContextFormat.VERSION_LEGACY, ProvisioningContextFormat.getVersion(payload));
+		assertContext(ProvisioningContextFormat.deserialize(payload));
+		// legacy form is serialized into current format
+		ProvisioningContext context = ProvisioningContextFormat.lazy(payload);
+		byte[] migrated = ProvisioningContextFormat.serialize(context);
+		Assert.assertEquals(ProvisioningContextFormat.VERSION, ProvisioningContextFormat.getVersion(migrated));
+		assertContext(ProvisioningContextFormat.deserialize(migrated));
+	}
+
+	@Test
+	public void testLazyInflate() {
+		byte[] payload = ProvisioningContextFormat.serialize(createContext());
+		//
+		ProvisioningContext context = ProvisioningContextFormat.lazy(payload);
+		Assert.assertFalse(context.isInflated());
+		// copy is not inflated
+		ProvisioningContext copy = new ProvisioningContext(context);
+		Assert.assertFalse(copy.isInflated());
+		// not inflated context is not serialized again
+		Assert.assertSame(payload, ProvisioningContextFormat.serialize(copy));
+		//
+		assertContext(copy);
+		Assert.assertTrue(copy.isInflated());
+		Assert.assertFalse(context.isInflated());
+		// java serialization inflates context
+		assertContext(SerializationUtils.clone(context));
+	}
+
+	private ProvisioningContext createContext() {
+		Map<ProvisioningAttributeDto, Object> accountObject = new HashMap<>();
+		accountObject.put(new ProvisioningAttributeDto("name", AttributeMappingStrategyType.SET), "one");
+		accountObject.put(new ProvisioningAttributeDto("__PASSWORD__", AttributeMappingStrategyType.SET), new ConfidentialString("key"));
+		IcConnectorObjectImpl connectorObject = new IcConnectorObjectImpl(
+				"uid",
+				new IcObjectClassImpl("__ACCOUNT__"),
+				Lists.<IcAttribute>newArrayList(new IcAttributeImpl("name", "one")));
+		//
+		return new ProvisioningContext(accountObject, connectorObject);
+	}
+
+	private void assertContext(ProvisioningContext context) {
+		Assert.assertEquals(2, context.getAccountObject().size());
+		Assert.assertEquals(
+				"one",
+				context.getAccountObject().get(new ProvisioningAttributeDto("name", AttributeMappingStrategyType.SET)));
+		Assert.assertTrue(context
+				.getAccountObject()
+				.get(new ProvisioningAttributeDto("__PASSWORD__", AttributeMappingStrategyType.SET)) instanceof ConfidentialString);
+		Assert.assertEquals("uid", context.getConnectorObject().getUidValue());
+		Assert.assertEquals("__ACCOUNT__", context.getConnectorObject().getObjectClass().getType());
+		Assert.assertNull(context.getSystemConnectorObject());
+	}
+}
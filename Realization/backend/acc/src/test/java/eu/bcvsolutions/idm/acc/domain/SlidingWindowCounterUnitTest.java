@@ -0,0 +1,139 @@
+package eu.bcvsolutions.idm.acc.domain;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import eu.bcvsolutions.idm.test.api.AbstractUnitTest;
+
+/**
+ * Sliding window counter
+ * - count in window
+ * - old items are not counted
+ * - change period
+ * - serialization
+ *
+ * @since 12.3.0
+ */
+public class SlidingWindowCounterUnitTest extends AbstractUnitTest {
+
+	private static final long PERIOD = TimeUnit.MINUTES.toMillis(20);
+
+	@Test
+	public void testCountInWindow() {
+		SlidingWindowCounter counter = new SlidingWindowCounter(PERIOD);
+		long now = System.currentTimeMillis();
+		//
+		Assert.assertEquals(0, counter.count(now));
+		Assert.assertNull(counter.getOldestTimestamp(now));
+		//
+		counter.add(now - TimeUnit.MINUTES.toMillis(19));
+		counter.add(now - TimeUnit.MINUTES.toMillis(5));
+		counter.add(now);
+		//
+		Assert.assertEquals(3, counter.count(now));
+		Long oldest = counter.getOldestTimestamp(now);
+		Assert.assertNotNull(oldest);
+		// bucket precision
+		Assert.assertTrue(oldest <= now - TimeUnit.MINUTES.toMillis(19));
+		Assert.assertTrue(oldest > now - TimeUnit.MINUTES.toMillis(19) - PERIOD / SlidingWindowCounter.BUCKET_COUNT);
+	}
+
+	@Test
+	public void testOldItemsAreNotCounted() {
+		SlidingWindowCounter counter = new SlidingWindowCounter(PERIOD);
+		long now = System.currentTimeMillis();
+		//
+		counter.add(now - TimeUnit.MINUTES.toMillis(25));
+		counter.add(now - TimeUnit.MINUTES.toMillis(10));
+		//
+		Assert.assertEquals(1, counter.count(now));
+		// window moves
+		Assert.assertEquals(0, counter.count(now + TimeUnit.MINUTES.toMillis(11)));
+		// new window - old item is out of window
+		counter.add(now + PERIOD + TimeUnit.MINUTES.toMillis(10));
+		counter.add(now - TimeUnit.MINUTES.toMillis(10));
+		Assert.assertEquals(1, counter.count(now + PERIOD + TimeUnit.MINUTES.toMillis(10)));
+	}
+
+	@Test
+	public void testClear() {
+		SlidingWindowCounter counter = new SlidingWindowCounter(PERIOD);
+		long now = System.currentTimeMillis();
+		counter.add(now);
+		counter.add(now);
+		//
+		Assert.assertEquals(2, counter.count(now));
+		counter.clear();
+		Assert.assertEquals(0, counter.count(now));
+		Assert.assertNull(counter.getNewestTimestamp());
+	}
+
+	@Test
+	public void testChangePeriod() {
+		SlidingWindowCounter counter = new SlidingWindowCounter(PERIOD);
+		long now = System.currentTimeMillis();
+		counter.add(now - TimeUnit.MINUTES.toMillis(15));
+		counter.add(now - TimeUnit.MINUTES.toMillis(1));
+		//
+		Assert.assertSame(counter, counter.withPeriod(PERIOD));
+		SlidingWindowCounter shorterCounter = counter.withPeriod(TimeUnit.MINUTES.toMillis(10));
+		Assert.assertEquals(1, shorterCounter.count(now));
+		SlidingWindowCounter longerCounter = shorterCounter.withPeriod(TimeUnit.HOURS.toMillis(1));
+		Assert.assertEquals(2, longerCounter.count(now));
+	}
+
+	@Test
+	public void testConcurrentAdd() throws InterruptedException {
+		SlidingWindowCounter counter = new SlidingWindowCounter(PERIOD);
+		long now = System.currentTimeMillis();
+		int threadCount = 8;
+		int itemCount = 1000;
+		List<Thread> threads = new ArrayList<>();
+		for (int index = 0; index < threadCount; index++) {
+			Thread thread = new Thread(() -> {
+				for (int item = 0; item < itemCount; item++) {
+					counter.add(now - item); // more buckets
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		//
+		Assert.assertEquals(threadCount * itemCount, counter.count(now));
+	}
+
+	@Test
+	public void testSerialization() throws Exception {
+		SlidingWindowCounter counter = new SlidingWindowCounter(PERIOD);
+		long now = System.currentTimeMillis();
+		for (int index = 0; index < 10000; index++) {
+			counter.add(now - index);
+		}
+		//
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+			output.writeObject(counter);
+		}
+		// compact - period and non empty buckets only
+		Assert.assertTrue(bytes.size() < 512);
+		try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			SlidingWindowCounter deserialized = (SlidingWindowCounter) input.readObject();
+			//
+			Assert.assertEquals(PERIOD, deserialized.getPeriod());
+			Assert.assertEquals(10000, deserialized.count(now));
+			deserialized.add(now);
+			Assert.assertEquals(10001, deserialized.count(now));
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package eu.bcvsolutions.idm.acc.domain;
+
+import java.util.UUID;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import eu.bcvsolutions.idm.acc.dto.AccAccountDto;
+import eu.bcvsolutions.idm.acc.dto.SysSystemEntityDto;
+import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
+import eu.bcvsolutions.idm.test.api.AbstractUnitTest;
+
+/**
+ * Correlation index - keys of processed item are evicted.
+ *
+ * @since 12.3.0
+ */
+public class SynchronizationCorrelationIndexUnitTest extends AbstractUnitTest {
+
+	@Test
+	public void testEvictItem() {
+		SynchronizationCorrelationIndex index = new SynchronizationCorrelationIndex();
+		SysSystemEntityDto systemEntity = new SysSystemEntityDto();
+		systemEntity.setId(UUID.randomUUID());
+		index.addSystemEntity("one", systemEntity);
+		AccAccountDto account = new AccAccountDto();
+		account.setId(UUID.randomUUID());
+		index.addSystemEntityAccount(systemEntity.getId(), account);
+		index.addAccount("accountOne", null);
+		index.addCorrelatedEntity("valueOne", null);
+		index.addItemKeys("one", "accountOne", "valueOne");
+		index.addSystemEntity("two", null);
+		index.addCorrelatedEntity("valueTwo", new IdmIdentityDto(UUID.randomUUID()));
+		index.addItemKeys("two", null, "valueTwo");
+		//
+		index.evictItem("One ");
+		//
+		Assert.assertFalse(index.containsSystemEntities("one"));
+		Assert.assertFalse(index.containsSystemEntityAccounts(systemEntity.getId()));
+		Assert.assertFalse(index.containsAccounts("accountOne"));
+		Assert.assertFalse(index.containsCorrelatedEntities("valueOne"));
+		Assert.assertTrue(index.containsSystemEntities("two"));
+		Assert.assertTrue(index.containsCorrelatedEntities("valueTwo"));
+		//
+		index.evictCorrelatedEntities("VALUETWO");
+		Assert.assertFalse(index.containsCorrelatedEntities("valueTwo"));
+		Assert.assertFalse(index.containsSystemEntities(null));
+		Assert.assertTrue(index.getCorrelatedEntities(null).isEmpty());
+	}
+}
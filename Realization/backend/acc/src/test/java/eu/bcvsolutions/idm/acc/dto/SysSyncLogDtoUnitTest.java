@@ -0,0 +1,48 @@
+package eu.bcvsolutions.idm.acc.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import eu.bcvsolutions.idm.core.api.domain.Loggable;
+import eu.bcvsolutions.idm.test.api.AbstractUnitTest;
+
+/**
+ * Synchronization log is shared by parallel workers.
+ *
+ * @since 12.3.0
+ */
+public class SysSyncLogDtoUnitTest extends AbstractUnitTest {
+
+	@Test
+	public void testAddToLogConcurrently() throws Exception {
+		SysSyncLogDto log = new SysSyncLogDto();
+		int workers = 4;
+		int count = 200;
+		ExecutorService executor = Executors.newFixedThreadPool(workers);
+		try {
+			List<Future<?>> results = new ArrayList<>();
+			for (int worker = 0; worker < workers; worker++) {
+				int workerIndex = worker;
+				results.add(executor.submit(() -> {
+					for (int i = 0; i < count; i++) {
+						log.addToLog(String.format("worker-%s-%s", workerIndex, i));
+					}
+				}));
+			}
+			for (Future<?> result : results) {
+				result.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		//
+		String[] messages = log.getLog().split("\n" + Loggable.LOG_SEPARATOR + "\n");
+		Assert.assertEquals(workers * count, messages.length);
+	}
+}
@@ -528,11 +528,13 @@ public class ProvisioningBreakProcessorTest extends AbstractIntegrationTest {
 		//
 		// subtrack 25 minutes from all items
 		long subtrackMinutes = 1500000;
-		List<Long> execudedItems = cacheProcessedItems.getExecutedItems(ProvisioningEventType.UPDATE);
-		// it isn't possible use foreEach or another stream function (reference)
-		for (Long item : execudedItems) {
-			execudedItems.set(execudedItems.indexOf(item), item - subtrackMinutes);
+		int executedCount = cacheProcessedItems.getSize(ProvisioningEventType.UPDATE);
+		long executedTimestamp = System.currentTimeMillis() - subtrackMinutes;
+		cacheProcessedItems.clearRecords(ProvisioningEventType.UPDATE);
+		for (int index = 0; index < executedCount; index++) {
+			cacheProcessedItems.addItem(ProvisioningEventType.UPDATE, executedTimestamp);
 		}
+		provisioningBreakConfig.saveCacheProcessedItems(system.getId(), cacheProcessedItems);
 		//
 		provisioningService.doProvisioning(identity);
 		provisioningService.doProvisioning(identity);
@@ -564,11 +566,13 @@ public class ProvisioningBreakProcessorTest extends AbstractIntegrationTest {
 		//
 		// subtrack only 19 minutes from all items
 		long subtrackMinutes = 1140000;
-		List<Long> execudedItems = cacheProcessedItems.getExecutedItems(ProvisioningEventType.UPDATE);
-		// it isn't possible use foreEach or another stream function (reference)
-		for (Long item : execudedItems) {
-			execudedItems.set(execudedItems.indexOf(item), item - subtrackMinutes);
+		int executedCount = cacheProcessedItems.getSize(ProvisioningEventType.UPDATE);
+		long executedTimestamp = System.currentTimeMillis() - subtrackMinutes;
+		cacheProcessedItems.clearRecords(ProvisioningEventType.UPDATE);
+		for (int index = 0; index < executedCount; index++) {
+			cacheProcessedItems.addItem(ProvisioningEventType.UPDATE, executedTimestamp);
 		}
+		provisioningBreakConfig.saveCacheProcessedItems(system.getId(), cacheProcessedItems);
 		//
 		provisioningService.doProvisioning(identity); // block
 		//
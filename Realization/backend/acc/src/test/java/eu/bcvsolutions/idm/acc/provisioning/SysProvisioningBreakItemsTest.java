@@ -9,6 +9,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 
@@ -48,8 +50,7 @@ public class SysProvisioningBreakItemsTest extends AbstractUnitTest {
 			threads.add(thread);
 		}
 	    
-	    List<Long> executedItems = items.getExecutedItems(ProvisioningEventType.UPDATE);
-	    assertEquals(0, executedItems.size());
+	    assertEquals(0, items.getSize(ProvisioningEventType.UPDATE));
 
 	    // Wait on all thread
 	    readyCounter.await();
@@ -58,30 +59,32 @@ public class SysProvisioningBreakItemsTest extends AbstractUnitTest {
 	    // Wait on all thread
 	    completeCounter.await(); 
 
-	    executedItems = items.getExecutedItems(ProvisioningEventType.UPDATE);
-	    assertEquals(maximumIteration, executedItems.size());
+	    assertEquals(maximumIteration, items.getSize(ProvisioningEventType.UPDATE));
 	    interruptThreads(threads);
 	}
 
 	@Test
-	public void testRemove() throws InterruptedException {
+	public void testOlderItemsAreNotCounted() throws InterruptedException {
 		List<Thread> threads = new ArrayList<Thread>();
 		int maximumIteration = 20;
 		CountDownLatch readyCounter = new CountDownLatch(maximumIteration);
 	    CountDownLatch lock = new CountDownLatch(1);
 	    CountDownLatch completeCounter = new CountDownLatch(maximumIteration);
+	    AtomicInteger counted = new AtomicInteger();
 	    
 	    SysProvisioningBreakItems items = new SysProvisioningBreakItems();
+	    long now = System.currentTimeMillis();
+	    long hour = TimeUnit.HOURS.toMillis(1);
 	    
 	    for (int index = 0; index < maximumIteration; index++) {
-	    	items.addItem(ProvisioningEventType.UPDATE, Long.valueOf(1000 + index));
+	    	items.addItem(ProvisioningEventType.UPDATE, now - TimeUnit.MINUTES.toMillis(10) + index);
 		}
 	    
 	    for (int index = 0; index < maximumIteration; index++) {
 			Thread thread = new Thread(new ItemsWorker(readyCounter, lock, completeCounter, new Callable<Void>() {
 				@Override
 				public Void call() throws Exception {
-					items.removeOlderRecordsThan(ProvisioningEventType.UPDATE, Long.valueOf(100000));
+					counted.addAndGet(items.getCount(ProvisioningEventType.UPDATE, TimeUnit.MINUTES.toMillis(1), now));
 					return null;
 				}
 			}));
@@ -90,8 +93,7 @@ public class SysProvisioningBreakItemsTest extends AbstractUnitTest {
 			threads.add(thread);
 		}
 	    
-	    List<Long> executedItems = items.getExecutedItems(ProvisioningEventType.UPDATE);
-	    assertEquals(maximumIteration, executedItems.size());
+	    assertEquals(maximumIteration, items.getCount(ProvisioningEventType.UPDATE, hour, now));
 
 	    // Wait on all thread
 	    readyCounter.await();
@@ -100,8 +102,9 @@ public class SysProvisioningBreakItemsTest extends AbstractUnitTest {
 	    // Wait on all thread
 	    completeCounter.await(); 
 
-	    executedItems = items.getExecutedItems(ProvisioningEventType.UPDATE);
-	    assertEquals(0, executedItems.size());
+	    assertEquals(0, counted.get());
+	    // items are preserved, when period is changed
+	    assertEquals(maximumIteration, items.getCount(ProvisioningEventType.UPDATE, hour, now));
 	    interruptThreads(threads);
 	}
 
@@ -116,7 +119,7 @@ public class SysProvisioningBreakItemsTest extends AbstractUnitTest {
 	    SysProvisioningBreakItems items = new SysProvisioningBreakItems();
 	    
 	    for (int index = 0; index < maximumIteration; index++) {
-	    	items.addItem(ProvisioningEventType.UPDATE, Long.valueOf(1000 + index));
+	    	items.addItem(ProvisioningEventType.UPDATE, System.currentTimeMillis());
 		}
 	    
 	    for (int index = 0; index < 1000; index++) {
@@ -132,8 +135,7 @@ public class SysProvisioningBreakItemsTest extends AbstractUnitTest {
 			threads.add(thread);
 		}
 	    
-	    List<Long> executedItems = items.getExecutedItems(ProvisioningEventType.UPDATE);
-	    assertEquals(maximumIteration, executedItems.size());
+	    assertEquals(maximumIteration, items.getSize(ProvisioningEventType.UPDATE));
 
 	    // Wait on all thread
 	    readyCounter.await();
@@ -142,8 +144,49 @@ public class SysProvisioningBreakItemsTest extends AbstractUnitTest {
 	    // Wait on all thread
 	    completeCounter.await(); 
 
-	    executedItems = items.getExecutedItems(ProvisioningEventType.UPDATE);
-	    assertEquals(0, executedItems.size());
+	    assertEquals(0, items.getSize(ProvisioningEventType.UPDATE));
+	}
+
+	@Test
+	public void testAddWhenPeriodIsChanged() throws InterruptedException {
+		List<Thread> threads = new ArrayList<Thread>();
+		int maximumIteration = 20;
+		long timestamp = System.currentTimeMillis();
+
+		CountDownLatch readyCounter = new CountDownLatch(maximumIteration);
+		CountDownLatch lock = new CountDownLatch(1);
+		CountDownLatch completeCounter = new CountDownLatch(maximumIteration);
+
+		SysProvisioningBreakItems items = new SysProvisioningBreakItems();
+
+		for (int index = 0; index < maximumIteration; index++) {
+			long period = TimeUnit.MINUTES.toMillis(index + 1);
+			Thread thread = new Thread(new ItemsWorker(readyCounter, lock, completeCounter, new Callable<Void>() {
+				@Override
+				public Void call() throws Exception {
+					items.addItem(ProvisioningEventType.UPDATE, timestamp);
+					items.getCount(ProvisioningEventType.UPDATE, period, timestamp);
+					return null;
+				}
+			}));
+			thread.start();
+			threads.add(thread);
+		}
+		readyCounter.await();
+		lock.countDown();
+		completeCounter.await();
+		interruptThreads(threads);
+		//
+		assertEquals(maximumIteration, items.getCount(ProvisioningEventType.UPDATE, TimeUnit.HOURS.toMillis(1), timestamp));
+	}
+
+	@Test
+	public void testSizeOfMissingType() {
+		SysProvisioningBreakItems items = new SysProvisioningBreakItems();
+		//
+		assertEquals(0, items.getSize(ProvisioningEventType.DELETE));
+		assertEquals(null, items.getDiffBetweenActualAndLast(ProvisioningEventType.DELETE, null));
+		assertEquals(0, items.getCount(ProvisioningEventType.DELETE, TimeUnit.HOURS.toMillis(1), System.currentTimeMillis()));
 	}
 
 	/**
@@ -0,0 +1,136 @@
+package eu.bcvsolutions.idm.acc.service.impl;
+
+import java.util.Collections;
+
+import org.identityconnectors.framework.api.ConnectorFacade;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import eu.bcvsolutions.idm.acc.TestHelper;
+import eu.bcvsolutions.idm.acc.dto.SysSystemDto;
+import eu.bcvsolutions.idm.acc.service.api.SysSystemService;
+import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormDefinitionDto;
+import eu.bcvsolutions.idm.core.eav.api.service.FormService;
+import eu.bcvsolutions.idm.ic.api.IcConnectorInstance;
+import eu.bcvsolutions.idm.ic.service.api.IcConnectorFacadeFactory;
+import eu.bcvsolutions.idm.test.api.AbstractIntegrationTest;
+
+/**
+ * Connector facades are reused for the same system configuration
+ * - facade is cached
+ * - changed configuration creates new facade
+ * - facade is evicted, when system is changed - facades of other systems are not evicted
+ * - cache hits and misses are counted
+ *
+ * @since 12.3.0
+ */
+public class DefaultIcConnectorFacadeFactoryIntegrationTest extends AbstractIntegrationTest {
+
+	@Autowired private TestHelper helper;
+	@Autowired private SysSystemService systemService;
+	@Autowired private FormService formService;
+	@Autowired private IcConnectorFacadeFactory facadeFactory;
+
+	@Test
+	public void testReuseFacadeForSameConfiguration() {
+		SysSystemDto system = helper.createTestResourceSystem(false);
+		IcConnectorInstance connectorInstance = systemService.getConnectorInstance(system);
+		//
+		ConnectorFacade facade = facadeFactory.getConnectorFacade(connectorInstance, systemService.getConnectorConfiguration(system));
+		facadeFactory.releaseConnectorFacade(facade);
+		//
+		ConnectorFacade cachedFacade = facadeFactory.getConnectorFacade(connectorInstance, systemService.getConnectorConfiguration(system));
+		facadeFactory.releaseConnectorFacade(cachedFacade);
+		Assert.assertSame(facade, cachedFacade);
+	}
+
+	@Test
+	public void testCacheHitAndMiss() {
+		SysSystemDto system = helper.createTestResourceSystem(false);
+		IcConnectorInstance connectorInstance = systemService.getConnectorInstance(system);
+		long hitCount = facadeFactory.getCacheHitCount();
+		long missCount = facadeFactory.getCacheMissCount();
+		//
+		// miss - facade is created
+		facadeFactory.releaseConnectorFacade(facadeFactory.getConnectorFacade(connectorInstance, systemService.getConnectorConfiguration(system)));
+		Assert.assertEquals(hitCount, facadeFactory.getCacheHitCount());
+		Assert.assertEquals(missCount + 1, facadeFactory.getCacheMissCount());
+		//
+		// hit - facade is reused
+		facadeFactory.releaseConnectorFacade(facadeFactory.getConnectorFacade(connectorInstance, systemService.getConnectorConfiguration(system)));
+		Assert.assertEquals(hitCount + 1, facadeFactory.getCacheHitCount());
+		Assert.assertEquals(missCount + 1, facadeFactory.getCacheMissCount());
+	}
+
+	@Test
+	public void testNewFacadeForChangedConfiguration() {
+		SysSystemDto system = helper.createTestResourceSystem(false);
+		IcConnectorInstance connectorInstance = systemService.getConnectorInstance(system);
+		ConnectorFacade facade = facadeFactory.getConnectorFacade(connectorInstance, systemService.getConnectorConfiguration(system));
+		facadeFactory.releaseConnectorFacade(facade);
+		//
+		// change configuration
+		IdmFormDefinitionDto formDefinition = systemService.getConnectorFormDefinition(connectorInstance);
+		formService.saveValues(system, formDefinition, "disabledStatusValue", Collections.singletonList("inactive"));
+		//
+		ConnectorFacade changedFacade = facadeFactory.getConnectorFacade(connectorInstance, systemService.getConnectorConfiguration(system));
+		facadeFactory.releaseConnectorFacade(changedFacade);
+		Assert.assertNotSame(facade, changedFacade);
+		ConnectorFacade cachedFacade = facadeFactory.getConnectorFacade(connectorInstance, systemService.getConnectorConfiguration(system));
+		facadeFactory.releaseConnectorFacade(cachedFacade);
+		Assert.assertSame(changedFacade, cachedFacade);
+	}
+
+	@Test
+	public void testEvictFacadeAfterSystemIsChanged() {
+		SysSystemDto system = helper.createTestResourceSystem(false);
+		IcConnectorInstance connectorInstance = systemService.getConnectorInstance(system);
+		ConnectorFacade facade = facadeFactory.getConnectorFacade(connectorInstance, systemService.getConnectorConfiguration(system));
+		facadeFactory.releaseConnectorFacade(facade);
+		//
+		system.setDescription(helper.createName());
+		system = systemService.save(system);
+		//
+		ConnectorFacade changedFacade = facadeFactory.getConnectorFacade(connectorInstance, systemService.getConnectorConfiguration(system));
+		facadeFactory.releaseConnectorFacade(changedFacade);
+		Assert.assertNotSame(facade, changedFacade);
+	}
+
+	@Test
+	public void testNotEvictFacadeOfOtherSystem() {
+		SysSystemDto system = helper.createTestResourceSystem(false);
+		SysSystemDto otherSystem = helper.createTestResourceSystem(false);
+		IcConnectorInstance otherConnectorInstance = systemService.getConnectorInstance(otherSystem);
+		ConnectorFacade otherFacade = facadeFactory.getConnectorFacade(otherConnectorInstance, systemService.getConnectorConfiguration(otherSystem));
+		facadeFactory.releaseConnectorFacade(otherFacade);
+		//
+		// the same connector is used by both systems
+		Assert.assertEquals(system.getConnectorKey().getFullName(), otherSystem.getConnectorKey().getFullName());
+		system.setDescription(helper.createName());
+		system = systemService.save(system);
+		//
+		ConnectorFacade cachedFacade = facadeFactory.getConnectorFacade(otherConnectorInstance, systemService.getConnectorConfiguration(otherSystem));
+		facadeFactory.releaseConnectorFacade(cachedFacade);
+		Assert.assertSame(otherFacade, cachedFacade);
+	}
+
+	@Test
+	public void testEvictUsedFacade() {
+		SysSystemDto system = helper.createTestResourceSystem(false);
+		IcConnectorInstance connectorInstance = systemService.getConnectorInstance(system);
+		ConnectorFacade facade = facadeFactory.getConnectorFacade(connectorInstance, systemService.getConnectorConfiguration(system));
+		try {
+			facadeFactory.evictConnectorFacades(system.getId());
+			//
+			// used facade is not disposed
+			facade.test();
+			// evicted facade is not returned
+			ConnectorFacade changedFacade = facadeFactory.getConnectorFacade(connectorInstance, systemService.getConnectorConfiguration(system));
+			facadeFactory.releaseConnectorFacade(changedFacade);
+			Assert.assertNotSame(facade, changedFacade);
+		} finally {
+			facadeFactory.releaseConnectorFacade(facade);
+		}
+	}
+}
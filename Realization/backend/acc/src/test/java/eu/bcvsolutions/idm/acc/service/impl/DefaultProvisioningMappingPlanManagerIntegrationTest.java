@@ -0,0 +1,132 @@
+package eu.bcvsolutions.idm.acc.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import eu.bcvsolutions.idm.acc.TestHelper;
+import eu.bcvsolutions.idm.acc.domain.AttributeMapping;
+import eu.bcvsolutions.idm.acc.domain.ProvisioningMappingPlan;
+import eu.bcvsolutions.idm.acc.domain.SystemEntityType;
+import eu.bcvsolutions.idm.acc.dto.SysRoleSystemAttributeDto;
+import eu.bcvsolutions.idm.acc.dto.SysSystemAttributeMappingDto;
+import eu.bcvsolutions.idm.acc.dto.SysSystemDto;
+import eu.bcvsolutions.idm.acc.dto.SysSystemMappingDto;
+import eu.bcvsolutions.idm.acc.service.api.ProvisioningMappingPlanManager;
+import eu.bcvsolutions.idm.acc.service.api.ProvisioningService;
+import eu.bcvsolutions.idm.acc.service.api.SysSystemAttributeMappingService;
+import eu.bcvsolutions.idm.core.api.dto.IdmRoleDto;
+import eu.bcvsolutions.idm.core.api.service.IdmRoleService;
+import eu.bcvsolutions.idm.test.api.AbstractIntegrationTest;
+
+/**
+ * Compiled provisioning mapping plans tests.
+ *
+ * @since 12.3.0
+ */
+public class DefaultProvisioningMappingPlanManagerIntegrationTest extends AbstractIntegrationTest {
+
+	@Autowired private TestHelper helper;
+	@Autowired private ProvisioningMappingPlanManager manager;
+	@Autowired private ProvisioningService provisioningService;
+	@Autowired private SysSystemAttributeMappingService attributeMappingService;
+	@Autowired private IdmRoleService roleService;
+
+	@Test
+	public void testPlanWithoutMapping() {
+		SysSystemDto system = helper.createTestResourceSystem(false);
+		//
+		Assert.assertNull(manager.getPlan(system, SystemEntityType.IDENTITY));
+	}
+
+	@Test
+	public void testCompilePlan() {
+		SysSystemDto system = helper.createTestResourceSystem(true);
+		SysSystemMappingDto mapping = helper.getDefaultMapping(system);
+		//
+		ProvisioningMappingPlan plan = manager.getPlan(system, SystemEntityType.IDENTITY);
+		//
+		Assert.assertNotNull(plan);
+		Assert.assertEquals(mapping.getId(), plan.getSystemMapping().getId());
+		Assert.assertEquals(mapping.getObjectClass(), plan.getSchemaObjectClass().getId());
+		List<SysSystemAttributeMappingDto> attributes = attributeMappingService.findBySystemMapping(mapping);
+		Assert.assertFalse(attributes.isEmpty());
+		Assert.assertEquals(attributes.size(), plan.getAttributeMappings().size());
+		attributes.forEach(attribute -> {
+			Assert.assertNotNull(plan.getSchemaAttribute(attribute.getSchemaAttribute()));
+			Assert.assertEquals(
+					attribute.getSchemaAttribute(),
+					plan.getSchemaAttribute(plan.getSchemaAttribute(attribute.getSchemaAttribute()).getName()).getId());
+		});
+	}
+
+	@Test
+	public void testEvictPlanAfterAttributeIsChanged() {
+		SysSystemDto system = helper.createTestResourceSystem(true);
+		ProvisioningMappingPlan plan = manager.getPlan(system, SystemEntityType.IDENTITY);
+		int attributesCount = plan.getAttributeMappings().size();
+		//
+		attributeMappingService.delete(plan.getAttributeMappings().get(0));
+		//
+		plan = manager.getPlan(system, SystemEntityType.IDENTITY);
+		Assert.assertEquals(attributesCount - 1, plan.getAttributeMappings().size());
+	}
+
+	@Test
+	public void testEvictPlanAfterCommit() {
+		SysSystemDto system = helper.createTestResourceSystem(true);
+		ProvisioningMappingPlan plan = manager.getPlan(system, SystemEntityType.IDENTITY);
+		UUID planId = plan.getId();
+		//
+		getTransactionTemplate().execute(status -> {
+			attributeMappingService.delete(manager.getPlan(system, SystemEntityType.IDENTITY).getAttributeMappings().get(0));
+			// plan is not evicted before commit
+			Assert.assertEquals(planId, manager.getPlan(system, SystemEntityType.IDENTITY).getId());
+			//
+			return null;
+		});
+		//
+		Assert.assertNotEquals(planId, manager.getPlan(system, SystemEntityType.IDENTITY).getId());
+	}
+
+	@Test
+	public void testCompiledAttributesAreReused() {
+		SysSystemDto system = helper.createTestResourceSystem(true);
+		List<SysRoleSystemAttributeDto> overloadingAttributes = new ArrayList<>();
+		AtomicInteger counter = new AtomicInteger();
+		BiFunction<List<SysSystemAttributeMappingDto>, List<SysRoleSystemAttributeDto>, List<AttributeMapping>> compiler
+			= (defaultAttributes, overloading) -> {
+				counter.incrementAndGet();
+				return provisioningService.compileAttributes(defaultAttributes, overloading, SystemEntityType.IDENTITY);
+			};
+		//
+		ProvisioningMappingPlan plan = manager.getPlan(system, SystemEntityType.IDENTITY);
+		List<AttributeMapping> compiledAttributes = manager.getCompiledAttributes(plan, overloadingAttributes, compiler);
+		Assert.assertEquals(1, counter.get());
+		Assert.assertEquals(plan.getAttributeMappings().size(), compiledAttributes.size());
+		//
+		// compiled attributes are cached by plan
+		UUID planId = plan.getId();
+		plan = manager.getPlan(system, SystemEntityType.IDENTITY);
+		Assert.assertEquals(planId, plan.getId());
+		compiledAttributes = manager.getCompiledAttributes(plan, overloadingAttributes, compiler);
+		Assert.assertEquals(1, counter.get());
+		Assert.assertEquals(plan.getAttributeMappings().size(), compiledAttributes.size());
+		//
+		// role priority is changed => overloading attributes has to be compiled again
+		IdmRoleDto role = helper.createRole();
+		role.setPriority(role.getPriority() + 1);
+		roleService.save(role);
+		//
+		plan = manager.getPlan(system, SystemEntityType.IDENTITY);
+		Assert.assertNotEquals(planId, plan.getId());
+		manager.getCompiledAttributes(plan, overloadingAttributes, compiler);
+		Assert.assertEquals(2, counter.get());
+	}
+}
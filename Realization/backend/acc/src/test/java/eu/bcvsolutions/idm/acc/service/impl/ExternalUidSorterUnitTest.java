@@ -0,0 +1,97 @@
+package eu.bcvsolutions.idm.acc.service.impl;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import eu.bcvsolutions.idm.test.api.AbstractUnitTest;
+
+/**
+ * Sort uids with bounded memory
+ * - sorted without duplicates
+ * - spill into temporary files
+ *
+ * @since 12.3.0
+ */
+public class ExternalUidSorterUnitTest extends AbstractUnitTest {
+
+	@Test
+	public void testSortInMemory() {
+		try (ExternalUidSorter sorter = new ExternalUidSorter()) {
+			sorter.add("c");
+			sorter.add("a");
+			sorter.add("b");
+			sorter.add("a");
+			//
+			Assert.assertEquals(0, sorter.getRunCount());
+			Assert.assertEquals(List.of("a", "b", "c"), toUids(sorter.iterator()));
+		}
+	}
+
+	@Test
+	public void testSortWithSpill() {
+		TreeSet<String> expected = new TreeSet<>();
+		try (ExternalUidSorter sorter = new ExternalUidSorter(7)) {
+			for (int i = 0; i < 100; i++) {
+				String uid = String.format("uid-%s-ěšč", (i * 37) % 50); // duplicates, unicode
+				expected.add(uid);
+				sorter.add(uid);
+			}
+			//
+			Assert.assertTrue(sorter.getRunCount() > 1);
+			Assert.assertEquals(new ArrayList<>(expected), toUids(sorter.iterator()));
+		}
+	}
+
+	@Test
+	public void testSortWithAccountId() {
+		UUID one = new UUID(0, 1);
+		UUID two = new UUID(0, 2);
+		try (ExternalUidSorter sorter = new ExternalUidSorter(2)) {
+			sorter.add("b", two);
+			sorter.add("b", one);
+			sorter.add("a", two);
+			sorter.add("b", one);
+			sorter.add("a");
+			//
+			Iterator<ExternalUidSorter.Entry> iterator = sorter.iterator();
+			assertEntry(iterator.next(), "a", null);
+			assertEntry(iterator.next(), "a", two);
+			assertEntry(iterator.next(), "b", one);
+			assertEntry(iterator.next(), "b", two);
+			Assert.assertFalse(iterator.hasNext());
+		}
+	}
+
+	@Test
+	public void testEmpty() {
+		try (ExternalUidSorter sorter = new ExternalUidSorter(1)) {
+			Assert.assertFalse(sorter.iterator().hasNext());
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testAddAfterIterate() {
+		try (ExternalUidSorter sorter = new ExternalUidSorter()) {
+			sorter.iterator();
+			sorter.add("a");
+		}
+	}
+
+	private List<String> toUids(Iterator<ExternalUidSorter.Entry> iterator) {
+		List<String> uids = new ArrayList<>();
+		iterator.forEachRemaining(entry -> uids.add(entry.getUid()));
+		//
+		return uids;
+	}
+
+	private void assertEntry(ExternalUidSorter.Entry entry, String uid, UUID accountId) {
+		Assert.assertEquals(uid, entry.getUid());
+		Assert.assertEquals(accountId, entry.getAccountId());
+	}
+}
@@ -0,0 +1,170 @@
+package eu.bcvsolutions.idm.acc.service.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import eu.bcvsolutions.idm.acc.domain.OperationResultType;
+import eu.bcvsolutions.idm.acc.domain.SynchronizationActionType;
+import eu.bcvsolutions.idm.acc.dto.SysSyncActionLogDto;
+import eu.bcvsolutions.idm.acc.dto.SysSyncConfigDto;
+import eu.bcvsolutions.idm.acc.dto.SysSyncItemLogDto;
+import eu.bcvsolutions.idm.acc.service.api.SysSyncActionLogService;
+import eu.bcvsolutions.idm.acc.service.api.SysSyncConfigService;
+import eu.bcvsolutions.idm.acc.service.api.SysSyncItemLogService;
+import eu.bcvsolutions.idm.test.api.AbstractUnitTest;
+
+/**
+ * Buffered synchronization log writer
+ * - flush by processed item count
+ * - merge action logs from parallel workers
+ * - unchanged action logs are not saved
+ *
+ * @since 12.3.0
+ */
+public class SynchronizationLogWriterUnitTest extends AbstractUnitTest {
+
+	@Mock private SysSyncActionLogService syncActionLogService;
+	@Mock private SysSyncItemLogService syncItemLogService;
+	@Mock private SysSyncConfigService synchronizationConfigService;
+	@Mock private PlatformTransactionManager platformTransactionManager;
+
+	@Before
+	public void before() {
+		MockitoAnnotations.initMocks(this);
+		//
+		when(syncActionLogService.saveInternal(any(SysSyncActionLogDto.class))).thenAnswer(invocation -> {
+			SysSyncActionLogDto actionLog = invocation.getArgument(0);
+			SysSyncActionLogDto savedActionLog = new SysSyncActionLogDto();
+			savedActionLog.setId(actionLog.getId() == null ? UUID.randomUUID() : actionLog.getId());
+			savedActionLog.setSyncAction(actionLog.getSyncAction());
+			savedActionLog.setOperationResult(actionLog.getOperationResult());
+			savedActionLog.setOperationCount(actionLog.getOperationCount());
+			savedActionLog.setSyncLog(actionLog.getSyncLog());
+			return savedActionLog;
+		});
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testFlushByProcessedItemCount() {
+		SynchronizationLogWriter writer = createWriter(3);
+		SysSyncConfigDto config = new SysSyncConfigDto();
+		//
+		processItem(writer, config);
+		processItem(writer, config);
+		verify(syncActionLogService, never()).saveInternal(any(SysSyncActionLogDto.class));
+		verify(synchronizationConfigService, never()).save(any(SysSyncConfigDto.class));
+		//
+		processItem(writer, config);
+		//
+		ArgumentCaptor<List<SysSyncItemLogDto>> itemLogs = ArgumentCaptor.forClass(List.class);
+		verify(syncActionLogService, times(1)).saveInternal(any(SysSyncActionLogDto.class));
+		verify(syncItemLogService, times(1)).saveAllInternal(itemLogs.capture());
+		verify(synchronizationConfigService, times(1)).save(config);
+		Assert.assertEquals(3, itemLogs.getValue().size());
+		SysSyncActionLogDto actionLog = writer.getActionLogs().get(0);
+		Assert.assertNotNull(actionLog.getId());
+		Assert.assertEquals(Integer.valueOf(3), actionLog.getOperationCount());
+		Assert.assertTrue(actionLog.getLogItems().isEmpty());
+		itemLogs.getValue().forEach(itemLog -> Assert.assertEquals(actionLog.getId(), itemLog.getSyncActionLog()));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testMergeParallelItems() {
+		SynchronizationLogWriter writer = createWriter(SynchronizationLogWriter.DEFAULT_FLUSH_SIZE);
+		//
+		writer.merge(createItemActionLogs(SynchronizationActionType.CREATE_ENTITY));
+		writer.merge(createItemActionLogs(SynchronizationActionType.CREATE_ENTITY));
+		writer.merge(createItemActionLogs(SynchronizationActionType.UPDATE_ENTITY));
+		//
+		Assert.assertEquals(2, writer.getActionLogs().size());
+		SysSyncActionLogDto createActionLog = writer.getActionLogs().get(0);
+		Assert.assertEquals(Integer.valueOf(2), createActionLog.getOperationCount());
+		Assert.assertEquals(2, createActionLog.getLogItems().size());
+		//
+		writer.flush();
+		//
+		ArgumentCaptor<List<SysSyncItemLogDto>> itemLogs = ArgumentCaptor.forClass(List.class);
+		verify(syncActionLogService, times(2)).saveInternal(any(SysSyncActionLogDto.class));
+		verify(syncItemLogService, times(1)).saveAllInternal(itemLogs.capture());
+		verify(synchronizationConfigService, never()).save(any(SysSyncConfigDto.class));
+		Assert.assertEquals(3, itemLogs.getValue().size());
+	}
+
+	@Test
+	public void testUnchangedActionLogIsNotSaved() {
+		SynchronizationLogWriter writer = createWriter(SynchronizationLogWriter.DEFAULT_FLUSH_SIZE);
+		processItem(writer, null);
+		writer.flush();
+		verify(syncActionLogService, times(1)).saveInternal(any(SysSyncActionLogDto.class));
+		//
+		writer.flush();
+		verify(syncActionLogService, times(1)).saveInternal(any(SysSyncActionLogDto.class));
+		//
+		processItem(writer, null);
+		writer.flush();
+		verify(syncActionLogService, times(2)).saveInternal(any(SysSyncActionLogDto.class));
+		verify(syncItemLogService, times(3)).saveAllInternal(anyList());
+		Assert.assertEquals(Integer.valueOf(2), writer.getActionLogs().get(0).getOperationCount());
+	}
+
+	private SynchronizationLogWriter createWriter(int flushSize) {
+		return new SynchronizationLogWriter(
+				syncActionLogService,
+				syncItemLogService,
+				synchronizationConfigService,
+				platformTransactionManager,
+				new ArrayList<>(),
+				flushSize,
+				Long.MAX_VALUE);
+	}
+
+	/**
+	 * Item processed sequentially - counter is increased in writer action logs directly.
+	 */
+	private void processItem(SynchronizationLogWriter writer, SysSyncConfigDto config) {
+		List<SysSyncActionLogDto> actionLogs = writer.getActionLogs();
+		SysSyncActionLogDto actionLog;
+		if (actionLogs.isEmpty()) {
+			actionLog = new SysSyncActionLogDto();
+			actionLog.setSyncAction(SynchronizationActionType.CREATE_ENTITY);
+			actionLog.setOperationResult(OperationResultType.SUCCESS);
+			actionLogs.add(actionLog);
+		} else {
+			actionLog = actionLogs.get(0);
+		}
+		actionLog.setOperationCount(actionLog.getOperationCount() + 1);
+		actionLog.addLogItems(new SysSyncItemLogDto());
+		//
+		writer.itemProcessed(config);
+	}
+
+	private List<SysSyncActionLogDto> createItemActionLogs(SynchronizationActionType actionType) {
+		SysSyncActionLogDto actionLog = new SysSyncActionLogDto();
+		actionLog.setSyncAction(actionType);
+		actionLog.setOperationResult(OperationResultType.SUCCESS);
+		actionLog.setOperationCount(1);
+		actionLog.addLogItems(new SysSyncItemLogDto());
+		//
+		List<SysSyncActionLogDto> actionLogs = new ArrayList<>();
+		actionLogs.add(actionLog);
+		return actionLogs;
+	}
+}
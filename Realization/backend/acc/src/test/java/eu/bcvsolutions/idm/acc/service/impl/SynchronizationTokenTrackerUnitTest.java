@@ -0,0 +1,67 @@
+package eu.bcvsolutions.idm.acc.service.impl;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import eu.bcvsolutions.idm.test.api.AbstractUnitTest;
+
+/**
+ * Token of items processed in parallel
+ * - token is not moved past unprocessed item
+ * - greater token is preserved for custom filter
+ *
+ * @since 12.3.0
+ */
+public class SynchronizationTokenTrackerUnitTest extends AbstractUnitTest {
+
+	@Test
+	public void testTokenIsNotMovedPastUnprocessedItem() {
+		SynchronizationTokenTracker tracker = new SynchronizationTokenTracker("0", false);
+		Object itemOne = new Object();
+		Object itemTwo = new Object();
+		Object itemThree = new Object();
+		tracker.register(itemOne, "1");
+		tracker.register(itemTwo, "2");
+		tracker.register(itemThree, "3");
+		//
+		tracker.processed(itemTwo);
+		tracker.processed(itemThree);
+		Assert.assertEquals("0", tracker.getToken());
+		//
+		tracker.processed(itemOne);
+		Assert.assertEquals("3", tracker.getToken());
+	}
+
+	@Test
+	public void testTokenOfCanceledItems() {
+		SynchronizationTokenTracker tracker = new SynchronizationTokenTracker(null, false);
+		Object itemOne = new Object();
+		Object itemTwo = new Object();
+		Object itemThree = new Object();
+		tracker.register(itemOne, "1");
+		tracker.register(itemTwo, "2");
+		tracker.register(itemThree, "3");
+		//
+		// item two is drained from queue without processing
+		tracker.processed(itemOne);
+		tracker.processed(itemThree);
+		Assert.assertEquals("1", tracker.getToken());
+	}
+
+	@Test
+	public void testKeepGreaterToken() {
+		SynchronizationTokenTracker tracker = new SynchronizationTokenTracker("5", true);
+		Object itemOne = new Object();
+		Object itemTwo = new Object();
+		Object itemThree = new Object();
+		tracker.register(itemOne, "4");
+		tracker.register(itemTwo, "7");
+		tracker.register(itemThree, "6");
+		//
+		tracker.processed(itemOne);
+		Assert.assertEquals("5", tracker.getToken());
+		tracker.processed(itemThree);
+		tracker.processed(itemTwo);
+		Assert.assertEquals("7", tracker.getToken());
+	}
+}
@@ -0,0 +1,119 @@
+package eu.bcvsolutions.idm.acc.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import eu.bcvsolutions.idm.acc.domain.SynchronizationContext;
+import eu.bcvsolutions.idm.core.api.exception.CoreException;
+import eu.bcvsolutions.idm.test.api.AbstractUnitTest;
+
+/**
+ * Parallel synchronization workers
+ * - the same uid is processed in order by one worker
+ * - cancel
+ * - exception propagation
+ *
+ * @since 12.3.0
+ */
+public class SynchronizationWorkerPoolUnitTest extends AbstractUnitTest {
+
+	@Test
+	public void testProcessTheSameUidInOrder() {
+		int count = 200;
+		Map<String, List<Integer>> processed = new ConcurrentHashMap<>();
+		Set<String> running = ConcurrentHashMap.newKeySet();
+		AtomicInteger parallelUid = new AtomicInteger();
+		SynchronizationWorkerPool pool = new SynchronizationWorkerPool("test-sync-worker", 4, 5, itemContext -> {
+			String uid = itemContext.getUid();
+			if (!running.add(uid)) {
+				parallelUid.incrementAndGet();
+			}
+			processed
+				.computeIfAbsent(uid, k -> Collections.synchronizedList(new ArrayList<>()))
+				.add((Integer) itemContext.getProperty("order"));
+			running.remove(uid);
+			//
+			return true;
+		});
+		pool.start();
+		for (int i = 0; i < count; i++) {
+			Assert.assertTrue(pool.submit(createItem(String.format("uid-%s", i % 10), i)));
+		}
+		pool.finish();
+		//
+		Assert.assertEquals(0, parallelUid.get());
+		Assert.assertEquals(10, processed.size());
+		processed.values().forEach(orders -> {
+			Assert.assertEquals(count / 10, orders.size());
+			for (int i = 1; i < orders.size(); i++) {
+				Assert.assertTrue(orders.get(i - 1) < orders.get(i));
+			}
+		});
+	}
+
+	@Test
+	public void testCancel() {
+		AtomicInteger processed = new AtomicInteger();
+		SynchronizationWorkerPool pool = new SynchronizationWorkerPool("test-sync-worker", 1, 1, itemContext -> {
+			processed.incrementAndGet();
+			//
+			return false;
+		});
+		pool.start();
+		Assert.assertTrue(pool.submit(createItem("one", 0)));
+		// wait for the first item is processed => synchronization is canceled
+		for (int i = 0; i < 100 && !pool.isCanceled(); i++) {
+			sleep(20);
+		}
+		Assert.assertTrue(pool.isCanceled());
+		Assert.assertFalse(pool.submit(createItem("two", 1)));
+		pool.finish();
+		//
+		Assert.assertEquals(1, processed.get());
+	}
+
+	@Test(expected = CoreException.class)
+	public void testPropagateException() {
+		SynchronizationWorkerPool pool = new SynchronizationWorkerPool("test-sync-worker", 2, 10, itemContext -> {
+			throw new CoreException("test");
+		});
+		pool.start();
+		pool.submit(createItem("one", 0));
+		pool.finish();
+	}
+
+	@Test
+	public void testWorkerIndexByUid() {
+		SynchronizationWorkerPool pool = new SynchronizationWorkerPool("test-sync-worker", 3, 10, itemContext -> true);
+		//
+		Assert.assertEquals(pool.getWorkerIndex("uid"), pool.getWorkerIndex("uid"));
+		for (int i = 0; i < 100; i++) {
+			int index = pool.getWorkerIndex(String.valueOf(i));
+			Assert.assertTrue(index >= 0 && index < pool.getWorkerCount());
+		}
+	}
+
+	private SynchronizationContext createItem(String uid, int order) {
+		SynchronizationContext itemContext = new SynchronizationContext();
+		itemContext.addUid(uid);
+		itemContext.addProperty("order", order);
+		//
+		return itemContext;
+	}
+
+	private void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -10,6 +10,7 @@ import java.text.MessageFormat;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -1075,6 +1076,82 @@ public class IdentitySyncTest extends AbstractIntegrationTest {
 		assertNotEquals(identityOne.getFirstName(), identityTwo.getFirstName());
 	}
 
+	@Test
+	public void testParallelSynchronization() {
+		SysSystemDto system = initData();
+		SysSyncIdentityConfigDto config = doCreateSyncConfig(system);
+		config.setInactiveOwnerBehavior(SynchronizationInactiveOwnerBehaviorType.LINK);
+		config.setWorkerCount(4);
+		config = (SysSyncIdentityConfigDto) syncConfigService.save(config);
+		Assert.assertEquals(4, syncConfigService.get(config.getId()).getWorkerCount().intValue());
+		//
+		this.getBean().deleteAllResourceData();
+		String testLastName = "test-last-name-parallel-" + System.currentTimeMillis();
+		int count = 20;
+		for (int i = 0; i < count; i++) {
+			this.getBean().setTestData(getHelper().createName(), "test-first-name", testLastName);
+		}
+		//
+		helper.startSynchronization(config);
+		//
+		// counters from all workers are merged into the same action log
+		SysSyncLogDto log = checkSyncLog(config, SynchronizationActionType.CREATE_ENTITY, count,
+				OperationResultType.SUCCESS);
+		Assert.assertFalse(log.isRunning());
+		Assert.assertFalse(log.isContainsError());
+		SysSyncActionLogFilter actionLogFilter = new SysSyncActionLogFilter();
+		actionLogFilter.setSynchronizationLogId(log.getId());
+		List<SysSyncActionLogDto> actions = syncActionLogService.find(actionLogFilter, null).getContent();
+		Assert.assertEquals(1, actions.size());
+		Assert.assertEquals(count, actions.get(0).getOperationCount().intValue());
+		//
+		IdmIdentityFilter filter = new IdmIdentityFilter();
+		filter.setLastName(testLastName);
+		List<IdmIdentityDto> identities = identityService.find(filter, null).getContent();
+		Assert.assertEquals(count, identities.size());
+		//
+		identities.forEach(identityService::delete);
+		syncLogService.delete(log);
+		syncConfigService.delete(config);
+	}
+
+	@Test
+	public void testLinkAndUpdateIdentitiesInCorrelationChunk() {
+		SysSystemDto system = initData();
+		SysSyncIdentityConfigDto config = doCreateSyncConfig(system);
+		//
+		this.getBean().deleteAllResourceData();
+		String testLastName = "test-last-name-chunk-" + System.currentTimeMillis();
+		List<IdmIdentityDto> identities = new ArrayList<>();
+		int count = 5;
+		for (int i = 0; i < count; i++) {
+			IdmIdentityDto identity = helper.createIdentity();
+			identities.add(identity);
+			this.getBean().setTestData(identity.getUsername(), "test-first-name", testLastName);
+		}
+		//
+		// identities are found by correlation attribute for the whole chunk
+		helper.startSynchronization(config);
+		SysSyncLogDto log = checkSyncLog(config, SynchronizationActionType.LINK, count, OperationResultType.SUCCESS);
+		Assert.assertFalse(log.isRunning());
+		Assert.assertFalse(log.isContainsError());
+		identities.forEach(identity -> {
+			AccIdentityAccountFilter identityAccountFilter = new AccIdentityAccountFilter();
+			identityAccountFilter.setIdentityId(identity.getId());
+			identityAccountFilter.setSystemId(system.getId());
+			Assert.assertEquals(1, identityAccountService.find(identityAccountFilter, null).getTotalElements());
+		});
+		//
+		// system entities and accounts are found for the whole chunk
+		helper.startSynchronization(config);
+		log = checkSyncLog(config, SynchronizationActionType.UPDATE_ENTITY, count, OperationResultType.SUCCESS);
+		Assert.assertFalse(log.isRunning());
+		Assert.assertFalse(log.isContainsError());
+		identities.forEach(identity -> {
+			Assert.assertEquals(testLastName, identityService.get(identity.getId()).getLastName());
+		});
+	}
+
 	@Test
 	public void testEnableAutomaticRoleDuringSynchronization() {
 		// default initialization of system and all necessary things
@@ -0,0 +1,94 @@
+package eu.bcvsolutions.idm.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import eu.bcvsolutions.idm.IdmApplication;
+import eu.bcvsolutions.idm.core.api.config.datasource.DatasourceConfig;
+import eu.bcvsolutions.idm.core.security.api.dto.LoginDto;
+import eu.bcvsolutions.idm.test.api.TestHelper;
+
+/**
+ * Benchmark executed against started application context with in-memory H2 database (test profile).
+ *
+ * Context is started once per benchmark fork, test data are prepared by {@link #prepare()} before all iterations.
+ * Benchmark methods are executed in logged identity (see {@link #login()}) - security context is thread bounded,
+ * so benchmarks with context should run in single thread.
+ *
+ * @since 12.3.0
+ */
+@State(Scope.Benchmark)
+public abstract class AbstractCoreBenchmark {
+
+	private ConfigurableApplicationContext context;
+	private TestHelper helper;
+	private TransactionTemplate transactionTemplate;
+
+	@Setup(Level.Trial)
+	public void startContext() {
+		context = new SpringApplicationBuilder(IdmApplication.class, DatasourceConfig.class)
+				.bannerMode(Banner.Mode.OFF)
+				.properties("server.port=0")
+				.run();
+		helper = context.getBean(TestHelper.class);
+		transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+		//
+		helper.loginAdmin();
+		try {
+			prepare();
+		} finally {
+			helper.logout();
+		}
+	}
+
+	@Setup(Level.Iteration)
+	public void loginIteration() {
+		login();
+	}
+
+	@TearDown(Level.Iteration)
+	public void logoutIteration() {
+		helper.logout();
+	}
+
+	@TearDown(Level.Trial)
+	public void stopContext() {
+		if (context != null) {
+			context.close();
+		}
+	}
+
+	/**
+	 * Prepare test data - executed once after context is started. Admin is logged.
+	 */
+	protected abstract void prepare();
+
+	/**
+	 * Login identity, which executes benchmark methods. Admin is logged by default.
+	 *
+	 * @return logged identity
+	 */
+	protected LoginDto login() {
+		return helper.loginAdmin();
+	}
+
+	protected <T> T getBean(Class<T> beanType) {
+		return context.getBean(beanType);
+	}
+
+	protected TestHelper getHelper() {
+		return helper;
+	}
+
+	protected TransactionTemplate getTransactionTemplate() {
+		return transactionTemplate;
+	}
+}
@@ -0,0 +1,95 @@
+package eu.bcvsolutions.idm.benchmark;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
+import eu.bcvsolutions.idm.core.api.dto.IdmRoleDto;
+import eu.bcvsolutions.idm.core.api.service.IdmCacheManager;
+import eu.bcvsolutions.idm.core.api.service.LookupService;
+import eu.bcvsolutions.idm.core.model.domain.CoreGroupPermission;
+import eu.bcvsolutions.idm.core.model.entity.IdmIdentity;
+import eu.bcvsolutions.idm.core.security.api.domain.IdmBasePermission;
+import eu.bcvsolutions.idm.core.security.api.dto.LoginDto;
+import eu.bcvsolutions.idm.core.security.api.service.AuthorizationManager;
+import eu.bcvsolutions.idm.core.security.evaluator.identity.SelfIdentityEvaluator;
+
+/**
+ * Evaluate permissions of logged identity for the identity entity by assigned authorization policies.
+ * Cached permissions can be evicted before each evaluation (see {@link #cached}).
+ *
+ * Run from IDE or by {@link #main(String[])} with test classpath.
+ *
+ * @since 12.3.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(1)
+public class AuthorizationManagerBenchmark extends AbstractCoreBenchmark {
+
+	@Param({ "3", "30" })
+	private int policies; // count of policies assigned to logged identity
+	@Param({ "true", "false" })
+	private boolean cached; // false - permission cache is evicted before each evaluation
+	private AuthorizationManager authorizationManager;
+	private IdmCacheManager cacheManager;
+	private IdmIdentityDto identity;
+	private IdmIdentity entity;
+
+	@Override
+	protected void prepare() {
+		authorizationManager = getBean(AuthorizationManager.class);
+		cacheManager = getBean(IdmCacheManager.class);
+		//
+		identity = getHelper().createIdentity();
+		IdmRoleDto role = getHelper().createRole();
+		getHelper().createBasePolicy(role.getId(), CoreGroupPermission.IDENTITY, IdmIdentity.class, IdmBasePermission.READ);
+		getHelper().createAuthorizationPolicy(
+				role.getId(),
+				CoreGroupPermission.IDENTITY,
+				IdmIdentity.class,
+				SelfIdentityEvaluator.class,
+				IdmBasePermission.UPDATE);
+		for (int index = 2; index < policies; index++) {
+			// other identities - policy is evaluated, but doesn't match
+			getHelper().createUuidPolicy(role, getHelper().createIdentity(), IdmBasePermission.DELETE);
+		}
+		getHelper().createIdentityRole(identity, role);
+		//
+		entity = getBean(LookupService.class).lookupEntity(IdmIdentity.class, identity.getId());
+	}
+
+	@Override
+	protected LoginDto login() {
+		return getHelper().login(identity);
+	}
+
+	@Benchmark
+	public Set<String> getPermissions() {
+		if (!cached) {
+			cacheManager.evictCache(AuthorizationManager.PERMISSION_CACHE_NAME);
+			cacheManager.evictCache(AuthorizationManager.PERMISSION_ENTRY_CACHE_NAME);
+		}
+		return getTransactionTemplate().execute(status -> authorizationManager.getPermissions(entity));
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(AuthorizationManagerBenchmark.class.getSimpleName()).build()).run();
+	}
+}
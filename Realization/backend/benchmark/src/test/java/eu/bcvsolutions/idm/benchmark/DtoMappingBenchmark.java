@@ -0,0 +1,62 @@
+package eu.bcvsolutions.idm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
+import eu.bcvsolutions.idm.core.api.dto.filter.IdmIdentityFilter;
+import eu.bcvsolutions.idm.core.api.service.IdmIdentityService;
+
+/**
+ * Entity to dto conversion (ModelMapper) used by {@code AbstractReadDtoService#toDtos} - page of identities is loaded
+ * and converted into trimmed dtos.
+ *
+ * Run from IDE or by {@link #main(String[])} with test classpath.
+ *
+ * @since 12.3.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(1)
+public class DtoMappingBenchmark extends AbstractCoreBenchmark {
+
+	private static final int IDENTITY_COUNT = 200;
+	//
+	@Param({ "10", "100" })
+	private int pageSize;
+	private IdmIdentityService identityService;
+
+	@Override
+	protected void prepare() {
+		identityService = getBean(IdmIdentityService.class);
+		for (int index = 0; index < IDENTITY_COUNT; index++) {
+			getHelper().createIdentity();
+		}
+	}
+
+	@Benchmark
+	public Page<IdmIdentityDto> toDtos() {
+		return identityService.find(new IdmIdentityFilter(), PageRequest.of(0, pageSize));
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(DtoMappingBenchmark.class.getSimpleName()).build()).run();
+	}
+}
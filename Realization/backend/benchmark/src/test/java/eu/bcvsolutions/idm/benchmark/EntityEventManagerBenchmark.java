@@ -0,0 +1,71 @@
+package eu.bcvsolutions.idm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
+import eu.bcvsolutions.idm.core.api.event.CoreEvent;
+import eu.bcvsolutions.idm.core.api.event.EventContext;
+import eu.bcvsolutions.idm.core.api.event.EventType;
+import eu.bcvsolutions.idm.core.api.service.EntityEventManager;
+import eu.bcvsolutions.idm.core.model.event.IdentityEvent;
+import eu.bcvsolutions.idm.core.model.event.IdentityEvent.IdentityEventType;
+
+/**
+ * Synchronous event processing by registered processors:
+ * - identity update event - whole registered processor chain (save, audit, password, automatic roles ...) is executed.
+ * - event type without registered processors - processors lookup and event context overhead.
+ *
+ * Run from IDE or by {@link #main(String[])} with test classpath.
+ *
+ * @since 12.3.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(1)
+public class EntityEventManagerBenchmark extends AbstractCoreBenchmark {
+
+	private static final EventType UNSUPPORTED_EVENT_TYPE = () -> "BENCHMARK_UNSUPPORTED";
+	//
+	private EntityEventManager entityEventManager;
+	private IdmIdentityDto identity;
+	private long counter = 0;
+
+	@Override
+	protected void prepare() {
+		entityEventManager = getBean(EntityEventManager.class);
+		identity = getHelper().createIdentity();
+	}
+
+	@Benchmark
+	public IdmIdentityDto processUpdate() {
+		identity.setDescription(String.valueOf(counter++));
+		EventContext<IdmIdentityDto> context = entityEventManager.process(new IdentityEvent(IdentityEventType.UPDATE, identity));
+		identity = context.getContent();
+		//
+		return identity;
+	}
+
+	@Benchmark
+	public EventContext<IdmIdentityDto> processWithoutProcessors() {
+		return entityEventManager.process(new CoreEvent<>(UNSUPPORTED_EVENT_TYPE, identity));
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(EntityEventManagerBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,64 @@
+package eu.bcvsolutions.idm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
+import eu.bcvsolutions.idm.core.eav.api.domain.PersistentType;
+import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormAttributeDto;
+import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormValueDto;
+import eu.bcvsolutions.idm.core.eav.api.service.FormService;
+import eu.bcvsolutions.idm.core.model.entity.IdmIdentity;
+
+/**
+ * Load identity extended attribute values from the main form definition.
+ *
+ * Run from IDE or by {@link #main(String[])} with test classpath.
+ *
+ * @since 12.3.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(1)
+public class FormServiceBenchmark extends AbstractCoreBenchmark {
+
+	@Param({ "5", "50" })
+	private int attributes; // count of filled attributes
+	private FormService formService;
+	private IdmIdentityDto identity;
+
+	@Override
+	protected void prepare() {
+		formService = getBean(FormService.class);
+		identity = getHelper().createIdentity();
+		for (int index = 0; index < attributes; index++) {
+			IdmFormAttributeDto attribute = getHelper().createEavAttribute(getHelper().createName(), IdmIdentity.class, PersistentType.SHORTTEXT);
+			getHelper().setEavValue(identity, attribute, IdmIdentity.class, getHelper().createName(), PersistentType.SHORTTEXT);
+		}
+	}
+
+	@Benchmark
+	public List<IdmFormValueDto> getValues() {
+		return formService.getValues(identity);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(FormServiceBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,62 @@
+package eu.bcvsolutions.idm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.google.common.collect.ImmutableMap;
+
+import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
+import eu.bcvsolutions.idm.core.api.service.GroovyScriptService;
+
+/**
+ * Concurrent evaluation of the same transformation script - throughput should scale with threads.
+ * Main method runs benchmark with one and four threads.
+ *
+ * Run from IDE or by {@link #main(String[])} with test classpath.
+ *
+ * @since 12.3.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@Threads(4)
+public class GroovyScriptServiceBenchmark extends AbstractCoreBenchmark {
+
+	private static final String SCRIPT = "return entity.firstName.toLowerCase() + '.' + entity.lastName.toLowerCase() + '@example.com';";
+	//
+	private GroovyScriptService groovyScriptService;
+	private IdmIdentityDto identity;
+
+	@Override
+	protected void prepare() {
+		groovyScriptService = getBean(GroovyScriptService.class);
+		identity = getHelper().createIdentity();
+	}
+
+	@Benchmark
+	public Object evaluate() {
+		return groovyScriptService.evaluate(SCRIPT, ImmutableMap.of("entity", identity));
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		for (int threads : new int[] { 1, 4 }) {
+			new Runner(new OptionsBuilder()
+					.include(GroovyScriptServiceBenchmark.class.getSimpleName())
+					.threads(threads)
+					.build()).run();
+		}
+	}
+}
@@ -0,0 +1,107 @@
+package eu.bcvsolutions.idm.benchmark;
+
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.velocity.VelocityContext;
+import org.apache.velocity.app.VelocityEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.google.common.collect.Lists;
+
+import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
+import eu.bcvsolutions.idm.core.notification.api.dto.IdmMessageDto;
+import eu.bcvsolutions.idm.core.notification.api.dto.IdmNotificationTemplateDto;
+import eu.bcvsolutions.idm.core.notification.api.service.IdmNotificationTemplateService;
+
+/**
+ * Render notification template - compiled (cached) template is merged vs. template source is parsed and evaluated
+ * for each message (previous implementation).
+ *
+ * Run from IDE or by {@link #main(String[])} with test classpath.
+ *
+ * @since 12.3.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(1)
+public class NotificationTemplateBenchmark extends AbstractCoreBenchmark {
+
+	private static final String BODY_ROW = "<tr><td>$identity.username</td><td>#if($expiration)$expiration#else-#end</td>"
+			+ "#foreach($role in $roles)<td>$role</td>#end</tr>";
+	//
+	private IdmNotificationTemplateService notificationTemplateService;
+	private VelocityEngine velocityEngine;
+	private IdmNotificationTemplateDto template;
+	private IdmIdentityDto identity;
+
+	@Override
+	protected void prepare() {
+		notificationTemplateService = getBean(IdmNotificationTemplateService.class);
+		velocityEngine = new VelocityEngine();
+		velocityEngine.init();
+		identity = getHelper().createIdentity();
+		//
+		IdmNotificationTemplateDto template = new IdmNotificationTemplateDto();
+		template.setCode(getHelper().createName());
+		template.setName(getHelper().createName());
+		template.setSubject("Password of identity [$identity.username] expires [$expiration]");
+		template.setBodyText(StringUtils.repeat(BODY_ROW, "\n", 20));
+		template.setBodyHtml("<html><body><table>" + StringUtils.repeat(BODY_ROW, 50) + "</table></body></html>");
+		this.template = notificationTemplateService.save(template);
+	}
+
+	@Benchmark
+	public IdmMessageDto buildMessage() {
+		return notificationTemplateService.buildMessage(createMessage());
+	}
+
+	@Benchmark
+	public IdmMessageDto evaluate() {
+		IdmMessageDto message = createMessage();
+		IdmNotificationTemplateDto template = notificationTemplateService.get(message.getTemplate().getId());
+		VelocityContext velocityContext = new VelocityContext(message.getParameters());
+		StringWriter subject = new StringWriter();
+		StringWriter bodyText = new StringWriter();
+		StringWriter bodyHtml = new StringWriter();
+		velocityEngine.evaluate(velocityContext, bodyHtml, template.getCode(), template.getBodyHtml());
+		velocityEngine.evaluate(velocityContext, bodyText, template.getCode(), template.getBodyText());
+		velocityEngine.evaluate(velocityContext, subject, template.getCode(), template.getSubject());
+		//
+		return new IdmMessageDto
+				.Builder()
+				.setHtmlMessage(bodyHtml.toString())
+				.setTextMessage(bodyText.toString())
+				.setSubject(subject.toString())
+				.setTemplate(template)
+				.build();
+	}
+
+	private IdmMessageDto createMessage() {
+		return new IdmMessageDto
+				.Builder()
+				.setTemplate(template)
+				.addParameter("identity", identity)
+				.addParameter("expiration", "2026-12-31")
+				.addParameter("roles", Lists.newArrayList("one", "two", "three"))
+				.build();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(NotificationTemplateBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,87 @@
+package eu.bcvsolutions.idm.benchmark;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import eu.bcvsolutions.idm.core.api.domain.OperationState;
+import eu.bcvsolutions.idm.core.api.utils.ParameterConverter;
+
+/**
+ * Filter parameters conversion - the same parameters as rest controllers receives and converts into filters.
+ * Application context is not needed.
+ *
+ * Run from IDE or by {@link #main(String[])} with test classpath.
+ *
+ * @since 12.3.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@Threads(4)
+public class ParameterConverterBenchmark {
+
+	@Param({ "5", "50" })
+	private int otherParameters; // count of parameters not used by filter
+	private ParameterConverter parameterConverter;
+	private MultiValueMap<String, Object> parameters;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		parameterConverter = new ParameterConverter();
+		parameters = new LinkedMultiValueMap<>();
+		parameters.add("text", "identity");
+		parameters.add("disabled", "false");
+		parameters.add("id", UUID.randomUUID().toString());
+		parameters.add("roles", UUID.randomUUID().toString());
+		parameters.add("roles", UUID.randomUUID().toString());
+		parameters.add("state", OperationState.EXECUTED.name());
+		parameters.add("from", ZonedDateTime.now().toString());
+		parameters.add("validFrom", LocalDate.now().toString());
+		parameters.add("priority", "10");
+		for (int index = 0; index < otherParameters; index++) {
+			parameters.add("parameter" + index, "value" + index);
+		}
+	}
+
+	@Benchmark
+	public void toFilter(Blackhole blackhole) {
+		blackhole.consume(parameterConverter.toString(parameters, "text"));
+		blackhole.consume(parameterConverter.toBoolean(parameters, "disabled"));
+		blackhole.consume(parameterConverter.toUuid(parameters, "id"));
+		blackhole.consume(parameterConverter.toUuids(parameters, "roles"));
+		blackhole.consume(parameterConverter.toEnum(parameters, "state", OperationState.class));
+		blackhole.consume(parameterConverter.toDateTime(parameters, "from"));
+		blackhole.consume(parameterConverter.toLocalDate(parameters, "validFrom"));
+		blackhole.consume(parameterConverter.toInteger(parameters, "priority"));
+		blackhole.consume(parameterConverter.toString(parameters, "missing"));
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(ParameterConverterBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -1,13 +1,24 @@
 package eu.bcvsolutions.idm.core.api.bulk.action;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 import javax.persistence.EntityManager;
 
@@ -15,24 +26,38 @@ import eu.bcvsolutions.idm.core.api.config.datasource.CoreEntityManager;
 import org.hibernate.Session;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.GenericTypeResolver;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.UnexpectedRollbackException;
 import org.springframework.transaction.support.TransactionCallbackWithoutResult;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.util.ReflectionUtils;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 
 import eu.bcvsolutions.idm.core.api.CoreModule;
 import eu.bcvsolutions.idm.core.api.bulk.action.dto.IdmBulkActionDto;
 import eu.bcvsolutions.idm.core.api.domain.Codeable;
 import eu.bcvsolutions.idm.core.api.domain.CoreResultCode;
 import eu.bcvsolutions.idm.core.api.domain.OperationState;
+import eu.bcvsolutions.idm.core.api.domain.TransactionContext;
+import eu.bcvsolutions.idm.core.api.domain.TransactionContextHolder;
 import eu.bcvsolutions.idm.core.api.dto.AbstractDto;
 import eu.bcvsolutions.idm.core.api.dto.BaseDto;
 import eu.bcvsolutions.idm.core.api.dto.DefaultResultModel;
@@ -40,7 +65,9 @@ import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
 import eu.bcvsolutions.idm.core.api.dto.ResultModels;
 import eu.bcvsolutions.idm.core.api.dto.filter.BaseFilter;
 import eu.bcvsolutions.idm.core.api.dto.filter.DataFilter;
+import eu.bcvsolutions.idm.core.api.dto.filter.IdAfterFilter;
 import eu.bcvsolutions.idm.core.api.dto.filter.IdmIdentityFilter;
+import eu.bcvsolutions.idm.core.api.dto.filter.PageContext;
 import eu.bcvsolutions.idm.core.api.entity.BaseEntity;
 import eu.bcvsolutions.idm.core.api.entity.OperationResult;
 import eu.bcvsolutions.idm.core.api.exception.CoreException;
@@ -182,6 +209,8 @@ public abstract class AbstractBulkAction<DTO extends AbstractDto, F extends Base
 		propertyNames.add(ConfigurationService.PROPERTY_ICON);
 		propertyNames.add(PROPERTY_DELETE_ACTION);
 		propertyNames.add(PROPERTY_QUICK_BUTTON);
+		propertyNames.add(PROPERTY_CHUNK_SIZE);
+		propertyNames.add(PROPERTY_WORKERS);
 		//
 		return propertyNames;
 	}
@@ -311,9 +340,20 @@ public abstract class AbstractBulkAction<DTO extends AbstractDto, F extends Base
 		IdmLongRunningTaskDto longRunningTask = this.getLongRunningTaskService().get(this.getLongRunningTaskId());
 		description.append(longRunningTask.getTaskDescription());
 		//
-		List<UUID> entities = getEntities(localAction, description);
-		//
-		this.count = Long.valueOf(entities.size());
+		boolean chunked = isChunked();
+		F filter = null;
+		List<UUID> entities = null;
+		if (chunked && localAction.getIdentifiers().isEmpty() && localAction.getTransformedFilter() instanceof IdAfterFilter) {
+			// entities are loaded by pages (keyset pagination)
+			filter = transformFilter(localAction.getTransformedFilter());
+			appendFilterDescription(localAction, description);
+			//
+			this.count = getService().count(filter, getPermissionForEntity());
+		} else {
+			entities = getEntities(localAction, description);
+			//
+			this.count = Long.valueOf(entities.size());
+		}
 		this.counter = 0l;
 		//
 		// update description
@@ -322,7 +362,10 @@ public abstract class AbstractBulkAction<DTO extends AbstractDto, F extends Base
 		longRunningTask.setCounter(this.counter);
 		this.getLongRunningTaskService().save(longRunningTask);
 		//
-		return processEntities(entities);
+		if (!chunked) {
+			return processEntities(entities);
+		}
+		return processChunks(entities, filter, localAction.getRemoveIdentifiers());
 	}
 
 	/**
@@ -350,11 +393,7 @@ public abstract class AbstractBulkAction<DTO extends AbstractDto, F extends Base
 			entities = new ArrayList<>(content);
 			//
 			if (description != null) {
-				description.append(System.lineSeparator());
-				description.append("For filtering is used filter:");
-				description.append(System.lineSeparator());
-				String filterAsString = Arrays.toString(action.getFilter().entrySet().toArray());
-				description.append(filterAsString);
+				appendFilterDescription(action, description);
 			}
 		} else if (showWithoutSelection()) {
 			entities = getAllEntities(action, description == null ? new StringBuilder() : description);
@@ -369,6 +408,14 @@ public abstract class AbstractBulkAction<DTO extends AbstractDto, F extends Base
 		return entities;
 	}
 
+	private void appendFilterDescription(IdmBulkActionDto action, StringBuilder description) {
+		description.append(System.lineSeparator());
+		description.append("For filtering is used filter:");
+		description.append(System.lineSeparator());
+		String filterAsString = Arrays.toString(action.getFilter().entrySet().toArray());
+		description.append(filterAsString);
+	}
+
 	/**
 	 * Returns all entities to be process, if {@link #showWithoutSelection()} is enabled.
 	 * All entities are processed, if no filter and no identifiers was given.
@@ -460,6 +507,327 @@ public abstract class AbstractBulkAction<DTO extends AbstractDto, F extends Base
 		return null;
 	}
 
+	/**
+	 * Process entities in chunks - entities in one chunk are loaded together, permissions are evaluated together
+	 * and processed items are logged together. Chunks are processed by configured count of workers in parallel.
+	 * Task state is updated (and cancel is checked) after each round of chunks (one chunk for each worker).
+	 *
+	 * @param entities identifiers of entities to process, {@code null} - entities are found by given filter by pages
+	 * @param filter filter with keyset pagination support - used, if entities are not given
+	 * @param removeIdentifiers identifiers of entities, which will not be processed - used with filter only
+	 * @return executed or canceled result
+	 * @since 12.3.0
+	 */
+	protected OperationResult processChunks(List<UUID> entities, F filter, Collection<UUID> removeIdentifiers) {
+		Assert.isTrue(entities != null || filter instanceof IdAfterFilter, "Entities or filter with keyset pagination is required.");
+		int chunkSize = getChunkSize();
+		int workers = getWorkers();
+		if (workers > 1 && !requireNewTransaction() && TransactionSynchronizationManager.isActualTransactionActive()) {
+			// workers don't participate in parent transaction => items would be processed outside of it
+			LOG.warn("Bulk action [{}] is processed in parent transaction, configured workers [{}] will not be used, "
+					+ "chunks will be processed sequentially.", getName(), workers);
+			workers = 1;
+		}
+		int roundSize = chunkSize * workers;
+		Set<UUID> removedEntities = removeIdentifiers == null ? new HashSet<>() : new HashSet<>(removeIdentifiers);
+		if (filter instanceof PageContext) {
+			// total count was loaded before processing
+			((PageContext) filter).setCount(false);
+		}
+		//
+		ExecutorService executor = null;
+		if (workers > 1) {
+			executor = Executors.newFixedThreadPool(workers, new CustomizableThreadFactory(String.format("%s-", getName())));
+		}
+		try {
+			int offset = 0;
+			UUID idAfter = null;
+			boolean hasNext = true;
+			while (hasNext) {
+				List<UUID> entityIds;
+				if (entities != null) {
+					entityIds = entities.subList(offset, Math.min(entities.size(), offset + roundSize));
+					offset += entityIds.size();
+					hasNext = offset < entities.size();
+				} else {
+					((IdAfterFilter) filter).setIdAfter(idAfter);
+					Page<UUID> page = getService().findIds(
+							filter,
+							PageRequest.of(0, roundSize, new Sort(Direction.ASC, BaseEntity.PROPERTY_ID)),
+							getPermissionForEntity());
+					entityIds = new ArrayList<>(page.getContent());
+					hasNext = page.hasNext() && !entityIds.isEmpty();
+					if (!entityIds.isEmpty()) {
+						idAfter = entityIds.get(entityIds.size() - 1);
+					}
+					// removed entities are not processed => not counted
+					int pageSize = entityIds.size();
+					entityIds.removeAll(removedEntities);
+					this.count = this.count - (pageSize - entityIds.size());
+				}
+				//
+				if (!entityIds.isEmpty()) {
+					processRound(Lists.partition(entityIds, chunkSize), executor);
+				}
+				if (!updateState()) {
+					return new OperationResult.Builder(OperationState.CANCELED).build();
+				}
+				// flush and clear session - if LRT is wrapped in parent transaction, we need to clear it
+				if (getHibernateSession().isOpen()) {
+					getHibernateSession().flush();
+					getHibernateSession().clear();
+				}
+			}
+		} finally {
+			if (executor != null) {
+				executor.shutdownNow();
+			}
+		}
+		return new OperationResult.Builder(OperationState.EXECUTED).build();
+	}
+
+	/**
+	 * Load entities in chunk together by identifiers filter, if service filter supports it ({@link DataFilter}).
+	 * Override together with {@link #getDtoById(UUID)}, if entities are loaded in custom way.
+	 *
+	 * @param entityIds entity identifiers in chunk
+	 * @return found entities
+	 * @since 12.3.0
+	 */
+	protected List<DTO> getDtosByIds(List<UUID> entityIds) {
+		F filter = createIdentifiersFilter(entityIds);
+		if (filter == null) {
+			return entityIds
+					.stream()
+					.map(this::getDtoById)
+					.filter(Objects::nonNull)
+					.collect(Collectors.toList());
+		}
+		return getService().find(filter, null).getContent();
+	}
+
+	/**
+	 * Check permission for given entities in chunk together - permitted entities are found by identifiers filter,
+	 * if service filter supports it ({@link DataFilter}). If {@link #checkPermissionForEntity(BaseDto)} is overridden,
+	 * then permission is checked for each entity by overridden method.
+	 *
+	 * @param entities entities in chunk
+	 * @return identifiers of permitted entities
+	 * @since 12.3.0
+	 */
+	protected Set<UUID> checkPermissionForEntities(List<DTO> entities) {
+		if (isOverridden("checkPermissionForEntity", BaseDto.class)) {
+			return entities
+					.stream()
+					.filter(this::checkPermissionForEntity)
+					.map(AbstractDto::getId)
+					.collect(Collectors.toSet());
+		}
+		BasePermission[] permission = getPermissionForEntity();
+		List<UUID> entityIds = entities
+				.stream()
+				.map(AbstractDto::getId)
+				.collect(Collectors.toList());
+		if (entityIds.isEmpty() || permission.length == 0) {
+			// permission is not required
+			return new HashSet<>(entityIds);
+		}
+		F filter = createIdentifiersFilter(entityIds);
+		if (filter == null) {
+			return entities
+					.stream()
+					.filter(this::checkPermissionForEntity)
+					.map(AbstractDto::getId)
+					.collect(Collectors.toSet());
+		}
+		return new HashSet<>(getService().findIds(filter, null, permission).getContent());
+	}
+
+	/**
+	 * Entities can be processed in chunks. Override and return {@code false}, if entities are resolved or processed in custom way
+	 * (e.g. {@link #processEntities(Collection)} is overridden).
+	 *
+	 * @return true - chunk size can be configured
+	 * @since 12.3.0
+	 */
+	protected boolean supportsChunks() {
+		return true;
+	}
+
+	/**
+	 * Entities will be processed in chunks.
+	 *
+	 * @return true - chunks are supported and chunk size is configured
+	 * @since 12.3.0
+	 */
+	protected boolean isChunked() {
+		return supportsChunks() && getChunkSize() > 0;
+	}
+
+	/**
+	 * Configured count of entities processed together in one chunk.
+	 *
+	 * @return chunk size, 0 - entities are processed one by one
+	 * @since 12.3.0
+	 */
+	protected int getChunkSize() {
+		Integer chunkSize = getConfigurationIntegerValue(PROPERTY_CHUNK_SIZE);
+		//
+		return chunkSize == null || chunkSize < 0 ? DEFAULT_CHUNK_SIZE : chunkSize;
+	}
+
+	/**
+	 * Configured count of workers processing chunks in parallel.
+	 * Action has to be thread safe ({@link #processDto(AbstractDto)}), when more workers are configured.
+	 * Workers don't participate in parent transaction - chunks are processed sequentially, when action
+	 * is processed in parent transaction and doesn't require new transaction for each item ({@link #requireNewTransaction()}).
+	 *
+	 * @return worker count
+	 * @since 12.3.0
+	 */
+	protected int getWorkers() {
+		Integer workers = getConfigurationIntegerValue(PROPERTY_WORKERS);
+		//
+		return workers == null || workers < 1 ? DEFAULT_WORKERS : workers;
+	}
+
+	/**
+	 * Process one round of chunks - one chunk for each worker.
+	 */
+	private void processRound(List<List<UUID>> chunks, ExecutorService executor) {
+		if (executor == null) {
+			chunks.forEach(this::processChunk);
+			return;
+		}
+		// security and transaction context of the task is propagated into workers
+		SecurityContext securityContext = SecurityContextHolder.getContext();
+		TransactionContext transactionContext = TransactionContextHolder.getContext();
+		List<Future<?>> futures = new ArrayList<>(chunks.size());
+		for (List<UUID> chunk : chunks) {
+			futures.add(executor.submit(new DelegatingSecurityContextRunnable(() -> {
+				TransactionContextHolder.setContext(transactionContext);
+				try {
+					processChunk(chunk);
+				} finally {
+					TransactionContextHolder.clearContext();
+				}
+			}, securityContext)));
+		}
+		try {
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new CoreException(String.format("Bulk action [%s] was interrupted.", getName()), ex);
+		} catch (ExecutionException ex) {
+			throw new CoreException(String.format("Bulk action [%s] chunk processing failed.", getName()), ex.getCause());
+		}
+	}
+
+	/**
+	 * Process one chunk.
+	 */
+	private void processChunk(List<UUID> entityIds) {
+		Map<UUID, DTO> entities = new HashMap<>(entityIds.size());
+		getDtosByIds(entityIds).forEach(entity -> entities.put(entity.getId(), entity));
+		Set<UUID> permittedEntities = checkPermissionForEntities(new ArrayList<>(entities.values()));
+		//
+		Map<DTO, OperationResult> results = new LinkedHashMap<>(entityIds.size());
+		for (UUID entityId : entityIds) {
+			DTO entity = entities.get(entityId);
+			if (entity == null) {
+				LOG.warn("Entity with id [{}] not found. The Entity will be skipped.", entityId);
+				continue;
+			}
+			if (permittedEntities.contains(entityId)) {
+				results.put(entity, processChunkEntity(entity));
+			} else {
+				// check permission failed
+				results.put(entity, getPermissionFailedResult(entity));
+			}
+		}
+		if (isOverridden("logItemProcessed", AbstractDto.class, OperationResult.class)) {
+			// custom item log is used
+			results.forEach(this::logItemProcessed);
+		} else {
+			this.logItemsProcessed(results);
+		}
+		//
+		synchronized (this) {
+			this.counter = this.counter + results.size();
+		}
+	}
+
+	/**
+	 * Method is overridden in action (chunk processing has to use it).
+	 */
+	private boolean isOverridden(String methodName, Class<?>... parameterTypes) {
+		Method method = ReflectionUtils.findMethod(ClassUtils.getUserClass(getClass()), methodName, parameterTypes);
+		//
+		return method != null
+				&& !method.getDeclaringClass().equals(AbstractBulkAction.class)
+				&& !method.getDeclaringClass().equals(AbstractLongRunningTaskExecutor.class);
+	}
+
+	/**
+	 * Process one entity in chunk.
+	 */
+	private OperationResult processChunkEntity(DTO entity) {
+		final OperationResult[] result = new OperationResult[1];
+		try {
+			if (requireNewTransaction()) {
+				TransactionTemplate template = new TransactionTemplate(platformTransactionManager);
+				template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+				// Item will be processed in new transaction.
+				template.execute(new TransactionCallbackWithoutResult() {
+
+					@Override
+					protected void doInTransactionWithoutResult(TransactionStatus status) {
+						result[0] = processDto(entity);
+					}
+				});
+			} else {
+				result[0] = processDto(entity);
+			}
+		} catch (UnexpectedRollbackException ex) {
+			// Just log for sure ... exception solved in new transaction, but this lower transaction is marked as roll-back.
+			LOG.debug("Bulk action [{}] processed item [{}] failed",
+					getClass().getSimpleName(), result[0], ex);
+		} catch (ResultCodeException ex) {
+			// log failed result and continue
+			LOG.error("Processing of entity [{}] failed.", entity.getId(), ex);
+			return new OperationResult.Builder(OperationState.EXCEPTION).setException(ex).build();
+		} catch (Exception ex) {
+			// log failed result and continue
+			LOG.error("Processing of entity [{}] failed.", entity.getId(), ex);
+			return new OperationResult.Builder(OperationState.EXCEPTION).setCause(ex).build();
+		}
+		return result[0];
+	}
+
+	/**
+	 * Filter for finding entities by given identifiers.
+	 *
+	 * @return filter or {@code null}, if service filter doesn't support identifiers
+	 */
+	private F createIdentifiersFilter(List<UUID> entityIds) {
+		Class<F> filterClass = getService().getFilterClass();
+		if (filterClass == null || !DataFilter.class.isAssignableFrom(filterClass)) {
+			return null;
+		}
+		try {
+			F filter = filterClass.getDeclaredConstructor().newInstance();
+			((DataFilter) filter).setIds(entityIds);
+			//
+			return filter;
+		} catch (ReflectiveOperationException ex) {
+			LOG.debug("Filter [{}] cannot be constructed, entities will be loaded one by one.", filterClass.getCanonicalName(), ex);
+			//
+			return null;
+		}
+	}
+
 	/**
 	 * Create success log for given identity
 	 *
@@ -475,6 +843,10 @@ public abstract class AbstractBulkAction<DTO extends AbstractDto, F extends Base
 	 * @param dto
 	 */
 	protected void createPermissionFailedLog(DTO dto) {
+		this.logItemProcessed(dto, getPermissionFailedResult(dto));
+	}
+
+	private OperationResult getPermissionFailedResult(DTO dto) {
 		String entityCode = "";
 		if (dto instanceof Codeable) {
 			entityCode = ((Codeable) dto).getCode();
@@ -484,7 +856,7 @@ public abstract class AbstractBulkAction<DTO extends AbstractDto, F extends Base
 						"entityId", dto.getId(),
 						"entityCode", entityCode));
 		//
-		this.logItemProcessed(dto, new OperationResult.Builder(OperationState.NOT_EXECUTED).setModel(model).build());
+		return new OperationResult.Builder(OperationState.NOT_EXECUTED).setModel(model).build();
 	}
 
 	/**
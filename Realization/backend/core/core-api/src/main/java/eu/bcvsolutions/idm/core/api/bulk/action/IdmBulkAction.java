@@ -61,6 +61,22 @@ public interface IdmBulkAction<DTO extends BaseDto, F extends BaseFilter> extend
 	 * @since 11.1.0
 	 */
 	String PROPERTY_SUPPORTS_PREPROCESSING = "supportsPreprocessing";
+	/**
+	 * Configurable property - count of entities processed together in one chunk.
+	 * Entities are processed one by one, if chunk size is not configured (0 by default).
+	 *
+	 * @since 12.3.0
+	 */
+	String PROPERTY_CHUNK_SIZE = "chunkSize";
+	int DEFAULT_CHUNK_SIZE = 0;
+	/**
+	 * Configurable property - count of workers processing chunks in parallel (1 by default => chunks are processed sequentially).
+	 * Usable, when chunk size is configured only.
+	 *
+	 * @since 12.3.0
+	 */
+	String PROPERTY_WORKERS = "workers";
+	int DEFAULT_WORKERS = 1;
 	/**
 	 * Bulk action configurable type.
 	 * 
@@ -32,6 +32,46 @@ public interface EmailerConfiguration extends Configurable {
 	//
 	String PROPERTY_TEST_ENABLED = ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX + "core.emailer.test.enabled";	
 	boolean DEFAULT_TEST_ENABLED = true;
+	//
+	/**
+	 * Count of emails sent over one connection to email server.
+	 * 
+	 * @since 12.3.0
+	 */
+	String PROPERTY_BATCH_SIZE = ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX + "core.emailer.batchSize";
+	int DEFAULT_BATCH_SIZE = 50;
+	//
+	/**
+	 * Count of retries, when connection to email server fails (e.g. server is temporarily unavailable).
+	 * 
+	 * @since 12.3.0
+	 */
+	String PROPERTY_RETRY_COUNT = ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX + "core.emailer.retry.count";
+	int DEFAULT_RETRY_COUNT = 2;
+	//
+	/**
+	 * Executor for sending emails. Emails are sent asynchronously after transaction is committed.
+	 * 
+	 * @since 12.3.0
+	 */
+	String EMAIL_EXECUTOR_NAME = "emailExecutor";
+	/**
+	 * Count of threads (~ concurrent connections to email server) - 2 by default.
+	 * Application environment property - restart is needed.
+	 * 
+	 * @since 12.3.0
+	 */
+	String PROPERTY_EMAIL_EXECUTOR_POOL_SIZE = ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX + "core.emailer.executor.poolSize";
+	int DEFAULT_EMAIL_EXECUTOR_POOL_SIZE = 2;
+	/**
+	 * Count of waiting batches of emails - 100 by default. 
+	 * When queue is full, then batch is sent by the caller thread (~ back pressure).
+	 * Application environment property - restart is needed.
+	 * 
+	 * @since 12.3.0
+	 */
+	String PROPERTY_EMAIL_EXECUTOR_QUEUE_CAPACITY = ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX + "core.emailer.executor.queueCapacity";
+	int DEFAULT_EMAIL_EXECUTOR_QUEUE_CAPACITY = 100;
 	
 	@Override
 	default java.lang.String getConfigurableType() {
@@ -53,6 +93,8 @@ public interface EmailerConfiguration extends Configurable {
 		properties.add(getPropertyName(PROPERTY_PASSWORD));
 		properties.add(getPropertyName(PROPERTY_FROM));
 		properties.add(getPropertyName(PROPERTY_TEST_ENABLED));
+		properties.add(getPropertyName(PROPERTY_BATCH_SIZE));
+		properties.add(getPropertyName(PROPERTY_RETRY_COUNT));
 		return properties;
 	}
 	
@@ -104,4 +146,20 @@ public interface EmailerConfiguration extends Configurable {
 	 * @return
 	 */
 	boolean isTestEnabled();
+	
+	/**
+	 * Count of emails sent over one connection to email server.
+	 * 
+	 * @return batch size
+	 * @since 12.3.0
+	 */
+	int getBatchSize();
+	
+	/**
+	 * Count of retries, when connection to email server fails.
+	 * 
+	 * @return retry count
+	 * @since 12.3.0
+	 */
+	int getRetryCount();
 }
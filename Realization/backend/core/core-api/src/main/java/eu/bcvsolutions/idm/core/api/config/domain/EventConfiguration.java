@@ -49,6 +49,53 @@ public interface EventConfiguration extends Configurable {
 			ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX + "core.event.asynchronous.batchSize";
 	int DEFAULT_EVENT_BATCH_SIZE = 15;
 	
+	/**
+	 * Asynchronous events are dispatched into partitions by event owner (super owner is preferred) - 
+	 * events for the same owner are processed in the same partition in order they were created. 
+	 * Partitions are processed in parallel, each partition by one dedicated thread.
+	 * Configure 0 to disable partitioned dispatcher - events will be executed by event executor after they are loaded from the queue only (by scheduler).
+	 * Default is cpu count + 1 (the same as event executor pool size). Restart is needed, when partition count is changed.
+	 * 
+	 * @since 12.3.0
+	 */
+	String PROPERTY_EVENT_ASYNCHRONOUS_PARTITION_COUNT = 
+			ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX + "core.event.asynchronous.partitionCount";
+	
+	/**
+	 * Maximum count of events waiting in one partition. 
+	 * Events over the capacity remain in the queue (database) and will be dispatched later by scheduler.
+	 * 
+	 * @since 12.3.0
+	 */
+	String PROPERTY_EVENT_ASYNCHRONOUS_PARTITION_CAPACITY = 
+			ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX + "core.event.asynchronous.partitionCapacity";
+	int DEFAULT_EVENT_PARTITION_CAPACITY = 1000;
+	
+	/**
+	 * Asynchronous events are processed in cluster - events are split into given count of cluster partitions by owner hash 
+	 * (super owner is preferred). Each server instance claims leases on cluster partitions and renews them by heartbeat. 
+	 * When server instance dies or joins, cluster partitions are rebalanced automatically - events for the same owner 
+	 * are still processed by one server instance in order they were created.
+	 * Configure 0 to disable cluster processing - events will be executed on configured {@link #PROPERTY_EVENT_ASYNCHRONOUS_INSTANCE_ID} only.
+	 * The same partition count has to be configured on all server instances.
+	 * 
+	 * @since 12.3.0
+	 */
+	String PROPERTY_EVENT_ASYNCHRONOUS_CLUSTER_PARTITION_COUNT = 
+			ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX + "core.event.asynchronous.cluster.partitionCount";
+	int DEFAULT_EVENT_CLUSTER_PARTITION_COUNT = 0;
+	
+	/**
+	 * Cluster partition lease duration (ms). Server instance without heartbeat in this period is considered as dead 
+	 * and cluster partitions leased by this instance can be claimed by other instances. 
+	 * Should be greater than heartbeat period {@link SchedulerConfiguration#PROPERTY_EVENT_CLUSTER_HEARTBEAT}.
+	 * 
+	 * @since 12.3.0
+	 */
+	String PROPERTY_EVENT_ASYNCHRONOUS_CLUSTER_LEASE_DURATION = 
+			ConfigurationService.IDM_PRIVATE_PROPERTY_PREFIX + "core.event.asynchronous.cluster.leaseDuration";
+	long DEFAULT_EVENT_CLUSTER_LEASE_DURATION = 30000;
+	
 	
 	@Override
 	default String getConfigurableType() {
@@ -111,5 +158,39 @@ public interface EventConfiguration extends Configurable {
 	 * @return
 	 */
 	int getBatchSize();
+	
+	/**
+	 * Count of partitions used for dispatching asynchronous events. 
+	 * Zero => partitioned dispatcher is disabled.
+	 * 
+	 * @return partition count
+	 * @since 12.3.0
+	 */
+	int getPartitionCount();
+	
+	/**
+	 * Maximum count of events waiting in one partition.
+	 * 
+	 * @return partition capacity
+	 * @since 12.3.0
+	 */
+	int getPartitionCapacity();
+	
+	/**
+	 * Count of cluster partitions used for processing asynchronous events by more server instances.
+	 * Zero => cluster processing is disabled, events are processed by configured instance only.
+	 * 
+	 * @return cluster partition count
+	 * @since 12.3.0
+	 */
+	int getClusterPartitionCount();
+	
+	/**
+	 * Cluster partition lease duration (ms).
+	 * 
+	 * @return lease duration
+	 * @since 12.3.0
+	 */
+	long getClusterLeaseDuration();
 
 }
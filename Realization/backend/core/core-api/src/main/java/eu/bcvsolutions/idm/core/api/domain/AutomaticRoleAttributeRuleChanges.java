@@ -0,0 +1,134 @@
+package eu.bcvsolutions.idm.core.api.domain;
+
+import java.beans.IntrospectionException;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.util.Assert;
+
+import eu.bcvsolutions.idm.core.api.dto.IdmAutomaticRoleAttributeRuleDto;
+import eu.bcvsolutions.idm.core.api.utils.EntityUtils;
+
+/**
+ * Changed inputs of automatic role by attribute rules - which identity / contract attributes and form attributes
+ * was changed by processed event. Automatic roles with at least one rule with changed input are evaluated only.
+ *
+ * Inputs are indexed by rule type:
+ * - all rules of type are changed (e.g. owner was created),
+ * - attributes of previous and current owner are compared lazily by rule attribute name (IDENTITY, CONTRACT),
+ * - saved form attributes (IDENTITY_EAV, CONTRACT_EAV).
+ *
+ * @since 12.3.0
+ */
+public class AutomaticRoleAttributeRuleChanges {
+
+	private final Set<AutomaticRoleAttributeRuleType> allChanged = EnumSet.noneOf(AutomaticRoleAttributeRuleType.class);
+	private final Map<AutomaticRoleAttributeRuleType, Object> previousSources = new EnumMap<>(AutomaticRoleAttributeRuleType.class);
+	private final Map<AutomaticRoleAttributeRuleType, Object> currentSources = new EnumMap<>(AutomaticRoleAttributeRuleType.class);
+	private final Map<AutomaticRoleAttributeRuleType, Set<UUID>> changedFormAttributes = new EnumMap<>(AutomaticRoleAttributeRuleType.class);
+
+	/**
+	 * All rules of given type are changed.
+	 *
+	 * @param type rule type
+	 * @return this
+	 */
+	public AutomaticRoleAttributeRuleChanges setChanged(AutomaticRoleAttributeRuleType type) {
+		Assert.notNull(type, "Rule type is required.");
+		//
+		allChanged.add(type);
+		return this;
+	}
+
+	/**
+	 * All rules of all types are changed.
+	 *
+	 * @return this
+	 */
+	public AutomaticRoleAttributeRuleChanges setAllChanged() {
+		allChanged.addAll(EnumSet.allOf(AutomaticRoleAttributeRuleType.class));
+		return this;
+	}
+
+	/**
+	 * Rules of given type are changed, when rule attribute value differs in previous and current owner (identity or contract).
+	 *
+	 * @param type rule type (IDENTITY, CONTRACT)
+	 * @param previous previous owner (~ event original source), {@code null} - all rules of given type are changed
+	 * @param current current owner (~ event content)
+	 * @return this
+	 */
+	public AutomaticRoleAttributeRuleChanges setChanged(AutomaticRoleAttributeRuleType type, Object previous, Object current) {
+		Assert.notNull(type, "Rule type is required.");
+		Assert.notNull(current, "Current owner is required.");
+		//
+		if (previous == null) {
+			return setChanged(type);
+		}
+		previousSources.put(type, previous);
+		currentSources.put(type, current);
+		return this;
+	}
+
+	/**
+	 * Rules of given type are changed, when rule form attribute is contained in given (saved) form attributes.
+	 *
+	 * @param type rule type (IDENTITY_EAV, CONTRACT_EAV)
+	 * @param formAttributes saved form attributes
+	 * @return this
+	 */
+	public AutomaticRoleAttributeRuleChanges addChangedFormAttributes(AutomaticRoleAttributeRuleType type, Collection<UUID> formAttributes) {
+		Assert.notNull(type, "Rule type is required.");
+		Assert.notNull(formAttributes, "Form attributes are required.");
+		//
+		changedFormAttributes.computeIfAbsent(type, ruleType -> new HashSet<>()).addAll(formAttributes);
+		return this;
+	}
+
+	/**
+	 * Some rule input was changed.
+	 *
+	 * @return true - changes are not empty (rule with changed input can exist)
+	 */
+	public boolean hasChanges() {
+		return !allChanged.isEmpty() || !currentSources.isEmpty() || !changedFormAttributes.isEmpty();
+	}
+
+	/**
+	 * Input of given rule was changed => rule has to be evaluated.
+	 *
+	 * @param rule automatic role rule
+	 * @return true - rule input was changed
+	 */
+	public boolean isChanged(IdmAutomaticRoleAttributeRuleDto rule) {
+		Assert.notNull(rule, "Rule is required.");
+		AutomaticRoleAttributeRuleType type = rule.getType();
+		//
+		if (allChanged.contains(type)) {
+			return true;
+		}
+		if (type == AutomaticRoleAttributeRuleType.IDENTITY_EAV || type == AutomaticRoleAttributeRuleType.CONTRACT_EAV) {
+			Set<UUID> formAttributes = changedFormAttributes.get(type);
+			//
+			return formAttributes != null && formAttributes.contains(rule.getFormAttribute());
+		}
+		Object current = currentSources.get(type);
+		if (current == null) {
+			return false;
+		}
+		try {
+			return !Objects.equals(
+					EntityUtils.getEntityValue(previousSources.get(type), rule.getAttributeName()),
+					EntityUtils.getEntityValue(current, rule.getAttributeName()));
+		} catch (ReflectiveOperationException | IntrospectionException | IllegalArgumentException ex) {
+			// attribute cannot be compared - rule has to be evaluated
+			return true;
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package eu.bcvsolutions.idm.core.api.dto.filter;
+
+import java.util.UUID;
+
+/**
+ * Filter for filtering entities with identifier greater than given identifier (id > idAfter).
+ * Usable for keyset pagination - entities have to be sorted by identifier.
+ *
+ * @since 12.3.0
+ */
+public interface IdAfterFilter extends BaseDataFilter {
+
+	String PARAMETER_ID_AFTER = "idAfter"; 
+
+	/**
+	 * Get identifier for filtering entities with identifier greater than this identifier (id > idAfter).
+	 *
+	 * @return identifier
+	 */
+	default UUID getIdAfter() {
+		return getParameterConverter().toUuid(getData(), PARAMETER_ID_AFTER);
+	}
+
+	/**
+	 * Set identifier for filtering entities with identifier greater than this identifier (id > idAfter).
+	 *
+	 * @param idAfter identifier
+	 */
+	default void setIdAfter(UUID idAfter) {
+		set(PARAMETER_ID_AFTER, idAfter);
+	}
+}
@@ -0,0 +1,74 @@
+package eu.bcvsolutions.idm.core.api.dto.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Context (~filter) for loading large pages - total count can be skipped and only selected fields can be loaded (projection).
+ * Usable together with keyset pagination ({@link IdAfterFilter}) - deep pages are loaded without offset and count.
+ * Parameter names can be given in url parameters together with filter parameters.
+ *
+ * @see IdAfterFilter
+ * @since 12.3.0
+ */
+public interface PageContext extends BaseDataFilter {
+
+	/**
+	 * Count total number of records (true by default).
+	 * When count is skipped, one more record is loaded to resolve, if next page exists - 
+	 * total number of records is not exact in the returned page (offset + loaded records + 1, if next page exists).
+	 */
+	String PARAMETER_COUNT = "_count";
+	/**
+	 * Load only selected entity fields (projection). Field names can be given as more parameters or separated by comma.
+	 * Basic entity attributes and identifiers of referenced entities (e.g. {@code role}) are supported.
+	 * Record identifier is loaded always. Embedded DTOs, permissions and other context properties are not loaded.
+	 */
+	String PARAMETER_FIELDS = "_fields";
+	
+	/**
+	 * Count total number of records.
+	 * 
+	 * @return true - total count will be loaded (default)
+	 */
+	default boolean isCount() {
+		return getParameterConverter().toBoolean(getData(), PARAMETER_COUNT, true);
+	}
+	
+	/**
+	 * Count total number of records.
+	 * 
+	 * @param count true - total count will be loaded
+	 */
+	default void setCount(boolean count) {
+		set(PARAMETER_COUNT, count);
+	}
+	
+	/**
+	 * Load only selected entity fields (projection).
+	 * 
+	 * @return selected fields, empty - whole records will be loaded
+	 */
+	default List<String> getFields() {
+		List<String> fields = new ArrayList<>();
+		getParameterConverter().toStrings(getData(), PARAMETER_FIELDS).forEach(value -> {
+			for (String field : StringUtils.split(value, ',')) {
+				if (StringUtils.isNotBlank(field) && !fields.contains(field.trim())) {
+					fields.add(field.trim());
+				}
+			}
+		});
+		return fields;
+	}
+	
+	/**
+	 * Load only selected entity fields (projection).
+	 * 
+	 * @param fields selected fields
+	 */
+	default void setFields(List<String> fields) {
+		put(PARAMETER_FIELDS, fields);
+	}
+}
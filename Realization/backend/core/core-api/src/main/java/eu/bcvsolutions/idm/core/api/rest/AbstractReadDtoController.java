@@ -41,6 +41,8 @@ import eu.bcvsolutions.idm.core.api.dto.BaseDto;
 import eu.bcvsolutions.idm.core.api.dto.ResultModels;
 import eu.bcvsolutions.idm.core.api.dto.filter.BaseFilter;
 import eu.bcvsolutions.idm.core.api.dto.filter.DataFilter;
+import eu.bcvsolutions.idm.core.api.dto.filter.IdAfterFilter;
+import eu.bcvsolutions.idm.core.api.dto.filter.PageContext;
 import eu.bcvsolutions.idm.core.api.dto.filter.PermissionContext;
 import eu.bcvsolutions.idm.core.api.exception.EntityNotFoundException;
 import eu.bcvsolutions.idm.core.api.exception.ForbiddenEntityException;
@@ -200,7 +202,13 @@ public abstract class AbstractReadDtoController<DTO extends BaseDto, F extends B
         @ApiImplicitParam(name = "sort", allowMultiple = true, dataType = "string", paramType = "query",
                 value = "Sorting criteria in the format: property(,asc|desc). " +
                         "Default sort order is ascending. " +
-                        "Multiple sort criteria are supported.")
+                        "Multiple sort criteria are supported."),
+        @ApiImplicitParam(name = PageContext.PARAMETER_COUNT, dataType = "boolean", paramType = "query",
+        		value = "Count total number of records (true by default). Total number is not exact, when count is skipped."),
+        @ApiImplicitParam(name = PageContext.PARAMETER_FIELDS, allowMultiple = true, dataType = "string", paramType = "query",
+        		value = "Load selected fields only (projection). Record identifier is loaded always."),
+        @ApiImplicitParam(name = IdAfterFilter.PARAMETER_ID_AFTER, dataType = "string", paramType = "query",
+        		value = "Keyset pagination - records with identifier greater than given identifier (sort by id is required).")
 	})
 	public Resources<?> find(
 			@RequestParam(required = false) MultiValueMap<String, Object> parameters,
@@ -233,7 +241,13 @@ public abstract class AbstractReadDtoController<DTO extends BaseDto, F extends B
         @ApiImplicitParam(name = "sort", allowMultiple = true, dataType = "string", paramType = "query",
                 value = "Sorting criteria in the format: property(,asc|desc). " +
                         "Default sort order is ascending. " +
-                        "Multiple sort criteria are supported.")
+                        "Multiple sort criteria are supported."),
+        @ApiImplicitParam(name = PageContext.PARAMETER_COUNT, dataType = "boolean", paramType = "query",
+        		value = "Count total number of records (true by default). Total number is not exact, when count is skipped."),
+        @ApiImplicitParam(name = PageContext.PARAMETER_FIELDS, allowMultiple = true, dataType = "string", paramType = "query",
+        		value = "Load selected fields only (projection). Record identifier is loaded always."),
+        @ApiImplicitParam(name = IdAfterFilter.PARAMETER_ID_AFTER, dataType = "string", paramType = "query",
+        		value = "Keyset pagination - records with identifier greater than given identifier (sort by id is required).")
 	})
 	public Resources<?> findQuick(
 			@RequestParam(required = false) MultiValueMap<String, Object> parameters,
@@ -1,25 +1,37 @@
 package eu.bcvsolutions.idm.core.api.service;
 
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
 import java.io.Serializable;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.UUID;
 
 import javax.persistence.EntityManager;
 import javax.persistence.FetchType;
 import javax.persistence.ManyToOne;
+import javax.persistence.Tuple;
 import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.JoinType;
 import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.EntityType;
 
 import eu.bcvsolutions.idm.core.api.config.datasource.CoreEntityManager;
 import org.hibernate.query.criteria.internal.PathImplementor;
@@ -41,7 +53,10 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 
+import com.google.common.collect.ImmutableMap;
+
 import eu.bcvsolutions.idm.core.api.audit.service.SiemLoggerManager;
+import eu.bcvsolutions.idm.core.api.domain.CoreResultCode;
 import eu.bcvsolutions.idm.core.api.domain.Embedded;
 import eu.bcvsolutions.idm.core.api.domain.Identifiable;
 import eu.bcvsolutions.idm.core.api.dto.AbstractDto;
@@ -50,12 +65,14 @@ import eu.bcvsolutions.idm.core.api.dto.ExportDescriptorDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmExportImportDto;
 import eu.bcvsolutions.idm.core.api.dto.filter.BaseFilter;
 import eu.bcvsolutions.idm.core.api.dto.filter.DataFilter;
+import eu.bcvsolutions.idm.core.api.dto.filter.PageContext;
 import eu.bcvsolutions.idm.core.api.dto.filter.PermissionContext;
 import eu.bcvsolutions.idm.core.api.entity.AbstractEntity;
 import eu.bcvsolutions.idm.core.api.entity.AbstractEntity_;
 import eu.bcvsolutions.idm.core.api.entity.BaseEntity;
 import eu.bcvsolutions.idm.core.api.exception.CoreException;
 import eu.bcvsolutions.idm.core.api.exception.ForbiddenEntityException;
+import eu.bcvsolutions.idm.core.api.exception.ResultCodeException;
 import eu.bcvsolutions.idm.core.api.repository.AbstractEntityRepository;
 import eu.bcvsolutions.idm.core.api.repository.filter.FilterKey;
 import eu.bcvsolutions.idm.core.api.repository.filter.FilterManager;
@@ -235,6 +252,10 @@ public abstract class AbstractReadDtoService<DTO extends BaseDto, E extends Base
 	@Override
 	@Transactional(readOnly = true)
 	public Page<DTO> find(final F filter, Pageable pageable, BasePermission... permission) {
+		if (filter instanceof PageContext && !((PageContext) filter).getFields().isEmpty()) {
+			// projection - selected fields only, context is not applied
+			return findProjection(filter, ((PageContext) filter).getFields(), pageable, permission);
+		}
 		Page<DTO> results = toDtoPage(findEntities(filter, pageable, permission), filter);
 		//
 		results.getContent().forEach(dto -> {
@@ -278,6 +299,14 @@ public abstract class AbstractReadDtoService<DTO extends BaseDto, E extends Base
 		if (pageable == null) {
 			return new PageImpl<UUID>(query.getResultList());
 		}
+		//
+		if (filter instanceof PageContext && !((PageContext) filter).isCount()) {
+			// total count is skipped
+			query.setFirstResult((int) pageable.getOffset());
+			query.setMaxResults(getPageSizeWithNext(pageable));
+			//
+			return toPageWithoutCount(query.getResultList(), pageable);
+		}
 
 		// count query
 		CriteriaQuery<Long> countQuery = criteriaBuilder.createQuery(Long.class);
@@ -412,11 +441,223 @@ public abstract class AbstractReadDtoService<DTO extends BaseDto, E extends Base
 			}
 		}
 		//
-		Page<E> entities = getRepository().findAll(toCriteria(filter, true, permission), pageable);
+		Page<E> entities;
+		if (filter instanceof PageContext && !((PageContext) filter).isCount()) {
+			// total count is skipped
+			entities = findEntitiesWithoutCount(toCriteria(filter, true, permission), pageable);
+		} else {
+			entities = getRepository().findAll(toCriteria(filter, true, permission), pageable);
+		}
 		//
 		LOG.trace("Found entities [{}].", entities.getTotalElements());
 		return entities;
 	}
+	
+	/**
+	 * Find entities without total count query. One more entity is loaded to resolve, if next page exists.
+	 * 
+	 * @param criteria find criteria
+	 * @param pageable required pageable
+	 * @return page with total count resolved from loaded entities
+	 * @since 12.3.0
+	 */
+	protected Page<E> findEntitiesWithoutCount(Specification<E> criteria, Pageable pageable) {
+		Assert.notNull(pageable, "Pageable is required.");
+		//
+		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<E> cq = criteriaBuilder.createQuery(getEntityClass());
+		Root<E> root = cq.from(getEntityClass());
+		cq.select(root);
+		Predicate predicate = criteria.toPredicate(root, cq, criteriaBuilder);
+		if (predicate != null) {
+			cq.where(predicate);
+		}
+		cq.orderBy(QueryUtils.toOrders(getSort(pageable), root, criteriaBuilder));
+		//
+		TypedQuery<E> query = entityManager.createQuery(cq);
+		query.setFirstResult((int) pageable.getOffset());
+		query.setMaxResults(getPageSizeWithNext(pageable));
+		//
+		return toPageWithoutCount(query.getResultList(), pageable);
+	}
+	
+	/**
+	 * Find selected entity fields only (projection). DTOs are filled by selected fields - 
+	 * basic entity attributes and identifiers of referenced entities are supported. 
+	 * Record identifier is selected always.
+	 * 
+	 * @param filter filter
+	 * @param fields selected fields
+	 * @param pageable pageable
+	 * @param permission permissions to evaluate
+	 * @return DTOs with selected fields filled
+	 * @throws ResultCodeException if field is not supported by entity or DTO
+	 * @since 12.3.0
+	 */
+	protected Page<DTO> findProjection(F filter, List<String> fields, Pageable pageable, BasePermission... permission) {
+		Assert.notEmpty(fields, "Selected fields are required.");
+		if (pageable == null) {
+			pageable = PageRequest.of(0, Integer.MAX_VALUE);
+		}
+		List<String> selectedFields = new ArrayList<>(fields);
+		if (!selectedFields.contains(AbstractEntity_.id.getName())) {
+			selectedFields.add(0, AbstractEntity_.id.getName());
+		}
+		Map<String, PropertyDescriptor> dtoProperties = getProjectionProperties(selectedFields);
+		EntityType<E> entityType = entityManager.getMetamodel().entity(getEntityClass());
+		Specification<E> criteria = toCriteria(filter, false, permission);
+		//
+		CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> cq = criteriaBuilder.createTupleQuery();
+		Root<E> root = cq.from(getEntityClass());
+		List<Selection<?>> selections = new ArrayList<>();
+		for (String field : selectedFields) {
+			selections.add(getProjectionPath(root, entityType, field).alias(field));
+		}
+		cq.multiselect(selections);
+		Predicate predicate = criteria.toPredicate(root, cq, criteriaBuilder);
+		if (predicate != null) {
+			cq.where(predicate);
+		}
+		cq.orderBy(QueryUtils.toOrders(getSort(pageable), root, criteriaBuilder));
+		//
+		TypedQuery<Tuple> query = entityManager.createQuery(cq);
+		query.setFirstResult((int) pageable.getOffset());
+		boolean count = !(filter instanceof PageContext) || ((PageContext) filter).isCount();
+		query.setMaxResults(count ? pageable.getPageSize() : getPageSizeWithNext(pageable));
+		//
+		List<DTO> dtos = new ArrayList<>();
+		for (Tuple tuple : query.getResultList()) {
+			dtos.add(toProjectionDto(tuple, dtoProperties));
+		}
+		if (!count) {
+			return toPageWithoutCount(dtos, pageable);
+		}
+		return new PageImpl<>(dtos, pageable, getRepository().count(criteria));
+	}
+
+	/**
+	 * Selected field path - basic attribute or identifier of referenced entity.
+	 * 
+	 * @param root entity root
+	 * @param entityType entity metamodel
+	 * @param field selected field
+	 * @return attribute path
+	 */
+	private Path<?> getProjectionPath(Root<E> root, EntityType<E> entityType, String field) {
+		Attribute<? super E, ?> attribute;
+		try {
+			attribute = entityType.getAttribute(field);
+		} catch (IllegalArgumentException ex) {
+			throw new ResultCodeException(CoreResultCode.BAD_VALUE, ImmutableMap.of("value", field), ex);
+		}
+		switch (attribute.getPersistentAttributeType()) {
+			case BASIC: {
+				return root.get(field);
+			}
+			case MANY_TO_ONE:
+			case ONE_TO_ONE: {
+				// foreign key only - join is not needed
+				return root.get(field).get(AbstractEntity_.id.getName());
+			}
+			default: {
+				throw new ResultCodeException(CoreResultCode.BAD_VALUE, ImmutableMap.of("value", field));
+			}
+		}
+	}
+	
+	/**
+	 * DTO properties for selected fields.
+	 * 
+	 * @param fields selected fields
+	 * @return DTO writable properties by field
+	 */
+	private Map<String, PropertyDescriptor> getProjectionProperties(List<String> fields) {
+		Map<String, PropertyDescriptor> dtoProperties = new LinkedHashMap<>();
+		try {
+			for (PropertyDescriptor propertyDescriptor : Introspector.getBeanInfo(getDtoClass()).getPropertyDescriptors()) {
+				if (fields.contains(propertyDescriptor.getName()) && propertyDescriptor.getWriteMethod() != null) {
+					dtoProperties.put(propertyDescriptor.getName(), propertyDescriptor);
+				}
+			}
+		} catch (IntrospectionException ex) {
+			throw new CoreException(ex);
+		}
+		fields.forEach(field -> {
+			if (!dtoProperties.containsKey(field)) {
+				throw new ResultCodeException(CoreResultCode.BAD_VALUE, ImmutableMap.of("value", field));
+			}
+		});
+		return dtoProperties;
+	}
+	
+	/**
+	 * Fill new DTO by selected fields.
+	 * 
+	 * @param tuple selected fields
+	 * @param dtoProperties DTO properties
+	 * @return trimmed DTO
+	 */
+	private DTO toProjectionDto(Tuple tuple, Map<String, PropertyDescriptor> dtoProperties) {
+		try {
+			DTO dto = getDtoClass().getDeclaredConstructor().newInstance();
+			if (dto instanceof AbstractDto) {
+				((AbstractDto) dto).setTrimmed(true);
+			}
+			for (Entry<String, PropertyDescriptor> dtoProperty : dtoProperties.entrySet()) {
+				Object value = tuple.get(dtoProperty.getKey());
+				Method writeMethod = dtoProperty.getValue().getWriteMethod();
+				if (value == null && writeMethod.getParameterTypes()[0].isPrimitive()) {
+					continue;
+				}
+				writeMethod.invoke(dto, value);
+			}
+			return dto;
+		} catch (ReflectiveOperationException | IllegalArgumentException ex) {
+			throw new CoreException(ex);
+		}
+	}
+	
+	/**
+	 * Sort from given pageable - entities are sorted by identifier, if sort is not defined (stable order for paging).
+	 * 
+	 * @param pageable pageable
+	 * @return sort
+	 */
+	private Sort getSort(Pageable pageable) {
+		Sort sort = pageable.getSort();
+		if (sort == null || sort.isUnsorted()) {
+			return Sort.by(AbstractEntity_.id.getName());
+		}
+		return sort;
+	}
+	
+	/**
+	 * Page size with one more record - resolve next page exists without count.
+	 * 
+	 * @param pageable pageable
+	 * @return page size + 1
+	 */
+	private int getPageSizeWithNext(Pageable pageable) {
+		int pageSize = pageable.getPageSize();
+		//
+		return pageSize == Integer.MAX_VALUE ? pageSize : pageSize + 1;
+	}
+	
+	/**
+	 * Page without total count - total count is resolved from loaded records (one more record is loaded, if next page exists).
+	 * 
+	 * @param content loaded records (page size + 1)
+	 * @param pageable pageable
+	 * @return page
+	 */
+	private <T> Page<T> toPageWithoutCount(List<T> content, Pageable pageable) {
+		boolean hasNext = content.size() > pageable.getPageSize();
+		List<T> pageContent = hasNext ? new ArrayList<>(content.subList(0, pageable.getPageSize())) : content;
+		long total = pageable.getOffset() + pageContent.size() + (hasNext ? 1 : 0);
+		//
+		return new PageImpl<>(pageContent, pageable, total);
+	}
 
 	/**
 	 * Constructs find / count jpa criteria from given filter and permissions
@@ -1,6 +1,9 @@
 package eu.bcvsolutions.idm.core.api.service;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import eu.bcvsolutions.idm.core.api.domain.Identifiable;
@@ -212,6 +215,47 @@ public interface ConfidentialStorage {
 	 */	
 	void changeCryptKey(IdmConfidentialStorageValueDto value, GuardedString oldCryptKey);
 	
+	/**
+	 * Method read values from confidential storage with old crypt key and resave values with new one (configured).
+	 * Values are loaded and saved together - usable for re-encrypting large batches.
+	 * 
+	 * @param values
+	 * @param oldCryptKey
+	 * @since 12.3.0
+	 */
+	void changeCryptKey(List<IdmConfidentialStorageValueDto> values, GuardedString oldCryptKey);
+	
+	/**
+	 * Persists (create, update) all given values of one owner together.
+	 * Existing owner values are loaded by one query, values with other keys are not changed.
+	 * 
+	 * @param ownerId values owner identifier
+	 * @param ownerType owner type
+	 * @param values key - value
+	 * @since 12.3.0
+	 */
+	void saveAll(UUID ownerId, Class<? extends Identifiable> ownerType, Map<String, ? extends Serializable> values);
+	
+	/**
+	 * Returns all decrypted values of given owner by one query.
+	 * 
+	 * @param ownerId values owner identifier
+	 * @param ownerType owner type
+	 * @return key - value
+	 * @since 12.3.0
+	 */
+	Map<String, Serializable> getAll(UUID ownerId, Class<? extends Identifiable> ownerType);
+	
+	/**
+	 * Returns all decrypted values of given owners. Owners without values are not contained in result.
+	 * 
+	 * @param ownerIds values owner identifiers
+	 * @param ownerType owner type
+	 * @return owner identifier - (key - value)
+	 * @since 12.3.0
+	 */
+	Map<UUID, Map<String, Serializable>> getAll(Collection<UUID> ownerIds, Class<? extends Identifiable> ownerType);
+	
 	/**
 	 * Returns owner type - owner type has to be entity class - dto class can be given.
 	 * Its used as default definition type for given owner type.
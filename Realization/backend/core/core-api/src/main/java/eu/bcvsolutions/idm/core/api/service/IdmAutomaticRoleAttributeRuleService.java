@@ -1,6 +1,8 @@
 package eu.bcvsolutions.idm.core.api.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import eu.bcvsolutions.idm.core.api.domain.AutomaticRoleAttributeRuleType;
@@ -37,6 +39,16 @@ public interface IdmAutomaticRoleAttributeRuleService
 	 */
 	List<IdmAutomaticRoleAttributeRuleDto> findAllRulesForAutomaticRole(UUID automaticRole);
 	
+	/**
+	 * Return all {@link IdmAutomaticRoleAttributeRuleDto} for given {@link IdmAutomaticRoleAttributeDto}s - rules are loaded together
+	 * for all given automatic roles.
+	 * 
+	 * @param automaticRoles automatic roles by attribute
+	 * @return rules by automatic role identifier
+	 * @since 12.3.0
+	 */
+	Map<UUID, List<IdmAutomaticRoleAttributeRuleDto>> findAllRulesForAutomaticRoles(Collection<UUID> automaticRoles);
+	
 	/**
 	 * Method throw delete event for {@link IdmAutomaticRoleAttributeRuleDto}
 	 * If we delete last rule is remove also all identity role and request, in this
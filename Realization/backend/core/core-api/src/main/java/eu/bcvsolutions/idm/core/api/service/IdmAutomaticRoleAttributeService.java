@@ -6,6 +6,7 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import eu.bcvsolutions.idm.core.api.domain.AutomaticRoleAttributeRuleChanges;
 import eu.bcvsolutions.idm.core.api.domain.AutomaticRoleAttributeRuleType;
 import eu.bcvsolutions.idm.core.api.dto.AbstractIdmAutomaticRoleDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmAutomaticRoleAttributeDto;
@@ -76,10 +77,29 @@ public interface IdmAutomaticRoleAttributeService extends
 	 */
 	Set<AbstractIdmAutomaticRoleDto> getRulesForContract(boolean pass, AutomaticRoleAttributeRuleType type, UUID contractId);
 	
+	/**
+	 * Return all rules that pass/not pass (this is controlled by boolean parameter 'pass'),
+	 * automatic role will be search only for contract id. Only automatic roles with at least one rule
+	 * with changed input (identity / contract attribute or form attribute) are evaluated.
+	 *
+	 * @param pass
+	 * @param type
+	 * @param contractId
+	 * @param changes changed rule inputs, {@code null} - all automatic roles are evaluated
+	 * @return
+	 * @since 12.3.0
+	 */
+	Set<AbstractIdmAutomaticRoleDto> getRulesForContract(
+			boolean pass, 
+			AutomaticRoleAttributeRuleType type, 
+			UUID contractId, 
+			AutomaticRoleAttributeRuleChanges changes);
+	
 	/**
 	 * Return all id's of {@link IdmIdentityContractDto} that passed or not passed (defined in parameter passed) by given automatic role by attribute.
 	 *
 	 * TODO: introduce new method returning List<UUID> (pageable is not used).
+	 * Contract identifiers are selected only (contracts are not loaded) @since 12.3.0.
 	 *
 	 * @param automaticRoleId
 	 * @param passed
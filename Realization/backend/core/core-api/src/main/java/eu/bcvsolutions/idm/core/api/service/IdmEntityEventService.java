@@ -1,6 +1,7 @@
 package eu.bcvsolutions.idm.core.api.service;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -54,6 +55,42 @@ public interface IdmEntityEventService extends
 			List<UUID> exceptOwnerIds,
 			Pageable pageable);
 	
+	/**
+	 * Find events, which could be executed by server instance in cluster - events in leased cluster partitions 
+	 * (computed from super owner hash) and events without owner hash created for given instance (before cluster processing was enabled).
+	 * 
+	 * @param instanceId - instance id
+	 * @param partitions - cluster partitions leased by instance
+	 * @param partitionCount - cluster partition count
+	 * @param executeDate - events with execute date less or equals than given
+	 * @param priority - events with priority
+	 * @param exceptOwnerIds - [optional] exclude events for the given owners
+	 * @param pageable
+	 * @return
+	 * @throws IllegalArgumentException if exceptOwnerIds is greater than {@link FilterManager#PROPERTY_CHECK_FILTER_SIZE_MAXIMUM} (sql limit).
+	 * @since 12.3.0
+	 */
+	Page<IdmEntityEventDto> findToExecute(
+			String instanceId,
+			List<Integer> partitions,
+			int partitionCount,
+			ZonedDateTime executeDate,
+			PriorityType priority,
+			List<UUID> exceptOwnerIds,
+			Pageable pageable);
+	
+	/**
+	 * Returns true, if created or running event with given super owner exists (except given events).
+	 * Super owner is preset as owner by default, events with the same super owner are executed in sequence.
+	 * 
+	 * @param superOwnerId super owner (~ owner, if super owner is not set)
+	 * @param exceptEventIds excluded events (e.g. already dispatched events) - at least one event is required
+	 * @return true - other created or running event exists
+	 * @throws IllegalArgumentException if exceptEventIds is greater than {@link FilterManager#PROPERTY_CHECK_FILTER_SIZE_MAXIMUM} (sql limit).
+	 * @since 12.3.0
+	 */
+	boolean existsBySuperOwnerId(UUID superOwnerId, Collection<UUID> exceptEventIds);
+	
 	/**
 	 * Delete all persisted events and their states.
 	 * 
@@ -1,6 +1,8 @@
 package eu.bcvsolutions.idm.core.api.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import java.time.LocalDate;
@@ -109,6 +111,16 @@ public interface IdmIdentityRoleService extends
 	 * @return
 	 */
 	IdmFormInstanceDto getRoleAttributeValues(IdmIdentityRoleDto dto);
+	
+	/**
+	 * Get form instances for given identity roles. Role attribute values are loaded together 
+	 * - one query for each role attribute definition is used.
+	 * 
+	 * @param identityRoles identity roles
+	 * @return form instances by identity role identifier (identity role without role attribute definition is not contained)
+	 * @since 12.3.0
+	 */
+	Map<UUID, IdmFormInstanceDto> getRoleAttributeValues(Collection<IdmIdentityRoleDto> identityRoles);
 
 	/**
 	 * Validate form attributes for given identityRole
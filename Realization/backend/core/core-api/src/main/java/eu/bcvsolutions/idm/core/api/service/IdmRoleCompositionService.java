@@ -28,9 +28,18 @@ public interface IdmRoleCompositionService extends
 	 * Sub roles cache.
 	 * 
 	 * @since 10.6.0
+	 * @deprecated @since 12.3.0 sub roles are resolved from cached role composition graph, use {@link #ROLE_COMPOSITION_GRAPH_CACHE_NAME}
 	 */
+	@Deprecated
 	String ALL_SUB_ROLES_CACHE_NAME = String.format("%s:all-sub-roles", CoreModule.MODULE_ID);
 	
+	/**
+	 * Role composition graph cache - all compositions with precomputed sub and superior roles.
+	 * 
+	 * @since 12.3.0
+	 */
+	String ROLE_COMPOSITION_GRAPH_CACHE_NAME = String.format("%s:role-composition-graph", CoreModule.MODULE_ID);
+	
 	/**
 	 * Return list of sub roles (only one level in depth)
 	 * of role given by its role ID. Returning available sub roles by given permissions (AND).
@@ -127,4 +136,11 @@ public interface IdmRoleCompositionService extends
 	 */
 	Set<IdmRoleDto> resolveDistinctRoles(List<IdmRoleCompositionDto> compositions);
 	
+	/**
+	 * Refresh given role embedded in cached role compositions - role is used in sub and superior roles results.
+	 * 
+	 * @param role updated role
+	 * @since 12.3.0
+	 */
+	void refreshRole(IdmRoleDto role);
 }
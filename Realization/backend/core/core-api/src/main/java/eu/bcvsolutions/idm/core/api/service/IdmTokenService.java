@@ -1,6 +1,7 @@
 package eu.bcvsolutions.idm.core.api.service;
 
 import java.time.ZonedDateTime;
+import java.util.List;
 
 import eu.bcvsolutions.idm.core.api.domain.Identifiable;
 import eu.bcvsolutions.idm.core.api.dto.IdmTokenDto;
@@ -40,4 +41,16 @@ public interface IdmTokenService extends
 	 * @param olderThan - [optional] - with expiration older than given, all otherwise
 	 */
 	void purgeTokens(String tokenType, ZonedDateTime olderThan);
+	
+	/**
+	 * Persist prolonged expiration of given tokens in one transaction. Token identifier, expiration and token hash is used from given tokens.
+	 * Expiration of disabled token or token with unlimited or later expiration is not changed. 
+	 * Tokens are updated without events (expiration is changed only).
+	 * 
+	 * @see TokenManager#prolongExpiration(IdmTokenDto, ZonedDateTime, String)
+	 * @param tokens prolonged tokens
+	 * @return count of prolonged tokens
+	 * @since 12.3.0
+	 */
+	int prolongExpiration(List<IdmTokenDto> tokens);
 }
@@ -25,9 +25,10 @@ public class IdmFormValueFilter<O extends FormableEntity> extends DataFilter {
 	public static final String PARAMETER_ATTRIBUTE_ID = "attributeId"; // list - OR
 	public static final String PARAMETER_DEFINITION_ID = "definitionId";
 	public static final String PARAMETER_OWNER = "owner";
+	public static final String PARAMETER_OWNER_ID = "ownerId"; // list - OR
 	public static final String PARAMETER_PERSISTENT_TYPE = "persistentType";
-	public static final String PARAMETER_STRING_VALUE = "stringValue"; // equals
-	public static final String PARAMETER_SHORT_TEXT_VALUE = "shortTextValue"; // equals
+	public static final String PARAMETER_STRING_VALUE = "stringValue"; // equals, list - OR
+	public static final String PARAMETER_SHORT_TEXT_VALUE = "shortTextValue"; // equals, list - OR
 	public static final String PARAMETER_STRING_VALUE_LIKE = "stringValueLike"; // like
 	public static final String PARAMETER_SHORT_TEXT_VALUE_LIKE = "shortTextValueLike"; // like
 	public static final String PARAMETER_BOOLEAN_VALUE = "booleanValue"; // equals
@@ -95,6 +96,28 @@ public class IdmFormValueFilter<O extends FormableEntity> extends DataFilter {
 	public void setOwner(O owner) {
 		set(PARAMETER_OWNER, owner);
 	}
+	
+	/**
+	 * Values of more owners (of the same type) can be find - OR.
+	 * Owner type has to be resolved by owner, definition or attribute.
+	 * 
+	 * @return owner identifiers
+	 * @since 12.3.0
+	 */
+	public List<UUID> getOwnerIds() {
+		return getParameterConverter().toUuids(getData(), PARAMETER_OWNER_ID);
+	}
+	
+	/**
+	 * Values of more owners (of the same type) can be find - OR.
+	 * Owner type has to be resolved by owner, definition or attribute.
+	 * 
+	 * @param ownerIds owner identifiers
+	 * @since 12.3.0
+	 */
+	public void setOwnerIds(List<UUID> ownerIds) {
+		put(PARAMETER_OWNER_ID, ownerIds);
+	}
 
 	public PersistentType getPersistentType() {
 		return getParameterConverter().toEnum(getData(), PARAMETER_PERSISTENT_TYPE, PersistentType.class);
@@ -111,6 +134,26 @@ public class IdmFormValueFilter<O extends FormableEntity> extends DataFilter {
 	public void setStringValue(String stringValue) {
 		set(PARAMETER_STRING_VALUE, stringValue);
 	}
+	
+	/**
+	 * Multiple string values can be find - OR.
+	 * 
+	 * @return string values
+	 * @since 12.3.0
+	 */
+	public List<String> getStringValues() {
+		return getParameterConverter().toStrings(getData(), PARAMETER_STRING_VALUE);
+	}
+	
+	/**
+	 * Multiple string values can be find - OR.
+	 * 
+	 * @param stringValues string values
+	 * @since 12.3.0
+	 */
+	public void setStringValues(List<String> stringValues) {
+		put(PARAMETER_STRING_VALUE, stringValues);
+	}
 
 	public String getShortTextValue() {
 		return getParameterConverter().toString(getData(), PARAMETER_SHORT_TEXT_VALUE);
@@ -120,6 +163,26 @@ public class IdmFormValueFilter<O extends FormableEntity> extends DataFilter {
 		set(PARAMETER_SHORT_TEXT_VALUE, shortTextValue);
 	}
 	
+	/**
+	 * Multiple short text values can be find - OR.
+	 * 
+	 * @return short text values
+	 * @since 12.3.0
+	 */
+	public List<String> getShortTextValues() {
+		return getParameterConverter().toStrings(getData(), PARAMETER_SHORT_TEXT_VALUE);
+	}
+	
+	/**
+	 * Multiple short text values can be find - OR.
+	 * 
+	 * @param shortTextValues short text values
+	 * @since 12.3.0
+	 */
+	public void setShortTextValues(List<String> shortTextValues) {
+		put(PARAMETER_SHORT_TEXT_VALUE, shortTextValues);
+	}
+	
 	/**
 	 * String value - like operator is used.
 	 * 
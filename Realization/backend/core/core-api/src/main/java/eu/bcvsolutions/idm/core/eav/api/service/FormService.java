@@ -84,6 +84,14 @@ public interface FormService extends ScriptEnabled {
 	 */
 	String SKIP_EAV_VALIDATION = "idm:skip-eav-validation";
 	
+	/**
+	 * Form attributes (identifiers), which values were saved by form instance - propagated into "EAV_SAVE" event properties.
+	 * Automatic roles by attribute are recalculated for rules with saved form attributes only.
+	 * 
+	 * @since 12.3.0
+	 */
+	String EVENT_PROPERTY_SAVED_FORM_ATTRIBUTES = "idm:saved-form-attributes";
+	
 	/**
 	 * Returns true, when given owner type support eav forms. If {@link AbstractDto} owner type is given, 
 	 * then underlying {@link AbstractEntity} is resolved automatically => {@link AbstractEntity} has 
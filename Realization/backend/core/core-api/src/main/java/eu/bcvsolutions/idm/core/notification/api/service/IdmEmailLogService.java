@@ -1,5 +1,6 @@
 package eu.bcvsolutions.idm.core.notification.api.service;
 
+import java.util.Collection;
 import java.util.UUID;
 
 import java.time.ZonedDateTime;
@@ -50,4 +51,22 @@ public interface IdmEmailLogService extends
 	 * @param sentLog
 	 */
 	void setEmailSentLog(UUID emailLogId, String sentLog);
+	
+	/**
+	 * Persists sent date to given email logs in one transaction.
+	 * 
+	 * @param emailLogIds email logs
+	 * @param sent sent date
+	 * @since 12.3.0
+	 */
+	void setEmailSent(Collection<UUID> emailLogIds, ZonedDateTime sent);
+	
+	/**
+	 * Persists sent log to given email logs in one transaction.
+	 * 
+	 * @param emailLogIds email logs
+	 * @param sentLog sent log
+	 * @since 12.3.0
+	 */
+	void setEmailSentLog(Collection<UUID> emailLogIds, String sentLog);
 }
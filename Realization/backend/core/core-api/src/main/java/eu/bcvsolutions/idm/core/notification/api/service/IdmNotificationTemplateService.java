@@ -2,6 +2,7 @@ package eu.bcvsolutions.idm.core.notification.api.service;
 
 import java.util.List;
 
+import eu.bcvsolutions.idm.core.api.CoreModule;
 import eu.bcvsolutions.idm.core.api.service.CodeableService;
 import eu.bcvsolutions.idm.core.api.service.ConfigurationService;
 import eu.bcvsolutions.idm.core.api.service.EventableDtoService;
@@ -30,6 +31,12 @@ public interface IdmNotificationTemplateService extends
 	 * Folder for scanning / initializing default templates
 	 */
 	String TEMPLATE_FOLDER = "idm.sec.core.notification.template.folder";
+	/**
+	 * Compiled (parsed) templates - local cache by template identifier.
+	 * 
+	 * @since 12.3.0
+	 */
+	String TEMPLATE_CACHE_NAME = String.format("%s:notification-template-cache", CoreModule.MODULE_ID);
 
 	/**
 	 * Return {@link IdmMessageDto}, generate by {@link IdmNotificationTemplateDto}
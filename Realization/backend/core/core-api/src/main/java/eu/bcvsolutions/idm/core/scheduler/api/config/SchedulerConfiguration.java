@@ -68,6 +68,14 @@ public interface SchedulerConfiguration {
 	String PROPERTY_EVENT_QUEUE_PROCESS = "scheduler.event.queue.process";
 	int DEFAULT_EVENT_QUEUE_PROCESS = 500;
 	
+	/**
+	 * Event cluster heartbeat period (ms) - cluster partition leases are renewed and rebalanced.
+	 * 
+	 * @since 12.3.0
+	 */
+	String PROPERTY_EVENT_CLUSTER_HEARTBEAT = "scheduler.event.cluster.heartbeat";
+	int DEFAULT_EVENT_CLUSTER_HEARTBEAT = 10000;
+	
 	/**
 	 * Task executor core pool size. Uses CPU count as default.
 	 */
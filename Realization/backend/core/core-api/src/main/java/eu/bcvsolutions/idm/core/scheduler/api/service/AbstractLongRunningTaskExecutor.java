@@ -4,6 +4,7 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -454,7 +455,30 @@ public abstract class AbstractLongRunningTaskExecutor<V> implements
 		//
 		return getItemService().createLogItem(item, opResult, this.getLongRunningTaskId());
 	}
-	
+
+	/**
+	 * Log processed items together (batch). Default result (executed) is used for items without result.
+	 *
+	 * @param items processed items with results (ordered)
+	 * @return logged items
+	 * @since 12.3.0
+	 */
+	protected <DTO extends AbstractDto> List<IdmProcessedTaskItemDto> logItemsProcessed(Map<DTO, OperationResult> items) {
+		Assert.notNull(items, "Items are required for logging.");
+		if (items.isEmpty()) {
+			return new ArrayList<>();
+		}
+		//
+		Map<DTO, OperationResult> results = new LinkedHashMap<>(items.size());
+		items.forEach((item, opResult) -> {
+			Assert.notNull(item, "Item is required for logging.");
+			// default result - executed
+			results.put(item, opResult == null ? new OperationResult.Builder(OperationState.EXECUTED).build() : opResult);
+		});
+		//
+		return getItemService().createLogItems(results, this.getLongRunningTaskId());
+	}
+
 	@Override
 	public ConfigurationService getConfigurationService() {
 		return configurationService;
@@ -38,6 +38,7 @@ import eu.bcvsolutions.idm.core.api.domain.CoreResultCode;
 import eu.bcvsolutions.idm.core.api.domain.OperationState;
 import eu.bcvsolutions.idm.core.api.dto.AbstractDto;
 import eu.bcvsolutions.idm.core.api.dto.DefaultResultModel;
+import eu.bcvsolutions.idm.core.api.dto.filter.IdAfterFilter;
 import eu.bcvsolutions.idm.core.api.entity.BaseEntity;
 import eu.bcvsolutions.idm.core.api.entity.OperationResult;
 import eu.bcvsolutions.idm.core.api.exception.ResultCodeException;
@@ -66,8 +67,11 @@ public abstract class AbstractSchedulableStatefulExecutor<DTO extends AbstractDt
 	
 	private static final Logger LOG = LoggerFactory.getLogger(AbstractSchedulableStatefulExecutor.class);
 	private static final int DEFAULT_PAGE_SIZE = 100;
+	private static final long UPDATE_STATE_INTERVAL = 500; // ms
 	private boolean continueOnException = false; 
 	private boolean requireNewTransaction = false;
+	private Set<UUID> pageItemIds = new HashSet<>(); // items in processed page
+	private Set<UUID> pageProcessedRefs = null; // items in processed page, which are in processed queue - loaded lazily
 	//
 	@Autowired private IdmProcessedTaskItemService itemService;
 	@Autowired private PlatformTransactionManager platformTransactionManager;
@@ -96,7 +100,11 @@ public abstract class AbstractSchedulableStatefulExecutor<DTO extends AbstractDt
 			//
 			return null;
 		}
-		return itemService.createQueueItem(dto, opResult, this.getScheduledTaskId());
+		IdmProcessedTaskItemDto queueItem = itemService.createQueueItem(dto, opResult, this.getScheduledTaskId());
+		if (pageProcessedRefs != null) {
+			pageProcessedRefs.add(dto.getId());
+		}
+		return queueItem;
 	}
 	
 	@Override
@@ -120,7 +128,12 @@ public abstract class AbstractSchedulableStatefulExecutor<DTO extends AbstractDt
 		}
 		Assert.notNull(dto, "DTO is required for LRT processing.");
 		//
-		Page<IdmProcessedTaskItemDto> p = getItemFromQueue(dto.getId());
+		UUID entityRef = dto.getId();
+		if (pageItemIds.contains(entityRef)) {
+			// processed refs are loaded for the whole processed page at once
+			return getPageProcessedRefs().contains(entityRef);
+		}
+		Page<IdmProcessedTaskItemDto> p = getItemFromQueue(entityRef);
 		
 		return p.getTotalElements() > 0;
 	}
@@ -138,6 +151,9 @@ public abstract class AbstractSchedulableStatefulExecutor<DTO extends AbstractDt
 		}
 		// remove entity from processed queue
 		itemService.deleteItem(scheduledTaskId, entityRef);
+		if (pageProcessedRefs != null) {
+			pageProcessedRefs.remove(entityRef);
+		}
 	}
 
 	@Override
@@ -189,6 +205,38 @@ public abstract class AbstractSchedulableStatefulExecutor<DTO extends AbstractDt
 		this.requireNewTransaction = requireNewTransaction;
 	}
 
+	/**
+	 * Returns true, if {@link #getItemsToProcess(Pageable, UUID)} supports keyset pagination. Returns {@code false} by default.
+	 * 
+	 * If keyset pagination is supported, then the first page is always requested and items with identifier greater than
+	 * given last item identifier have to be returned sorted by identifier (e.g. by filter with {@link IdAfterFilter}).
+	 * Offset pagination is used otherwise.
+	 * 
+	 * Subclass overriding {@link #getItemsToProcess(Pageable)} only has to disable keyset pagination (return {@code false})
+	 * - {@link #getItemsToProcess(Pageable)} is used for offset pagination.
+	 * 
+	 * @return true - keyset pagination is supported
+	 * @since 12.3.0
+	 */
+	protected boolean supportsKeysetPagination() {
+		return false;
+	}
+	
+	/**
+	 * Returns a pageable result set of DTOs the task should process, when keyset pagination is supported.
+	 * Items with identifier greater than given last item identifier have to be returned.
+	 * Calls {@link #getItemsToProcess(Pageable)} by default.
+	 * 
+	 * @param pageable the first page with sort by identifier
+	 * @param lastItemId identifier of the last item in previously processed page, {@code null} for the first page
+	 * @return items to process
+	 * @see #supportsKeysetPagination()
+	 * @since 12.3.0
+	 */
+	public Page<DTO> getItemsToProcess(Pageable pageable, UUID lastItemId) {
+		return getItemsToProcess(pageable);
+	}
+
 	/**
 	 * Process long running task.
 	 * 
@@ -200,6 +248,9 @@ public abstract class AbstractSchedulableStatefulExecutor<DTO extends AbstractDt
 		boolean canContinue = true;
 		boolean updateStateSucceed = true;
 		boolean dryRun = longRunningTaskService.get(this.getLongRunningTaskId()).isDryRun();
+		boolean keysetPagination = supportsKeysetPagination();
+		long lastStateUpdate = 0;
+		UUID lastItemId = null; // last item in previous page - keyset pagination
 		Pageable pageable = PageRequest.of(
 				0, 
 				getPageSize(),
@@ -207,11 +258,14 @@ public abstract class AbstractSchedulableStatefulExecutor<DTO extends AbstractDt
 		);
 		//
 		do {
-			Page<DTO> candidates = this.getItemsToProcess(pageable);
+			Page<DTO> candidates = keysetPagination 
+					? this.getItemsToProcess(pageable, lastItemId) 
+					: this.getItemsToProcess(pageable);
 			//
 			if (count == null) {
 				count = candidates.getTotalElements();
 			}
+			setPage(candidates);
 			//
 			for (Iterator<DTO> i = candidates.iterator(); i.hasNext() && canContinue;) {
 				DTO candidate = i.next();
@@ -226,8 +280,13 @@ public abstract class AbstractSchedulableStatefulExecutor<DTO extends AbstractDt
 						processedRefs.add(candidate.getId());
 					}					
 				}
-				updateStateSucceed = this.updateState();
-				canContinue &= updateStateSucceed;
+				// state is persisted (and task cancel is checked) after the first item, at most once per interval and after the last item in page
+				long now = System.currentTimeMillis();
+				if (!i.hasNext() || now - lastStateUpdate >= UPDATE_STATE_INTERVAL) {
+					updateStateSucceed = this.updateState();
+					canContinue &= updateStateSucceed;
+					lastStateUpdate = now;
+				}
  				//
  				// flush and clear session - if LRT is wrapped in parent transaction, we need to clear it
  				if (getHibernateSession().isOpen()) {
@@ -235,10 +294,25 @@ public abstract class AbstractSchedulableStatefulExecutor<DTO extends AbstractDt
  					getHibernateSession().clear();
  				}
 			}
-			canContinue &= candidates.hasNext();			
-			pageable = candidates.nextPageable();
+			canContinue &= candidates.hasNext();
+			if (keysetPagination) {
+				UUID pageLastItemId = candidates.hasContent() 
+						? candidates.getContent().get(candidates.getNumberOfElements() - 1).getId()
+						: null;
+				if (canContinue && (pageLastItemId == null || pageLastItemId.equals(lastItemId))) {
+					LOG.warn("Statefull process [{}] returned the same page of items again, keyset pagination is not supported properly. "
+							+ "Process ends.", getClass().getSimpleName());
+					canContinue = false;
+				}
+				lastItemId = pageLastItemId;
+				// next items are loaded by the last item identifier
+				pageable = PageRequest.of(0, getPageSize(), new Sort(Direction.ASC, BaseEntity.PROPERTY_ID));
+			} else {
+				pageable = candidates.nextPageable();
+			}
 			//
 		} while (canContinue);
+		setPage(null);
 		//
 		// if task doesn't support queue, we can end
 		if (!supportsQueue()) {
@@ -260,6 +334,43 @@ public abstract class AbstractSchedulableStatefulExecutor<DTO extends AbstractDt
 		return updateStateSucceed;
 	}
 	
+	/**
+	 * Set processed page - processed refs are loaded for the whole page.
+	 * 
+	 * @param candidates processed page or {@code null} after process ends
+	 */
+	private void setPage(Page<DTO> candidates) {
+		pageItemIds = new HashSet<>();
+		pageProcessedRefs = null;
+		if (candidates == null) {
+			return;
+		}
+		candidates.forEach(candidate -> {
+			if (candidate != null && candidate.getId() != null) {
+				pageItemIds.add(candidate.getId());
+			}
+		});
+	}
+	
+	/**
+	 * Processed page items, which are in processed queue (processed earlier).
+	 * Loaded lazily by single query - tasks which overrides {@link #isInProcessedQueue(AbstractDto)} don't use it.
+	 * 
+	 * @return processed refs
+	 */
+	private Set<UUID> getPageProcessedRefs() {
+		if (pageProcessedRefs == null) {
+			UUID scheduledTaskId = this.getScheduledTaskId();
+			if (scheduledTaskId == null) {
+				// manually executed task -> ignore stateful queue
+				pageProcessedRefs = new HashSet<>();
+			} else {
+				pageProcessedRefs = new HashSet<>(itemService.findRefEntityIdsInQueueByScheduledTaskId(scheduledTaskId, pageItemIds));
+			}
+		}
+		return pageProcessedRefs;
+	}
+	
 	private Session getHibernateSession() {
 		return (Session) this.entityManager.getDelegate();
 	}
@@ -1,6 +1,8 @@
 package eu.bcvsolutions.idm.core.scheduler.api.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
@@ -53,6 +55,17 @@ public interface IdmProcessedTaskItemService extends
 	 */
 	List<UUID> findAllRefEntityIdsInQueueByScheduledTaskId(UUID scheduledTaskId);
 	
+	/**
+	 * Find referenced entity identifiers by scheduled tasks - only given referenced entity identifiers are returned
+	 * (e.g. page of items to process).
+	 * 
+	 * @param scheduledTaskId scheduled task identifier
+	 * @param referencedEntityIds referenced entity identifiers
+	 * @return referenced entity identifiers in queue
+	 * @since 12.3.0
+	 */
+	List<UUID> findRefEntityIdsInQueueByScheduledTaskId(UUID scheduledTaskId, Collection<UUID> referencedEntityIds);
+	
 	/**
 	 * Find all queue items of given scheduled tasks.
 	 * @param scheduledTask
@@ -79,6 +92,16 @@ public interface IdmProcessedTaskItemService extends
 	 */
 	<DTO extends AbstractDto> IdmProcessedTaskItemDto createLogItem(DTO processedItem, OperationResult result, UUID longRunningTaskId);
 	
+	/**
+	 * Persist processed items in new transaction - items are saved together (batch).
+	 * 
+	 * @param processedItems processed items with results (ordered)
+	 * @param longRunningTaskId long running task identifier
+	 * @return persisted items
+	 * @since 12.3.0
+	 */
+	<DTO extends AbstractDto> List<IdmProcessedTaskItemDto> createLogItems(Map<DTO, OperationResult> processedItems, UUID longRunningTaskId);
+	
 	/**
 	 * Persist item into queue
 	 * 
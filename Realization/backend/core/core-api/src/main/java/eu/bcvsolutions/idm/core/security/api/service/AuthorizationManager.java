@@ -25,9 +25,17 @@ import eu.bcvsolutions.idm.core.security.api.dto.AuthorizationEvaluatorDto;
 public interface AuthorizationManager {
 	
 	/**
-	 * Logged identity permissions for shown record.
+	 * Logged identity permission scope (uuid) - permissions for shown records are cached in scope, 
+	 * evict scope to evict all cached permissions of logged identity.
 	 */
 	String PERMISSION_CACHE_NAME = String.format("%s:permission-cache", CoreModule.MODULE_ID);
+	/**
+	 * Logged identity permissions for shown record - cached by permission scope and record identifier.
+	 * 
+	 * @see #PERMISSION_CACHE_NAME
+	 * @since 12.3.0
+	 */
+	String PERMISSION_ENTRY_CACHE_NAME = String.format("%s:permission-entry-cache", CoreModule.MODULE_ID);
 	/**
 	 * Logged identity authorization policies (as uuid).
 	 * 
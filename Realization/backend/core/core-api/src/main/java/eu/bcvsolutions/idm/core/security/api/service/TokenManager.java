@@ -28,6 +28,16 @@ public interface TokenManager {
 	 */
 	String TOKEN_CACHE_NAME = String.format("%s:token-cache", CoreModule.MODULE_ID);
 	
+	/**
+	 * Prolonged token expirations are persisted periodically - period in milliseconds (2 minutes by default).
+	 * Period has to be lower than token expiration timeout - persisted expiration is used on other cluster nodes.
+	 * Application environment property - restart is needed.
+	 * 
+	 * @since 12.3.0
+	 */
+	String PROPERTY_EXPIRATION_FLUSH_PERIOD = "idm.sec.security.jwt.token.expiration.flushPeriod";
+	long DEFAULT_EXPIRATION_FLUSH_PERIOD = 120000;
+	
 	/**
 	 * Returns currently used token in security context
 	 * 
@@ -83,6 +93,38 @@ public interface TokenManager {
 	 */
 	IdmTokenDto verifyToken(UUID tokenId, BasePermission... permission);
 	
+	/**
+	 * Prolong token expiration. Expiration is not persisted immediately - prolonged expirations are coalesced by token
+	 * and persisted periodically in batch (authentication doesn't write into database on every request).
+	 * Expiration is persisted immediately, if persisted token expiration expires before the next flush 
+	 * - persisted expiration is used on other cluster nodes.
+	 * Use {@link #getExpiration(IdmTokenDto)} to get the actual token expiration.
+	 * 
+	 * @see #flushExpirations()
+	 * @param token prolonged token
+	 * @param expiration new expiration
+	 * @param tokenHash token hash with new expiration
+	 * @since 12.3.0
+	 */
+	void prolongExpiration(IdmTokenDto token, ZonedDateTime expiration, String tokenHash);
+	
+	/**
+	 * Actual token expiration - prolonged expiration is returned, if token expiration was prolonged and not persisted yet.
+	 * 
+	 * @param token persisted token
+	 * @return actual token expiration
+	 * @since 12.3.0
+	 */
+	ZonedDateTime getExpiration(IdmTokenDto token);
+	
+	/**
+	 * Persist prolonged token expirations. Called periodically by scheduler.
+	 * 
+	 * @see #PROPERTY_EXPIRATION_FLUSH_PERIOD
+	 * @since 12.3.0
+	 */
+	void flushExpirations();
+	
 	/**
 	 * Delete all tokens 
 	 * 
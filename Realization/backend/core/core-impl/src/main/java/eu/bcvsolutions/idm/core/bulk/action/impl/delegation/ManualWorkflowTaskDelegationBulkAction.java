@@ -176,6 +176,12 @@ public class ManualWorkflowTaskDelegationBulkAction extends AbstractBulkAction<W
 		return delegationDefinition;
 	}
 
+	@Override
+	protected boolean supportsChunks() {
+		// workflow tasks are loaded in custom way
+		return false;
+	}
+	
 	@Override
 	protected WorkflowTaskInstanceAbstractDto getDtoById(UUID id) {
 		WorkflowTaskInstanceDto task = workflowTaskInstanceService.get(id.toString());
@@ -1,5 +1,6 @@
 package eu.bcvsolutions.idm.core.config;
 
+import eu.bcvsolutions.idm.core.api.config.domain.EmailerConfiguration;
 import eu.bcvsolutions.idm.core.api.domain.CoreResultCode;
 import eu.bcvsolutions.idm.core.api.exception.DefaultErrorModel;
 import eu.bcvsolutions.idm.core.api.exception.ErrorModel;
@@ -18,6 +19,7 @@ import org.springframework.security.concurrent.DelegatingSecurityContextRunnable
 
 import java.lang.reflect.Method;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * Executor configuration
@@ -130,4 +132,39 @@ public class AsyncConfig implements AsyncConfigurer {
 		//
 		return executor;
 	}
-}
\ No newline at end of file
+	
+	/**
+	 * Executor for sending emails. Emails are sent in batches after transaction is committed - business transaction 
+	 * doesn't wait to email server. Pool size limits concurrent connections to email server. 
+	 * When queue is full, then batch is sent by the caller thread (back pressure - emails are not lost).
+	 * 
+	 * @return executor
+	 * @since 12.3.0
+	 */
+	@Bean(name = EmailerConfiguration.EMAIL_EXECUTOR_NAME)
+	public Executor emailExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		int poolSize = env.getProperty(
+				EmailerConfiguration.PROPERTY_EMAIL_EXECUTOR_POOL_SIZE, 
+				Integer.class, 
+				EmailerConfiguration.DEFAULT_EMAIL_EXECUTOR_POOL_SIZE);
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		int queueCapacity = env.getProperty(
+				EmailerConfiguration.PROPERTY_EMAIL_EXECUTOR_QUEUE_CAPACITY, 
+				Integer.class,
+				EmailerConfiguration.DEFAULT_EMAIL_EXECUTOR_QUEUE_CAPACITY);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setThreadNamePrefix("email-task-executor-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		executor.initialize();
+		//
+		LOG.info("Email executor is initialized: poolSize [{}], queueCapacity [{}]", 
+				poolSize,
+				queueCapacity);
+		//
+		return executor;
+	}
+}
@@ -1,9 +1,9 @@
 package eu.bcvsolutions.idm.core.config.cache;
 
 import java.time.Duration;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.context.annotation.Bean;
@@ -19,9 +19,12 @@ import eu.bcvsolutions.idm.core.api.service.IdmConfigurationService;
 import eu.bcvsolutions.idm.core.api.service.IdmRoleCompositionService;
 import eu.bcvsolutions.idm.core.eav.api.domain.FormDefinitionCache;
 import eu.bcvsolutions.idm.core.eav.api.service.FormService;
+import eu.bcvsolutions.idm.core.model.domain.RoleCompositionGraph;
 import eu.bcvsolutions.idm.core.model.service.impl.DefaultGroovyScriptService;
 import eu.bcvsolutions.idm.core.monitoring.api.dto.IdmMonitoringResultDto;
 import eu.bcvsolutions.idm.core.monitoring.api.service.MonitoringManager;
+import eu.bcvsolutions.idm.core.notification.api.service.IdmNotificationTemplateService;
+import eu.bcvsolutions.idm.core.notification.domain.CompiledNotificationTemplate;
 import eu.bcvsolutions.idm.core.security.api.service.AuthorizationManager;
 import eu.bcvsolutions.idm.core.security.api.service.TokenManager;
 import groovy.lang.Script;
@@ -34,6 +37,8 @@ import groovy.lang.Script;
  */
 @Configuration
 public class CoreCacheConfiguration {
+	
+	private static final long PERMISSION_ENTRY_CACHE_SIZE = 100000; // ~ cached permissions of shown records
 
 	/**
 	 * Define distributed cache for {@link eu.bcvsolutions.idm.core.api.service.ConfigurationService}
@@ -66,21 +71,39 @@ public class CoreCacheConfiguration {
 	}
 	
 	/**
-	 * Define distributed cache for {@link AuthorizationManager} - logged identity permissions for entities.
+	 * Define distributed cache for {@link AuthorizationManager} - logged identity permission scope.
 	 *
 	 * @return permission cache
 	 * @since 10.4.1
 	 */
 	@Bean
-	@SuppressWarnings("rawtypes")
 	public IdMCacheConfiguration permissionCacheConfiguration() {
-		return DistributedIdMCacheConfiguration.<UUID, HashMap> builder()
+		return DistributedIdMCacheConfiguration.<UUID, UUID> builder()
 			.withName(AuthorizationManager.PERMISSION_CACHE_NAME)
 				.withKeyType(UUID.class) // identity uuid ~ logged users
-				.withValueType(HashMap.class)
+				.withValueType(UUID.class) // permission scope
 				.withTtl(Duration.ofMinutes(1)) // permissions are based on data structure => cache should be effective short time (one request)
 				.build();
 	}
+	
+	/**
+	 * Define local cache for {@link AuthorizationManager} - logged identity permissions for entities (by permission scope).
+	 * Scope is distributed => evicted scope is not used on all nodes.
+	 *
+	 * @return permission entry cache
+	 * @since 12.3.0
+	 */
+	@Bean
+	@SuppressWarnings("rawtypes")
+	public IdMCacheConfiguration permissionEntryCacheConfiguration() {
+		return LocalIdMCacheConfiguration.<String, Set> builder()
+			.withName(AuthorizationManager.PERMISSION_ENTRY_CACHE_NAME)
+				.withKeyType(String.class) // scope:entity
+				.withValueType(Set.class)
+				.witchCacheSize(PERMISSION_ENTRY_CACHE_SIZE)
+				.withTtl(Duration.ofMinutes(1))
+				.build();
+	}
 
 	/**
 	 * Define distributed cache for {@link AuthorizationManager} - configured authorization policies (by application).
@@ -129,6 +152,21 @@ public class CoreCacheConfiguration {
 				.build();
 	}
 	
+	/**
+	 * Define local only cache for {@link IdmNotificationTemplateService} - parsed templates are not serializable.
+	 *
+	 * @return compiled notification templates cache
+	 * @since 12.3.0
+	 */
+	@Bean
+	public IdMCacheConfiguration notificationTemplateCacheConfiguration() {
+		return LocalIdMCacheConfiguration.<UUID, CompiledNotificationTemplate> builder()
+			.withName(IdmNotificationTemplateService.TEMPLATE_CACHE_NAME)
+				.withKeyType(UUID.class) // template id
+				.withValueType(CompiledNotificationTemplate.class) // template version is checked
+				.build();
+	}
+	
 	/**
 	 * Token distributed cache for {@link TokenManager} - Token cache - prevent to load token from DB repetitively between requests for the same user, when expiration is not prolonged.
 	 *
@@ -148,17 +186,17 @@ public class CoreCacheConfiguration {
 	/**
 	 * Business role cache.
 	 *
-	 * @return all sub roles by superior role
-	 * @since 10.6.0
+	 * @return role composition graph
+	 * @since 12.3.0
 	 * @see IdmRoleCompositionService#findAllSubRoles(UUID, eu.bcvsolutions.idm.core.security.api.domain.BasePermission...)
+	 * @see IdmRoleCompositionService#findAllSuperiorRoles(UUID, eu.bcvsolutions.idm.core.security.api.domain.BasePermission...)
 	 */
 	@Bean
-	@SuppressWarnings("rawtypes")
-	public IdMCacheConfiguration allSubRolesCacheConfiguration() {
-		return DistributedIdMCacheConfiguration.<UUID, ArrayList> builder()
-			.withName(IdmRoleCompositionService.ALL_SUB_ROLES_CACHE_NAME)
-				.withKeyType(UUID.class) // superior role
-				.withValueType(ArrayList.class) // all sub roles
+	public IdMCacheConfiguration roleCompositionGraphCacheConfiguration() {
+		return DistributedIdMCacheConfiguration.<String, RoleCompositionGraph> builder()
+			.withName(IdmRoleCompositionService.ROLE_COMPOSITION_GRAPH_CACHE_NAME)
+				.withKeyType(String.class) // the only one graph
+				.withValueType(RoleCompositionGraph.class) // all compositions
 				.build();
 	}
 	
@@ -49,4 +49,16 @@ public class DefaultEmailerConfiguration extends AbstractConfiguration implement
 	public boolean isTestEnabled() {
 		return getConfigurationService().getBooleanValue(PROPERTY_TEST_ENABLED, true);
 	}
+	
+	@Override
+	public int getBatchSize() {
+		int batchSize = getConfigurationService().getIntegerValue(PROPERTY_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+		return batchSize < 1 ? DEFAULT_BATCH_SIZE : batchSize;
+	}
+	
+	@Override
+	public int getRetryCount() {
+		int retryCount = getConfigurationService().getIntegerValue(PROPERTY_RETRY_COUNT, DEFAULT_RETRY_COUNT);
+		return retryCount < 0 ? 0 : retryCount;
+	}
 }
@@ -54,4 +54,32 @@ public class DefaultEventConfiguration extends AbstractConfiguration implements
 	public int getBatchSize() {
 		return getConfigurationService().getIntegerValue(PROPERTY_EVENT_ASYNCHRONOUS_BATCH_SIZE, DEFAULT_EVENT_BATCH_SIZE);
 	}
+	
+	@Override
+	public int getPartitionCount() {
+		int partitionCount = getConfigurationService().getIntegerValue(
+				PROPERTY_EVENT_ASYNCHRONOUS_PARTITION_COUNT, 
+				Runtime.getRuntime().availableProcessors() + 1);
+		//
+		return partitionCount < 0 ? 0 : partitionCount;
+	}
+	
+	@Override
+	public int getPartitionCapacity() {
+		return getConfigurationService().getIntegerValue(PROPERTY_EVENT_ASYNCHRONOUS_PARTITION_CAPACITY, DEFAULT_EVENT_PARTITION_CAPACITY);
+	}
+	
+	@Override
+	public int getClusterPartitionCount() {
+		int partitionCount = getConfigurationService().getIntegerValue(
+				PROPERTY_EVENT_ASYNCHRONOUS_CLUSTER_PARTITION_COUNT, 
+				DEFAULT_EVENT_CLUSTER_PARTITION_COUNT);
+		//
+		return partitionCount < 0 ? 0 : partitionCount;
+	}
+	
+	@Override
+	public long getClusterLeaseDuration() {
+		return getConfigurationService().getLongValue(PROPERTY_EVENT_ASYNCHRONOUS_CLUSTER_LEASE_DURATION, DEFAULT_EVENT_CLUSTER_LEASE_DURATION);
+	}
 }
@@ -1,5 +1,8 @@
 package eu.bcvsolutions.idm.core.eav.processor;
 
+import java.util.HashSet;
+import java.util.UUID;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Description;
 import org.springframework.stereotype.Component;
@@ -12,6 +15,7 @@ import eu.bcvsolutions.idm.core.api.event.EntityEvent;
 import eu.bcvsolutions.idm.core.api.event.EventResult;
 import eu.bcvsolutions.idm.core.api.service.EntityEventManager;
 import eu.bcvsolutions.idm.core.api.service.LookupService;
+import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormAttributeDto;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormInstanceDto;
 import eu.bcvsolutions.idm.core.eav.api.event.processor.FormInstanceProcessor;
 import eu.bcvsolutions.idm.core.eav.api.service.FormService;
@@ -45,6 +49,17 @@ public class FormInstanceSaveProcessor
 
 	@Override
 	public EventResult<IdmFormInstanceDto> process(EntityEvent<IdmFormInstanceDto> event) {
+		// saved attributes are resolved before save - attributes with removed values are not in saved instance
+		HashSet<UUID> savedFormAttributes = new HashSet<>();
+		IdmFormInstanceDto submittedFormInstance = event.getContent();
+		submittedFormInstance.toValueMap().keySet().forEach(attributeCode -> {
+			IdmFormAttributeDto attribute = submittedFormInstance.getMappedAttributeByCode(attributeCode);
+			if (attribute != null && attribute.getId() != null) {
+				savedFormAttributes.add(attribute.getId());
+			}
+		});
+		event.getProperties().put(FormService.EVENT_PROPERTY_SAVED_FORM_ATTRIBUTES, savedFormAttributes);
+		//
 		IdmFormInstanceDto formInstance = formService.saveFormInstance(event);
 		event.setContent(formInstance);
 		//
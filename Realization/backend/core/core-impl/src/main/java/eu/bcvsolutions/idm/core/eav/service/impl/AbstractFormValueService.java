@@ -7,6 +7,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -290,15 +291,31 @@ public abstract class AbstractFormValueService<O extends FormableEntity, E exten
 				predicates.add(builder.equal(root.get(FormValueService.PROPERTY_OWNER).get(BaseEntity.PROPERTY_ID), ownerId));
 			}
 		}
+		List<UUID> ownerIds = filter.getOwnerIds();
+		if (CollectionUtils.isNotEmpty(ownerIds)) {
+			predicates.add(root.get(FormValueService.PROPERTY_OWNER).get(BaseEntity.PROPERTY_ID).in(ownerIds));
+		}
 		//
-		String stringValue = filter.getStringValue();
-		if (StringUtils.isNotEmpty(stringValue)) {
-			predicates.add(builder.equal(root.get(AbstractFormValue_.stringValue), stringValue));
+		List<String> stringValues = filter
+				.getStringValues()
+				.stream()
+				.filter(StringUtils::isNotEmpty)
+				.collect(Collectors.toList());
+		if (stringValues.size() == 1) {
+			predicates.add(builder.equal(root.get(AbstractFormValue_.stringValue), stringValues.get(0)));
+		} else if (!stringValues.isEmpty()) {
+			predicates.add(root.get(AbstractFormValue_.stringValue).in(stringValues));
 		}
 		//
-		String shortTextValue = filter.getShortTextValue();
-		if (StringUtils.isNotEmpty(shortTextValue)) {
-			predicates.add(builder.equal(root.get(AbstractFormValue_.shortTextValue), shortTextValue));
+		List<String> shortTextValues = filter
+				.getShortTextValues()
+				.stream()
+				.filter(StringUtils::isNotEmpty)
+				.collect(Collectors.toList());
+		if (shortTextValues.size() == 1) {
+			predicates.add(builder.equal(root.get(AbstractFormValue_.shortTextValue), shortTextValues.get(0)));
+		} else if (!shortTextValues.isEmpty()) {
+			predicates.add(root.get(AbstractFormValue_.shortTextValue).in(shortTextValues));
 		}
 		//
 		String stringValueLike = filter.getStringValueLike();
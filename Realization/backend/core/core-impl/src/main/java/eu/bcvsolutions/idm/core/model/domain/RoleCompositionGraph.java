@@ -0,0 +1,338 @@
+package eu.bcvsolutions.idm.core.model.domain;
+
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.springframework.util.Assert;
+
+import eu.bcvsolutions.idm.core.api.dto.IdmRoleCompositionDto;
+import eu.bcvsolutions.idm.core.api.dto.IdmRoleDto;
+import eu.bcvsolutions.idm.core.model.entity.IdmRoleComposition_;
+
+/**
+ * Role composition graph (~ business roles) with precomputed sub roles and superior roles (all levels in depth).
+ *
+ * Graph is immutable - changed graph copy is returned, when composition is added or removed. Only closures of roles
+ * connected to changed composition are computed again.
+ *
+ * @since 12.3.0
+ */
+public class RoleCompositionGraph implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+	//
+	private final Map<UUID, IdmRoleCompositionDto> compositions; // composition by id, ordered
+	private final Map<UUID, List<UUID>> directSubRoles; // superior role => direct sub compositions
+	private final Map<UUID, List<UUID>> directSuperiorRoles; // sub role => direct superior compositions
+	private final Map<UUID, List<UUID>> allSubRoles; // superior role => all sub compositions
+	private final Map<UUID, List<UUID>> allSuperiorRoles; // sub role => all superior compositions
+
+	/**
+	 * Builds graph from given compositions. Order of compositions is preserved in results.
+	 *
+	 * @param compositions all role compositions with embedded roles
+	 */
+	public RoleCompositionGraph(Collection<IdmRoleCompositionDto> compositions) {
+		Assert.notNull(compositions, "Compositions are required.");
+		//
+		this.compositions = new LinkedHashMap<>(compositions.size());
+		this.directSubRoles = new HashMap<>();
+		this.directSuperiorRoles = new HashMap<>();
+		this.allSubRoles = new HashMap<>();
+		this.allSuperiorRoles = new HashMap<>();
+		//
+		compositions.forEach(composition -> {
+			this.compositions.put(composition.getId(), composition);
+		});
+		initDirectRoles();
+		this.directSubRoles.keySet().forEach(this::computeAllSubRoles);
+		this.directSuperiorRoles.keySet().forEach(this::computeAllSuperiorRoles);
+	}
+
+	private RoleCompositionGraph(RoleCompositionGraph graph, Map<UUID, IdmRoleCompositionDto> compositions) {
+		this.compositions = compositions;
+		this.directSubRoles = new HashMap<>();
+		this.directSuperiorRoles = new HashMap<>();
+		this.allSubRoles = new HashMap<>(graph.allSubRoles);
+		this.allSuperiorRoles = new HashMap<>(graph.allSuperiorRoles);
+		//
+		initDirectRoles();
+	}
+
+	/**
+	 * Direct sub roles (one level in depth) of given superior role.
+	 *
+	 * @param superiorId superior role
+	 * @return compositions
+	 */
+	public List<IdmRoleCompositionDto> getDirectSubRoles(UUID superiorId) {
+		return toCompositions(directSubRoles.get(superiorId));
+	}
+
+	/**
+	 * All sub roles (all levels in depth) of given superior role.
+	 * Cyclic compositions are skipped.
+	 *
+	 * @param superiorId superior role
+	 * @return compositions
+	 */
+	public List<IdmRoleCompositionDto> getAllSubRoles(UUID superiorId) {
+		return toCompositions(allSubRoles.get(superiorId));
+	}
+
+	/**
+	 * All superior roles of given sub role. Superior roles are sorted from sub to upper superior roles.
+	 * Cyclic compositions are skipped.
+	 *
+	 * @param subId sub role
+	 * @return compositions
+	 */
+	public List<IdmRoleCompositionDto> getAllSuperiorRoles(UUID subId) {
+		return toCompositions(allSuperiorRoles.get(subId));
+	}
+
+	/**
+	 * Composition is contained in graph.
+	 *
+	 * @param compositionId composition identifier
+	 * @return true - graph contains composition
+	 */
+	public boolean contains(UUID compositionId) {
+		return compositions.containsKey(compositionId);
+	}
+
+	/**
+	 * Returns graph with added composition. The same graph is returned, if composition is already contained.
+	 *
+	 * @param composition added composition with embedded roles
+	 * @return changed graph
+	 */
+	public RoleCompositionGraph add(IdmRoleCompositionDto composition) {
+		Assert.notNull(composition, "Composition is required.");
+		Assert.notNull(composition.getId(), "Composition identifier is required.");
+		//
+		if (contains(composition.getId())) {
+			return this;
+		}
+		Map<UUID, IdmRoleCompositionDto> changedCompositions = new LinkedHashMap<>(compositions);
+		changedCompositions.put(composition.getId(), composition);
+		//
+		return change(composition, changedCompositions);
+	}
+
+	/**
+	 * Returns graph without given composition. The same graph is returned, if composition is not contained.
+	 *
+	 * @param compositionId removed composition
+	 * @return changed graph
+	 */
+	public RoleCompositionGraph remove(UUID compositionId) {
+		Assert.notNull(compositionId, "Composition identifier is required.");
+		//
+		IdmRoleCompositionDto composition = compositions.get(compositionId);
+		if (composition == null) {
+			return this;
+		}
+		Map<UUID, IdmRoleCompositionDto> changedCompositions = new LinkedHashMap<>(compositions);
+		changedCompositions.remove(compositionId);
+		//
+		return change(composition, changedCompositions);
+	}
+
+	/**
+	 * Returns graph with refreshed embedded role in compositions. The same graph is returned,
+	 * if role is not used in any composition.
+	 *
+	 * @param role updated role
+	 * @return changed graph
+	 */
+	public RoleCompositionGraph updateRole(IdmRoleDto role) {
+		Assert.notNull(role, "Role is required.");
+		Assert.notNull(role.getId(), "Role identifier is required.");
+		//
+		if (!directSubRoles.containsKey(role.getId()) && !directSuperiorRoles.containsKey(role.getId())) {
+			return this;
+		}
+		Map<UUID, IdmRoleCompositionDto> changedCompositions = new LinkedHashMap<>(compositions);
+		changedCompositions.replaceAll((compositionId, composition) -> {
+			boolean superior = role.getId().equals(composition.getSuperior());
+			boolean sub = role.getId().equals(composition.getSub());
+			if (!superior && !sub) {
+				return composition;
+			}
+			IdmRoleCompositionDto changedComposition = SerializationUtils.clone(composition);
+			if (superior) {
+				changedComposition.getEmbedded().put(IdmRoleComposition_.superior.getName(), role);
+			}
+			if (sub) {
+				changedComposition.getEmbedded().put(IdmRoleComposition_.sub.getName(), role);
+			}
+			return changedComposition;
+		});
+		//
+		return new RoleCompositionGraph(this, changedCompositions);
+	}
+
+	/**
+	 * Count of compositions in graph.
+	 *
+	 * @return count
+	 */
+	public int size() {
+		return compositions.size();
+	}
+
+	/**
+	 * Closures of all roles, which can reach changed composition, are computed again.
+	 *
+	 * @param composition added or removed composition
+	 * @param changedCompositions compositions of changed graph
+	 * @return changed graph
+	 */
+	private RoleCompositionGraph change(IdmRoleCompositionDto composition, Map<UUID, IdmRoleCompositionDto> changedCompositions) {
+		RoleCompositionGraph graph = new RoleCompositionGraph(this, changedCompositions);
+		//
+		// roles above superior role - reachable in previous or changed graph
+		Set<UUID> superiorRoles = this.findConnectedRoles(composition.getSuperior(), false);
+		superiorRoles.addAll(graph.findConnectedRoles(composition.getSuperior(), false));
+		superiorRoles.forEach(graph::computeAllSubRoles);
+		// roles under sub role - reachable in previous or changed graph
+		Set<UUID> subRoles = this.findConnectedRoles(composition.getSub(), true);
+		subRoles.addAll(graph.findConnectedRoles(composition.getSub(), true));
+		subRoles.forEach(graph::computeAllSuperiorRoles);
+		//
+		return graph;
+	}
+
+	private void initDirectRoles() {
+		compositions.values().forEach(composition -> {
+			directSubRoles.computeIfAbsent(composition.getSuperior(), superiorId -> new ArrayList<>()).add(composition.getId());
+			directSuperiorRoles.computeIfAbsent(composition.getSub(), subId -> new ArrayList<>()).add(composition.getId());
+		});
+	}
+
+	/**
+	 * Given role with all roles connected by compositions in given direction.
+	 *
+	 * @param roleId start role
+	 * @param down true - sub roles, false - superior roles
+	 * @return connected roles
+	 */
+	private Set<UUID> findConnectedRoles(UUID roleId, boolean down) {
+		Set<UUID> results = new HashSet<>();
+		Deque<UUID> roles = new ArrayDeque<>();
+		roles.add(roleId);
+		while (!roles.isEmpty()) {
+			UUID currentRoleId = roles.poll();
+			if (!results.add(currentRoleId)) {
+				continue;
+			}
+			List<UUID> connected = down ? directSubRoles.get(currentRoleId) : directSuperiorRoles.get(currentRoleId);
+			if (connected != null) {
+				connected.forEach(compositionId -> {
+					IdmRoleCompositionDto composition = compositions.get(compositionId);
+					roles.add(down ? composition.getSub() : composition.getSuperior());
+				});
+			}
+		}
+		return results;
+	}
+
+	private void computeAllSubRoles(UUID superiorId) {
+		List<UUID> results = new ArrayList<>();
+		computeAllSubRoles(results, new ArrayList<>(), superiorId);
+		if (results.isEmpty()) {
+			allSubRoles.remove(superiorId);
+		} else {
+			allSubRoles.put(superiorId, Collections.unmodifiableList(results));
+		}
+	}
+
+	private void computeAllSuperiorRoles(UUID subId) {
+		List<UUID> results = new ArrayList<>();
+		computeAllSuperiorRoles(results, new HashSet<>(), subId, subId);
+		if (results.isEmpty()) {
+			allSuperiorRoles.remove(subId);
+		} else {
+			allSuperiorRoles.put(subId, Collections.unmodifiableList(results));
+		}
+	}
+
+	/**
+	 * Duplicate composition from different superior role is not cycle - composition is contained in results more times.
+	 *
+	 * @param results found sub compositions
+	 * @param parents superior roles in currently processed line
+	 * @param superiorId currently processed superior role
+	 */
+	private void computeAllSubRoles(List<UUID> results, List<UUID> parents, UUID superiorId) {
+		List<UUID> subCompositions = directSubRoles.get(superiorId);
+		if (subCompositions == null) {
+			return;
+		}
+		for (UUID compositionId : subCompositions) {
+			IdmRoleCompositionDto composition = compositions.get(compositionId);
+			if (composition.getSuperior().equals(composition.getSub())) {
+				// cyclic composition in the first level is ignored
+				continue;
+			}
+			if (parents.contains(composition.getSub())) {
+				// cycle is, when sub role of processed composition is already in processed superiors
+				continue;
+			}
+			results.add(compositionId);
+			List<UUID> lineParents = new ArrayList<>(parents);
+			lineParents.add(composition.getSuperior());
+			//
+			computeAllSubRoles(results, lineParents, composition.getSub());
+		}
+	}
+
+	/**
+	 * @param results found superior compositions
+	 * @param processed found superior compositions - prevent cycles
+	 * @param subId original role, for which superior roles are found => used for prevent cycles
+	 * @param subChildId currently processed sub role
+	 */
+	private void computeAllSuperiorRoles(List<UUID> results, Set<UUID> processed, UUID subId, UUID subChildId) {
+		List<UUID> superiorCompositions = directSuperiorRoles.get(subChildId);
+		if (superiorCompositions == null) {
+			return;
+		}
+		for (UUID compositionId : superiorCompositions) {
+			IdmRoleCompositionDto composition = compositions.get(compositionId);
+			if (composition.getSuperior().equals(composition.getSub()) // cyclic composition in the first level is ignored
+					|| composition.getSuperior().equals(subId)) { // cyclic to original
+				continue;
+			}
+			if (processed.add(compositionId)) {
+				results.add(compositionId);
+				//
+				computeAllSuperiorRoles(results, processed, subId, composition.getSuperior());
+			}
+		}
+	}
+
+	private List<IdmRoleCompositionDto> toCompositions(List<UUID> compositionIds) {
+		List<IdmRoleCompositionDto> results = new ArrayList<>();
+		if (compositionIds == null) {
+			return results;
+		}
+		compositionIds.forEach(compositionId -> {
+			results.add(compositions.get(compositionId));
+		});
+		return results;
+	}
+}
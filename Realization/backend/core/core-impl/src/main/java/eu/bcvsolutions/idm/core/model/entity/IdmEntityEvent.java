@@ -42,7 +42,8 @@ import eu.bcvsolutions.idm.core.api.entity.OperationResult;
 		@Index(name = "idx_idm_entity_event_exe", columnList = "execute_date"),
 		@Index(name = "idx_idm_entity_event_inst", columnList = "instance_id"),
 		@Index(name = "idx_idm_entity_event_root", columnList = "root_id"),
-		@Index(name = "idx_idm_entity_event_trans_id", columnList = "transaction_id")})
+		@Index(name = "idx_idm_entity_event_trans_id", columnList = "transaction_id"),
+		@Index(name = "idx_idm_entity_event_o_hash", columnList = "owner_hash")})
 public class IdmEntityEvent extends AbstractEntity implements InstanceIdentifiable {
 
 	private static final long serialVersionUID = 1L;
@@ -59,6 +60,9 @@ public class IdmEntityEvent extends AbstractEntity implements InstanceIdentifiab
 	@Column(name = "super_owner_id", length = 16)
 	private UUID superOwnerId;
 	
+	@Column(name = "owner_hash")
+	private Integer ownerHash; // super owner hash - cluster partitions
+	
 	@Size(max = DefaultFieldLengths.NAME)
 	@Column(name = "event_type", length = DefaultFieldLengths.NAME)
 	private String eventType; // event type
@@ -138,6 +142,26 @@ public class IdmEntityEvent extends AbstractEntity implements InstanceIdentifiab
 	public void setSuperOwnerId(UUID superOwnerId) {
 		this.superOwnerId = superOwnerId;
 	}
+	
+	/**
+	 * Super owner hash - event is processed by server instance, which holds lease of partition computed from this hash.
+	 * 
+	 * @return hash
+	 * @since 12.3.0
+	 */
+	public Integer getOwnerHash() {
+		return ownerHash;
+	}
+	
+	/**
+	 * Super owner hash - event is processed by server instance, which holds lease of partition computed from this hash.
+	 * 
+	 * @param ownerHash hash
+	 * @since 12.3.0
+	 */
+	public void setOwnerHash(Integer ownerHash) {
+		this.ownerHash = ownerHash;
+	}
 
 	public ZonedDateTime getExecuteDate() {
 		return executeDate;
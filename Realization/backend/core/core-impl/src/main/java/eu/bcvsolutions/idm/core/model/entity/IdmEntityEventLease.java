@@ -0,0 +1,64 @@
+package eu.bcvsolutions.idm.core.model.entity;
+
+import java.time.ZonedDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.validation.constraints.Size;
+
+import eu.bcvsolutions.idm.core.api.domain.DefaultFieldLengths;
+import eu.bcvsolutions.idm.core.api.entity.AbstractEntity;
+
+/**
+ * Lease of asynchronous event partition - events for owners hashed into partition are processed 
+ * by server instance holding the lease only. Lease is renewed by instance heartbeat and can be claimed 
+ * by another instance, when lease is released or expired.
+ * This entity isn't audited, lease is updated periodically.
+ * 
+ * @since 12.3.0
+ */
+@Entity
+@Table(name = "idm_entity_event_lease", indexes = {
+		@Index(name = "ux_idm_entity_event_lease_part", columnList = "partition_number", unique = true),
+		@Index(name = "idx_idm_entity_event_lease_inst", columnList = "instance_id")
+		})
+public class IdmEntityEventLease extends AbstractEntity {
+
+	private static final long serialVersionUID = 1L;
+
+	@Column(name = "partition_number", nullable = false)
+	private int partitionNumber;
+	
+	@Size(max = DefaultFieldLengths.NAME)
+	@Column(name = "instance_id", length = DefaultFieldLengths.NAME)
+	private String instanceId; // lease holder
+	
+	@Column(name = "expiration")
+	private ZonedDateTime expiration;
+
+	public int getPartitionNumber() {
+		return partitionNumber;
+	}
+
+	public void setPartitionNumber(int partitionNumber) {
+		this.partitionNumber = partitionNumber;
+	}
+
+	public String getInstanceId() {
+		return instanceId;
+	}
+
+	public void setInstanceId(String instanceId) {
+		this.instanceId = instanceId;
+	}
+
+	public ZonedDateTime getExpiration() {
+		return expiration;
+	}
+
+	public void setExpiration(ZonedDateTime expiration) {
+		this.expiration = expiration;
+	}
+}
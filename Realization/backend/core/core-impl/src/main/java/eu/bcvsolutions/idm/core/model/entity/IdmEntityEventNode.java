@@ -0,0 +1,55 @@
+package eu.bcvsolutions.idm.core.model.entity;
+
+import java.time.ZonedDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+
+import eu.bcvsolutions.idm.core.api.domain.DefaultFieldLengths;
+import eu.bcvsolutions.idm.core.api.entity.AbstractEntity;
+
+/**
+ * Server instance processing asynchronous events in cluster - instance is alive, 
+ * when heartbeat is newer than partition lease duration.
+ * This entity isn't audited, heartbeat is updated periodically.
+ * 
+ * @since 12.3.0
+ */
+@Entity
+@Table(name = "idm_entity_event_node", indexes = {
+		@Index(name = "ux_idm_entity_event_node_inst", columnList = "instance_id", unique = true)
+		})
+public class IdmEntityEventNode extends AbstractEntity {
+
+	private static final long serialVersionUID = 1L;
+
+	@NotEmpty
+	@Size(min = 1, max = DefaultFieldLengths.NAME)
+	@Column(name = "instance_id", length = DefaultFieldLengths.NAME, nullable = false)
+	private String instanceId;
+	
+	@NotNull
+	@Column(name = "heartbeat", nullable = false)
+	private ZonedDateTime heartbeat;
+
+	public String getInstanceId() {
+		return instanceId;
+	}
+
+	public void setInstanceId(String instanceId) {
+		this.instanceId = instanceId;
+	}
+
+	public ZonedDateTime getHeartbeat() {
+		return heartbeat;
+	}
+
+	public void setHeartbeat(ZonedDateTime heartbeat) {
+		this.heartbeat = heartbeat;
+	}
+}
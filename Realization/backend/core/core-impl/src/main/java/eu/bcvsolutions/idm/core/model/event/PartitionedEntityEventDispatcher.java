@@ -0,0 +1,424 @@
+package eu.bcvsolutions.idm.core.model.event;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import org.springframework.util.Assert;
+
+import eu.bcvsolutions.idm.core.api.domain.PriorityType;
+import eu.bcvsolutions.idm.core.api.dto.IdmEntityEventDto;
+
+/**
+ * Dispatcher for asynchronous entity events.
+ *
+ * Events are hashed by owner (super owner is preferred) into partitions. Each partition is processed by one dedicated thread,
+ * events for the same owner are processed in the same order as they were dispatched. Owners in partition are processed in round robin
+ * manner - owners with event with high priority first (7 high / 3 normal).
+ * Duplicate event waiting for the same owner is replaced by newer event - see {@link EventHandler#isDuplicate(IdmEntityEventDto, IdmEntityEventDto)}.
+ *
+ * Dispatcher holds events in memory only - persisted event queue is used as recovery (e.g. after server is restarted, when partition is full).
+ *
+ * @since 12.3.0
+ */
+public class PartitionedEntityEventDispatcher {
+
+	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(PartitionedEntityEventDispatcher.class);
+	private static final int HIGH_PRIORITY_RATIO = 7; // 7 high / 3 normal => the same ratio as used for batch from queue.
+	private static final int NORMAL_PRIORITY_RATIO = 3;
+	//
+	private final String name;
+	private final int partitionCapacity;
+	private final EventHandler handler;
+	private final Partition[] partitions;
+	private final Map<UUID, UUID> dispatchedEvents = new ConcurrentHashMap<>(); // event => partition key
+	private volatile boolean running = false;
+
+	/**
+	 * Dispatcher with given partition count.
+	 *
+	 * @param name dispatcher name - used as thread name prefix
+	 * @param partitionCount count of partitions (~ threads)
+	 * @param partitionCapacity maximum count of events waiting in one partition
+	 * @param handler executes dispatched events
+	 */
+	public PartitionedEntityEventDispatcher(String name, int partitionCount, int partitionCapacity, EventHandler handler) {
+		Assert.hasLength(name, "Dispatcher name is required.");
+		Assert.isTrue(partitionCount > 0, "Partition count has to be greater than zero.");
+		Assert.isTrue(partitionCapacity > 0, "Partition capacity has to be greater than zero.");
+		Assert.notNull(handler, "Event handler is required.");
+		//
+		this.name = name;
+		this.partitionCapacity = partitionCapacity;
+		this.handler = handler;
+		this.partitions = new Partition[partitionCount];
+		for (int index = 0; index < partitionCount; index++) {
+			partitions[index] = new Partition(index);
+		}
+	}
+
+	/**
+	 * Start partition threads. Started dispatcher can be started again without effect.
+	 */
+	public synchronized void start() {
+		if (running) {
+			return;
+		}
+		running = true;
+		for (Partition partition : partitions) {
+			Thread thread = new Thread(partition, String.format("%s-%s", name, partition.index));
+			thread.setDaemon(true);
+			thread.start();
+		}
+		LOG.info("Entity event dispatcher [{}] started with [{}] partitions, partition capacity [{}].",
+				name, partitions.length, partitionCapacity);
+	}
+
+	/**
+	 * Stop partition threads. Waiting events are dropped - remains in persisted queue.
+	 */
+	public synchronized void stop() {
+		if (!running) {
+			return;
+		}
+		running = false;
+		for (Partition partition : partitions) {
+			partition.stop();
+		}
+		dispatchedEvents.clear();
+		LOG.info("Entity event dispatcher [{}] stopped.", name);
+	}
+
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * Dispatch event into partition by event owner.
+	 *
+	 * @param event persisted event
+	 * @return true - event was dispatched, false - event was not dispatched (already dispatched, partition is full, dispatcher is stopped)
+	 */
+	public boolean dispatch(IdmEntityEventDto event) {
+		Assert.notNull(event, "Event is required.");
+		Assert.notNull(event.getId(), "Event has to be persisted before dispatching.");
+		Assert.notNull(event.getOwnerId(), "Event owner is required.");
+		//
+		if (!running) {
+			return false;
+		}
+		if (dispatchedEvents.putIfAbsent(event.getId(), getPartitionKey(event)) != null) {
+			LOG.trace("Event [{}] is already dispatched.", event.getId());
+			//
+			return false;
+		}
+		if (!getPartition(getPartitionKey(event)).offer(event)) {
+			dispatchedEvents.remove(event.getId());
+			LOG.debug("Partition for event [{}] is full, event will be dispatched from queue later.", event.getId());
+			//
+			return false;
+		}
+		//
+		return true;
+	}
+
+	/**
+	 * Event is waiting or running in dispatcher.
+	 *
+	 * @param eventId event identifier
+	 * @return true - event was dispatched and not processed yet
+	 */
+	public boolean contains(UUID eventId) {
+		return eventId != null && dispatchedEvents.containsKey(eventId);
+	}
+
+	/**
+	 * Waiting and running events with given partition key.
+	 *
+	 * @param partitionKey event owner (super owner is preferred)
+	 * @return identifiers of dispatched events
+	 * @see #getPartitionKey(IdmEntityEventDto)
+	 */
+	public Set<UUID> getEventIds(UUID partitionKey) {
+		return dispatchedEvents
+				.entrySet()
+				.stream()
+				.filter(dispatchedEvent -> dispatchedEvent.getValue().equals(partitionKey))
+				.map(Map.Entry::getKey)
+				.collect(Collectors.toSet());
+	}
+
+	/**
+	 * Count of waiting and running events.
+	 *
+	 * @return count of dispatched events
+	 */
+	public int size() {
+		return dispatchedEvents.size();
+	}
+
+	/**
+	 * Count of events, which can be dispatched, until dispatcher is full (partitions capacity is not balanced).
+	 *
+	 * @return count of free slots
+	 */
+	public int getFreeCapacity() {
+		return Math.max(0, partitions.length * partitionCapacity - dispatchedEvents.size());
+	}
+
+	/**
+	 * Partition keys (super owner is preferred) of waiting and running events.
+	 *
+	 * @return partition keys
+	 * @see #getPartitionKey(IdmEntityEventDto)
+	 */
+	public Set<UUID> getPartitionKeys() {
+		return new HashSet<>(dispatchedEvents.values());
+	}
+
+	/**
+	 * Drop all waiting events. Running events are not interrupted.
+	 */
+	public void clear() {
+		for (Partition partition : partitions) {
+			partition.clear();
+		}
+	}
+
+	public int getPartitionCount() {
+		return partitions.length;
+	}
+
+	/**
+	 * Returns partition index for given owner.
+	 *
+	 * @param partitionKey event owner (super owner is preferred)
+	 * @return partition index
+	 */
+	public int getPartitionIndex(UUID partitionKey) {
+		Assert.notNull(partitionKey, "Partition key is required.");
+		//
+		return Math.floorMod(partitionKey.hashCode(), partitions.length);
+	}
+
+	/**
+	 * Super owner is preferred, if it's set - events with the same super owner are executed in sequence.
+	 *
+	 * @param event event
+	 * @return owner used for partitioning
+	 */
+	public static UUID getPartitionKey(IdmEntityEventDto event) {
+		return event.getSuperOwnerId() != null ? event.getSuperOwnerId() : event.getOwnerId();
+	}
+
+	private Partition getPartition(UUID partitionKey) {
+		return partitions[getPartitionIndex(partitionKey)];
+	}
+
+	/**
+	 * Executes dispatched events.
+	 *
+	 * @since 12.3.0
+	 */
+	public interface EventHandler {
+
+		/**
+		 * Execute event in partition thread.
+		 *
+		 * @param event dispatched event
+		 */
+		void execute(IdmEntityEventDto event);
+
+		/**
+		 * Returns true, when events are duplicates => older event will not be executed.
+		 *
+		 * @param olderEvent waiting event
+		 * @param event newly dispatched event
+		 * @return true - duplicate
+		 */
+		boolean isDuplicate(IdmEntityEventDto olderEvent, IdmEntityEventDto event);
+
+		/**
+		 * Older waiting event was replaced by newer duplicate event.
+		 *
+		 * @param olderEvent replaced event
+		 * @param event newer event
+		 */
+		void duplicateCanceled(IdmEntityEventDto olderEvent, IdmEntityEventDto event);
+	}
+
+	/**
+	 * Ordered event queue for owners hashed into partition.
+	 *
+	 * @since 12.3.0
+	 */
+	private class Partition implements Runnable {
+
+		private final int index;
+		private final ReentrantLock lock = new ReentrantLock();
+		private final Condition notEmpty = lock.newCondition();
+		private final Map<UUID, Deque<IdmEntityEventDto>> ownerEvents = new HashMap<>();
+		private final Deque<UUID> highOwners = new ArrayDeque<>(); // owners with waiting event with high priority as first
+		private final Deque<UUID> normalOwners = new ArrayDeque<>();
+		private UUID runningOwner = null;
+		private int size = 0;
+		private int highCounter = 0;
+		private volatile Thread thread = null;
+
+		Partition(int index) {
+			this.index = index;
+		}
+
+		boolean offer(IdmEntityEventDto event) {
+			IdmEntityEventDto canceledEvent = null;
+			UUID owner = getPartitionKey(event);
+			lock.lock();
+			try {
+				if (size >= partitionCapacity) {
+					return false;
+				}
+				Deque<IdmEntityEventDto> events = ownerEvents.computeIfAbsent(owner, k -> new ArrayDeque<>());
+				IdmEntityEventDto lastEvent = events.peekLast();
+				if (lastEvent != null 
+						&& lastEvent.getOwnerId().equals(event.getOwnerId())
+						&& handler.isDuplicate(lastEvent, event)) {
+					// older waiting event is replaced - preserve higher priority
+					events.pollLast();
+					size--;
+					if (lastEvent.getPriority() == PriorityType.HIGH) {
+						event.setPriority(PriorityType.HIGH);
+					}
+					canceledEvent = lastEvent;
+				}
+				boolean waiting = !events.isEmpty() || owner.equals(runningOwner);
+				if (canceledEvent != null && !waiting) {
+					// replaced event was the first waiting event => owner is moved into lane by newer event priority
+					highOwners.remove(owner);
+					normalOwners.remove(owner);
+				}
+				events.addLast(event);
+				size++;
+				if (!waiting) {
+					enqueueOwner(owner, event);
+				}
+				notEmpty.signal();
+			} finally {
+				lock.unlock();
+			}
+			//
+			if (canceledEvent != null) {
+				dispatchedEvents.remove(canceledEvent.getId());
+				handler.duplicateCanceled(canceledEvent, event);
+			}
+			return true;
+		}
+
+		@Override
+		public void run() {
+			thread = Thread.currentThread();
+			while (running) {
+				IdmEntityEventDto event;
+				try {
+					event = take();
+				} catch (InterruptedException ex) {
+					if (running) {
+						LOG.warn("Partition [{}] of event dispatcher [{}] was interrupted.", index, name);
+					}
+					Thread.currentThread().interrupt();
+					break;
+				}
+				try {
+					handler.execute(event);
+				} catch (Exception ex) {
+					// event handler should process exception itself
+					LOG.error("Event [{}] processing in partition [{}] failed.", event.getId(), index, ex);
+				} finally {
+					complete(event);
+				}
+			}
+			thread = null;
+		}
+
+		void stop() {
+			clear();
+			Thread partitionThread = thread;
+			if (partitionThread != null) {
+				partitionThread.interrupt();
+			}
+		}
+
+		void clear() {
+			lock.lock();
+			try {
+				ownerEvents.values().forEach(events -> events.forEach(event -> dispatchedEvents.remove(event.getId())));
+				ownerEvents.clear();
+				highOwners.clear();
+				normalOwners.clear();
+				size = 0;
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private IdmEntityEventDto take() throws InterruptedException {
+			lock.lockInterruptibly();
+			try {
+				while (highOwners.isEmpty() && normalOwners.isEmpty()) {
+					notEmpty.await();
+				}
+				UUID owner;
+				if (!highOwners.isEmpty() && (normalOwners.isEmpty() || highCounter < HIGH_PRIORITY_RATIO)) {
+					owner = highOwners.pollFirst();
+					highCounter++;
+				} else {
+					owner = normalOwners.pollFirst();
+					highCounter = Math.max(0, highCounter - (HIGH_PRIORITY_RATIO / NORMAL_PRIORITY_RATIO));
+				}
+				runningOwner = owner;
+				size--;
+				//
+				return ownerEvents.get(owner).pollFirst();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private void complete(IdmEntityEventDto event) {
+			dispatchedEvents.remove(event.getId());
+			lock.lock();
+			try {
+				UUID owner = runningOwner;
+				runningOwner = null;
+				Deque<IdmEntityEventDto> events = ownerEvents.get(owner);
+				if (events == null) {
+					// cleared in the meantime
+					return;
+				}
+				if (events.isEmpty()) {
+					ownerEvents.remove(owner);
+				} else {
+					// round robin - owner with next waiting event is added at the end
+					enqueueOwner(owner, events.peekFirst());
+				}
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private void enqueueOwner(UUID owner, IdmEntityEventDto firstEvent) {
+			if (firstEvent.getPriority() == PriorityType.HIGH) {
+				highOwners.addLast(owner);
+			} else {
+				normalOwners.addLast(owner);
+			}
+		}
+	}
+}
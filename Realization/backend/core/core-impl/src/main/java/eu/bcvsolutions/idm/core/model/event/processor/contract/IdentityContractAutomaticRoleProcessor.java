@@ -1,6 +1,9 @@
 package eu.bcvsolutions.idm.core.model.event.processor.contract;
 
+import java.io.Serializable;
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 
@@ -10,6 +13,7 @@ import org.springframework.stereotype.Component;
 
 import com.google.common.collect.Lists;
 
+import eu.bcvsolutions.idm.core.api.domain.AutomaticRoleAttributeRuleChanges;
 import eu.bcvsolutions.idm.core.api.domain.AutomaticRoleAttributeRuleType;
 import eu.bcvsolutions.idm.core.api.domain.ConceptRoleRequestOperation;
 import eu.bcvsolutions.idm.core.api.dto.AbstractIdmAutomaticRoleDto;
@@ -28,6 +32,7 @@ import eu.bcvsolutions.idm.core.api.service.AutomaticRoleManager;
 import eu.bcvsolutions.idm.core.api.service.IdmAutomaticRoleAttributeService;
 import eu.bcvsolutions.idm.core.api.service.IdmIdentityRoleService;
 import eu.bcvsolutions.idm.core.api.service.IdmRoleRequestService;
+import eu.bcvsolutions.idm.core.eav.api.service.FormService;
 import eu.bcvsolutions.idm.core.model.event.IdentityContractEvent.IdentityContractEventType;
 import eu.bcvsolutions.idm.core.model.event.RoleRequestEvent;
 import eu.bcvsolutions.idm.core.model.event.RoleRequestEvent.RoleRequestEventType;
@@ -75,11 +80,17 @@ public class IdentityContractAutomaticRoleProcessor extends CoreEventProcessor<I
 			type = AutomaticRoleAttributeRuleType.CONTRACT_EAV;
 		}
 		//
+		AutomaticRoleAttributeRuleChanges changes = getChanges(event);
+		if (changes != null && !changes.hasChanges()) {
+			// rule inputs were not changed
+			return new DefaultEventResult<>(event, this);
+		}
+		//
 		// resolve automatic role by attribute
 		Set<AbstractIdmAutomaticRoleDto> allNewPassedAutomaticRoleForContract = automaticRoleAttributeService
-				.getRulesForContract(true, type, contractId);
+				.getRulesForContract(true, type, contractId, changes);
 		Set<AbstractIdmAutomaticRoleDto> allNotPassedAutomaticRoleForContract = automaticRoleAttributeService
-				.getRulesForContract(false, type, contractId);
+				.getRulesForContract(false, type, contractId, changes);
 		// we don't know precious size - guava is used instead simple ArrayList constructor
 		List<IdmConceptRoleRequestDto> concepts = Lists.newArrayListWithExpectedSize(
 				allNewPassedAutomaticRoleForContract.size() + allNotPassedAutomaticRoleForContract.size()
@@ -125,6 +136,47 @@ public class IdentityContractAutomaticRoleProcessor extends CoreEventProcessor<I
 		return new DefaultEventResult<>(event, this);
 	}
 
+	/**
+	 * Changed rule inputs - contract attributes are compared with original source, saved form attributes are propagated from form instance.
+	 * 
+	 * @param event processed event
+	 * @return changed rule inputs, {@code null} - changes cannot be resolved, all rules has to be evaluated
+	 * @since 12.3.0
+	 */
+	@SuppressWarnings("unchecked")
+	private AutomaticRoleAttributeRuleChanges getChanges(EntityEvent<IdmIdentityContractDto> event) {
+		IdmIdentityContractDto contract = event.getContent();
+		AutomaticRoleAttributeRuleChanges changes = new AutomaticRoleAttributeRuleChanges();
+		//
+		if (CoreEventType.EAV_SAVE.name().equals(event.getParentType())) {
+			Serializable savedFormAttributes = event.getProperties().get(FormService.EVENT_PROPERTY_SAVED_FORM_ATTRIBUTES);
+			if (!(savedFormAttributes instanceof Collection)) {
+				return changes.setChanged(AutomaticRoleAttributeRuleType.CONTRACT_EAV);
+			}
+			return changes.addChangedFormAttributes(AutomaticRoleAttributeRuleType.CONTRACT_EAV, (Collection<UUID>) savedFormAttributes);
+		}
+		Object originalSource = event.getOriginalSource();
+		if (!CoreEventType.UPDATE.name().equals(event.getParentType())
+				|| !(originalSource instanceof IdmIdentityContractDto)
+				|| !contract.getId().equals(((IdmIdentityContractDto) originalSource).getId())) {
+			return null;
+		}
+		IdmIdentityContractDto previousContract = (IdmIdentityContractDto) originalSource;
+		if (!Objects.equals(previousContract.getIdentity(), contract.getIdentity())
+				|| !Objects.equals(previousContract.getValidTill(), contract.getValidTill())
+				|| previousContract.isDisabled() != contract.isDisabled()) {
+			// contract owner and validity are evaluated for all automatic roles
+			return null;
+		}
+		changes.setChanged(AutomaticRoleAttributeRuleType.CONTRACT, previousContract, contract);
+		if (!contract.getEavs().isEmpty()) {
+			// contract is saved together with eavs
+			changes.setChanged(AutomaticRoleAttributeRuleType.CONTRACT_EAV);
+		}
+		//
+		return changes;
+	}
+
 	@Override
 	public String getName() {
 		return PROCESSOR_NAME;
@@ -1,6 +1,8 @@
 package eu.bcvsolutions.idm.core.model.event.processor.identity;
 
+import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -10,6 +12,7 @@ import org.springframework.context.annotation.Description;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
+import eu.bcvsolutions.idm.core.api.domain.AutomaticRoleAttributeRuleChanges;
 import eu.bcvsolutions.idm.core.api.domain.AutomaticRoleAttributeRuleType;
 import eu.bcvsolutions.idm.core.api.domain.ConceptRoleRequestOperation;
 import eu.bcvsolutions.idm.core.api.dto.AbstractIdmAutomaticRoleDto;
@@ -30,6 +33,7 @@ import eu.bcvsolutions.idm.core.api.service.IdmAutomaticRoleAttributeService;
 import eu.bcvsolutions.idm.core.api.service.IdmIdentityContractService;
 import eu.bcvsolutions.idm.core.api.service.IdmIdentityRoleService;
 import eu.bcvsolutions.idm.core.api.service.IdmRoleRequestService;
+import eu.bcvsolutions.idm.core.eav.api.service.FormService;
 import eu.bcvsolutions.idm.core.model.event.IdentityContractEvent.IdentityContractEventType;
 import eu.bcvsolutions.idm.core.model.event.RoleRequestEvent;
 import eu.bcvsolutions.idm.core.model.event.RoleRequestEvent.RoleRequestEventType;
@@ -87,12 +91,18 @@ public class IdentityAutomaticRoleProcessor extends CoreEventProcessor<IdmIdenti
 			type = AutomaticRoleAttributeRuleType.IDENTITY_EAV;
 		}
 		//
+		AutomaticRoleAttributeRuleChanges changes = getChanges(event);
+		if (changes != null && !changes.hasChanges()) {
+			// rule inputs were not changed
+			return new DefaultEventResult<>(event, this);
+		}
+		//
 		List<IdmConceptRoleRequestDto> concepts = new ArrayList<IdmConceptRoleRequestDto>();
 		//
 		for (IdmIdentityContractDto contract : identityContractService.findAllByIdentity(identityId)) {
 			UUID contractId = contract.getId();
-			Set<AbstractIdmAutomaticRoleDto> allNewPassedAutomaticRoleForContract = automaticRoleAttributeService.getRulesForContract(true, type, contractId);
-			Set<AbstractIdmAutomaticRoleDto> allNotPassedAutomaticRoleForContract = automaticRoleAttributeService.getRulesForContract(false, type, contractId);
+			Set<AbstractIdmAutomaticRoleDto> allNewPassedAutomaticRoleForContract = automaticRoleAttributeService.getRulesForContract(true, type, contractId, changes);
+			Set<AbstractIdmAutomaticRoleDto> allNotPassedAutomaticRoleForContract = automaticRoleAttributeService.getRulesForContract(false, type, contractId, changes);
 			
 			// Iterate over newly passed
 			for (AbstractIdmAutomaticRoleDto autoRole : allNewPassedAutomaticRoleForContract) {
@@ -137,6 +147,40 @@ public class IdentityAutomaticRoleProcessor extends CoreEventProcessor<IdmIdenti
 		return new DefaultEventResult<>(event, this);
 	}
 	
+	/**
+	 * Changed rule inputs - identity attributes are compared with original source, saved form attributes are propagated from form instance.
+	 * 
+	 * @param event processed event
+	 * @return changed rule inputs, {@code null} - changes cannot be resolved, all rules has to be evaluated
+	 * @since 12.3.0
+	 */
+	@SuppressWarnings("unchecked")
+	private AutomaticRoleAttributeRuleChanges getChanges(EntityEvent<IdmIdentityDto> event) {
+		IdmIdentityDto identity = event.getContent();
+		AutomaticRoleAttributeRuleChanges changes = new AutomaticRoleAttributeRuleChanges();
+		//
+		if (CoreEventType.EAV_SAVE.name().equals(event.getParentType())) {
+			Serializable savedFormAttributes = event.getProperties().get(FormService.EVENT_PROPERTY_SAVED_FORM_ATTRIBUTES);
+			if (!(savedFormAttributes instanceof Collection)) {
+				return changes.setChanged(AutomaticRoleAttributeRuleType.IDENTITY_EAV);
+			}
+			return changes.addChangedFormAttributes(AutomaticRoleAttributeRuleType.IDENTITY_EAV, (Collection<UUID>) savedFormAttributes);
+		}
+		Object originalSource = event.getOriginalSource();
+		if (!CoreEventType.UPDATE.name().equals(event.getParentType())
+				|| !(originalSource instanceof IdmIdentityDto)
+				|| !identity.getId().equals(((IdmIdentityDto) originalSource).getId())) {
+			return null;
+		}
+		changes.setChanged(AutomaticRoleAttributeRuleType.IDENTITY, originalSource, identity);
+		if (!identity.getEavs().isEmpty()) {
+			// identity is saved together with eavs
+			changes.setChanged(AutomaticRoleAttributeRuleType.IDENTITY_EAV);
+		}
+		//
+		return changes;
+	}
+	
 	@Override
 	public String getName() {
 		return PROCESSOR_NAME;
@@ -0,0 +1,71 @@
+package eu.bcvsolutions.idm.core.model.event.processor.identity;
+
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Description;
+import org.springframework.stereotype.Component;
+
+import eu.bcvsolutions.idm.core.api.dto.IdmIdentityContractDto;
+import eu.bcvsolutions.idm.core.api.dto.IdmIdentityRoleDto;
+import eu.bcvsolutions.idm.core.api.event.CoreEvent;
+import eu.bcvsolutions.idm.core.api.event.CoreEventProcessor;
+import eu.bcvsolutions.idm.core.api.event.DefaultEventResult;
+import eu.bcvsolutions.idm.core.api.event.EntityEvent;
+import eu.bcvsolutions.idm.core.api.event.EventResult;
+import eu.bcvsolutions.idm.core.api.event.processor.IdentityRoleProcessor;
+import eu.bcvsolutions.idm.core.api.service.IdmCacheManager;
+import eu.bcvsolutions.idm.core.api.service.IdmIdentityContractService;
+import eu.bcvsolutions.idm.core.api.utils.DtoUtils;
+import eu.bcvsolutions.idm.core.model.entity.IdmIdentityRole_;
+import eu.bcvsolutions.idm.core.model.event.IdentityRoleEvent.IdentityRoleEventType;
+import eu.bcvsolutions.idm.core.security.api.service.AuthorizationManager;
+
+/**
+ * Clear permission and authorization policy cache of identity, when identity role is changed (CUD).
+ * Authorization policies are assigned by roles => cached permissions of role owner are not valid anymore.
+ *
+ * @since 12.3.0
+ */
+@Component(IdentityRoleEvictCacheProcessor.PROCESSOR_NAME)
+@Description("Clear permission and authorization policy cache of identity, when identity role is changed (CUD).")
+public class IdentityRoleEvictCacheProcessor
+		extends CoreEventProcessor<IdmIdentityRoleDto>
+		implements IdentityRoleProcessor {
+
+	public static final String PROCESSOR_NAME = "core-identity-role-evict-cache-processor";
+	//
+	@Autowired private IdmCacheManager cacheManager;
+	@Autowired private IdmIdentityContractService identityContractService;
+
+	public IdentityRoleEvictCacheProcessor() {
+		super(IdentityRoleEventType.CREATE, IdentityRoleEventType.UPDATE, IdentityRoleEventType.DELETE);
+	}
+
+	@Override
+	public String getName() {
+		return PROCESSOR_NAME;
+	}
+
+	@Override
+	public EventResult<IdmIdentityRoleDto> process(EntityEvent<IdmIdentityRoleDto> event) {
+		IdmIdentityRoleDto identityRole = event.getContent();
+		IdmIdentityContractDto contract = DtoUtils.getEmbedded(identityRole, IdmIdentityRole_.identityContract, IdmIdentityContractDto.class, null);
+		if (contract == null && identityRole.getIdentityContract() != null) {
+			contract = identityContractService.get(identityRole.getIdentityContract());
+		}
+		if (contract != null) {
+			UUID identityId = contract.getIdentity();
+			// evict cached permissions (scope) and policies for role owner
+			cacheManager.evictValue(AuthorizationManager.PERMISSION_CACHE_NAME, identityId);
+			cacheManager.evictValue(AuthorizationManager.AUTHORIZATION_POLICY_CACHE_NAME, identityId);
+		}
+		//
+		return new DefaultEventResult<>(event, this);
+	}
+
+	@Override
+	public int getOrder() {
+		return CoreEvent.DEFAULT_ORDER + 10;
+	}
+}
@@ -0,0 +1,52 @@
+package eu.bcvsolutions.idm.core.model.event.processor.role;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Description;
+import org.springframework.stereotype.Component;
+
+import eu.bcvsolutions.idm.core.api.dto.IdmRoleDto;
+import eu.bcvsolutions.idm.core.api.event.CoreEvent;
+import eu.bcvsolutions.idm.core.api.event.CoreEventProcessor;
+import eu.bcvsolutions.idm.core.api.event.DefaultEventResult;
+import eu.bcvsolutions.idm.core.api.event.EntityEvent;
+import eu.bcvsolutions.idm.core.api.event.EventResult;
+import eu.bcvsolutions.idm.core.api.event.processor.RoleProcessor;
+import eu.bcvsolutions.idm.core.api.service.IdmRoleCompositionService;
+import eu.bcvsolutions.idm.core.model.event.RoleEvent.RoleEventType;
+
+/**
+ * Refresh updated role in cached role composition graph.
+ * 
+ * @since 12.3.0
+ */
+@Component(RoleRefreshCompositionGraphProcessor.PROCESSOR_NAME)
+@Description("Refresh updated role in cached role composition graph.")
+public class RoleRefreshCompositionGraphProcessor 
+		extends CoreEventProcessor<IdmRoleDto> 
+		implements RoleProcessor {
+
+	public static final String PROCESSOR_NAME = "core-role-refresh-composition-graph-processor";
+	//
+	@Autowired private IdmRoleCompositionService roleCompositionService;
+
+	public RoleRefreshCompositionGraphProcessor() {
+		super(RoleEventType.UPDATE);
+	}
+
+	@Override
+	public String getName() {
+		return PROCESSOR_NAME;
+	}
+
+	@Override
+	public EventResult<IdmRoleDto> process(EntityEvent<IdmRoleDto> event) {
+		roleCompositionService.refreshRole(event.getContent());
+		//
+		return new DefaultEventResult<>(event, this);
+	}
+	
+	@Override
+	public int getOrder() {
+		return CoreEvent.DEFAULT_ORDER + 10;
+	}
+}
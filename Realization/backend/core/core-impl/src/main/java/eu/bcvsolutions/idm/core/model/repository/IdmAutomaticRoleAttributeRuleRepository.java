@@ -1,5 +1,6 @@
 package eu.bcvsolutions.idm.core.model.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,4 +26,13 @@ public interface IdmAutomaticRoleAttributeRuleRepository extends AbstractEntityR
 			+ "AND"
 				+ ":type IS NULL OR :type = e.type")
 	List<IdmAutomaticRoleAttributeRule> findAllByAutomaticRolesAndType(@Param(value = "automaticRoles") List<UUID> automaticRoles, @Param(value = "type") AutomaticRoleAttributeRuleType type);
+	
+	/**
+	 * Rules of given automatic roles.
+	 * 
+	 * @param automaticRoles automatic roles by attribute
+	 * @return rules
+	 * @since 12.3.0
+	 */
+	List<IdmAutomaticRoleAttributeRule> findAllByAutomaticRoleAttribute_IdIn(@Param("automaticRoles") Collection<UUID> automaticRoles);
 }
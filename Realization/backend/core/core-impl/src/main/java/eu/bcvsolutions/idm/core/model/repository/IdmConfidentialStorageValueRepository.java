@@ -1,5 +1,7 @@
 package eu.bcvsolutions.idm.core.model.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +27,26 @@ public interface IdmConfidentialStorageValueRepository extends AbstractEntityRep
 	 */
 	IdmConfidentialStorageValue findOneByOwnerIdAndOwnerTypeAndKey(UUID ownerId, String ownerType, String key);
 	
+	/**
+	 * Finds all storage values of given owner.
+	 * 
+	 * @param ownerId
+	 * @param ownerType
+	 * @return
+	 * @since 12.3.0
+	 */
+	List<IdmConfidentialStorageValue> findByOwnerIdAndOwnerType(UUID ownerId, String ownerType);
+	
+	/**
+	 * Finds all storage values of given owners.
+	 * 
+	 * @param ownerIds
+	 * @param ownerType
+	 * @return
+	 * @since 12.3.0
+	 */
+	List<IdmConfidentialStorageValue> findByOwnerIdInAndOwnerType(Collection<UUID> ownerIds, String ownerType);
+	
 	/**
 	 * Deletes all values by given key from all owners
 	 * 
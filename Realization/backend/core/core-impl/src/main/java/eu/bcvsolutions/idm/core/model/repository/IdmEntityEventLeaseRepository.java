@@ -0,0 +1,70 @@
+package eu.bcvsolutions.idm.core.model.repository;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import eu.bcvsolutions.idm.core.api.repository.AbstractEntityRepository;
+import eu.bcvsolutions.idm.core.model.entity.IdmEntityEventLease;
+
+/**
+ * Leases of asynchronous event cluster partitions.
+ * 
+ * @since 12.3.0
+ */
+public interface IdmEntityEventLeaseRepository extends AbstractEntityRepository<IdmEntityEventLease> {
+
+	/**
+	 * Registered partitions.
+	 * 
+	 * @return all partition leases
+	 */
+	List<IdmEntityEventLease> findAllByOrderByPartitionNumberAsc();
+	
+	/**
+	 * Claim (or renew) partition lease - lease is claimed, when partition is not leased, lease expired or is already leased by given instance.
+	 * 
+	 * @param partitionNumber partition
+	 * @param instanceId server instance
+	 * @param expiration new lease expiration
+	 * @param now current time
+	 * @return 1 - lease is claimed, 0 - partition is leased by another instance
+	 */
+	@Modifying
+	@Query("update #{#entityName} e set e.instanceId = :instanceId, e.expiration = :expiration"
+			+ " where e.partitionNumber = :partitionNumber"
+			+ " and (e.instanceId = :instanceId or e.instanceId is null or e.expiration is null or e.expiration < :now)")
+	int claim(
+			@Param("partitionNumber") int partitionNumber,
+			@Param("instanceId") String instanceId,
+			@Param("expiration") ZonedDateTime expiration,
+			@Param("now") ZonedDateTime now);
+	
+	/**
+	 * Release partition leases held by given instance - partitions can be claimed by another instance immediately.
+	 * 
+	 * @param partitionNumbers partitions
+	 * @param instanceId server instance
+	 * @return released partitions count
+	 */
+	@Modifying
+	@Query("update #{#entityName} e set e.instanceId = null, e.expiration = null"
+			+ " where e.instanceId = :instanceId and e.partitionNumber in (:partitionNumbers)")
+	int release(
+			@Param("partitionNumbers") Collection<Integer> partitionNumbers,
+			@Param("instanceId") String instanceId);
+	
+	/**
+	 * Release all partition leases held by given instance.
+	 * 
+	 * @param instanceId server instance
+	 * @return released partitions count
+	 */
+	@Modifying
+	@Query("update #{#entityName} e set e.instanceId = null, e.expiration = null where e.instanceId = :instanceId")
+	int releaseAll(@Param("instanceId") String instanceId);
+}
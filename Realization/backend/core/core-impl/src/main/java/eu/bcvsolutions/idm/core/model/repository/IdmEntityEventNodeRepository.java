@@ -0,0 +1,48 @@
+package eu.bcvsolutions.idm.core.model.repository;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import eu.bcvsolutions.idm.core.api.repository.AbstractEntityRepository;
+import eu.bcvsolutions.idm.core.model.entity.IdmEntityEventNode;
+
+/**
+ * Server instances processing asynchronous events in cluster.
+ * 
+ * @since 12.3.0
+ */
+public interface IdmEntityEventNodeRepository extends AbstractEntityRepository<IdmEntityEventNode> {
+
+	/**
+	 * Update heartbeat of given server instance.
+	 * 
+	 * @param instanceId server instance
+	 * @param heartbeat current time
+	 * @return updated nodes count (0 - node is not registered yet)
+	 */
+	@Modifying
+	@Query("update #{#entityName} e set e.heartbeat = :heartbeat where e.instanceId = :instanceId")
+	int updateHeartbeat(@Param("instanceId") String instanceId, @Param("heartbeat") ZonedDateTime heartbeat);
+	
+	/**
+	 * Alive server instances - with heartbeat after given time.
+	 * 
+	 * @param heartbeat oldest alive heartbeat
+	 * @return alive nodes
+	 */
+	List<IdmEntityEventNode> findByHeartbeatAfter(ZonedDateTime heartbeat);
+	
+	/**
+	 * Remove dead server instances - with heartbeat before given time.
+	 * 
+	 * @param heartbeat oldest alive heartbeat
+	 * @return removed nodes count
+	 */
+	@Modifying
+	@Query("delete from #{#entityName} e where e.heartbeat < :heartbeat")
+	int deleteDead(@Param("heartbeat") ZonedDateTime heartbeat);
+}
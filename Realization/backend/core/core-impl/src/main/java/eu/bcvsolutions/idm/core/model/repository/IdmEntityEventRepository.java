@@ -1,6 +1,7 @@
 package eu.bcvsolutions.idm.core.model.repository;
 
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -89,6 +90,97 @@ public interface IdmEntityEventRepository extends AbstractEntityRepository<IdmEn
 			@Param("exceptOwnerIds") List<UUID> exceptOwnerIds,
 			Pageable pageable);
 	
+	/**
+	 * Find event ready to be executed in cluster - events in given cluster partitions (by owner hash) 
+	 * and events without owner hash (created before cluster processing was enabled) for given instance.
+	 * 
+	 * Lookout: Should be used, when no running events exists. Use {@link #findToExecute(String, List, int, OperationState, ZonedDateTime, PriorityType, List, Pageable)} otherwise.
+	 * 
+	 * @param instanceId
+	 * @param partitions leased cluster partitions
+	 * @param partitionCount cluster partition count
+	 * @param state
+	 * @param executeDate
+	 * @param priority
+	 * @param pageable
+	 * @return
+	 * @since 12.3.0
+	 */
+	@Query(value = "SELECT e FROM #{#entityName} e WHERE"
+			+ " (MOD(e.ownerHash, :partitionCount) IN (:partitions) OR (e.ownerHash is null AND e.instanceId = :instanceId))"
+			+ " AND"
+			+ " (e.executeDate is null or e.executeDate <= :executeDate)"
+			+ " AND"
+			+ " (:priority is null or e.priority = :priority)"
+			+ " AND"
+			+ " e.result.state = :state")
+	Page<IdmEntityEvent> findToExecute(
+			@Param("instanceId") String instanceId,
+			@Param("partitions") List<Integer> partitions,
+			@Param("partitionCount") int partitionCount,
+			@Param("state") OperationState state,
+			@Param("executeDate") ZonedDateTime executeDate,
+			@Param("priority") PriorityType priority,
+			Pageable pageable);
+	
+	/**
+	 * Find event ready to be executed in cluster - events in given cluster partitions (by owner hash) 
+	 * and events without owner hash (created before cluster processing was enabled) for given instance.
+	 * 
+	 * @param instanceId
+	 * @param partitions leased cluster partitions
+	 * @param partitionCount cluster partition count
+	 * @param state
+	 * @param executeDate
+	 * @param priority
+	 * @param exceptOwnerIds
+	 * @param pageable
+	 * @return
+	 * @since 12.3.0
+	 */
+	@Query(value = "SELECT e FROM #{#entityName} e WHERE"
+			+ " (MOD(e.ownerHash, :partitionCount) IN (:partitions) OR (e.ownerHash is null AND e.instanceId = :instanceId))"
+			+ " AND"
+			+ " (e.executeDate is null or e.executeDate <= :executeDate)"
+			+ " AND"
+			+ " (:priority is null or e.priority = :priority)"
+			+ " AND"
+			+ " e.result.state = :state"
+			+ " AND"
+			+ " e.ownerId NOT IN (:exceptOwnerIds)")
+	Page<IdmEntityEvent> findToExecute(
+			@Param("instanceId") String instanceId,
+			@Param("partitions") List<Integer> partitions,
+			@Param("partitionCount") int partitionCount,
+			@Param("state") OperationState state,
+			@Param("executeDate") ZonedDateTime executeDate,
+			@Param("priority") PriorityType priority,
+			@Param("exceptOwnerIds") List<UUID> exceptOwnerIds,
+			Pageable pageable);
+	
+	/**
+	 * Find event identifiers with given super owner (~ partition key, super owner is preset as owner by default) 
+	 * in given states - no count query is executed (use page size 1 as existence check).
+	 * 
+	 * @param superOwnerId super owner
+	 * @param states event states
+	 * @param exceptEventIds excluded events
+	 * @param pageable
+	 * @return event identifiers
+	 * @since 12.3.0
+	 */
+	@Query(value = "SELECT e.id FROM #{#entityName} e WHERE"
+			+ " e.superOwnerId = :superOwnerId"
+			+ " AND"
+			+ " e.result.state IN (:states)"
+			+ " AND"
+			+ " e.id NOT IN (:exceptEventIds)")
+	List<UUID> findIdsBySuperOwnerId(
+			@Param("superOwnerId") UUID superOwnerId,
+			@Param("states") List<OperationState> states,
+			@Param("exceptEventIds") Collection<UUID> exceptEventIds,
+			Pageable pageable);
+	
 	/**
 	 * Returns children count for given parent
 	 * 
@@ -1,6 +1,11 @@
 package eu.bcvsolutions.idm.core.model.repository;
 
 import java.time.ZonedDateTime;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import eu.bcvsolutions.idm.core.api.repository.AbstractEntityRepository;
 import eu.bcvsolutions.idm.core.model.entity.IdmToken;
@@ -37,4 +42,37 @@ public interface IdmTokenRepository extends AbstractEntityRepository<IdmToken> {
 	 * @return
 	 */
 	long deleteByTokenTypeAndExpirationLessThan(String tokenType, ZonedDateTime olderThan);
+	
+	/**
+	 * Prolong expiration of enabled token - expiration is updated only, if given expiration is after persisted token expiration.
+	 * Token hash has to be updated together with expiration.
+	 * 
+	 * @param id token identifier
+	 * @param expiration new expiration
+	 * @param token token hash with new expiration
+	 * @return 1 - expiration was prolonged, 0 - token not found, is disabled or has unlimited or later expiration
+	 * @since 12.3.0
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("update #{#entityName} e set e.expiration = :expiration, e.token = :token"
+			+ " where e.id = :id and e.disabled = false and e.expiration < :expiration")
+	int prolongExpiration(
+			@Param("id") UUID id,
+			@Param("expiration") ZonedDateTime expiration,
+			@Param("token") String token);
+	
+	/**
+	 * Update hash of disabled token - token was disabled before prolonged expiration was persisted. 
+	 * Expiration of disabled token is not changed, hash is needed by client to check the disabled token is the used one.
+	 * 
+	 * @param id token identifier
+	 * @param token token hash with prolonged expiration
+	 * @return 1 - hash was updated, 0 - token not found or is not disabled
+	 * @since 12.3.0
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("update #{#entityName} e set e.token = :token where e.id = :id and e.disabled = true")
+	int updateDisabledToken(
+			@Param("id") UUID id,
+			@Param("token") String token);
 }
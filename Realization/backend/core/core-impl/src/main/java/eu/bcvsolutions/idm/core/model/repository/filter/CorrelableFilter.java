@@ -1,7 +1,9 @@
 package eu.bcvsolutions.idm.core.model.repository.filter;
 
 import java.lang.reflect.Field;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import javax.persistence.criteria.AbstractQuery;
 import javax.persistence.criteria.CriteriaBuilder;
@@ -39,13 +41,19 @@ public class CorrelableFilter<E extends AbstractEntity> extends BaseFilterBuilde
 	public Predicate getPredicate(Root<E> root, AbstractQuery<?> query, CriteriaBuilder builder, DataFilter filter) {
 		
 		String property = (String) filter.getData().getFirst(CorrelationFilter.PARAMETER_CORRELATION_PROPERTY);
-		String valueAsString = (String) filter.getData().getFirst(CorrelationFilter.PARAMETER_CORRELATION_VALUE);
+		// multiple values can be given - OR
+		List<String> values = filter
+				.getParameterConverter()
+				.toStrings(filter.getData(), CorrelationFilter.PARAMETER_CORRELATION_VALUE)
+				.stream()
+				.filter(value -> !Strings.isNullOrEmpty(value))
+				.collect(Collectors.toList());
 
 		if (Strings.isNullOrEmpty(property)) {
 			return null;
 		}
 		
-		if (Strings.isNullOrEmpty(valueAsString)) {
+		if (values.isEmpty()) {
 			return null;
 		}
 		
@@ -64,6 +72,14 @@ public class CorrelableFilter<E extends AbstractEntity> extends BaseFilterBuilde
 					property, e);
 		}
 		
+		if (values.size() > 1) {
+			if (UUID.class == field.getType()) {
+				return root.get(property).in(values.stream().map(UUID::fromString).collect(Collectors.toList()));
+			}
+			return root.get(property).in(values);
+		}
+		
+		String valueAsString = values.get(0);
 		if (UUID.class == field.getType()) {
 			return builder.equal(root.get(property), UUID.fromString(valueAsString));
 		}
@@ -0,0 +1,92 @@
+package eu.bcvsolutions.idm.core.model.service.api;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+import eu.bcvsolutions.idm.core.api.config.domain.EventConfiguration;
+import eu.bcvsolutions.idm.core.api.dto.IdmEntityEventDto;
+
+/**
+ * Leases of asynchronous event cluster partitions.
+ * 
+ * Events are split into cluster partitions by super owner hash. Each server instance registers itself by heartbeat
+ * and claims leases on partitions assigned to it - partitions are assigned to alive instances by rendezvous hashing,
+ * so only partitions of dead instance or partitions taken over by joined instance are moved.
+ * Events for the same owner are still processed by one server instance in order they were created - 
+ * lease of partition with running (or dispatched) events is not released, until events are processed.
+ * 
+ * @see EventConfiguration#PROPERTY_EVENT_ASYNCHRONOUS_CLUSTER_PARTITION_COUNT
+ * @since 12.3.0
+ */
+public interface EntityEventLeaseManager {
+	
+	/**
+	 * Owner hash range - owner hash is persisted with event, partition is computed from owner hash 
+	 * and configured partition count (=> partition count can be changed without event update).
+	 */
+	int OWNER_HASH_BUCKETS = 1024;
+	
+	/**
+	 * Owner hash persisted with event.
+	 * 
+	 * @param ownerId event super owner (or owner)
+	 * @return hash in range [0, {@link #OWNER_HASH_BUCKETS})
+	 */
+	static int getOwnerHash(UUID ownerId) {
+		return Math.floorMod(ownerId.hashCode(), OWNER_HASH_BUCKETS);
+	}
+	
+	/**
+	 * Cluster partition for given owner hash.
+	 * 
+	 * @param ownerHash owner hash
+	 * @param partitionCount cluster partition count
+	 * @return partition number
+	 */
+	static int getPartition(int ownerHash, int partitionCount) {
+		return ownerHash % partitionCount;
+	}
+	
+	/**
+	 * Cluster processing is enabled.
+	 * 
+	 * @return true - cluster partition count is configured
+	 */
+	boolean isEnabled();
+	
+	/**
+	 * Register server instance heartbeat, rebalance partitions by alive instances and claim / renew / release partition leases.
+	 * 
+	 * @param busyPartitions partitions with running or dispatched events on this instance - lease is renewed, even if partition is assigned to another instance
+	 */
+	void heartbeat(Collection<Integer> busyPartitions);
+	
+	/**
+	 * Partitions leased and assigned to this instance - events in these partitions can be loaded and executed.
+	 * 
+	 * @return leased partitions (snapshot from the last heartbeat)
+	 */
+	Set<Integer> getLeasedPartitions();
+	
+	/**
+	 * Cluster partition of given event.
+	 * 
+	 * @param event persisted event
+	 * @return partition number
+	 */
+	int getPartition(IdmEntityEventDto event);
+	
+	/**
+	 * Event can be executed on this instance - event partition is leased by this instance.
+	 * 
+	 * @param event persisted event
+	 * @return true - partition is leased
+	 */
+	boolean isLeased(IdmEntityEventDto event);
+	
+	/**
+	 * Release all partitions leased by this instance (e.g. when instance is stopped).
+	 */
+	void releaseAll();
+}
@@ -0,0 +1,275 @@
+package eu.bcvsolutions.idm.core.model.service.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import eu.bcvsolutions.idm.core.api.config.domain.EventConfiguration;
+import eu.bcvsolutions.idm.core.api.dto.IdmEntityEventDto;
+import eu.bcvsolutions.idm.core.api.service.ConfigurationService;
+import eu.bcvsolutions.idm.core.model.entity.IdmEntityEventLease;
+import eu.bcvsolutions.idm.core.model.entity.IdmEntityEventNode;
+import eu.bcvsolutions.idm.core.model.repository.IdmEntityEventLeaseRepository;
+import eu.bcvsolutions.idm.core.model.repository.IdmEntityEventNodeRepository;
+import eu.bcvsolutions.idm.core.model.service.api.EntityEventLeaseManager;
+
+/**
+ * Leases of asynchronous event cluster partitions - partitions are assigned to alive server instances by rendezvous hashing.
+ * Each heartbeat runs in new transactions - leases are visible for other instances immediately.
+ * 
+ * @since 12.3.0
+ */
+@Service("entityEventLeaseManager")
+public class DefaultEntityEventLeaseManager implements EntityEventLeaseManager {
+
+	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(DefaultEntityEventLeaseManager.class);
+	private static final HashFunction ASSIGNMENT_HASH = Hashing.murmur3_32();
+	//
+	@Autowired private IdmEntityEventNodeRepository nodeRepository;
+	@Autowired private IdmEntityEventLeaseRepository leaseRepository;
+	@Autowired private PlatformTransactionManager platformTransactionManager;
+	@Autowired @Lazy private EventConfiguration eventConfiguration;
+	@Autowired @Lazy private ConfigurationService configurationService;
+	//
+	private volatile Set<Integer> leasedPartitions = Collections.emptySet();
+	
+	@Override
+	public boolean isEnabled() {
+		return eventConfiguration.getClusterPartitionCount() > 0;
+	}
+	
+	@Override
+	public synchronized void heartbeat(Collection<Integer> busyPartitions) {
+		int partitionCount = eventConfiguration.getClusterPartitionCount();
+		if (partitionCount <= 0) {
+			leasedPartitions = Collections.emptySet();
+			return;
+		}
+		String instanceId = configurationService.getInstanceId();
+		Duration leaseDuration = Duration.ofMillis(eventConfiguration.getClusterLeaseDuration());
+		ZonedDateTime now = ZonedDateTime.now();
+		ZonedDateTime expiration = now.plus(leaseDuration);
+		ZonedDateTime oldestAlive = now.minus(leaseDuration);
+		//
+		registerNode(instanceId, now);
+		List<IdmEntityEventLease> leases = registerPartitions(partitionCount);
+		//
+		// alive instances - this instance is alive always
+		Set<String> aliveInstances = inNewTransaction(() -> {
+			return nodeRepository
+					.findByHeartbeatAfter(oldestAlive)
+					.stream()
+					.map(IdmEntityEventNode::getInstanceId)
+					.collect(Collectors.toCollection(HashSet::new));
+		});
+		aliveInstances.add(instanceId);
+		//
+		// partitions assigned to this instance
+		Set<Integer> assignedPartitions = new HashSet<>();
+		for (int partition = 0; partition < partitionCount; partition++) {
+			if (instanceId.equals(getAssignedInstance(partition, aliveInstances))) {
+				assignedPartitions.add(partition);
+			}
+		}
+		Set<Integer> busy = busyPartitions == null ? Collections.emptySet() : new HashSet<>(busyPartitions);
+		//
+		// release partitions assigned to another instance - busy partitions are released, after running events are processed
+		Set<Integer> releasePartitions = leases
+				.stream()
+				.filter(lease -> instanceId.equals(lease.getInstanceId()))
+				.map(IdmEntityEventLease::getPartitionNumber)
+				.filter(partition -> !assignedPartitions.contains(partition) && !busy.contains(partition))
+				.collect(Collectors.toSet());
+		if (!releasePartitions.isEmpty()) {
+			LOG.debug("Instance [{}] releases event partitions [{}] - partitions are assigned to another instance.", 
+					instanceId, releasePartitions);
+			inNewTransaction(() -> {
+				return leaseRepository.release(releasePartitions, instanceId);
+			});
+		}
+		//
+		// claim assigned partitions, renew busy partitions
+		Set<Integer> claimPartitions = new TreeSet<>(assignedPartitions);
+		leases
+			.stream()
+			.filter(lease -> instanceId.equals(lease.getInstanceId()))
+			.map(IdmEntityEventLease::getPartitionNumber)
+			.filter(busy::contains)
+			.forEach(claimPartitions::add);
+		Set<Integer> claimedPartitions = inNewTransaction(() -> {
+			Set<Integer> claimed = new HashSet<>();
+			for (Integer partition : claimPartitions) {
+				if (leaseRepository.claim(partition, instanceId, expiration, now) > 0) {
+					claimed.add(partition);
+				}
+			}
+			return claimed;
+		});
+		// events are loaded from assigned partitions only
+		claimedPartitions.retainAll(assignedPartitions);
+		if (!claimedPartitions.equals(leasedPartitions)) {
+			LOG.info("Instance [{}] leases event partitions [{}] of [{}], alive instances [{}].", 
+					instanceId, new TreeSet<>(claimedPartitions), partitionCount, aliveInstances.size());
+		}
+		leasedPartitions = Collections.unmodifiableSet(claimedPartitions);
+		//
+		// dead instances cleanup
+		inNewTransaction(() -> {
+			return nodeRepository.deleteDead(oldestAlive);
+		});
+	}
+	
+	@Override
+	public Set<Integer> getLeasedPartitions() {
+		return leasedPartitions;
+	}
+	
+	@Override
+	public int getPartition(IdmEntityEventDto event) {
+		Assert.notNull(event, "Event is required.");
+		UUID ownerId = event.getSuperOwnerId() == null ? event.getOwnerId() : event.getSuperOwnerId();
+		Assert.notNull(ownerId, "Event owner is required.");
+		//
+		return EntityEventLeaseManager.getPartition(
+				EntityEventLeaseManager.getOwnerHash(ownerId), 
+				eventConfiguration.getClusterPartitionCount());
+	}
+	
+	@Override
+	public boolean isLeased(IdmEntityEventDto event) {
+		if (!isEnabled()) {
+			return false;
+		}
+		return leasedPartitions.contains(getPartition(event));
+	}
+	
+	@Override
+	@PreDestroy
+	public synchronized void releaseAll() {
+		if (leasedPartitions.isEmpty()) {
+			return;
+		}
+		leasedPartitions = Collections.emptySet();
+		try {
+			String instanceId = configurationService.getInstanceId();
+			int released = inNewTransaction(() -> {
+				return leaseRepository.releaseAll(instanceId);
+			});
+			LOG.info("Instance [{}] released [{}] event partitions.", instanceId, released);
+		} catch (Exception ex) {
+			// leases will expire
+			LOG.warn("Event partitions cannot be released, partitions will be rebalanced after lease expires.", ex);
+		}
+	}
+	
+	/**
+	 * Instance with the highest weight wins the partition (rendezvous hashing) => 
+	 * the same result on all instances without coordination, minimal partition movement on instance join / leave.
+	 * 
+	 * @param partition partition number
+	 * @param instances alive instances
+	 * @return assigned instance
+	 */
+	protected String getAssignedInstance(int partition, Collection<String> instances) {
+		String assignedInstance = null;
+		int assignedWeight = 0;
+		for (String instance : instances) {
+			int weight = ASSIGNMENT_HASH.hashString(String.format("%s:%s", instance, partition), StandardCharsets.UTF_8).asInt();
+			if (assignedInstance == null 
+					|| weight > assignedWeight 
+					|| (weight == assignedWeight && instance.compareTo(assignedInstance) < 0)) {
+				assignedInstance = instance;
+				assignedWeight = weight;
+			}
+		}
+		return assignedInstance;
+	}
+	
+	private void registerNode(String instanceId, ZonedDateTime heartbeat) {
+		int updated = inNewTransaction(() -> {
+			return nodeRepository.updateHeartbeat(instanceId, heartbeat);
+		});
+		if (updated > 0) {
+			return;
+		}
+		try {
+			inNewTransaction(() -> {
+				IdmEntityEventNode node = new IdmEntityEventNode();
+				node.setInstanceId(instanceId);
+				node.setHeartbeat(heartbeat);
+				return nodeRepository.save(node);
+			});
+			LOG.info("Instance [{}] registered for processing asynchronous events in cluster.", instanceId);
+		} catch (DataIntegrityViolationException ex) {
+			LOG.debug("Instance [{}] is registered already.", instanceId, ex);
+		}
+	}
+	
+	/**
+	 * Create missing partitions - partitions are created by the first instance, unique partition number prevents duplicates.
+	 * 
+	 * @param partitionCount configured partition count
+	 * @return all registered partitions
+	 */
+	private List<IdmEntityEventLease> registerPartitions(int partitionCount) {
+		List<IdmEntityEventLease> leases = inNewTransaction(() -> {
+			return leaseRepository.findAllByOrderByPartitionNumberAsc();
+		});
+		Set<Integer> registeredPartitions = leases
+				.stream()
+				.map(IdmEntityEventLease::getPartitionNumber)
+				.collect(Collectors.toSet());
+		if (registeredPartitions.containsAll(
+				IntStream.range(0, partitionCount).boxed().collect(Collectors.toSet()))) {
+			return leases;
+		}
+		try {
+			inNewTransaction(() -> {
+				for (int partition = 0; partition < partitionCount; partition++) {
+					if (!registeredPartitions.contains(partition)) {
+						IdmEntityEventLease lease = new IdmEntityEventLease();
+						lease.setPartitionNumber(partition);
+						leaseRepository.save(lease);
+					}
+				}
+				return null;
+			});
+		} catch (DataIntegrityViolationException ex) {
+			LOG.debug("Event partitions were registered by another instance in the meantime.", ex);
+		}
+		return inNewTransaction(() -> {
+			return leaseRepository.findAllByOrderByPartitionNumberAsc();
+		});
+	}
+	
+	private <T> T inNewTransaction(Supplier<T> callback) {
+		TransactionTemplate template = new TransactionTemplate(platformTransactionManager);
+		template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		//
+		return template.execute(status -> callback.get());
+	}
+}
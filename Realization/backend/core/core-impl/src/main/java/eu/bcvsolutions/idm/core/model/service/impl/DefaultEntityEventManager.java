@@ -17,6 +17,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
+import javax.annotation.PreDestroy;
+
 import org.apache.commons.lang3.StringUtils;
 import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -34,6 +36,8 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -91,6 +95,8 @@ import eu.bcvsolutions.idm.core.api.service.ReadDtoService;
 import eu.bcvsolutions.idm.core.api.utils.AutowireHelper;
 import eu.bcvsolutions.idm.core.api.utils.DtoUtils;
 import eu.bcvsolutions.idm.core.api.utils.ExceptionUtils;
+import eu.bcvsolutions.idm.core.model.event.PartitionedEntityEventDispatcher;
+import eu.bcvsolutions.idm.core.model.service.api.EntityEventLeaseManager;
 import eu.bcvsolutions.idm.core.scheduler.api.config.SchedulerConfiguration;
 import eu.bcvsolutions.idm.core.scheduler.api.dto.IdmLongRunningTaskDto;
 import eu.bcvsolutions.idm.core.scheduler.api.event.LongRunningTaskEvent;
@@ -106,6 +112,10 @@ import eu.bcvsolutions.idm.core.security.api.utils.IdmAuthorityUtils;
 /**
  * Entity (dto) processing based on event publishing.
  * 
+ * Asynchronous events are dispatched into partitions by owner right after they are persisted (and transaction is committed), 
+ * see {@link PartitionedEntityEventDispatcher}. Persisted event queue is processed by scheduler as recovery 
+ * (e.g. events created on different instance, after restart, when partition is full).
+ * 
  * TODO: remove duplicate events operation though whole queue (e.q. stopProcessing -> synchronize all entities -> deduplicate -> startProcessing).
  * 
  * @author Radek Tomiška
@@ -132,6 +142,10 @@ public class DefaultEntityEventManager implements EntityEventManager {
 	@Autowired @Lazy private EventConfiguration eventConfiguration;
 	@Autowired @Lazy private LookupService lookupService;
 	@Autowired @Lazy private ConfigurationService configurationService;
+	@Autowired @Lazy private EntityEventLeaseManager leaseManager;
+	//
+	private volatile PartitionedEntityEventDispatcher dispatcher;
+	private volatile boolean dispatcherInitialized = false;
 	
 	/**
 	 * Cancel all previously ran events
@@ -140,7 +154,8 @@ public class DefaultEntityEventManager implements EntityEventManager {
 	public void init() {
 		LOG.info("Cancel unprocessed events - event was interrupt during instance restart");
 		//
-		String instanceId = eventConfiguration.getAsynchronousInstanceId();
+		// running events are switched to executing instance in cluster
+		String instanceId = isClustered() ? configurationService.getInstanceId() : eventConfiguration.getAsynchronousInstanceId();
 		entityEventService.findByState(instanceId, OperationState.RUNNING).forEach(event -> {
 			LOG.info("Cancel unprocessed event [{}] - event was interrupt during instance [{}] restart", event.getId(), instanceId);
 			//
@@ -472,6 +487,37 @@ public class DefaultEntityEventManager implements EntityEventManager {
 		propagateProperties(originalEvent, processedContext.getLastResult().getEvent());
 	}
 	
+	/**
+	 * Renew and rebalance cluster partition leases - partitions with running or dispatched events on this instance are busy 
+	 * (lease is renewed, until events are processed => events for the same owner are not processed on two instances concurrently).
+	 * 
+	 * @since 12.3.0
+	 */
+	@Scheduled(fixedDelayString = "${" + SchedulerConfiguration.PROPERTY_EVENT_CLUSTER_HEARTBEAT + ":" + SchedulerConfiguration.DEFAULT_EVENT_CLUSTER_HEARTBEAT + "}")
+	public void scheduleClusterHeartbeat() {
+		if (!eventConfiguration.isAsynchronous() || !isClustered()) {
+			return;
+		}
+		int partitionCount = eventConfiguration.getClusterPartitionCount();
+		// running owners contains owners and super owners => busy partitions can be superset
+		// dispatched events are resolved by partition key (super owner is preferred) => the same key as used for owner hash
+		Set<UUID> busyPartitionKeys = new HashSet<>(runningOwnerEvents.keySet());
+		PartitionedEntityEventDispatcher eventDispatcher = getDispatcher();
+		if (eventDispatcher != null) {
+			busyPartitionKeys.addAll(eventDispatcher.getPartitionKeys());
+		}
+		Set<Integer> busyPartitions = busyPartitionKeys
+				.stream()
+				.map(partitionKey -> EntityEventLeaseManager.getPartition(EntityEventLeaseManager.getOwnerHash(partitionKey), partitionCount))
+				.collect(Collectors.toSet());
+		try {
+			leaseManager.heartbeat(busyPartitions);
+		} catch (Exception ex) {
+			// leases expire, if heartbeat fails repeatedly => partitions will be processed by another instance
+			LOG.error("Event cluster heartbeat failed, event partitions leases are not renewed.", ex);
+		}
+	}
+	
 	/**
 	 * Spring schedule new task after previous task ended (don't run concurrently)
 	 */
@@ -487,12 +533,19 @@ public class DefaultEntityEventManager implements EntityEventManager {
 			LOG.trace("Asynchronous running events queue is full, waiting for complete running events.");
 			return;
 		}
+		PartitionedEntityEventDispatcher eventDispatcher = getDispatcher();
+		if (eventDispatcher != null && eventDispatcher.getFreeCapacity() < eventConfiguration.getBatchSize()) {
+			LOG.trace("Dispatcher is full, waiting for complete dispatched events.");
+			return;
+		}
 		//
 		processCreated();
 	}
 	
 	/**
-	 * Process created events from event queue
+	 * Process created events from event queue.
+	 * Events are dispatched into partitions, if partitioned dispatcher is enabled - 
+	 * queue is used as recovery for events not dispatched directly.
 	 * 
 	 * @return
 	 */
@@ -501,9 +554,16 @@ public class DefaultEntityEventManager implements EntityEventManager {
 		String instanceId = configurationService.getInstanceId(); // lookout: server instance => process, not put into queue
 		List<IdmEntityEventDto> events = getCreatedEvents(instanceId);
 		LOG.trace("Events to process [{}] on instance [{}].", events.size(), instanceId);
+		PartitionedEntityEventDispatcher eventDispatcher = getDispatcher();
 		for (IdmEntityEventDto event : events) {
-			// adds @Transactional
-			context.getBean(this.getClass()).executeEvent(event);
+			if (eventDispatcher != null 
+					&& event.getPriority() != PriorityType.IMMEDIATE) {
+				// event is processed in partition with other events for the same owner
+				eventDispatcher.dispatch(event);
+			} else {
+				// adds @Transactional
+				context.getBean(this.getClass()).executeEvent(event);
+			}
 		}
 		return events.size();
 	}
@@ -612,96 +672,13 @@ public class DefaultEntityEventManager implements EntityEventManager {
 			return;
 		}
 		//
-		if (runningOwnerEvents.putIfAbsent(event.getOwnerId(), event.getId()) != null) {
-			LOG.debug("Previous event [{}] for owner with id [{}] is currently processed.", 
-					runningOwnerEvents.get(event.getOwnerId()), event.getOwnerId());
-			// event will be processed in another scheduling			
+		if (!addRunningEvent(event)) {
+			// event will be processed in another scheduling
 			return;
 		}
-		// check super owner is not processed
-		UUID superOwnerId = event.getSuperOwnerId();
-		if (superOwnerId != null && !superOwnerId.equals(event.getOwnerId())) {			
-			if (runningOwnerEvents.putIfAbsent(superOwnerId, event.getId()) != null) {
-				LOG.debug("Previous event [{}] for super owner with id [{}] is currently processed.", 
-						runningOwnerEvents.get(superOwnerId), superOwnerId);
-				runningOwnerEvents.remove(event.getOwnerId());
-				// event will be processed in another scheduling		
-				return;
-			}
-		}
 		// execute event in new thread asynchronously
 		try {
-			eventConfiguration.getExecutor().execute(new Runnable() {
-				
-				@Override
-				@SuppressWarnings("unchecked")
-				public void run() {
-					// run as event creator
-					securityService.setAuthentication(new IdmJwtAuthentication(
-							new IdmIdentityDto(event.getCreatorId(), event.getCreator()),
-							new IdmIdentityDto(event.getOriginalCreatorId(), event.getOriginalCreator()),
-							null,
-							ZonedDateTime.now(),
-							Lists.newArrayList(IdmAuthorityUtils.getAdminAuthority()),
-							null));
-					// run under original transaction id - asynchronous processing continue the "user" transaction
-					TransactionContextHolder.setContext(new TransactionContext(event.getTransactionId()));
-					//
-					LOG.debug("Executing event under user [{}] (admin authorities) and transaction [{}]", 
-							securityService.getUsername(),
-							TransactionContextHolder.getContext().getTransactionId());
-					//
-					try {
-						process(new CoreEvent<>(EntityEventType.EXECUTE, event));
-					} catch (Exception ex) {
-						// all processor should persist their own entity state (see AbstractEntityEventProcessor)
-						// event result is persisted here
-						OperationState resultState = OperationState.EXCEPTION;
-						ResultModel resultModel;
-						if (ex instanceof ResultCodeException) {
-							ResultCodeException resultCodeException = (ResultCodeException) ex;
-							resultModel = resultCodeException.getError().getError();
-							if (resultCodeException.getStatus() == HttpStatus.ACCEPTED) {
-								resultState = OperationState.EXECUTED; // => concrete information is preserved in model to know, what happen
-							}
-						} else {
-							resultModel = new DefaultResultModel(
-									CoreResultCode.EVENT_EXECUTE_FAILED, 
-									ImmutableMap.of(
-											"eventId", event.getId(), 
-											"eventType", String.valueOf(event.getEventType()),
-											"ownerId", String.valueOf(event.getOwnerId()),
-											"instanceId", String.valueOf(event.getInstanceId())));
-						}		
-						saveResult(event.getId(), new OperationResultDto
-										.Builder(resultState)
-										.setCause(ex)
-										.setModel(resultModel)
-										.build());
-						//
-						ExceptionUtils.log(LOG, resultModel, ex);
-						//
-						// Sometimes should be the exception processed within owner service (for audit purpose in some request).
-						// We check if owner service supports this feature (implements ExceptionProcessable).
-						try {
-							Class<?> ownerClass = Class.forName(event.getOwnerType());
-							ReadDtoService<?, ?> dtoService = lookupService.getDtoService((Class<? extends Identifiable>) ownerClass);
-							if (dtoService instanceof ExceptionProcessable) {
-								ExceptionProcessable<?> exceptionProcessable = (ExceptionProcessable<?>) dtoService;
-								// Propagate the exception
-								exceptionProcessable.processException(event.getOwnerId(), ex);
-							}
-						} catch (ClassNotFoundException e) {
-							// Only to the log
-							LOG.error(e.getLocalizedMessage(), e);
-						}
-						
-					} finally {
-						LOG.trace("Event [{}] ends for owner with id [{}].", event.getId(), event.getOwnerId());
-						removeRunningEvent(event);
-					}
-				}
-			});
+			eventConfiguration.getExecutor().execute(() -> runEvent(event));
 			//
 			LOG.trace("Running event [{}] for owner with id [{}].", event.getId(), event.getOwnerId());
 		} catch (RejectedExecutionException ex) {
@@ -780,6 +757,9 @@ public class DefaultEntityEventManager implements EntityEventManager {
 	
 	@Override
 	public synchronized void deleteAllEvents() {
+		if (dispatcher != null) {
+			dispatcher.clear();
+		}
 		entityEventService.deleteAll();
 		runningOwnerEvents.clear();
 	}
@@ -793,6 +773,10 @@ public class DefaultEntityEventManager implements EntityEventManager {
 		Assert.notNull(entityEvent, "Event DTO has to be persisted before result is persisted.");
 		//
 		entityEvent.setResult(result);
+		if (result.getState() == OperationState.RUNNING && isClustered()) {
+			// event is executed by instance with leased partition - running event will be canceled, when this instance is restarted
+			entityEvent.setInstanceId(configurationService.getInstanceId());
+		}
 		//
 		return entityEventService.save(entityEvent);
 	}
@@ -1018,6 +1002,19 @@ public class DefaultEntityEventManager implements EntityEventManager {
 		}
 	}
 	
+	/**
+	 * Cancel older duplicate event in new transaction.
+	 * Lookout: public method required for dispatcher only.
+	 * 
+	 * @param olderEvent duplicate older event
+	 * @param event newer event
+	 * @since 12.3.0
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void cancelDuplicateEvent(IdmEntityEventDto olderEvent, IdmEntityEventDto event) {
+		cancelDuplicate(olderEvent, event);
+	}
+	
 	/**
 	 * Returns true if some event for given owner currently running.
 	 * 
@@ -1073,28 +1070,26 @@ public class DefaultEntityEventManager implements EntityEventManager {
 		Assert.notNull(instanceId, "Server instance identifier is required.");
 		//
 		// already running owners are excluded (super owner is excluded too)
-		List<UUID> exceptOwnerIds = Lists.newArrayList(runningOwnerEvents.keySet());
-		exceptOwnerIds = exceptOwnerIds.subList(0, exceptOwnerIds.size() > 500 ? 500 : exceptOwnerIds.size()); // prevent sql queue size is exceeded
+		// dispatched events are ordered by owner in partitions => running owners are not excluded, already dispatched events are skipped
+		PartitionedEntityEventDispatcher eventDispatcher = getDispatcher();
+		List<UUID> exceptOwnerIds = new ArrayList<>();
+		if (eventDispatcher == null) {
+			exceptOwnerIds.addAll(runningOwnerEvents.keySet());
+			exceptOwnerIds = exceptOwnerIds.subList(0, exceptOwnerIds.size() > 500 ? 500 : exceptOwnerIds.size()); // prevent sql queue size is exceeded
+		}
 		//
 		// load created events - high priority
 		ZonedDateTime executeDate = ZonedDateTime.now();
-		Page<IdmEntityEventDto> highEvents = entityEventService.findToExecute(
-				instanceId,
-				executeDate,
-				PriorityType.HIGH,
-				exceptOwnerIds,
-				PageRequest.of(0, eventConfiguration.getBatchSize(), new Sort(Direction.ASC, Auditable.PROPERTY_CREATED)));
+		Page<IdmEntityEventDto> highEvents = findToExecute(instanceId, executeDate, PriorityType.HIGH, exceptOwnerIds);
 		// load created events - low priority
-		Page<IdmEntityEventDto> normalEvents = entityEventService.findToExecute(
-				instanceId,
-				executeDate,
-				PriorityType.NORMAL,
-				exceptOwnerIds,
-				PageRequest.of(0, eventConfiguration.getBatchSize(), new Sort(Direction.ASC, Auditable.PROPERTY_CREATED)));
+		Page<IdmEntityEventDto> normalEvents = findToExecute(instanceId, executeDate, PriorityType.NORMAL, exceptOwnerIds);
 		// merge events
 		List<IdmEntityEventDto> events = new ArrayList<>();
 		events.addAll(highEvents.getContent());
 		events.addAll(normalEvents.getContent());
+		if (eventDispatcher != null) {
+			events.removeIf(event -> eventDispatcher.contains(event.getId()));
+		}
 		// sort by created date
 		events.sort(new CreatedComparator());
 		//
@@ -1115,20 +1110,7 @@ public class DefaultEntityEventManager implements EntityEventManager {
 					}
 					distinctEvents.put(event.getOwnerId(), event);
 					//
-					LOG.debug(new DefaultResultModel(
-							CoreResultCode.EVENT_DUPLICATE_CANCELED, 
-							ImmutableMap.of(
-									"eventId", olderEvent.getId(), 
-									"eventType", String.valueOf(olderEvent.getEventType()),
-									"ownerId", String.valueOf(olderEvent.getOwnerId()),
-									"instanceId", String.valueOf(olderEvent.getInstanceId()),
-									"neverEventId", event.getId())).toString());
-					//
-					IdmEntityEventFilter eventFilter = new IdmEntityEventFilter();
-					eventFilter.setParentId(olderEvent.getId());
-					if (entityEventService.find(eventFilter, PageRequest.of(0, 1)).getTotalElements() == 0) {
-						deleteEvent(olderEvent);
-					}
+					cancelDuplicate(olderEvent, event);
 				}
 			}
 		});
@@ -1168,6 +1150,34 @@ public class DefaultEntityEventManager implements EntityEventManager {
 		return prioritizedEvents;
 	}
 	
+	/**
+	 * Load created events for given instance - events in leased partitions are loaded, if cluster processing is enabled.
+	 * 
+	 * @param instanceId server instance
+	 * @param executeDate execute date
+	 * @param priority event priority
+	 * @param exceptOwnerIds excluded owners
+	 * @return events to execute
+	 */
+	private Page<IdmEntityEventDto> findToExecute(
+			String instanceId, 
+			ZonedDateTime executeDate, 
+			PriorityType priority, 
+			List<UUID> exceptOwnerIds) {
+		PageRequest pageable = PageRequest.of(0, eventConfiguration.getBatchSize(), new Sort(Direction.ASC, Auditable.PROPERTY_CREATED));
+		if (!isClustered()) {
+			return entityEventService.findToExecute(instanceId, executeDate, priority, exceptOwnerIds, pageable);
+		}
+		return entityEventService.findToExecute(
+				instanceId,
+				new ArrayList<>(leaseManager.getLeasedPartitions()),
+				eventConfiguration.getClusterPartitionCount(),
+				executeDate,
+				priority,
+				exceptOwnerIds,
+				pageable);
+	}
+	
 	/**
 	 * Returns true, when events are duplicates
 	 * - event type, parent event type, properties and original source is compared => all properties, which can be used in processors. 
@@ -1225,6 +1235,257 @@ public class DefaultEntityEventManager implements EntityEventManager {
 		}
 	}
 	
+	/**
+	 * Execute event in current thread under event creator and original transaction.
+	 * Running event has to be registered before, see {@link #addRunningEvent(IdmEntityEventDto)}.
+	 * 
+	 * @param event persisted event
+	 */
+	@SuppressWarnings("unchecked")
+	private void runEvent(IdmEntityEventDto event) {
+		// run as event creator
+		securityService.setAuthentication(new IdmJwtAuthentication(
+				new IdmIdentityDto(event.getCreatorId(), event.getCreator()),
+				new IdmIdentityDto(event.getOriginalCreatorId(), event.getOriginalCreator()),
+				null,
+				ZonedDateTime.now(),
+				Lists.newArrayList(IdmAuthorityUtils.getAdminAuthority()),
+				null));
+		// run under original transaction id - asynchronous processing continue the "user" transaction
+		TransactionContextHolder.setContext(new TransactionContext(event.getTransactionId()));
+		//
+		LOG.debug("Executing event under user [{}] (admin authorities) and transaction [{}]", 
+				securityService.getUsername(),
+				TransactionContextHolder.getContext().getTransactionId());
+		//
+		try {
+			process(new CoreEvent<>(EntityEventType.EXECUTE, event));
+		} catch (Exception ex) {
+			// all processor should persist their own entity state (see AbstractEntityEventProcessor)
+			// event result is persisted here
+			OperationState resultState = OperationState.EXCEPTION;
+			ResultModel resultModel;
+			if (ex instanceof ResultCodeException) {
+				ResultCodeException resultCodeException = (ResultCodeException) ex;
+				resultModel = resultCodeException.getError().getError();
+				if (resultCodeException.getStatus() == HttpStatus.ACCEPTED) {
+					resultState = OperationState.EXECUTED; // => concrete information is preserved in model to know, what happen
+				}
+			} else {
+				resultModel = new DefaultResultModel(
+						CoreResultCode.EVENT_EXECUTE_FAILED, 
+						ImmutableMap.of(
+								"eventId", event.getId(), 
+								"eventType", String.valueOf(event.getEventType()),
+								"ownerId", String.valueOf(event.getOwnerId()),
+								"instanceId", String.valueOf(event.getInstanceId())));
+			}		
+			saveResult(event.getId(), new OperationResultDto
+							.Builder(resultState)
+							.setCause(ex)
+							.setModel(resultModel)
+							.build());
+			//
+			ExceptionUtils.log(LOG, resultModel, ex);
+			//
+			// Sometimes should be the exception processed within owner service (for audit purpose in some request).
+			// We check if owner service supports this feature (implements ExceptionProcessable).
+			try {
+				Class<?> ownerClass = Class.forName(event.getOwnerType());
+				ReadDtoService<?, ?> dtoService = lookupService.getDtoService((Class<? extends Identifiable>) ownerClass);
+				if (dtoService instanceof ExceptionProcessable) {
+					ExceptionProcessable<?> exceptionProcessable = (ExceptionProcessable<?>) dtoService;
+					// Propagate the exception
+					exceptionProcessable.processException(event.getOwnerId(), ex);
+				}
+			} catch (ClassNotFoundException e) {
+				// Only to the log
+				LOG.error(e.getLocalizedMessage(), e);
+			}
+			
+		} finally {
+			LOG.trace("Event [{}] ends for owner with id [{}].", event.getId(), event.getOwnerId());
+			removeRunningEvent(event);
+		}
+	}
+	
+	/**
+	 * Register running event - prevent to execute events for the same owner (super owner) concurrently.
+	 * 
+	 * @param event event to execute
+	 * @return true - event can be executed, false - other event for the same owner is currently processed
+	 */
+	private boolean addRunningEvent(IdmEntityEventDto event) {
+		if (runningOwnerEvents.putIfAbsent(event.getOwnerId(), event.getId()) != null) {
+			LOG.debug("Previous event [{}] for owner with id [{}] is currently processed.", 
+					runningOwnerEvents.get(event.getOwnerId()), event.getOwnerId());
+			return false;
+		}
+		// check super owner is not processed
+		UUID superOwnerId = event.getSuperOwnerId();
+		if (superOwnerId != null && !superOwnerId.equals(event.getOwnerId())) {			
+			if (runningOwnerEvents.putIfAbsent(superOwnerId, event.getId()) != null) {
+				LOG.debug("Previous event [{}] for super owner with id [{}] is currently processed.", 
+						runningOwnerEvents.get(superOwnerId), superOwnerId);
+				runningOwnerEvents.remove(event.getOwnerId());
+				return false;
+			}
+		}
+		return true;
+	}
+	
+	/**
+	 * Returns started dispatcher for asynchronous events. 
+	 * Returns {@code null}, if asynchronous event processing or partitioned dispatcher is disabled.
+	 * 
+	 * @return dispatcher or {@code null}
+	 */
+	private PartitionedEntityEventDispatcher getDispatcher() {
+		if (!eventConfiguration.isAsynchronous()) {
+			return null;
+		}
+		if (!dispatcherInitialized) {
+			synchronized (this) {
+				if (!dispatcherInitialized) {
+					int partitionCount = eventConfiguration.getPartitionCount();
+					if (partitionCount > 0) {
+						PartitionedEntityEventDispatcher eventDispatcher = new PartitionedEntityEventDispatcher(
+								"event-partition",
+								partitionCount,
+								eventConfiguration.getPartitionCapacity(),
+								new DispatchedEventHandler());
+						eventDispatcher.start();
+						dispatcher = eventDispatcher;
+					}
+					dispatcherInitialized = true;
+				}
+			}
+		}
+		return dispatcher;
+	}
+	
+	/**
+	 * Asynchronous event processing in cluster is enabled.
+	 * 
+	 * @return true - events are processed by instances with leased partitions
+	 */
+	private boolean isClustered() {
+		return eventConfiguration.getClusterPartitionCount() > 0;
+	}
+	
+	/**
+	 * Event can be executed on current instance - event partition is leased by current instance in cluster,
+	 * or event is created for current instance otherwise.
+	 * 
+	 * @param entityEvent persisted event
+	 * @return true - event can be executed on current instance
+	 */
+	private boolean isExecutable(IdmEntityEventDto entityEvent) {
+		if (isClustered()) {
+			return leaseManager.isLeased(entityEvent);
+		}
+		return Objects.equal(configurationService.getInstanceId(), entityEvent.getInstanceId());
+	}
+	
+	/**
+	 * Dispatch persisted event into partition after current transaction is committed.
+	 * Event remains in queue only (will be processed by scheduler), if event cannot be dispatched.
+	 * Event is dispatched, only when partition key (super owner is preferred) has no other created or running event in queue 
+	 * (except already dispatched events) => newer event cannot overtake older event for the same super owner, which is persisted only.
+	 * 
+	 * @param entityEvent persisted event
+	 */
+	private void dispatchEvent(IdmEntityEventDto entityEvent) {
+		PartitionedEntityEventDispatcher eventDispatcher = getDispatcher();
+		if (eventDispatcher == null
+				|| entityEvent.getPriority() == PriorityType.IMMEDIATE // executed synchronously
+				|| eventConfiguration.isStopProcessing()
+				|| !isExecutable(entityEvent) // lookout: event for different instance
+				|| (entityEvent.getExecuteDate() != null && entityEvent.getExecuteDate().isAfter(ZonedDateTime.now()))) {
+			return;
+		}
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			dispatchEvent(eventDispatcher, entityEvent);
+			return;
+		}
+		// event has to be committed before processing
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+			
+			@Override
+			public void afterCommit() {
+				dispatchEvent(eventDispatcher, entityEvent);
+			}
+		});
+	}
+	
+	private void dispatchEvent(PartitionedEntityEventDispatcher eventDispatcher, IdmEntityEventDto entityEvent) {
+		// events are ordered by partition key (super owner is preferred) - dispatched events for the same key are ordered by dispatcher
+		UUID partitionKey = PartitionedEntityEventDispatcher.getPartitionKey(entityEvent);
+		Set<UUID> exceptEventIds = eventDispatcher.getEventIds(partitionKey);
+		exceptEventIds.add(entityEvent.getId());
+		if (exceptEventIds.size() > eventConfiguration.getBatchSize()
+				|| entityEventService.existsBySuperOwnerId(partitionKey, exceptEventIds)) {
+			LOG.debug("Owner [{}] of event [{}] has other events in queue, event will be processed from queue in order.", 
+					partitionKey, entityEvent.getId());
+			return;
+		}
+		eventDispatcher.dispatch(entityEvent);
+	}
+	
+	/**
+	 * Execute event dispatched into partition. 
+	 * Event is loaded again - event could be canceled, deleted or executed in the meantime.
+	 * 
+	 * @param dispatchedEvent dispatched event
+	 */
+	private void executeDispatchedEvent(IdmEntityEventDto dispatchedEvent) {
+		if (eventConfiguration.isStopProcessing()) {
+			// event remains in queue
+			return;
+		}
+		IdmEntityEventDto event = entityEventService.get(dispatchedEvent.getId());
+		if (event == null 
+				|| event.getResult() == null 
+				|| event.getResult().getState() != OperationState.CREATED) {
+			LOG.debug("Dispatched event [{}] was processed, canceled or deleted in the meantime.", dispatchedEvent.getId());
+			return;
+		}
+		if (!addRunningEvent(event)) {
+			// event is executed by executor (e.g. manually) - event remains in queue and will be processed in another scheduling
+			return;
+		}
+		try {
+			runEvent(event);
+		} finally {
+			// partition thread is reused - clear contexts
+			securityService.logout();
+			TransactionContextHolder.clearContext();
+		}
+	}
+	
+	/**
+	 * Cancel older duplicate event in queue.
+	 * 
+	 * @param olderEvent duplicate older event
+	 * @param event newer event
+	 */
+	private void cancelDuplicate(IdmEntityEventDto olderEvent, IdmEntityEventDto event) {
+		LOG.debug(new DefaultResultModel(
+				CoreResultCode.EVENT_DUPLICATE_CANCELED, 
+				ImmutableMap.of(
+						"eventId", olderEvent.getId(), 
+						"eventType", String.valueOf(olderEvent.getEventType()),
+						"ownerId", String.valueOf(olderEvent.getOwnerId()),
+						"instanceId", String.valueOf(olderEvent.getInstanceId()),
+						"neverEventId", event.getId())).toString());
+		//
+		IdmEntityEventFilter eventFilter = new IdmEntityEventFilter();
+		eventFilter.setParentId(olderEvent.getId());
+		if (entityEventService.find(eventFilter, PageRequest.of(0, 1)).getTotalElements() == 0) {
+			deleteEvent(olderEvent);
+		}
+	}
+	
 	private void removeRunningEvent(IdmEntityEventDto event) {
 		runningOwnerEvents.remove(event.getOwnerId());
 		UUID superOwnerId = event.getSuperOwnerId();
@@ -1336,7 +1597,8 @@ public class DefaultEntityEventManager implements EntityEventManager {
 		// persist event - asynchronous processing
 		entityEvent = entityEventService.save(entityEvent);
 		addEventCache(entityEvent.getId(), entityEvent.getTransactionId());
-		// not processed - persisted into queue
+		// not processed - persisted into queue and dispatched into partition
+		dispatchEvent(entityEvent);
 		return null;
 	}
 	
@@ -1642,6 +1904,40 @@ public class DefaultEntityEventManager implements EntityEventManager {
 		return true; // => asynchronous transaction is processed completely
 	}
 	
+	/**
+	 * Stop dispatcher threads - waiting events remain in queue.
+	 */
+	@PreDestroy
+	public void stopDispatcher() {
+		if (dispatcher != null) {
+			dispatcher.stop();
+		}
+	}
+	
+	/**
+	 * Executes events dispatched into partitions.
+	 * 
+	 * @since 12.3.0
+	 */
+	private class DispatchedEventHandler implements PartitionedEntityEventDispatcher.EventHandler {
+		
+		@Override
+		public void execute(IdmEntityEventDto event) {
+			executeDispatchedEvent(event);
+		}
+		
+		@Override
+		public boolean isDuplicate(IdmEntityEventDto olderEvent, IdmEntityEventDto event) {
+			return DefaultEntityEventManager.this.isDuplicate(olderEvent, event);
+		}
+		
+		@Override
+		public void duplicateCanceled(IdmEntityEventDto olderEvent, IdmEntityEventDto event) {
+			// older event can be deleted after transaction is committed => new transaction is needed 
+			context.getBean(DefaultEntityEventManager.this.getClass()).cancelDuplicateEvent(olderEvent, event);
+		}
+	}
+	
 	/**
 	 * Internal dto - notify LRT about user transaction is completed.
 	 * 
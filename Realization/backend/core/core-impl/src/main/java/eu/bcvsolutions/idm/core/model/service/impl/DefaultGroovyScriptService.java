@@ -1,5 +1,7 @@
 package eu.bcvsolutions.idm.core.model.service.impl;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -9,6 +11,7 @@ import org.codehaus.groovy.control.CompilationFailedException;
 import org.codehaus.groovy.control.CompilerConfiguration;
 import org.codehaus.groovy.control.MultipleCompilationErrorsException;
 import org.codehaus.groovy.control.messages.SyntaxErrorMessage;
+import org.codehaus.groovy.runtime.InvokerHelper;
 import org.codehaus.groovy.syntax.SyntaxException;
 import org.kohsuke.groovy.sandbox.GroovyInterceptor;
 import org.kohsuke.groovy.sandbox.SandboxTransformer;
@@ -17,6 +20,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 
 import eu.bcvsolutions.idm.core.CoreModuleDescriptor;
@@ -32,7 +37,10 @@ import groovy.lang.GroovyShell;
 import groovy.lang.Script;
 
 /**
- * Service for evaluate groovy scripts
+ * Service for evaluate groovy scripts.
+ * 
+ * Compiled script (class) is cached, new script instance is created for each evaluation
+ * => the same script can be evaluated concurrently.
  * 
  * @author svandav
  *
@@ -42,12 +50,24 @@ public class DefaultGroovyScriptService implements GroovyScriptService {
 
 
 	public static final String CACHE_NAME = CoreModuleDescriptor.MODULE_ID + ":default-groovy-script-service-script-cache";
+	/**
+	 * Max count of memoized allowed types (by variable type signature) - least recently used types are evicted, when limit is exceeded.
+	 * 
+	 * @since 12.3.0
+	 */
+	public static final int MAX_ALLOWED_TYPES_SIGNATURES = 1000;
 
 	@Autowired
 	IdmCacheManager cacheManager;
 
 	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory
 			.getLogger(DefaultGroovyScriptService.class);
+	//
+	// resolved allowed types by variable type signature (list of top level variable and extra allowed types)
+	private final Cache<List<Class<?>>, Set<Class<?>>> allowedTypes = CacheBuilder
+			.newBuilder()
+			.maximumSize(MAX_ALLOWED_TYPES_SIGNATURES)
+			.build();
 	
 	@Override
 	public Object evaluate(String script, Map<String, Object> variables) {
@@ -60,10 +80,7 @@ public class DefaultGroovyScriptService implements GroovyScriptService {
 		
 		Binding binding = new Binding(variables);
 		
-		Set<Class<?>> allowedVariableClass = resolveCustomAllowTypes(variables);
-		if(extraAllowedClasses != null){
-			allowedVariableClass.addAll(extraAllowedClasses);
-		}
+		Set<Class<?>> allowedVariableClass = getAllowedTypes(variables, extraAllowedClasses);
 		GroovySandboxFilter sandboxFilter = null;
 		//
 		try {
@@ -77,14 +94,10 @@ public class DefaultGroovyScriptService implements GroovyScriptService {
 				sandboxFilter.register();
 			}
 			
-			// Get script and fill it with variables
-			Script scriptObj = getScript(script);
-			
-			// Scripts aren't thread safe
-			synchronized(scriptObj) {
-				scriptObj.setBinding(binding);
-				return scriptObj.run();
-			}
+			// Scripts aren't thread safe - new script instance is created from compiled script class and filled with variables
+			Script scriptObj = InvokerHelper.createScript(getScript(script).getClass(), binding);
+			//
+			return scriptObj.run();
 			
 		} catch (SecurityException | IdmSecurityException ex) {
 			LOG.error("SecurityException [{}]", ex.getLocalizedMessage());
@@ -111,6 +124,49 @@ public class DefaultGroovyScriptService implements GroovyScriptService {
 		}
 	}
 
+	/**
+	 * Return all unique class from variables and extra allowed classes. Resolved types are memoized
+	 * by top level variable classes - the same script is usually evaluated with the same variable types.
+	 * Types of list variables depend on list items, they are not memoized.
+	 * 
+	 * @param variables
+	 * @param extraAllowedClasses
+	 * @return unmodifiable types - returned set is shared
+	 */
+	private Set<Class<?>> getAllowedTypes(Map<String, Object> variables, List<Class<?>> extraAllowedClasses) {
+		List<Class<?>> signature = new ArrayList<>();
+		if (variables != null) {
+			for (Object object : variables.values()) {
+				if (object instanceof List) {
+					// list item types have to be resolved every time
+					return Collections.unmodifiableSet(resolveAllowedTypes(variables, extraAllowedClasses));
+				}
+				if (object != null) {
+					signature.add(AopUtils.getTargetClass(object));
+				}
+			}
+		}
+		if (extraAllowedClasses != null) {
+			signature.add(null); // separator - extra classes
+			signature.addAll(extraAllowedClasses);
+		}
+		//
+		Set<Class<?>> allowedVariableClass = allowedTypes.getIfPresent(signature);
+		if (allowedVariableClass == null) {
+			allowedVariableClass = Collections.unmodifiableSet(resolveAllowedTypes(variables, extraAllowedClasses));
+			allowedTypes.put(signature, allowedVariableClass);
+		}
+		return allowedVariableClass;
+	}
+	
+	private Set<Class<?>> resolveAllowedTypes(Map<String, Object> variables, List<Class<?>> extraAllowedClasses) {
+		Set<Class<?>> resolvedTypes = resolveCustomAllowTypes(variables);
+		if (extraAllowedClasses != null) {
+			resolvedTypes.addAll(extraAllowedClasses);
+		}
+		return resolvedTypes;
+	}
+
 	/**
 	 * Return all unique class from variables. If is variable list, then add all
 	 * classes for all items.
@@ -166,6 +222,12 @@ public class DefaultGroovyScriptService implements GroovyScriptService {
 		}
 	}
 
+	/**
+	 * Compiled script prototype - script instance from cache is never run, it's used as compiled class holder only.
+	 * 
+	 * @param source script
+	 * @return compiled script
+	 */
 	private Script getScript(String source) {
 		// TODO: consider hashing source in order to not waste so much space
 		ValueWrapper value = cacheManager.getValue(CACHE_NAME, source);
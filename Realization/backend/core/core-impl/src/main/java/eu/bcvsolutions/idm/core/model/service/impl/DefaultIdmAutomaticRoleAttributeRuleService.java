@@ -1,6 +1,10 @@
 package eu.bcvsolutions.idm.core.model.service.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import javax.persistence.criteria.CriteriaBuilder;
@@ -14,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 
 import eu.bcvsolutions.idm.core.api.domain.AutomaticRoleAttributeRuleComparison;
 import eu.bcvsolutions.idm.core.api.domain.AutomaticRoleAttributeRuleType;
@@ -52,6 +57,9 @@ public class DefaultIdmAutomaticRoleAttributeRuleService extends
 		AbstractReadWriteDtoService<IdmAutomaticRoleAttributeRuleDto, IdmAutomaticRoleAttributeRule, IdmAutomaticRoleAttributeRuleFilter>
 		implements IdmAutomaticRoleAttributeRuleService {
 
+	private static final int MAX_AUTOMATIC_ROLES_IN_QUERY = 500;
+	//
+	private final IdmAutomaticRoleAttributeRuleRepository repository;
 	private final EntityEventManager entityEventManager;
 	private IdmFormAttributeService formAttributeService = null;
 
@@ -63,6 +71,7 @@ public class DefaultIdmAutomaticRoleAttributeRuleService extends
 		//
 		Assert.notNull(entityEventManager, "Manager is required.");
 		//
+		this.repository = repository;
 		this.entityEventManager = entityEventManager;
 	}
 	
@@ -163,6 +172,20 @@ public class DefaultIdmAutomaticRoleAttributeRuleService extends
 		filter.setAutomaticRoleAttributeId(automaticRole);
 		return this.find(filter, null).getContent();
 	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public Map<UUID, List<IdmAutomaticRoleAttributeRuleDto>> findAllRulesForAutomaticRoles(Collection<UUID> automaticRoles) {
+		Assert.notNull(automaticRoles, "Automatic roles are required.");
+		//
+		Map<UUID, List<IdmAutomaticRoleAttributeRuleDto>> results = new HashMap<>(automaticRoles.size());
+		for (List<UUID> partition : Lists.partition(new ArrayList<>(automaticRoles), MAX_AUTOMATIC_ROLES_IN_QUERY)) {
+			toDtos(repository.findAllByAutomaticRoleAttribute_IdIn(partition), false).forEach(rule -> {
+				results.computeIfAbsent(rule.getAutomaticRoleAttribute(), automaticRoleId -> new ArrayList<>()).add(rule);
+			});
+		}
+		return results;
+	}
 
 	@Override
 	protected List<Predicate> toPredicates(Root<IdmAutomaticRoleAttributeRule> root, CriteriaQuery<?> query,
@@ -7,11 +7,13 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Expression;
@@ -35,6 +37,7 @@ import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import eu.bcvsolutions.idm.core.api.domain.AutomaticRoleAttributeRuleChanges;
 import eu.bcvsolutions.idm.core.api.domain.AutomaticRoleAttributeRuleComparison;
 import eu.bcvsolutions.idm.core.api.domain.AutomaticRoleAttributeRuleType;
 import eu.bcvsolutions.idm.core.api.domain.ConceptRoleRequestOperation;
@@ -339,13 +342,9 @@ public class DefaultIdmAutomaticRoleAttributeService
 			return new PageImpl<>(Collections.emptyList(), pageable, 0);
 		}
 		//
-		// FIXME: Pagination cannot be used since async requests was added! Refactor rows below to return UUID only to prevent memory overusage!
+		// all contracts are returned in one query - identifiers are selected only (pagination cannot be used since async requests was added)
 		Specification<IdmIdentityContract> criteria = this.getCriteriaForRulesByContract(automaticRoleId, rulesForContracts, passed, null);
-		List<IdmIdentityContract> contracts = identityContractRepository.findAll(criteria);
-		//
-		// transform to page uuid
-		List<UUID> dtos = contracts.stream().map(IdmIdentityContract::getId).collect(Collectors.toList());
-		return new PageImpl<>(dtos);
+		return new PageImpl<>(findContractIds(criteria, null));
 	}
 	
 	@Override
@@ -449,17 +448,41 @@ public class DefaultIdmAutomaticRoleAttributeService
 	
 	@Override
 	public Set<AbstractIdmAutomaticRoleDto> getRulesForContract(boolean pass, AutomaticRoleAttributeRuleType type, UUID contractId) {
+		return getRulesForContract(pass, type, contractId, null);
+	}
+	
+	@Override
+	public Set<AbstractIdmAutomaticRoleDto> getRulesForContract(
+			boolean pass, 
+			AutomaticRoleAttributeRuleType type, 
+			UUID contractId,
+			AutomaticRoleAttributeRuleChanges changes) {
 		Set<AbstractIdmAutomaticRoleDto> automaticRoles = new HashSet<>();
+		if (changes != null && !changes.hasChanges()) {
+			LOG.trace("Rule inputs were not changed, automatic roles by attribute will not be evaluated for contract [{}].", contractId);
+			//
+			return automaticRoles;
+		}
 		//
 		// iterate trough all automatic role that has at least one rule and isn't in concept state
 		Page<IdmAutomaticRoleAttributeDto> automaticRolesToProcess = this.findAllToProcess(type, PageRequest.of(0, PROCESS_ROLE_SIZE));
 		while (automaticRolesToProcess.hasContent()) {
+			// rules of all roles on the page are loaded together
+			Map<UUID, List<IdmAutomaticRoleAttributeRuleDto>> rules = automaticRoleAttributeRuleService.findAllRulesForAutomaticRoles(
+					automaticRolesToProcess
+						.stream()
+						.map(IdmAutomaticRoleAttributeDto::getId)
+						.collect(Collectors.toList()));
 			// all found roles it will has rules and will not be in concept state
 			for (IdmAutomaticRoleAttributeDto automaticRole : automaticRolesToProcess) {
-				List<IdmAutomaticRoleAttributeRuleDto> allRulesForAutomaticRole = automaticRoleAttributeRuleService.findAllRulesForAutomaticRole(automaticRole.getId());
+				List<IdmAutomaticRoleAttributeRuleDto> allRulesForAutomaticRole = rules.getOrDefault(automaticRole.getId(), new ArrayList<>());
+				if (changes != null && allRulesForAutomaticRole.stream().noneMatch(changes::isChanged)) {
+					// rule inputs were not changed - result cannot be changed
+					continue;
+				}
 				//
 				Specification<IdmIdentityContract> criteria = this.getCriteriaForRulesByContract(automaticRole.getId(), allRulesForAutomaticRole, pass, contractId);
-				boolean result = !identityContractRepository.findAll(criteria).isEmpty();
+				boolean result = !findContractIds(criteria, 1).isEmpty();
 				if (result) {
 					automaticRoles.add(automaticRole);
 				}
@@ -475,6 +498,27 @@ public class DefaultIdmAutomaticRoleAttributeService
 		return automaticRoles;
 	}
 	
+	/**
+	 * Identifiers of contracts matching given criteria - contracts are not loaded.
+	 * 
+	 * @param criteria contract criteria
+	 * @param maxResults max results, {@code null} - all
+	 * @return contract identifiers
+	 */
+	private List<UUID> findContractIds(Specification<IdmIdentityContract> criteria, Integer maxResults) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<UUID> query = cb.createQuery(UUID.class);
+		Root<IdmIdentityContract> root = query.from(IdmIdentityContract.class);
+		query.select(root.get(AbstractEntity_.id));
+		criteria.toPredicate(root, query, cb); // where clause is set by specification
+		//
+		TypedQuery<UUID> typedQuery = entityManager.createQuery(query);
+		if (maxResults != null) {
+			typedQuery.setMaxResults(maxResults);
+		}
+		return typedQuery.getResultList();
+	}
+	
 	/**
 	 * Return all criteria for given rules by contract
 	 * Compose all specification for identity/contract and rules
@@ -2,7 +2,16 @@ package eu.bcvsolutions.idm.core.model.service.impl;
 
 import java.io.Serializable;
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.SerializationUtils;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,6 +19,8 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import com.google.common.collect.Lists;
+
 import eu.bcvsolutions.idm.core.api.domain.Identifiable;
 import eu.bcvsolutions.idm.core.api.dto.IdmConfidentialStorageValueDto;
 import eu.bcvsolutions.idm.core.api.entity.BaseEntity;
@@ -29,6 +40,7 @@ import eu.bcvsolutions.idm.core.security.api.service.CryptService;
 public class DefaultIdmConfidentialStorage implements ConfidentialStorage {
 
 	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(DefaultIdmConfidentialStorage.class);
+	private static final int MAX_OWNERS_IN_QUERY = 500; // oracle in clause limit
 	private final IdmConfidentialStorageValueRepository repository;
 	private final CryptService cryptService;
 	private LookupService lookupService;
@@ -102,6 +114,114 @@ public class DefaultIdmConfidentialStorage implements ConfidentialStorage {
 		repository.save(storage);
 	}
 	
+	@Override
+	@Transactional
+	public void changeCryptKey(List<IdmConfidentialStorageValueDto> values, GuardedString oldCryptKey) {
+		Assert.notNull(values, "Values are required.");
+		if (values.isEmpty()) {
+			return;
+		}
+		//
+		List<UUID> valueIds = values
+				.stream()
+				.map(IdmConfidentialStorageValueDto::getId)
+				.collect(Collectors.toList());
+		List<IdmConfidentialStorageValue> storages = Lists.newArrayList(repository.findAllById(valueIds));
+		Assert.isTrue(storages.size() == values.size(), "All values are required in storage.");
+		//
+		storages.forEach(storage -> {
+			// decrypt value with old key
+			byte[] decryptedValue = cryptService.decryptWithKey(storage.getValue(), oldCryptKey, storage.getIv());
+			// create new IV
+			byte[] vector = cryptService.generateVector();
+			storage.setIv(vector);
+			// and crypt value with new key
+			storage.setValue(cryptService.encrypt(decryptedValue, vector));
+		});
+		// persist new values
+		repository.saveAll(storages);
+	}
+	
+	@Override
+	@Transactional
+	public void saveAll(UUID ownerId, Class<? extends Identifiable> ownerType, Map<String, ? extends Serializable> values) {
+		Assert.notNull(ownerId, "Owner identifier is required");
+		Assert.notNull(ownerType, "Owner type is required.");
+		Assert.notNull(values, "Values are required.");
+		if (values.isEmpty()) {
+			return;
+		}
+		//
+		LOG.debug("Saving [{}] values for owner [{},{}] to confidential storage", values.size(), ownerId, ownerType);
+		String storageOwnerType = getOwnerType(ownerType);
+		Map<String, IdmConfidentialStorageValue> storages = repository
+				.findByOwnerIdAndOwnerType(ownerId, storageOwnerType)
+				.stream()
+				.collect(Collectors.toMap(IdmConfidentialStorageValue::getKey, Function.identity()));
+		List<IdmConfidentialStorageValue> changedStorages = new ArrayList<>(values.size());
+		for (Entry<String, ? extends Serializable> entry : values.entrySet()) {
+			String key = entry.getKey();
+			Assert.hasLength(key, "Key is required.");
+			//
+			IdmConfidentialStorageValue storage = storages.get(key);
+			if (storage == null) {
+				// create new storage
+				storage = new IdmConfidentialStorageValue();
+				storage.setOwnerType(storageOwnerType);
+				storage.setOwnerId(ownerId);
+				storage.setKey(key);
+			}
+			byte[] vector = cryptService.generateVector();
+			// Set new IV vector
+			storage.setIv(vector);
+			// set storage value
+			storage.setValue(toStorageValue(entry.getValue(), vector));
+			changedStorages.add(storage);
+		}
+		// persist
+		repository.saveAll(changedStorages);
+	}
+	
+	@Override
+	public Map<String, Serializable> getAll(UUID ownerId, Class<? extends Identifiable> ownerType) {
+		Assert.notNull(ownerId, "Owner identifier is required");
+		Assert.notNull(ownerType, "Owner type is required.");
+		//
+		LOG.debug("Get all values for owner [{},{}] from confidential storage", ownerId, ownerType);
+		Map<String, Serializable> results = new HashMap<>();
+		repository
+			.findByOwnerIdAndOwnerType(ownerId, getOwnerType(ownerType))
+			.forEach(storage -> {
+				results.put(storage.getKey(), fromStorageValue(storage.getValue(), storage.getIv()));
+			});
+		//
+		return results;
+	}
+	
+	@Override
+	public Map<UUID, Map<String, Serializable>> getAll(Collection<UUID> ownerIds, Class<? extends Identifiable> ownerType) {
+		Assert.notNull(ownerIds, "Owner identifiers are required");
+		Assert.notNull(ownerType, "Owner type is required.");
+		//
+		Map<UUID, Map<String, Serializable>> results = new LinkedHashMap<>();
+		if (ownerIds.isEmpty()) {
+			return results;
+		}
+		String storageOwnerType = getOwnerType(ownerType);
+		for (List<UUID> partition : Lists.partition(new ArrayList<>(ownerIds), MAX_OWNERS_IN_QUERY)) {
+			LOG.debug("Get all values for [{}] owners [{}] from confidential storage", partition.size(), ownerType);
+			repository
+				.findByOwnerIdInAndOwnerType(partition, storageOwnerType)
+				.forEach(storage -> {
+					results
+						.computeIfAbsent(storage.getOwnerId(), ownerId -> new HashMap<>())
+						.put(storage.getKey(), fromStorageValue(storage.getValue(), storage.getIv()));
+				});
+		}
+		//
+		return results;
+	}
+	
 	@Override
 	@Transactional
 	public void delete(UUID ownerId, Class<? extends Identifiable> ownerType, String key) {
@@ -2,6 +2,7 @@ package eu.bcvsolutions.idm.core.model.service.impl;
 
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -14,10 +15,13 @@ import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
+import com.google.common.collect.Lists;
+
 import eu.bcvsolutions.idm.core.api.domain.ConfigurationMap;
 import eu.bcvsolutions.idm.core.api.domain.OperationState;
 import eu.bcvsolutions.idm.core.api.domain.PriorityType;
@@ -25,6 +29,7 @@ import eu.bcvsolutions.idm.core.api.dto.IdmEntityEventDto;
 import eu.bcvsolutions.idm.core.api.dto.OperationResultDto;
 import eu.bcvsolutions.idm.core.api.dto.filter.IdmEntityEventFilter;
 import eu.bcvsolutions.idm.core.api.dto.filter.IdmEntityStateFilter;
+import eu.bcvsolutions.idm.core.api.entity.BaseEntity;
 import eu.bcvsolutions.idm.core.api.entity.OperationResult_;
 import eu.bcvsolutions.idm.core.api.repository.filter.FilterKey;
 import eu.bcvsolutions.idm.core.api.service.AbstractEventableDtoService;
@@ -37,6 +42,7 @@ import eu.bcvsolutions.idm.core.model.entity.IdmEntityEvent;
 import eu.bcvsolutions.idm.core.model.entity.IdmEntityEvent_;
 import eu.bcvsolutions.idm.core.model.repository.IdmEntityEventRepository;
 import eu.bcvsolutions.idm.core.model.repository.IdmEntityStateRepository;
+import eu.bcvsolutions.idm.core.model.service.api.EntityEventLeaseManager;
 import eu.bcvsolutions.idm.core.security.api.dto.AuthorizableType;
 import eu.bcvsolutions.idm.core.security.api.service.SecurityService;
 
@@ -102,6 +108,65 @@ public class DefaultIdmEntityEventService
 		);
 	}
 	
+	@Override
+	@Transactional(readOnly = true)
+	public Page<IdmEntityEventDto> findToExecute(
+			String instanceId,
+			List<Integer> partitions,
+			int partitionCount,
+			ZonedDateTime executeDate,
+			PriorityType priority,
+			List<UUID> exceptOwnerIds,
+			Pageable pageable) {
+		Assert.isTrue(partitionCount > 0, "Cluster partition count has to be greater than zero.");
+		// no partition is leased => events without owner hash for given instance only
+		List<Integer> leasedPartitions = CollectionUtils.isEmpty(partitions) ? Lists.newArrayList(-1) : partitions;
+		if (CollectionUtils.isEmpty(exceptOwnerIds)) {
+			return toDtoPage(
+					repository.findToExecute(
+							instanceId, 
+							leasedPartitions, 
+							partitionCount, 
+							OperationState.CREATED, 
+							executeDate, 
+							priority, 
+							pageable
+					)
+			);
+		}
+		return toDtoPage(
+				repository.findToExecute(
+					instanceId, 
+					leasedPartitions, 
+					partitionCount, 
+					OperationState.CREATED, 
+					executeDate, 
+					priority, 
+					getFilterManager().checkFilterSizeExceeded(
+							new FilterKey(getEntityClass(), IdmEntityEventFilter.PARAMETER_OWNER_ID), exceptOwnerIds
+					), 
+					pageable
+				)
+		);
+	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public boolean existsBySuperOwnerId(UUID superOwnerId, Collection<UUID> exceptEventIds) {
+		Assert.notNull(superOwnerId, "Super owner is required.");
+		Assert.notEmpty(exceptEventIds, "Excluded events are required.");
+		//
+		return !repository
+				.findIdsBySuperOwnerId(
+						superOwnerId,
+						Lists.newArrayList(OperationState.CREATED, OperationState.RUNNING),
+						getFilterManager().checkFilterSizeExceeded(
+								new FilterKey(getEntityClass(), BaseEntity.PROPERTY_ID), new ArrayList<>(exceptEventIds)
+						),
+						PageRequest.of(0, 1))
+				.isEmpty();
+	}
+	
 	@Override
 	@Transactional
 	public IdmEntityEventDto saveInternal(IdmEntityEventDto dto) {
@@ -175,6 +240,20 @@ public class DefaultIdmEntityEventService
 		return repository.switchInstanceId(previousInstanceId, newInstanceId, OperationState.CREATED);
 	}
 	
+	/**
+	 * Owner hash is computed from super owner - cluster partition is resolved by owner hash.
+	 */
+	@Override
+	protected IdmEntityEvent toEntity(IdmEntityEventDto dto, IdmEntityEvent entity) {
+		IdmEntityEvent entityEvent = super.toEntity(dto, entity);
+		if (entityEvent != null) {
+			UUID partitionOwnerId = entityEvent.getSuperOwnerId() == null ? entityEvent.getOwnerId() : entityEvent.getSuperOwnerId();
+			entityEvent.setOwnerHash(partitionOwnerId == null ? null : EntityEventLeaseManager.getOwnerHash(partitionOwnerId));
+		}
+		//
+		return entityEvent;
+	}
+	
 	@Override
 	protected List<Predicate> toPredicates(Root<IdmEntityEvent> root, CriteriaQuery<?> query, CriteriaBuilder builder,
 			IdmEntityEventFilter filter) {
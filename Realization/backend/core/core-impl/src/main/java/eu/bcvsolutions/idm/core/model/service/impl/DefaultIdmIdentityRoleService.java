@@ -4,7 +4,10 @@ import eu.bcvsolutions.idm.core.api.service.AbstractReadDtoService;
 import eu.bcvsolutions.idm.core.api.service.IdmRoleSystemService;
 import java.io.Serializable;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -22,6 +25,7 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.lang3.BooleanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.transaction.annotation.Transactional;
@@ -52,8 +56,10 @@ import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormDefinitionDto;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormInstanceDto;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormValueDto;
 import eu.bcvsolutions.idm.core.eav.api.dto.InvalidFormAttributeDto;
+import eu.bcvsolutions.idm.core.eav.api.dto.filter.IdmFormValueFilter;
 import eu.bcvsolutions.idm.core.eav.api.service.AbstractFormableService;
 import eu.bcvsolutions.idm.core.eav.api.service.FormService;
+import eu.bcvsolutions.idm.core.eav.entity.AbstractFormValue_;
 import eu.bcvsolutions.idm.core.model.domain.CoreGroupPermission;
 import eu.bcvsolutions.idm.core.model.entity.IdmAutomaticRole;
 import eu.bcvsolutions.idm.core.model.entity.IdmAutomaticRoleAttribute;
@@ -131,6 +137,63 @@ public class DefaultIdmIdentityRoleService
 		return null;
 	}
 	
+	@Override
+	public Map<UUID, IdmFormInstanceDto> getRoleAttributeValues(Collection<IdmIdentityRoleDto> identityRoles) {
+		Assert.notNull(identityRoles, "Identity roles are required.");
+		//
+		Map<UUID, IdmFormInstanceDto> results = new HashMap<>(identityRoles.size());
+		// sub definitions by role
+		Map<UUID, IdmFormDefinitionDto> formDefinitions = new HashMap<>();
+		// identity roles by role attribute definition => values are loaded by one query for each definition
+		Map<UUID, List<IdmIdentityRoleDto>> identityRolesByDefinition = new HashMap<>();
+		for (IdmIdentityRoleDto identityRole : identityRoles) {
+			// If given identity-role contains one formInstance, then will be returned
+			List<IdmFormInstanceDto> eavs = identityRole.getEavs();
+			if (eavs.size() == 1) {
+				if (eavs.get(0) != null) {
+					results.put(identityRole.getId(), eavs.get(0));
+				}
+				continue;
+			}
+			UUID roleId = identityRole.getRole();
+			if (roleId == null) {
+				continue;
+			}
+			IdmRoleDto role = DtoUtils.getEmbedded(identityRole, IdmIdentityRole_.role, IdmRoleDto.class);
+			// Has role filled attribute definition?
+			if (role.getIdentityRoleAttributeDefinition() == null) {
+				continue;
+			}
+			IdmFormDefinitionDto formDefinition = formDefinitions.computeIfAbsent(roleId, r -> roleService.getFormAttributeSubdefinition(role));
+			identityRolesByDefinition
+				.computeIfAbsent(formDefinition.getId(), definitionId -> new ArrayList<>())
+				.add(identityRole);
+		}
+		//
+		identityRolesByDefinition.forEach((definitionId, definitionIdentityRoles) -> {
+			IdmFormValueFilter<IdmIdentityRole> filter = new IdmFormValueFilter<>();
+			filter.setOwner(new IdmIdentityRole()); // owner type only
+			filter.setOwnerIds(definitionIdentityRoles.stream().map(IdmIdentityRoleDto::getId).collect(Collectors.toList()));
+			filter.setDefinitionId(definitionId);
+			filter.setAddSecredProxyString(true);
+			Map<UUID, List<IdmFormValueDto>> values = getFormService()
+					.findValues(filter, PageRequest.of(0, Integer.MAX_VALUE, Sort.by(AbstractFormValue_.seq.getName())))
+					.stream()
+					.collect(Collectors.groupingBy(value -> (UUID) value.getOwnerId()));
+			//
+			definitionIdentityRoles.forEach(identityRole -> {
+				results.put(
+						identityRole.getId(), 
+						new IdmFormInstanceDto(
+								new IdmIdentityRole(identityRole.getId()), 
+								formDefinitions.get(identityRole.getRole()), 
+								values.getOrDefault(identityRole.getId(), new ArrayList<>())));
+			});
+		});
+		//
+		return results;
+	}
+	
 	@Override
 	public List<InvalidFormAttributeDto> validateFormAttributes(IdmIdentityRoleDto identityRole) {
 		IdmFormInstanceDto formInstanceDto = this.getRoleAttributeValues(identityRole);
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -15,8 +16,14 @@ import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
 import com.google.common.collect.Lists;
@@ -31,14 +38,18 @@ import eu.bcvsolutions.idm.core.api.dto.IdmRoleCompositionDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmRoleDto;
 import eu.bcvsolutions.idm.core.api.dto.filter.IdmIdentityRoleFilter;
 import eu.bcvsolutions.idm.core.api.dto.filter.IdmRoleCompositionFilter;
+import eu.bcvsolutions.idm.core.api.entity.AbstractEntity_;
 import eu.bcvsolutions.idm.core.api.event.EntityEvent;
 import eu.bcvsolutions.idm.core.api.service.AbstractEventableDtoService;
+import eu.bcvsolutions.idm.core.api.service.ConfigurationService;
 import eu.bcvsolutions.idm.core.api.service.EntityEventManager;
 import eu.bcvsolutions.idm.core.api.service.IdmCacheManager;
 import eu.bcvsolutions.idm.core.api.service.IdmIdentityRoleService;
 import eu.bcvsolutions.idm.core.api.service.IdmRoleCompositionService;
 import eu.bcvsolutions.idm.core.api.utils.DtoUtils;
+import eu.bcvsolutions.idm.core.config.cache.ClusteredEhCacheConfiguration;
 import eu.bcvsolutions.idm.core.model.domain.CoreGroupPermission;
+import eu.bcvsolutions.idm.core.model.domain.RoleCompositionGraph;
 import eu.bcvsolutions.idm.core.model.entity.IdmRoleComposition;
 import eu.bcvsolutions.idm.core.model.entity.IdmRoleComposition_;
 import eu.bcvsolutions.idm.core.model.entity.IdmRole_;
@@ -47,6 +58,7 @@ import eu.bcvsolutions.idm.core.model.event.IdentityRoleEvent.IdentityRoleEventT
 import eu.bcvsolutions.idm.core.model.repository.IdmRoleCompositionRepository;
 import eu.bcvsolutions.idm.core.security.api.domain.BasePermission;
 import eu.bcvsolutions.idm.core.security.api.dto.AuthorizableType;
+import eu.bcvsolutions.idm.core.security.api.utils.PermissionUtils;
 
 /**
  * Role composition (~ business roles).
@@ -60,9 +72,12 @@ public class DefaultIdmRoleCompositionService
 		implements IdmRoleCompositionService {
 	
 	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(DefaultIdmRoleCompositionService.class);
+	static final String GRAPH_CACHE_KEY = "graph"; // the only one graph is cached
+	private static final Object GRAPH_LOCK = new Object(); // graph is loaded and changed by one thread
 	//
 	@Autowired private IdmIdentityRoleService identityRoleService;
 	@Autowired private IdmCacheManager cacheManager;
+	@Autowired private ConfigurationService configurationService;
 	
 	@Autowired
 	public DefaultIdmRoleCompositionService(IdmRoleCompositionRepository repository, EntityEventManager entityEventManager) {
@@ -74,19 +89,32 @@ public class DefaultIdmRoleCompositionService
 		return new AuthorizableType(CoreGroupPermission.ROLECOMPOSITION, getEntityClass());
 	}
 	
+	@Override
+	@Transactional
+	public IdmRoleCompositionDto saveInternal(IdmRoleCompositionDto dto) {
+		IdmRoleCompositionDto composition = super.saveInternal(dto);
+		// composition is available in the current transaction, cached graph is changed after commit
+		updateGraph(graph -> graph.remove(composition.getId()).add(composition));
+		//
+		return composition;
+	}
+	
 	@Override
 	@Transactional
 	public void deleteInternal(IdmRoleCompositionDto dto) {
 		super.deleteInternal(dto);
-		// clear cache right here => delete is asynchronous
-		cacheManager.evictCache(IdmRoleCompositionService.ALL_SUB_ROLES_CACHE_NAME);
+		// composition is removed in the current transaction, cached graph is changed after commit
+		updateGraph(graph -> graph.remove(dto.getId()));
 	}
 	
 	@Override
 	public List<IdmRoleCompositionDto> findDirectSubRoles(UUID superiorId, BasePermission... permission) {
 		Assert.notNull(superiorId, "Superior role identifier is required.");
 		//
-		// TODO: Role composition cache - sub roles (cache value) by superior (cache key) + filter by superior id.
+		if (PermissionUtils.isEmpty(permission)) {
+			return getGraph().getDirectSubRoles(superiorId);
+		}
+		// authorization policies are evaluated by database query
 		IdmRoleCompositionFilter filter = new IdmRoleCompositionFilter();
 		filter.setSuperiorId(superiorId);
 		//
@@ -94,18 +122,15 @@ public class DefaultIdmRoleCompositionService
 	}
 	
 	@Override
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public List<IdmRoleCompositionDto> findAllSubRoles(UUID superiorId, BasePermission... permission) {
 		Assert.notNull(superiorId, "Superior role identifier is required.");
 		//
-		ValueWrapper value = cacheManager.getValue(ALL_SUB_ROLES_CACHE_NAME, superiorId);
-		if (value != null) {
-			return (List) value.get(); // never null
+		if (PermissionUtils.isEmpty(permission)) {
+			return getGraph().getAllSubRoles(superiorId);
 		}
-		//
+		// authorization policies are evaluated by database query
 		List<IdmRoleCompositionDto> results = new ArrayList<>();
 		findAllSubRoles(results, new ArrayList<>(), superiorId, permission);
-		cacheManager.cacheValue(ALL_SUB_ROLES_CACHE_NAME, superiorId, results);
 		//
 		return results;
 	}
@@ -114,6 +139,10 @@ public class DefaultIdmRoleCompositionService
 	public List<IdmRoleCompositionDto> findAllSuperiorRoles(UUID subId, BasePermission... permission) {
 		Assert.notNull(subId, "Sub role identifier is required.");
 		//
+		if (PermissionUtils.isEmpty(permission)) {
+			return getGraph().getAllSuperiorRoles(subId);
+		}
+		// authorization policies are evaluated by database query
 		List<IdmRoleCompositionDto> results = new ArrayList<>();
 		//
 		findAllSuperiorRoles(results, subId, subId, permission);
@@ -121,6 +150,13 @@ public class DefaultIdmRoleCompositionService
 		return results;
 	}
 	
+	@Override
+	public void refreshRole(IdmRoleDto role) {
+		Assert.notNull(role, "Role is required.");
+		//
+		updateGraph(graph -> graph.updateRole(role));
+	}
+	
 	@Override
 	public void assignSubRoles(EntityEvent<IdmIdentityRoleDto> event, BasePermission... permission) {
 		assignSubRoles(event, null, permission);
@@ -374,6 +410,145 @@ public class DefaultIdmRoleCompositionService
 			});
 	}
 	
+	/**
+	 * Role composition graph - graph changed in current transaction is used, graph is loaded from database, if it's not cached.
+	 * 
+	 * @return cached graph
+	 */
+	private RoleCompositionGraph getGraph() {
+		GraphChangeSynchronization graphChange = getGraphChange();
+		if (graphChange != null) {
+			return graphChange.getGraph();
+		}
+		ValueWrapper value = cacheManager.getValue(ROLE_COMPOSITION_GRAPH_CACHE_NAME, GRAPH_CACHE_KEY);
+		if (value != null) {
+			return (RoleCompositionGraph) value.get();
+		}
+		synchronized (GRAPH_LOCK) {
+			value = cacheManager.getValue(ROLE_COMPOSITION_GRAPH_CACHE_NAME, GRAPH_CACHE_KEY);
+			if (value != null) {
+				return (RoleCompositionGraph) value.get();
+			}
+			RoleCompositionGraph graph = loadGraph();
+			cacheManager.cacheValue(ROLE_COMPOSITION_GRAPH_CACHE_NAME, GRAPH_CACHE_KEY, graph);
+			//
+			return graph;
+		}
+	}
+	
+	private RoleCompositionGraph loadGraph() {
+		List<IdmRoleCompositionDto> compositions = find(
+				PageRequest.of(
+						0, 
+						Integer.MAX_VALUE, 
+						new Sort(Direction.ASC, AbstractEntity_.created.getName(), AbstractEntity_.id.getName())))
+				.getContent();
+		RoleCompositionGraph graph = new RoleCompositionGraph(compositions);
+		LOG.debug("Role composition graph with [{}] compositions loaded.", graph.size());
+		//
+		return graph;
+	}
+	
+	/**
+	 * Change graph - change is visible in current transaction only, cached graph is changed after transaction is committed.
+	 * 
+	 * @param change graph change
+	 */
+	private void updateGraph(Function<RoleCompositionGraph, RoleCompositionGraph> change) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			commitGraphChanges(Lists.newArrayList(change));
+			return;
+		}
+		GraphChangeSynchronization graphChange = getGraphChange();
+		if (graphChange == null) {
+			ValueWrapper value = cacheManager.getValue(ROLE_COMPOSITION_GRAPH_CACHE_NAME, GRAPH_CACHE_KEY);
+			graphChange = new GraphChangeSynchronization(value == null ? null : (RoleCompositionGraph) value.get());
+			TransactionSynchronizationManager.registerSynchronization(graphChange);
+		}
+		graphChange.change(change);
+	}
+	
+	/**
+	 * Graph changes registered in current transaction (synchronizations of suspended transactions are not available).
+	 * 
+	 * @return changes or {@code null}
+	 */
+	private GraphChangeSynchronization getGraphChange() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+		return TransactionSynchronizationManager
+				.getSynchronizations()
+				.stream()
+				.filter(synchronization -> synchronization instanceof GraphChangeSynchronization)
+				.map(synchronization -> (GraphChangeSynchronization) synchronization)
+				.findFirst()
+				.orElse(null);
+	}
+	
+	/**
+	 * Change cached graph (if graph is cached). Graph is evicted only, if cache is clustered => graph is loaded 
+	 * again by the next usage on each node (changes from different nodes cannot be merged by read-modify-write).
+	 * 
+	 * @param changes committed changes
+	 */
+	private void commitGraphChanges(List<Function<RoleCompositionGraph, RoleCompositionGraph>> changes) {
+		if (StringUtils.isNotBlank(configurationService.getValue(ClusteredEhCacheConfiguration.TERRACOTA_URL_PROPERTY))) {
+			cacheManager.evictValue(ROLE_COMPOSITION_GRAPH_CACHE_NAME, GRAPH_CACHE_KEY);
+			return;
+		}
+		synchronized (GRAPH_LOCK) {
+			ValueWrapper value = cacheManager.getValue(ROLE_COMPOSITION_GRAPH_CACHE_NAME, GRAPH_CACHE_KEY);
+			if (value == null) {
+				// graph will be loaded, when it's needed
+				return;
+			}
+			RoleCompositionGraph graph = (RoleCompositionGraph) value.get();
+			RoleCompositionGraph changedGraph = graph;
+			for (Function<RoleCompositionGraph, RoleCompositionGraph> change : changes) {
+				changedGraph = change.apply(changedGraph);
+			}
+			if (changedGraph != graph) {
+				cacheManager.cacheValue(ROLE_COMPOSITION_GRAPH_CACHE_NAME, GRAPH_CACHE_KEY, changedGraph);
+			}
+		}
+	}
+	
+	/**
+	 * Graph changed in current transaction. Changes are applied on cached graph after transaction is committed.
+	 * 
+	 * @since 12.3.0
+	 */
+	private class GraphChangeSynchronization extends TransactionSynchronizationAdapter {
+		
+		private final List<Function<RoleCompositionGraph, RoleCompositionGraph>> changes = new ArrayList<>();
+		private RoleCompositionGraph graph; // cached graph with changes or null, if graph was not cached
+		
+		GraphChangeSynchronization(RoleCompositionGraph graph) {
+			this.graph = graph;
+		}
+		
+		void change(Function<RoleCompositionGraph, RoleCompositionGraph> change) {
+			changes.add(change);
+			if (graph != null) {
+				graph = change.apply(graph);
+			}
+		}
+		
+		RoleCompositionGraph getGraph() {
+			if (graph == null) {
+				// loaded in current transaction => not cached (can contain uncommitted changes)
+				graph = loadGraph();
+			}
+			return graph;
+		}
+		
+		@Override
+		public void afterCommit() {
+			commitGraphChanges(changes);
+		}
+	}
+	
 	/**
 	 * Creates or reassign processed identity roles @Set of @UUID into event properties.
 	 * 
@@ -10,8 +10,10 @@ import java.text.MessageFormat;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -901,38 +903,50 @@ public class DefaultIdmRoleRequestService
 		// Check duplicates between concepts
 		markDuplicatesInConcepts(concepts);
 
-		// Split by role UUID
-		Map<UUID, List<IdmIdentityRoleDto>> identityRolesByRole = allByIdentity
-		.stream() //
-		.collect( //
-				Collectors.groupingBy( // Group identity roles by role
-						IdmIdentityRoleDto::getRole) //
-				); //
+		// Roles used in concepts - only identity roles with the same role can be duplicated
+		Set<UUID> conceptRoles = concepts
+				.stream()
+				.filter(concept -> concept.getOperation() != ConceptRoleRequestOperation.REMOVE)
+				.map(IdmConceptRoleRequestDto::getRole)
+				.filter(java.util.Objects::nonNull)
+				.collect(Collectors.toSet());
+
+		// Identity roles with the same role as some concept
+		List<IdmIdentityRoleDto> identityRolesWithConceptRole = allByIdentity
+				.stream()
+				.filter(identityRole -> conceptRoles.contains(identityRole.getRole()))
+				.collect(Collectors.toList());
+		// Role attribute values are loaded together (already loaded values are reused).
+		loadRoleAttributeValues(identityRolesWithConceptRole);
+
+		// Index identity roles by duplicate key (role, contract, role-system)
+		Map<List<Object>, List<IdmIdentityRoleDto>> identityRolesByKey = new HashMap<>();
+		identityRolesWithConceptRole.forEach(identityRole -> {
+			identityRolesByKey
+				.computeIfAbsent(getDuplicateKey(identityRole), key -> new ArrayList<>())
+				.add(identityRole);
+		});
 
-		// TODO: create hashMap with used roles (simple cache)
 		for (IdmConceptRoleRequestDto concept : concepts) {
 			// Only add or modification will be processed
 			if (concept.getOperation() == ConceptRoleRequestOperation.REMOVE) {
 				continue;
 			}
-			UUID roleId = concept.getRole();
-
-			// Get all identity roles by role
-			List<IdmIdentityRoleDto> identityRoles = identityRolesByRole.get(roleId);
-			if (identityRoles == null) {
+			if (concept.getRole() == null) {
 				continue;
 			}
 
 			// Create temporary identity role
 			IdmIdentityRoleDto tempIdentityRole = createTempIdentityRole(concept);
 
-			// Iterate over all identity roles, but only with same roles.
+			// Get all identity roles with the same duplicate key
+			List<IdmIdentityRoleDto> identityRoles = identityRolesByKey.get(getDuplicateKey(tempIdentityRole));
+			if (identityRoles == null) {
+				continue;
+			}
+
+			// Iterate over identity roles with the same key only - validity is compared by service.
 			for (IdmIdentityRoleDto identityRole : identityRoles) {
-				// We must get eavs by service. This is expensive operation. But we need it.
-				IdmFormInstanceDto instanceDto = identityRoleService.getRoleAttributeValues(identityRole);
-				if (instanceDto != null) {
-					identityRole.setEavs(Lists.newArrayList(instanceDto));
-				}
 				IdmIdentityRoleDto duplicated = identityRoleService.getDuplicated(tempIdentityRole, identityRole, Boolean.FALSE);
 
 				// Duplicated founded. Add UUID from identity role
@@ -968,11 +982,14 @@ public class DefaultIdmRoleRequestService
 		List<IdmIdentityRoleDto> identityRoles = new ArrayList<>(identityRoleService.findAllByIdentity(identityId));
 		identityRoles.removeIf(identityRole -> identityRolesForRemove.contains(identityRole.getId()));
 
+		// Role attribute values of all assigned roles are loaded together once - they are used by both checks
+		Map<UUID, IdmFormInstanceDto> roleAttributeValues = loadRoleAttributeValues(identityRoles);
+
 		// Just mark duplicities
 		concepts = this.markDuplicates(concepts, identityRoles);
 
 		// Remove duplicities with subroles
-		concepts = this.removeDuplicitiesSubRole(concepts, identityRoles);
+		concepts = this.removeDuplicitiesSubRole(concepts, identityRoles, roleAttributeValues);
 
 		// Create final concepts and add non duplicities
 		List<IdmConceptRoleRequestDto> conceptRolesFinal = new ArrayList<>();
@@ -1375,10 +1392,18 @@ public class DefaultIdmRoleRequestService
 	 *
 	 * @param concepts
 	 * @param allByIdentity
+	 * @param roleAttributeValues loaded role attribute values of given identity roles
 	 * @return
 	 */
-	private List<IdmConceptRoleRequestDto> removeDuplicitiesSubRole(List<IdmConceptRoleRequestDto> concepts, List<IdmIdentityRoleDto> allByIdentity) {
+	private List<IdmConceptRoleRequestDto> removeDuplicitiesSubRole(
+			List<IdmConceptRoleRequestDto> concepts,
+			List<IdmIdentityRoleDto> allByIdentity,
+			Map<UUID, IdmFormInstanceDto> roleAttributeValues) {
 		List<IdmConceptRoleRequestDto> conceptsToRemove = new ArrayList<>();
+		// Only identity roles with the same role as sub role can be duplicated
+		Map<UUID, List<IdmIdentityRoleDto>> identityRolesByRole = allByIdentity
+				.stream()
+				.collect(Collectors.groupingBy(IdmIdentityRoleDto::getRole));
 		for (IdmConceptRoleRequestDto concept : concepts) {
 			// Only add or modification
 			if (concept.getOperation() != ConceptRoleRequestOperation.ADD &&
@@ -1397,6 +1422,10 @@ public class DefaultIdmRoleRequestService
 			List<IdmRoleCompositionDto> subRoles = roleCompositionService.findAllSubRoles(roleId);
 			for (IdmRoleCompositionDto subRoleComposition : subRoles) {
 				IdmRoleDto subRole = DtoUtils.getEmbedded(subRoleComposition, IdmRoleComposition_.sub, IdmRoleDto.class, null);
+				List<IdmIdentityRoleDto> identityRoles = identityRolesByRole.get(subRole.getId());
+				if (identityRoles == null) {
+					continue;
+				}
 				IdmIdentityRoleDto tempIdentityRoleSub = new IdmIdentityRoleDto();
 				tempIdentityRoleSub.setDirectRole(UUID.randomUUID());
 				tempIdentityRoleSub.setIdentityContract(concept.getIdentityContract());
@@ -1408,9 +1437,9 @@ public class DefaultIdmRoleRequestService
 				// This automatically add default values. This is also expensive operation.
 				tempIdentityRoleSub = valueGeneratorManager.generate(tempIdentityRoleSub);
 
-				for (IdmIdentityRoleDto identityRole : allByIdentity) {
-					// Get identity role eavs. This is also expensive operation.
-					identityRole.setEavs(Lists.newArrayList(identityRoleService.getRoleAttributeValues(identityRole)));
+				for (IdmIdentityRoleDto identityRole : identityRoles) {
+					// Identity role eavs are already loaded.
+					identityRole.setEavs(Lists.newArrayList(roleAttributeValues.get(identityRole.getId())));
 					IdmIdentityRoleDto duplicated = identityRoleService.getDuplicated(tempIdentityRoleSub, identityRole, Boolean.FALSE);
 
 					// Duplication founded, create request
@@ -1433,6 +1462,23 @@ public class DefaultIdmRoleRequestService
 		return concepts;
 	}
 
+	/**
+	 * Load role attribute values of given identity roles together and set them into identity roles eavs.
+	 *
+	 * @param identityRoles identity roles
+	 * @return loaded role attribute values by identity role identifier
+	 */
+	private Map<UUID, IdmFormInstanceDto> loadRoleAttributeValues(List<IdmIdentityRoleDto> identityRoles) {
+		Map<UUID, IdmFormInstanceDto> roleAttributeValues = identityRoleService.getRoleAttributeValues(identityRoles);
+		identityRoles.forEach(identityRole -> {
+			IdmFormInstanceDto formInstance = roleAttributeValues.get(identityRole.getId());
+			if (formInstance != null) {
+				identityRole.setEavs(Lists.newArrayList(formInstance));
+			}
+		});
+		return roleAttributeValues;
+	}
+
 	private IdmRoleRequestDto createManualRequest(UUID identityId) {
 		Assert.notNull(identityId, "Identity id must be filled for create role request!");
 		IdmRoleRequestDto roleRequest = new IdmRoleRequestDto();
@@ -1473,20 +1519,42 @@ public class DefaultIdmRoleRequestService
 	}
 
 	private void markDuplicatesInConcepts(List<IdmConceptRoleRequestDto> concepts) {
-		// Mark duplicates with concepts
-		// Compare conceptOne with conceptTwo
-		for (IdmConceptRoleRequestDto conceptOne : concepts) {
+		// Split concepts by duplicate key (role, contract, role-system) - only concepts
+		// with the same key can be duplicated => concepts are compared in the same group only.
+		// Order of concepts is preserved in groups.
+		Map<List<Object>, List<IdmConceptRoleRequestDto>> conceptsByKey = new LinkedHashMap<>();
+		for (IdmConceptRoleRequestDto concept : concepts) {
 			// Only add or modification will be processed
-			if (conceptOne.getOperation() == ConceptRoleRequestOperation.REMOVE) {
-				conceptOne.setDuplicate(Boolean.FALSE); // REMOVE concept can't be duplicated
+			if (concept.getOperation() == ConceptRoleRequestOperation.REMOVE) {
+				concept.setDuplicate(Boolean.FALSE); // REMOVE concept can't be duplicated
 				continue;
 			}
 			// role and contract can be removed in the mean time
-			if (conceptOne.getRole() == null || conceptOne.getIdentityContract() == null) {
-				conceptOne.setDuplicate(Boolean.FALSE);
+			if (concept.getRole() == null || concept.getIdentityContract() == null) {
+				concept.setDuplicate(Boolean.FALSE);
 				continue;
 			}
+			conceptsByKey
+				.computeIfAbsent(
+						getDuplicateKey(concept.getRole(), concept.getIdentityContract(), concept.getRoleSystem()),
+						key -> new ArrayList<>())
+				.add(concept);
+		}
+		//
+		for (List<IdmConceptRoleRequestDto> sameConcepts : conceptsByKey.values()) {
+			markDuplicatesInSameConcepts(sameConcepts);
+		}
+	}
 
+	/**
+	 * Mark duplicates between concepts with the same duplicate key.
+	 *
+	 * @param concepts concepts with the same role, contract and role-system
+	 */
+	private void markDuplicatesInSameConcepts(List<IdmConceptRoleRequestDto> concepts) {
+		// Mark duplicates with concepts
+		// Compare conceptOne with conceptTwo
+		for (IdmConceptRoleRequestDto conceptOne : concepts) {
 			if (BooleanUtils.isTrue(conceptOne.getDuplicate())) {
 				continue;
 			}
@@ -1495,12 +1563,6 @@ public class DefaultIdmRoleRequestService
 
 			// check duplicates for concept
 			for (IdmConceptRoleRequestDto conceptTwo : concepts) {
-				// Only add or modification will be processed
-				if (conceptTwo.getOperation() == ConceptRoleRequestOperation.REMOVE) {
-					conceptTwo.setDuplicate(Boolean.FALSE); // REMOVE concept can be duplicated
-					continue;
-				}
-
 				if (BooleanUtils.isTrue(conceptTwo.getDuplicate())) {
 					continue;
 				}
@@ -1536,6 +1598,27 @@ public class DefaultIdmRoleRequestService
 			}
 		}
 	}
+
+	/**
+	 * Duplicate key of assigned role - assigned roles can be duplicated, only if role, contract and role-system
+	 * are the same. Validity and sub-definition (role attribute values) are not included - they are compared by
+	 * {@link IdmIdentityRoleService#getDuplicated(IdmIdentityRoleDto, IdmIdentityRoleDto, Boolean)}
+	 * (validity of one role can be included in validity of the other role, sub-definition is not compared
+	 * for roles assigned by the same business role composition).
+	 *
+	 * @param identityRole assigned role (or temporary assigned role created from concept)
+	 * @return key
+	 */
+	private List<Object> getDuplicateKey(IdmIdentityRoleDto identityRole) {
+		return getDuplicateKey(
+				identityRole.getRole(),
+				identityRole.getIdentityContract(),
+				identityRole.getRoleSystem());
+	}
+
+	private List<Object> getDuplicateKey(UUID role, UUID identityContract, UUID roleSystem) {
+		return Arrays.asList(role, identityContract, roleSystem);
+	}
 	
 	/**
 	 * Check and cancel invalid concept => concept is canceled, when required entities as role, contract
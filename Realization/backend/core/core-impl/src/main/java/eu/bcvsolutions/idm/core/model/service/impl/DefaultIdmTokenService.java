@@ -77,6 +77,23 @@ public class DefaultIdmTokenService
 		LOG.info("Purged [{}] tokens, which expired before [{}].", purged, olderThan);
 	}
 	
+	@Override
+	@Transactional
+	public int prolongExpiration(List<IdmTokenDto> tokens) {
+		int prolonged = 0;
+		for (IdmTokenDto token : tokens) {
+			if (repository.prolongExpiration(token.getId(), token.getExpiration(), token.getToken()) > 0) {
+				prolonged++;
+			} else {
+				// token was disabled in the meantime - client needs actual token hash
+				repository.updateDisabledToken(token.getId(), token.getToken());
+			}
+		}
+		LOG.debug("Prolonged expiration of [{}] from [{}] tokens.", prolonged, tokens.size());
+		//
+		return prolonged;
+	}
+	
 	@Override
 	protected List<Predicate> toPredicates(Root<IdmToken> root, CriteriaQuery<?> query, CriteriaBuilder builder, IdmTokenFilter filter) {
 		List<Predicate> predicates = super.toPredicates(root, query, builder, filter);
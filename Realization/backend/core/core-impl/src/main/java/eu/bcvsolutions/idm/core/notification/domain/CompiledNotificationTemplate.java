@@ -0,0 +1,87 @@
+package eu.bcvsolutions.idm.core.notification.domain;
+
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.apache.velocity.Template;
+
+/**
+ * Parsed (compiled) notification template - subject, text and html body are parsed once and
+ * rendered repetitively with different parameters.
+ * Compiled velocity templates cannot be serialized => local cache only.
+ * Template version (~ last modification) is compared, when compiled template is used - template could be changed on other node.
+ *
+ * @since 12.3.0
+ */
+public class CompiledNotificationTemplate {
+
+	private final UUID id;
+	private final ZonedDateTime version;
+	private final Template subject;
+	private final Template bodyText;
+	private final Template bodyHtml;
+
+	public CompiledNotificationTemplate(UUID id, ZonedDateTime version, Template subject, Template bodyText, Template bodyHtml) {
+		this.id = id;
+		this.version = version;
+		this.subject = subject;
+		this.bodyText = bodyText;
+		this.bodyHtml = bodyHtml;
+	}
+
+	/**
+	 * Notification template identifier.
+	 *
+	 * @return template id
+	 */
+	public UUID getId() {
+		return id;
+	}
+
+	/**
+	 * Version of compiled template (~ template last modification).
+	 *
+	 * @return version
+	 */
+	public ZonedDateTime getVersion() {
+		return version;
+	}
+
+	/**
+	 * Compiled template is for given template version.
+	 *
+	 * @param templateVersion template version (~ template last modification)
+	 * @return true - compiled template can be used
+	 */
+	public boolean isVersion(ZonedDateTime templateVersion) {
+		return version != null && Objects.equals(version.toInstant(), templateVersion == null ? null : templateVersion.toInstant());
+	}
+
+	/**
+	 * Compiled subject.
+	 *
+	 * @return subject template or {@code null}, if template has no subject
+	 */
+	public Template getSubject() {
+		return subject;
+	}
+
+	/**
+	 * Compiled text body.
+	 *
+	 * @return text body template or {@code null}, if template has no text body
+	 */
+	public Template getBodyText() {
+		return bodyText;
+	}
+
+	/**
+	 * Compiled html body.
+	 *
+	 * @return html body template or {@code null}, if template has no html body
+	 */
+	public Template getBodyHtml() {
+		return bodyHtml;
+	}
+}
@@ -3,32 +3,46 @@ package eu.bcvsolutions.idm.core.notification.service.impl;
 import java.io.InputStream;
 import java.text.MessageFormat;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.activation.DataHandler;
 import javax.activation.DataSource;
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.Endpoint;
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
-import org.apache.camel.ProducerTemplate;
-import org.apache.camel.support.SynchronizationAdapter;
+import org.apache.camel.component.mail.MailConfiguration;
+import org.apache.camel.component.mail.MailEndpoint;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 
+import com.google.common.collect.Lists;
+
 import eu.bcvsolutions.idm.core.api.config.domain.EmailerConfiguration;
 import eu.bcvsolutions.idm.core.api.domain.DefaultFieldLengths;
-import eu.bcvsolutions.idm.core.api.service.EntityEventManager;
 import eu.bcvsolutions.idm.core.api.service.IdmIdentityService;
 import eu.bcvsolutions.idm.core.ecm.api.dto.IdmAttachmentDto;
 import eu.bcvsolutions.idm.core.ecm.api.service.AttachmentManager;
@@ -42,7 +56,9 @@ import eu.bcvsolutions.idm.core.notification.api.service.IdmNotificationAttachme
 import eu.bcvsolutions.idm.core.notification.api.service.IdmNotificationTemplateService;
 
 /**
- * Default email sender implementation
+ * Default email sender implementation.
+ * Emails registered in one transaction are sent after transaction is committed - emails are sent in batches 
+ * (one connection to email server is used for the whole batch) by email executor, see {@link EmailerConfiguration#EMAIL_EXECUTOR_NAME}.
  * 
  * @author Radek Tomiška 
  *
@@ -51,16 +67,20 @@ import eu.bcvsolutions.idm.core.notification.api.service.IdmNotificationTemplate
 public class DefaultEmailer implements Emailer {
 	
 	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(DefaultEmailer.class);
+	private static final String SEND_OPERATIONS_RESOURCE = String.format("%s.sendOperations", DefaultEmailer.class.getName());
+	private static final long RETRY_DELAY = 1000; // [ms], multiplied by attempt
 	
 	@Autowired private CamelContext camelContext;
 	@Autowired private IdmEmailLogService emailLogService;
-	@Autowired private ProducerTemplate producerTemplate;
 	@Autowired private EmailerConfiguration configuration;
 	@Autowired private IdmNotificationTemplateService notificationTemplateService;
 	@Autowired private IdmNotificationAttachmentService notificationAttachmentService;
 	@Autowired private IdmIdentityService identityService;
-	@Autowired private EntityEventManager entityEventManager;
 	@Autowired private AttachmentManager attachmentManager;
+	@Autowired private PlatformTransactionManager platformTransactionManager;
+	@Autowired
+	@Qualifier(EmailerConfiguration.EMAIL_EXECUTOR_NAME)
+	private Executor emailExecutor;
 
 	@Transactional
 	public boolean send(IdmEmailLogDto emailLog) {
@@ -108,7 +128,7 @@ public class DefaultEmailer implements Emailer {
 				notificationAttachmentService.save(notificationAttachment);
 			}
 			//
-			entityEventManager.publishEvent(new DefaultSendOperation(emailLog, endpoint, exchange));
+			registerSendOperation(new DefaultSendOperation(emailLog, endpoint, exchange));
 			//
 			return true;
 		} catch(Exception ex) {
@@ -120,22 +140,199 @@ public class DefaultEmailer implements Emailer {
 	}
 	
 	/**
-	 * Email will be send by event after original transaction ends
+	 * Emails will be sent after original transaction ends. Emails registered in one transaction are sent together.
 	 * 
-	 * @param sendOperation
+	 * @param sendOperation email to send
 	 */
-	@TransactionalEventListener
-	@Transactional(propagation = Propagation.REQUIRES_NEW)
-	public void sendInternal(SendOperation sendOperation) {
+	private void registerSendOperation(SendOperation sendOperation) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			dispatch(Lists.newArrayList(sendOperation));
+			return;
+		}
+		@SuppressWarnings("unchecked")
+		List<SendOperation> sendOperations = (List<SendOperation>) TransactionSynchronizationManager.getResource(SEND_OPERATIONS_RESOURCE);
+		if (sendOperations == null) {
+			List<SendOperation> registeredOperations = new ArrayList<>();
+			TransactionSynchronizationManager.bindResource(SEND_OPERATIONS_RESOURCE, registeredOperations);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+				
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(SEND_OPERATIONS_RESOURCE);
+					// emails are not sent, when transaction is rolled back
+					if (status == STATUS_COMMITTED) {
+						dispatch(registeredOperations);
+					}
+				}
+			});
+			sendOperations = registeredOperations;
+		}
+		sendOperations.add(sendOperation);
+	}
+	
+	/**
+	 * Split emails into batches by endpoint (~ email server) and send them asynchronously by email executor.
+	 * Batch is sent by the caller thread, when executor queue is full.
+	 * 
+	 * @param sendOperations emails to send
+	 */
+	protected void dispatch(List<SendOperation> sendOperations) {
+		if (sendOperations.isEmpty()) {
+			return;
+		}
 		if (configuration.isTestEnabled()) {
-			LOG.info("Test mode for emailer is enabled. Email [{}] will be logged only.", sendOperation.getEmailLog());
-			emailLogService.setEmailSentLog(sendOperation.getEmailLog().getId(), "Test mode for emailer was enabled. Email was logged only.");
-		} else {
-			LOG.debug("Email was registered to producer [{}]", sendOperation.getEmailLog());
-			producerTemplate.asyncCallback(sendOperation.getEndpoint(), sendOperation.getExchange(), new EmailCallback(sendOperation.getEmailLog().getId(), emailLogService));
+			LOG.info("Test mode for emailer is enabled. [{}] emails will be logged only.", sendOperations.size());
+			inNewTransaction(() -> {
+				emailLogService.setEmailSentLog(getEmailLogIds(sendOperations), "Test mode for emailer was enabled. Email was logged only.");
+				return null;
+			});
+			return;
+		}
+		int batchSize = configuration.getBatchSize();
+		sendOperations
+			.stream()
+			.collect(Collectors.groupingBy(SendOperation::getEndpoint, LinkedHashMap::new, Collectors.toList()))
+			.forEach((endpoint, endpointOperations) -> {
+				Lists.partition(endpointOperations, batchSize).forEach(batch -> {
+					List<SendOperation> emails = new ArrayList<>(batch);
+					LOG.debug("[{}] emails were registered to email executor.", emails.size());
+					emailExecutor.execute(() -> sendBatch(endpoint, emails));
+				});
+			});
+	}
+	
+	/**
+	 * Send emails over one connection to email server. Connection is opened again, when connection fails 
+	 * (retry count is configurable for each email). Rejected email (e.g. with wrong recipients) is not sent again,
+	 * only connection failure fails the rest of the batch.
+	 * Sent state is persisted for the whole batch.
+	 * 
+	 * @param endpoint email server endpoint
+	 * @param sendOperations emails to send
+	 */
+	protected void sendBatch(Endpoint endpoint, List<SendOperation> sendOperations) {
+		if (!(endpoint instanceof MailEndpoint)) {
+			LOG.error("Endpoint [{}] is not supported by emailer, [{}] emails will not be sent.", endpoint, sendOperations.size());
+			inNewTransaction(() -> {
+				emailLogService.setEmailSentLog(getEmailLogIds(sendOperations), MessageFormat.format("Endpoint [{0}] is not supported by emailer.", endpoint));
+				return null;
+			});
+			return;
+		}
+		MailEndpoint mailEndpoint = (MailEndpoint) endpoint;
+		MailConfiguration mailConfiguration = mailEndpoint.getConfiguration();
+		Session session = mailConfiguration.createJavaMailSender().getSession();
+		int retryCount = configuration.getRetryCount();
+		//
+		List<UUID> sentEmailLogIds = new ArrayList<>(sendOperations.size());
+		Map<UUID, String> failedEmailLogs = new HashMap<>();
+		Transport transport = null;
+		Exception connectionException = null;
+		int attempt = 0;
+		try {
+			for (SendOperation sendOperation : sendOperations) {
+				UUID emailLogId = sendOperation.getEmailLog().getId();
+				if (connectionException != null) {
+					// connection cannot be opened - retry count exceeded
+					failedEmailLogs.put(emailLogId, connectionException.toString());
+					continue;
+				}
+				MimeMessage mimeMessage;
+				try {
+					mimeMessage = new MimeMessage(session);
+					mailEndpoint.getBinding().populateMailMessage(mailEndpoint, mimeMessage, sendOperation.getExchange());
+					mimeMessage.saveChanges();
+				} catch (Exception ex) {
+					LOG.error("Sending email [id:{}] failed: [{}]", emailLogId, ex);
+					failedEmailLogs.put(emailLogId, ex.toString());
+					continue;
+				}
+				//
+				while (true) {
+					try {
+						if (transport == null || !transport.isConnected()) {
+							transport = session.getTransport(mailConfiguration.getProtocol());
+							transport.connect(
+									mailConfiguration.getHost(), 
+									mailConfiguration.getPort(), 
+									mailConfiguration.getUsername(), 
+									mailConfiguration.getPassword());
+						}
+						transport.sendMessage(mimeMessage, mimeMessage.getAllRecipients());
+						LOG.info("Sending email [id:{}] succeeded", emailLogId);
+						sentEmailLogIds.add(emailLogId);
+						// retry count is used for each email
+						attempt = 0;
+						break;
+					} catch (MessagingException ex) {
+						if (transport != null && transport.isConnected()) {
+							// email was rejected (e.g. wrong recipients) - connection is still usable, email cannot be sent again
+							LOG.error("Sending email [id:{}] failed: [{}]", emailLogId, ex);
+							failedEmailLogs.put(emailLogId, ex.toString());
+							break;
+						}
+						// connection to email server failed
+						closeTransport(transport);
+						transport = null;
+						if (attempt >= retryCount) {
+							LOG.error("Sending email [id:{}] failed, connection to email server cannot be opened: [{}]", emailLogId, ex);
+							failedEmailLogs.put(emailLogId, ex.toString());
+							connectionException = ex;
+							break;
+						}
+						attempt++;
+						LOG.warn("Sending email [id:{}] failed, email will be sent again [attempt: {}]: [{}]", emailLogId, attempt, ex.toString());
+						try {
+							Thread.sleep(RETRY_DELAY * attempt);
+						} catch (InterruptedException iex) {
+							Thread.currentThread().interrupt();
+							failedEmailLogs.put(emailLogId, ex.toString());
+							connectionException = ex;
+							break;
+						}
+					}
+				}
+			}
+		} finally {
+			closeTransport(transport);
+		}
+		//
+		inNewTransaction(() -> {
+			if (!sentEmailLogIds.isEmpty()) {
+				emailLogService.setEmailSent(sentEmailLogIds, ZonedDateTime.now());
+			}
+			failedEmailLogs.forEach((emailLogId, sentLog) -> {
+				emailLogService.setEmailSentLog(emailLogId, StringUtils.abbreviate(sentLog, DefaultFieldLengths.LOG));
+			});
+			return null;
+		});
+	}
+	
+	private void closeTransport(Transport transport) {
+		if (transport == null) {
+			return;
+		}
+		try {
+			transport.close();
+		} catch (MessagingException ex) {
+			LOG.debug("Connection to email server cannot be closed.", ex);
 		}
 	}
 	
+	private List<UUID> getEmailLogIds(List<SendOperation> sendOperations) {
+		return sendOperations
+				.stream()
+				.map(sendOperation -> sendOperation.getEmailLog().getId())
+				.collect(Collectors.toList());
+	}
+	
+	private <T> T inNewTransaction(Supplier<T> callback) {
+		TransactionTemplate template = new TransactionTemplate(platformTransactionManager);
+		template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		//
+		return template.execute(status -> callback.get());
+	}
+	
 	/**
 	 * Configure apache camel endpoint for email by configuration
 	 * @return
@@ -197,7 +394,7 @@ public class DefaultEmailer implements Emailer {
 	}
 	
 	/**
-	 * Private implementation interface {@link SendOperation} for transfer object to email event
+	 * Private implementation interface {@link SendOperation} for transfer object to email batch
 	 * 
 	 * @author Ondrej Kopr <kopr@xyxy.cz>
 	 *
@@ -225,36 +422,4 @@ public class DefaultEmailer implements Emailer {
 			return exchange;
 		}
 	}
-	
-	/**
-	 * Our own callback that will gather all the responses.
-	 * We extend the SynchronizationAdapter class as we then only need to override the onFailure and onComplete method.
-	 */
-	private static class EmailCallback extends SynchronizationAdapter {
-		
-		private final UUID emailLogId;
-		private final IdmEmailLogService emailLogService;
-		
-		public EmailCallback(UUID emailLogId, IdmEmailLogService emailLogService) {
-			this.emailLogId = emailLogId;
-			this.emailLogService = emailLogService;
-		}
-		
-		@Override
-	    public void onFailure(Exchange exchange) {			
-			LOG.error("Sending email [id:{}] failed: [{}]", emailLogId, exchange.getException()); // exception cannot be null here
-			emailLogService.setEmailSentLog(emailLogId, StringUtils.abbreviate(exchange.getException().toString(), DefaultFieldLengths.LOG));
-		}		
-		
-	    @Override
-	    public void onComplete(Exchange exchange) {
-	    	try {
-	    		LOG.info("Sending email [id:{}] succeeded", emailLogId);
-		    	emailLogService.setEmailSent(emailLogId, ZonedDateTime.now());
-	    	} catch (Exception ex) {
-	    		LOG.error("Unspecified error while save emailLog, with id: [{}].", emailLogId, ex);
-	    		throw ex;
-	    	}
-	    }
-	}
 }
@@ -1,6 +1,10 @@
 package eu.bcvsolutions.idm.core.notification.service.impl;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
@@ -9,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
 
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
 import eu.bcvsolutions.idm.core.api.service.IdmIdentityService;
@@ -115,5 +120,49 @@ public class DefaultIdmEmailLogService
 		emailLog.setSentLog(sentLog);
 		save(emailLog);
 	}
-
+	
+	@Override
+	@Transactional
+	public void setEmailSent(Collection<UUID> emailLogIds, ZonedDateTime sent) {
+		List<IdmEmailLogDto> emailLogs = getEmailLogs(emailLogIds);
+		LOG.debug("Persist sent date [{}] to [{}] email logs", sent, emailLogs.size());
+		emailLogs.forEach(emailLog -> {
+			emailLog.setSent(sent);
+			saveInternal(emailLog);
+		});
+	}
+	
+	@Override
+	@Transactional
+	public void setEmailSentLog(Collection<UUID> emailLogIds, String sentLog) {
+		List<IdmEmailLogDto> emailLogs = getEmailLogs(emailLogIds);
+		LOG.debug("Persist sent log [{}] to [{}] email logs", sentLog, emailLogs.size());
+		emailLogs.forEach(emailLog -> {
+			emailLog.setSentLog(sentLog);
+			saveInternal(emailLog);
+		});
+	}
+	
+	/**
+	 * Existing email logs - email log can be deleted in the meantime (e.g. by scheduled task), before email is sent.
+	 * 
+	 * @param emailLogIds email log identifiers
+	 * @return existing email logs
+	 */
+	private List<IdmEmailLogDto> getEmailLogs(Collection<UUID> emailLogIds) {
+		List<IdmEmailLogDto> emailLogs = new ArrayList<>();
+		if (CollectionUtils.isEmpty(emailLogIds)) {
+			return emailLogs;
+		}
+		for (UUID emailLogId : new LinkedHashSet<>(emailLogIds)) {
+			IdmEmailLogDto emailLog = get(emailLogId);
+			if (emailLog == null) {
+				LOG.warn("Email log [id:{}] does not exist, email log will not be updated.", emailLogId);
+				continue;
+			}
+			emailLogs.add(emailLog);
+		}
+		//
+		return emailLogs;
+	}
 }
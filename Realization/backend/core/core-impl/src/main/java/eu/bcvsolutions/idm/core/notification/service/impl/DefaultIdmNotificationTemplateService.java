@@ -1,12 +1,15 @@
 package eu.bcvsolutions.idm.core.notification.service.impl;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.io.StringWriter;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import javax.persistence.criteria.CriteriaBuilder;
@@ -16,9 +19,12 @@ import javax.persistence.criteria.Root;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.velocity.Template;
 import org.apache.velocity.VelocityContext;
-import org.apache.velocity.app.VelocityEngine;
+import org.apache.velocity.exception.ParseErrorException;
 import org.apache.velocity.runtime.RuntimeConstants;
+import org.apache.velocity.runtime.RuntimeInstance;
+import org.apache.velocity.runtime.parser.ParseException;
 import org.apache.velocity.tools.generic.DateTool;
 import org.apache.velocity.tools.generic.DisplayTool;
 import org.dom4j.CDATA;
@@ -28,15 +34,19 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
 import com.google.common.collect.ImmutableMap;
 
+import eu.bcvsolutions.idm.core.api.config.cache.domain.ValueWrapper;
 import eu.bcvsolutions.idm.core.api.domain.CoreResultCode;
 import eu.bcvsolutions.idm.core.api.exception.ResultCodeException;
 import eu.bcvsolutions.idm.core.api.service.AbstractRecoverableService;
 import eu.bcvsolutions.idm.core.api.service.ConfigurationService;
 import eu.bcvsolutions.idm.core.api.service.EntityEventManager;
+import eu.bcvsolutions.idm.core.api.service.IdmCacheManager;
 import eu.bcvsolutions.idm.core.api.utils.DtoUtils;
 import eu.bcvsolutions.idm.core.notification.api.domain.NotificationLevel;
 import eu.bcvsolutions.idm.core.notification.api.dto.IdmMessageDto;
@@ -47,6 +57,7 @@ import eu.bcvsolutions.idm.core.notification.api.dto.NotificationConfigurationDt
 import eu.bcvsolutions.idm.core.notification.api.dto.filter.IdmNotificationTemplateFilter;
 import eu.bcvsolutions.idm.core.notification.api.service.IdmNotificationConfigurationService;
 import eu.bcvsolutions.idm.core.notification.api.service.IdmNotificationTemplateService;
+import eu.bcvsolutions.idm.core.notification.domain.CompiledNotificationTemplate;
 import eu.bcvsolutions.idm.core.notification.entity.IdmNotificationConfiguration_;
 import eu.bcvsolutions.idm.core.notification.entity.IdmNotificationTemplate;
 import eu.bcvsolutions.idm.core.notification.entity.IdmNotificationTemplate_;
@@ -80,11 +91,12 @@ public class DefaultIdmNotificationTemplateService
 	private static final String DEFAULT_TEMPLATE_FILE_SUFIX = "**/**.xml";
 	//
 	private final IdmNotificationTemplateRepository repository;
-	private final VelocityEngine velocityEngine;
+	private final RuntimeInstance velocityEngine;
 	private IdmNotificationConfigurationService notificationConfigurationService;
 	//
 	@Autowired private ApplicationContext applicationContext;
 	@Autowired private ConfigurationService configurationService;
+	@Autowired private IdmCacheManager cacheManager;
 	
 	@Autowired
 	public DefaultIdmNotificationTemplateService(IdmNotificationTemplateRepository repository, EntityEventManager entityEventManager) {
@@ -92,9 +104,10 @@ public class DefaultIdmNotificationTemplateService
 		//
 		this.repository = repository;
 		//
-		VelocityEngine velocityEngine = new VelocityEngine();
+		// runtime instance is used directly - templates are parsed once and cached
+		RuntimeInstance velocityEngine = new RuntimeInstance();
 		// Initialization apache velocity
-		velocityEngine.setProperty(VelocityEngine.RUNTIME_LOG_LOGSYSTEM_CLASS, LOG);
+		velocityEngine.setProperty(RuntimeConstants.RUNTIME_LOG_LOGSYSTEM_CLASS, LOG);
 		velocityEngine.setProperty(RuntimeConstants.VM_PERM_ALLOW_INLINE_REPLACE_GLOBAL, Boolean.TRUE);
 		velocityEngine.init();
 		this.velocityEngine = velocityEngine;
@@ -123,6 +136,24 @@ public class DefaultIdmNotificationTemplateService
 		return toDto(repository.findOneByCode(code));
 	}
 
+	@Override
+	@Transactional
+	public IdmNotificationTemplateDto saveInternal(IdmNotificationTemplateDto dto) {
+		IdmNotificationTemplateDto template = super.saveInternal(dto);
+		// compiled template on other nodes will be recompiled by template version
+		evictCompiledTemplate(template.getId());
+		//
+		return template;
+	}
+	
+	@Override
+	@Transactional
+	public void deleteInternal(IdmNotificationTemplateDto dto) {
+		super.deleteInternal(dto);
+		//
+		evictCompiledTemplate(dto.getId());
+	}
+
 	@Override
 	@Transactional
 	public void delete(IdmNotificationTemplateDto entity, BasePermission... permission) {
@@ -190,10 +221,8 @@ public class DefaultIdmNotificationTemplateService
 				}
 			}
 		}
-		// prepare html, text, subject
-		String html = template.getBodyHtml();
-		String text = template.getBodyText();
-		String subjectString = template.getSubject();
+		// prepare html, text, subject - parsed once
+		CompiledNotificationTemplate compiledTemplate = getCompiledTemplate(template);
 		// Same parameters for all (html, txt, subject)
 		VelocityContext velocityContext = getContext(parameters);
 		// include some tools from Apache velocity -
@@ -202,15 +231,16 @@ public class DefaultIdmNotificationTemplateService
 		velocityContext.put("date", new DateTool());
 		//
 		// html and text may not exists, evaluate only if exists
-		if (html != null) {
-			velocityEngine.evaluate(velocityContext, bodyHtml, template.getCode(), html);
+		if (compiledTemplate.getBodyHtml() != null) {
+			compiledTemplate.getBodyHtml().merge(velocityContext, bodyHtml);
 		}
 		//
-		if (text != null) {
-			velocityEngine.evaluate(velocityContext, bodyText, template.getCode(), text);
+		if (compiledTemplate.getBodyText() != null) {
+			compiledTemplate.getBodyText().merge(velocityContext, bodyText);
 		}
 		// subject must exists
-		velocityEngine.evaluate(velocityContext, subject, template.getCode(), subjectString);
+		Assert.notNull(compiledTemplate.getSubject(), String.format("Subject of notification template [%s] is required.", template.getCode()));
+		compiledTemplate.getSubject().merge(velocityContext, subject);
 		//
 		IdmMessageDto newMessage;
 		// if is set model from message build with them
@@ -240,6 +270,87 @@ public class DefaultIdmNotificationTemplateService
 		return newMessage;
 	}
 
+	/**
+	 * Evict compiled template after transaction is committed - template with previous version can be compiled and cached
+	 * again by concurrent notification till commit.
+	 * 
+	 * @param templateId template identifier
+	 */
+	private void evictCompiledTemplate(UUID templateId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			cacheManager.evictValue(TEMPLATE_CACHE_NAME, templateId);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+			
+			@Override
+			public void afterCommit() {
+				cacheManager.evictValue(TEMPLATE_CACHE_NAME, templateId);
+			}
+		});
+	}
+	
+	/**
+	 * Parsed template from cache - template is parsed, when template was changed (by template version ~ last modification).
+	 * 
+	 * @param template notification template
+	 * @return compiled template
+	 */
+	private CompiledNotificationTemplate getCompiledTemplate(IdmNotificationTemplateDto template) {
+		ZonedDateTime version = template.getModified() == null ? template.getCreated() : template.getModified();
+		if (template.getId() == null || version == null) {
+			// not persisted template
+			return compileTemplate(template, version);
+		}
+		ValueWrapper value = cacheManager.getValue(TEMPLATE_CACHE_NAME, template.getId());
+		if (value != null) {
+			CompiledNotificationTemplate compiledTemplate = (CompiledNotificationTemplate) value.get();
+			if (compiledTemplate != null && compiledTemplate.isVersion(version)) {
+				return compiledTemplate;
+			}
+		}
+		CompiledNotificationTemplate compiledTemplate = compileTemplate(template, version);
+		cacheManager.cacheValue(TEMPLATE_CACHE_NAME, template.getId(), compiledTemplate);
+		//
+		return compiledTemplate;
+	}
+	
+	private CompiledNotificationTemplate compileTemplate(IdmNotificationTemplateDto template, ZonedDateTime version) {
+		LOG.trace("Notification template [{}] will be parsed.", template.getCode());
+		//
+		return new CompiledNotificationTemplate(
+				template.getId(),
+				version,
+				compileTemplate(template.getCode(), template.getSubject()),
+				compileTemplate(template.getCode(), template.getBodyText()),
+				compileTemplate(template.getCode(), template.getBodyHtml()));
+	}
+	
+	/**
+	 * Parse template source - the same as {@link RuntimeInstance#evaluate(org.apache.velocity.context.Context, java.io.Writer, String, String)}
+	 * does before each rendering.
+	 * 
+	 * @param name template name (code) ~ log tag
+	 * @param source template source
+	 * @return parsed template or {@code null}, if source is not given
+	 */
+	private Template compileTemplate(String name, String source) {
+		if (source == null) {
+			return null;
+		}
+		try {
+			Template template = new Template();
+			template.setName(name);
+			template.setRuntimeServices(velocityEngine);
+			template.setData(velocityEngine.parse(new StringReader(source), name));
+			template.initDocument();
+			//
+			return template;
+		} catch (ParseException ex) {
+			throw new ParseErrorException(ex, name);
+		}
+	}
+
 	@Override
 	public IdmMessageDto buildMessage(IdmMessageDto message) {
 		if (message.getTemplate() == null) {
@@ -52,6 +52,12 @@ public class LongRunningTaskCancelBulkAction extends AbstractBulkAction<IdmLongR
 		return entities;
 	}
 	
+	@Override
+	protected boolean supportsChunks() {
+		// task cannot cancel itself - entities are resolved in custom way
+		return false;
+	}
+	
 	@Override
 	protected OperationResult processDto(IdmLongRunningTaskDto dto) {
 		manager.cancel(dto.getId());
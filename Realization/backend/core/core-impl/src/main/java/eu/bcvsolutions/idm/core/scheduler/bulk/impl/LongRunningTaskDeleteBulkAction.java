@@ -47,6 +47,12 @@ public class LongRunningTaskDeleteBulkAction extends AbstractRemoveBulkAction<Id
 		return entities;
 	}
 
+	@Override
+	protected boolean supportsChunks() {
+		// task cannot delete itself - entities are resolved in custom way
+		return false;
+	}
+	
 	@Override
 	protected List<String> getAuthoritiesForEntity() {
 		return Lists.newArrayList(CoreGroupPermission.SCHEDULER_DELETE);
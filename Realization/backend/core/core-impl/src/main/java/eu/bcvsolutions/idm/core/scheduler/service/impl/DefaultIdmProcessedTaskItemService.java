@@ -1,6 +1,9 @@
 package eu.bcvsolutions.idm.core.scheduler.service.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import javax.persistence.criteria.*;
@@ -16,6 +19,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+
+import com.google.common.collect.Lists;
 
 import eu.bcvsolutions.idm.core.api.dto.AbstractDto;
 import eu.bcvsolutions.idm.core.api.entity.OperationResult;
@@ -159,6 +165,22 @@ public class DefaultIdmProcessedTaskItemService
 		//
 		return repository.findAllRefEntityIdsByScheduledTaskId(scheduledTaskId);
 	}
+	
+	@Override
+	@Transactional(readOnly = true)
+	public List<UUID> findRefEntityIdsInQueueByScheduledTaskId(UUID scheduledTaskId, Collection<UUID> referencedEntityIds) {
+		Assert.notNull(scheduledTaskId, "Scheduled task identifier is required.");
+		//
+		if (CollectionUtils.isEmpty(referencedEntityIds)) {
+			return new ArrayList<>();
+		}
+		List<UUID> results = new ArrayList<>(referencedEntityIds.size());
+		// prevent to exceed IN limit sql clause
+		for (List<UUID> partition : Lists.partition(new ArrayList<>(referencedEntityIds), 500)) {
+			results.addAll(repository.findRefEntityIdsByScheduledTaskId(scheduledTaskId, partition));
+		}
+		return results;
+	}
 
 	@Override
 	@Transactional(readOnly = true)
@@ -196,6 +218,27 @@ public class DefaultIdmProcessedTaskItemService
 		return this.saveInternal(item);
 	}
 
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public <E extends AbstractDto> List<IdmProcessedTaskItemDto> createLogItems(
+			Map<E, OperationResult> processedItems,
+			UUID longRunningTaskId) {
+		Assert.notNull(processedItems, "Items are required.");
+		Assert.notNull(longRunningTaskId, "Task task is required.");
+		//
+		List<IdmProcessedTaskItem> items = new ArrayList<>(processedItems.size());
+		processedItems.forEach((processedItem, result) -> {
+			Assert.notNull(processedItem, "Item is required.");
+			Assert.notNull(result, "Result is required.");
+			//
+			IdmProcessedTaskItemDto item = createProcessedItemDto(processedItem, result);
+			item.setLongRunningTask(longRunningTaskId);
+			items.add(validateEntity(toEntity(validateDto(item), null)));
+		});
+		// flushed together on commit
+		return toDtos(Lists.newArrayList(repository.saveAll(items)), false);
+	}
+
 	@Override
 	@Transactional
 	public <E extends AbstractDto> IdmProcessedTaskItemDto createQueueItem(E processedItem, OperationResult result, UUID scheduledTaskId) {
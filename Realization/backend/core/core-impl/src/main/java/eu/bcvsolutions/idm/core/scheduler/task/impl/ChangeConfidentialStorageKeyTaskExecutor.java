@@ -47,7 +47,7 @@ public class ChangeConfidentialStorageKeyTaskExecutor extends AbstractSchedulabl
 	public static String PARAMETER_OLD_CONFIDENTIAL_KEY = "oldCryptKey";
 
 	private GuardedString oldCryptKey = null;
-	private int PAGE_SIZE = 100;
+	private int PAGE_SIZE = 500;
 	private int KEY_LENGTH_MIN = 16;
 	private int KEY_LENGTH_MAX = 32;
 
@@ -105,6 +105,20 @@ public class ChangeConfidentialStorageKeyTaskExecutor extends AbstractSchedulabl
 				count = values.getTotalElements();
 			}
 			//
+			// task cancel is checked before the whole page is re-encrypted - re-encrypted page is logged together
+			canContinue &= this.updateState();
+			if (!canContinue) {
+				break;
+			}
+			// re-encrypt whole page together
+			boolean batchProcessed = false;
+			try {
+				confidentialStorage.changeCryptKey(values.getContent(), oldCryptKey);
+				batchProcessed = true;
+			} catch (Exception ex) {
+				LOG.warn("Error during change confidential storage key for values batch, values will be processed one by one.", ex);
+			}
+			//
 			for (Iterator<IdmConfidentialStorageValueDto> iterator = values.iterator(); iterator.hasNext()
 					&& canContinue;) {
 				IdmConfidentialStorageValueDto value = iterator.next();
@@ -112,7 +126,9 @@ public class ChangeConfidentialStorageKeyTaskExecutor extends AbstractSchedulabl
 				Assert.notNull(value.getId(), "Value identifier is required.");
 				//
 				try {
-					confidentialStorage.changeCryptKey(value, oldCryptKey);
+					if (!batchProcessed) {
+						confidentialStorage.changeCryptKey(value, oldCryptKey);
+					}
 					counter++;
 					//
 					this.logItemProcessed(value, new OperationResult.Builder(OperationState.EXECUTED).build());
@@ -122,6 +138,12 @@ public class ChangeConfidentialStorageKeyTaskExecutor extends AbstractSchedulabl
 							new OperationResult.Builder(OperationState.EXCEPTION).setCause(ex).build());
 				}
 				//
+				if (!batchProcessed) {
+					// values processed one by one - cancel is checked after each value
+					canContinue &= this.updateState();
+				}
+			}
+			if (batchProcessed) {
 				canContinue &= this.updateState();
 			}
 			canContinue &= values.hasNext();
@@ -3,6 +3,7 @@ package eu.bcvsolutions.idm.core.scheduler.task.impl;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.quartz.DisallowConcurrentExecution;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -53,12 +54,23 @@ public class NotifyIdentityTaskExecutor extends AbstractSchedulableStatefulExecu
 	}
 	
 	@Override
-	public Page<IdmIdentityDto> getItemsToProcess(Pageable pageable) {
+	public Page<IdmIdentityDto> getItemsToProcess(Pageable pageable, UUID lastItemId) {
 		IdmIdentityFilter filter = new IdmIdentityFilter();
 		filter.setText(text);
+		filter.setIdAfter(lastItemId); // keyset pagination
 		//
 		return identityService.find(filter, pageable);
 	}
+	
+	@Override
+	public Page<IdmIdentityDto> getItemsToProcess(Pageable pageable) {
+		return getItemsToProcess(pageable, null);
+	}
+	
+	@Override
+	protected boolean supportsKeysetPagination() {
+		return true;
+	}
 
 	@Override
 	public Optional<OperationResult> processItem(IdmIdentityDto dto) {
@@ -9,7 +9,6 @@ import java.util.UUID;
 import org.apache.commons.lang3.BooleanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
@@ -35,6 +34,7 @@ import eu.bcvsolutions.idm.core.api.dto.IdmRoleRequestDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmRoleTreeNodeDto;
 import eu.bcvsolutions.idm.core.api.dto.ResultModel;
 import eu.bcvsolutions.idm.core.api.dto.filter.IdmConceptRoleRequestFilter;
+import eu.bcvsolutions.idm.core.api.dto.filter.IdmIdentityRoleFilter;
 import eu.bcvsolutions.idm.core.api.entity.OperationResult;
 import eu.bcvsolutions.idm.core.api.exception.AcceptedException;
 import eu.bcvsolutions.idm.core.api.exception.EntityNotFoundException;
@@ -199,10 +199,22 @@ public class RemoveAutomaticRoleTaskExecutor extends AbstractSchedulableStateful
 	}
 	
 	@Override
-	public Page<IdmIdentityRoleDto> getItemsToProcess(Pageable pageable) {
-		List<IdmIdentityRoleDto> identityRoles = identityRoleService.findByAutomaticRole(getAutomaticRoleId(), null).getContent();
+	public Page<IdmIdentityRoleDto> getItemsToProcess(Pageable pageable, UUID lastItemId) {
+		IdmIdentityRoleFilter filter = new IdmIdentityRoleFilter();
+		filter.setAutomaticRoleId(getAutomaticRoleId());
+		filter.setIdAfter(lastItemId); // keyset pagination - processed assigned roles are removed
 		//
-		return new PageImpl<>(identityRoles);
+		return identityRoleService.find(filter, pageable);
+	}
+	
+	@Override
+	public Page<IdmIdentityRoleDto> getItemsToProcess(Pageable pageable) {
+		return getItemsToProcess(pageable, null);
+	}
+	
+	@Override
+	protected boolean supportsKeysetPagination() {
+		return true;
 	}
 	
 	@Override
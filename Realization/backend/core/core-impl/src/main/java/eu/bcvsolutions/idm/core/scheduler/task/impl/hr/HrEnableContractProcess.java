@@ -1,6 +1,7 @@
 package eu.bcvsolutions.idm.core.scheduler.task.impl.hr;
 
 import java.util.Optional;
+import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
 import org.quartz.DisallowConcurrentExecution;
@@ -54,15 +55,26 @@ public class HrEnableContractProcess extends AbstractHrProcess {
 	 * Find all identity contracts, that are both valid, enabled and not excluded.
 	 */
 	@Override
-	public Page<IdmIdentityContractDto> getItemsToProcess(Pageable pageable) {
+	public Page<IdmIdentityContractDto> getItemsToProcess(Pageable pageable, UUID lastItemId) {
 		IdmIdentityContractFilter filter = new IdmIdentityContractFilter();
 		filter.setValid(Boolean.TRUE);
 		filter.setDisabled(Boolean.FALSE);
 		filter.setExcluded(Boolean.FALSE);
 		//
+		filter.setIdAfter(lastItemId); // keyset pagination
 		return identityContractService.find(filter, pageable);
 	}
 	
+	@Override
+	public Page<IdmIdentityContractDto> getItemsToProcess(Pageable pageable) {
+		return getItemsToProcess(pageable, null);
+	}
+	
+	@Override
+	protected boolean supportsKeysetPagination() {
+		return true;
+	}
+	
 	@Override
 	public boolean continueOnException() {
 		return true;
@@ -1,6 +1,7 @@
 package eu.bcvsolutions.idm.core.scheduler.task.impl.hr;
 
 import java.util.Optional;
+import java.util.UUID;
 
 import org.apache.commons.lang3.StringUtils;
 import org.quartz.DisallowConcurrentExecution;
@@ -62,12 +63,23 @@ public class HrEndContractProcess extends AbstractHrProcess {
 	 * Find all identity contracts, that are both valid and enabled.
 	 */
 	@Override
-	public Page<IdmIdentityContractDto> getItemsToProcess(Pageable pageable) {
+	public Page<IdmIdentityContractDto> getItemsToProcess(Pageable pageable, UUID lastItemId) {
 		IdmIdentityContractFilter filter = new IdmIdentityContractFilter();
 		filter.setValid(Boolean.FALSE);
 		//
+		filter.setIdAfter(lastItemId); // keyset pagination
 		return identityContractService.find(filter, pageable);
 	}
+	
+	@Override
+	public Page<IdmIdentityContractDto> getItemsToProcess(Pageable pageable) {
+		return getItemsToProcess(pageable, null);
+	}
+	
+	@Override
+	protected boolean supportsKeysetPagination() {
+		return true;
+	}
 
 	@Override
 	public Optional<OperationResult> processItem(IdmIdentityContractDto dto) {
@@ -1,5 +1,6 @@
 package eu.bcvsolutions.idm.core.security.domain;
 
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Sets;
 import eu.bcvsolutions.idm.core.api.utils.DtoUtils;
 import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
@@ -55,6 +56,14 @@ public class GroovySandboxFilter extends GroovyValueFilter {
 			ch.qos.logback.classic.Logger.class, GString.class, GStringImpl.class, MessageFormat.class, Arrays.class,
 			Collections.class, DtoUtils.class, StringUtils.class, Collection.class);
 
+	// memoized types assignable to allowed types (allowed types are static)
+	// - weak keys => classes of evicted scripts (and their class loaders) can be unloaded, bounded size => dynamically created classes
+	private static final Map<Class<?>, Boolean> ASSIGNABLE_TO_ALLOWED_TYPES = CacheBuilder
+			.newBuilder()
+			.weakKeys()
+			.maximumSize(1000)
+			.<Class<?>, Boolean>build()
+			.asMap();
 	private final LinkedList<Set<Class<?>>> allowedCustomTypes = new LinkedList<>();
 
 	public GroovySandboxFilter() {
@@ -110,12 +119,11 @@ public class GroovySandboxFilter extends GroovyValueFilter {
 			return o;
 		}
 
+		if (o instanceof Script || o instanceof Closure) {
+			return o; // access to properties of compiled groovy script - checked before memoized types (script classes are not memoized)
+		}
 		Class<?> finalTargetClass = targetClass;
-		if (ALLOWED_TYPES.stream()
-				.filter(allowedType -> !Object.class.equals(allowedType)) // Access directly via Object is not allowed.
-				.filter(allowedType -> allowedType.isAssignableFrom(finalTargetClass))
-				.findFirst()
-				.isPresent()) {
+		if (ASSIGNABLE_TO_ALLOWED_TYPES.computeIfAbsent(finalTargetClass, GroovySandboxFilter::isAssignableToAllowedTypes)) {
 			return o;
 		}
 
@@ -127,9 +135,6 @@ public class GroovySandboxFilter extends GroovyValueFilter {
 			return o;
 		}
 
-		if (o instanceof Script || o instanceof Closure) {
-			return o; // access to properties of compiled groovy script
-		}
 		// check for exceptions
 		if (Throwable.class.isAssignableFrom(targetClass)) {
 			return o; // access for all exception
@@ -138,4 +143,11 @@ public class GroovySandboxFilter extends GroovyValueFilter {
 				MessageFormat.format("Script wants to use unauthorized class: [{0}] ", targetClass));
 	}
 
+	private static boolean isAssignableToAllowedTypes(Class<?> targetClass) {
+		return ALLOWED_TYPES
+				.stream()
+				.filter(allowedType -> !Object.class.equals(allowedType)) // Access directly via Object is not allowed.
+				.anyMatch(allowedType -> allowedType.isAssignableFrom(targetClass));
+	}
+
 }
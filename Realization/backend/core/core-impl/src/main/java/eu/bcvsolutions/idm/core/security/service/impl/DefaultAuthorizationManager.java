@@ -94,7 +94,7 @@ public class DefaultAuthorizationManager implements AuthorizationManager {
 	}
 	
 	@Override
-	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@SuppressWarnings("unchecked")
 	public <E extends Identifiable> Set<String> getPermissions(E entity) {
 		Assert.notNull(entity, "Entity is required.");
 		final Set<String> permissions = new HashSet<>();
@@ -106,29 +106,22 @@ public class DefaultAuthorizationManager implements AuthorizationManager {
 		}
 		// try to get cached permissions
 		Serializable entityId = entity.getId();
-		Map<Serializable, Set<String>> cachedPermissions = null;
+		String permissionCacheKey = null;
 		if (entityId != null) { // TODO: support cache for newly created entities without id
-			ValueWrapper value = cacheManager.getValue(PERMISSION_CACHE_NAME, loggedIdentityId);
+			permissionCacheKey = getPermissionCacheKey(loggedIdentityId, entityId);
+			ValueWrapper value = cacheManager.getValue(PERMISSION_ENTRY_CACHE_NAME, permissionCacheKey);
 			if (value != null) {
 				// cache value is never null
-				cachedPermissions = new HashMap<>((Map) value.get());
-				//
-				if (cachedPermissions.containsKey(entityId)) {
-					return cachedPermissions.get(entityId);
-				}
-			}		
+				return (Set<String>) value.get();
+			}
 		}
 		// load policies and get permissions
 		getEnabledDistinctPolicies(loggedIdentityId, entity.getClass()).forEach(policy -> {				
 			permissions.addAll(getPermissions(entity, policy));
 		});
 		// cache permissions 
-		if (entityId != null) {
-			if (cachedPermissions == null) {
-				cachedPermissions = new HashMap<>();
-			}
-			cachedPermissions.put(entityId, permissions);
-			cacheManager.cacheValue(PERMISSION_CACHE_NAME, loggedIdentityId, cachedPermissions);
+		if (permissionCacheKey != null) {
+			cacheManager.cacheValue(PERMISSION_ENTRY_CACHE_NAME, permissionCacheKey, permissions);
 		}
 		//
 		return permissions;
@@ -351,20 +344,18 @@ public class DefaultAuthorizationManager implements AuthorizationManager {
 		Assert.notNull(entityType, "Entity type is required.");
 		//
 		// try to get cached policies
-		Map<Class<? extends Identifiable>, List<UUID>> cachedPolicies;
+		Map<Class<? extends Identifiable>, List<UUID>> cachedPolicies = null;
 		ValueWrapper value = cacheManager.getValue(AUTHORIZATION_POLICY_CACHE_NAME, identityId);
 		if (value != null) {
-			// cache value is never null - create copy
-			cachedPolicies = new HashMap<>((Map) value.get());
-		} else {
-			cachedPolicies = new HashMap<>();
-		}
-		if (cachedPolicies.containsKey(entityType)) {
-			// cache contains policy identifiers only -> get policy dto
-			return cachedPolicies.get(entityType)
-					.stream()
-					.map(policyId -> getAuthorizationPolicy(policyId))
-					.collect(Collectors.toList());
+			// cache value is never null - read only, copy is created when new entity type is cached
+			cachedPolicies = (Map) value.get();
+			if (cachedPolicies.containsKey(entityType)) {
+				// cache contains policy identifiers only -> get policy dto
+				return cachedPolicies.get(entityType)
+						.stream()
+						.map(policyId -> getAuthorizationPolicy(policyId))
+						.collect(Collectors.toList());
+			}
 		}
 		// distinct policies
 		List<IdmAuthorizationPolicyDto> enabledDistinctPolicies = new ArrayList<>();
@@ -390,6 +381,7 @@ public class DefaultAuthorizationManager implements AuthorizationManager {
 				cacheManager.cacheValue(AUTHORIZATION_POLICY_DEFINITION_CACHE_NAME, policy.getId(), policy);
 			});
 		// cache policies as uuid
+		cachedPolicies = cachedPolicies == null ? new HashMap<>() : new HashMap<>(cachedPolicies);
 		cachedPolicies.put(
 				entityType, 
 				// dto => uuid
@@ -427,6 +419,30 @@ public class DefaultAuthorizationManager implements AuthorizationManager {
 				&& Objects.equal(one.getEvaluatorProperties(), two.getEvaluatorProperties());
 	}
 	
+	/**
+	 * Cache key for permissions of given identity for given entity. 
+	 * Permissions are cached in permission scope of identity - scope is evicted, when identity roles or authorization policies
+	 * are changed => permissions cached in previous scope are not used anymore (and expire).
+	 * 
+	 * @param identityId logged identity
+	 * @param entityId evaluated entity identifier
+	 * @return cache key
+	 * @since 12.3.0
+	 */
+	private String getPermissionCacheKey(UUID identityId, Serializable entityId) {
+		UUID scopeId;
+		ValueWrapper value = cacheManager.getValue(PERMISSION_CACHE_NAME, identityId);
+		if (value != null && value.get() instanceof UUID) {
+			scopeId = (UUID) value.get();
+		} else {
+			// new scope
+			scopeId = UUID.randomUUID();
+			cacheManager.cacheValue(PERMISSION_CACHE_NAME, identityId, scopeId);
+		}
+		//
+		return String.format("%s:%s", scopeId, entityId);
+	}
+	
 	/**
 	 * Get autorization policy with cache usage.
 	 * 
@@ -59,9 +59,17 @@ public class DefaultCryptService implements CryptService {
 	 */
 	@Deprecated
 	private static byte [] IV = { 48, 104, 118, 113, 103, 116, 51, 114, 107, 54, 51, 57, 108, 121, 119, 101 };
+	/**
+	 * Secure random is thread safe - one instance is used for generating all vectors.
+	 */
+	private static final SecureRandom RANDOM = new SecureRandom();
 	//
 	private final ConfigurableEnvironment env;
 	private SecretKey key;
+	/**
+	 * Cipher is not thread safe - instance is reused by the current thread only (re-initialized for each request).
+	 */
+	private final ThreadLocal<Cipher> ciphers = new ThreadLocal<>();
 	
 	public DefaultCryptService(ConfigurableEnvironment environment) {
 		Assert.notNull(environment, "Environment is required.");
@@ -182,8 +190,7 @@ public class DefaultCryptService implements CryptService {
 	@Override
 	public byte[] generateVector() {
 		byte[] vector = new byte[16];
-		SecureRandom s = new SecureRandom();
-		s.nextBytes(vector);
+		RANDOM.nextBytes(vector);
 		
 		return vector;
 	}
@@ -241,8 +248,8 @@ public class DefaultCryptService implements CryptService {
 	
 	/**
 	 * Method init {@link Cipher} by encrypt mode {@link Cipher}. 
-	 * Cipher is not thread safe and is not reusable, has to be constructed for all requests.
-	 * 
+	 * Cipher is not thread safe - cipher instance is cached for the current thread and it's (re)initialized for all requests
+	 * (Cipher#getInstance lookup is expensive).
 	 * 
 	 * @param encryptMode
 	 * @param key
@@ -257,9 +264,12 @@ public class DefaultCryptService implements CryptService {
 			LOG.warn("Confidential storage value hasn't defined dynamic vector.");
 		}
 
-		Cipher cipher = null;
+		Cipher cipher = ciphers.get();
 		try {
-			cipher = Cipher.getInstance(ALGORITHM + "/" + ALGORITHM_MODE + "/" + ALGORITHM_PADDING);
+			if (cipher == null) {
+				cipher = Cipher.getInstance(ALGORITHM + "/" + ALGORITHM_MODE + "/" + ALGORITHM_PADDING);
+				ciphers.set(cipher);
+			}
 			cipher.init(encryptMode, key, new IvParameterSpec(iv));
 		} catch (NoSuchAlgorithmException | NoSuchPaddingException | InvalidAlgorithmParameterException e) {
 			LOG.error("Cipher can't be initialized!");
@@ -1,10 +1,17 @@
 package eu.bcvsolutions.idm.core.security.service.impl;
 
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.PreDestroy;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
@@ -13,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
 
 import eu.bcvsolutions.idm.core.api.config.cache.domain.ValueWrapper;
 import eu.bcvsolutions.idm.core.api.domain.CoreResultCode;
@@ -30,7 +38,9 @@ import eu.bcvsolutions.idm.core.security.api.service.SecurityService;
 import eu.bcvsolutions.idm.core.security.api.service.TokenManager;
 
 /**
- * IdM tokens
+ * IdM tokens.
+ * Prolonged token expirations are held in memory and persisted periodically in batch.
+ * Expiration is persisted immediately, if persisted expiration used on other nodes expires before the next flush.
  * 
  * @author Radek Tomiška
  * @since 8.2.0
@@ -43,6 +53,11 @@ public class DefaultTokenManager implements TokenManager {
 	@Autowired private SecurityService securityService;
 	@Autowired private LookupService lookupService;
 	@Autowired private IdmCacheManager cacheManager;
+	@Value("${" + PROPERTY_EXPIRATION_FLUSH_PERIOD + ":" + DEFAULT_EXPIRATION_FLUSH_PERIOD + "}")
+	private long expirationFlushPeriod = DEFAULT_EXPIRATION_FLUSH_PERIOD;
+	//
+	// prolonged token expirations (token id, expiration and token hash) - not persisted yet
+	private final Map<UUID, IdmTokenDto> prolongedTokens = new ConcurrentHashMap<>();
 	
 	@Override
 	public IdmTokenDto getCurrentToken() {
@@ -107,18 +122,98 @@ public class DefaultTokenManager implements TokenManager {
 		}
 		if (token.isDisabled()) {
 			// FE need to check if this exception is for actual logged user (has same hash of token). Token must be included in the exception!
-			throw new ResultCodeException(CoreResultCode.AUTHORITIES_CHANGED, ImmutableMap.of("token", token.getToken()));
+			throw new ResultCodeException(CoreResultCode.AUTHORITIES_CHANGED, ImmutableMap.of("token", getTokenHash(token)));
 		}
-		if (token.getExpiration() != null && token.getExpiration().isBefore(ZonedDateTime.now())) {
+		ZonedDateTime expiration = getExpiration(token);
+		if (expiration != null && expiration.isBefore(ZonedDateTime.now())) {
 			throw new ResultCodeException(CoreResultCode.AUTH_EXPIRED);
 		}
 		if (!token.isSecretVerified()) {
-			throw new TwoFactorAuthenticationRequiredException(token.getToken());
+			// client has token with prolonged expiration
+			throw new TwoFactorAuthenticationRequiredException(getTokenHash(token));
 		}
 		//
 		return token;
 	}
 	
+	@Override
+	public void prolongExpiration(IdmTokenDto token, ZonedDateTime expiration, String tokenHash) {
+		Assert.notNull(token, "Token is required.");
+		Assert.notNull(token.getId(), "Token identifier is required.");
+		Assert.notNull(expiration, "Expiration is required.");
+		//
+		IdmTokenDto prolongedToken = new IdmTokenDto(token.getId());
+		prolongedToken.setExpiration(expiration);
+		prolongedToken.setToken(tokenHash);
+		// the latest expiration wins
+		prolongedToken = prolongedTokens.merge(
+				token.getId(), 
+				prolongedToken, 
+				(previous, current) -> current.getExpiration().isAfter(previous.getExpiration()) ? current : previous);
+		//
+		// persisted expiration is used on other nodes - token cannot expire there before the next flush
+		ZonedDateTime persistedExpiration = token.getExpiration();
+		if (persistedExpiration != null 
+				&& persistedExpiration.isBefore(ZonedDateTime.now().plus(expirationFlushPeriod, ChronoUnit.MILLIS))) {
+			LOG.trace("Persisted expiration of token [{}] expires before the next flush, expiration will be persisted immediately.", token.getId());
+			try {
+				flushExpirations(Lists.newArrayList(prolongedToken));
+			} catch (Exception ex) {
+				// prolonged expiration is still held in memory - will be persisted by scheduler
+				LOG.warn("Prolonged expiration of token [{}] cannot be persisted.", token.getId(), ex);
+			}
+		}
+	}
+	
+	@Override
+	public ZonedDateTime getExpiration(IdmTokenDto token) {
+		Assert.notNull(token, "Token is required.");
+		//
+		ZonedDateTime expiration = token.getExpiration();
+		if (expiration == null || token.isDisabled()) {
+			// unlimited expiration or disabled token is not prolonged
+			return expiration;
+		}
+		IdmTokenDto prolongedToken = prolongedTokens.get(token.getId());
+		if (prolongedToken == null || !prolongedToken.getExpiration().isAfter(expiration)) {
+			return expiration;
+		}
+		return prolongedToken.getExpiration();
+	}
+	
+	@Override
+	@Scheduled(fixedDelayString = "${" + PROPERTY_EXPIRATION_FLUSH_PERIOD + ":" + DEFAULT_EXPIRATION_FLUSH_PERIOD + "}")
+	public void flushExpirations() {
+		if (prolongedTokens.isEmpty()) {
+			return;
+		}
+		flushExpirations(new ArrayList<>(prolongedTokens.values()));
+	}
+	
+	private void flushExpirations(List<IdmTokenDto> tokens) {
+		int prolonged = tokenService.prolongExpiration(tokens);
+		//
+		tokens.forEach(token -> {
+			// token prolonged again in the meantime will be persisted next time
+			prolongedTokens.computeIfPresent(token.getId(), (tokenId, prolongedToken) -> prolongedToken == token ? null : prolongedToken);
+			// other nodes has to load persisted expiration
+			cacheManager.evictValue(TOKEN_CACHE_NAME, token.getId());
+		});
+		LOG.debug("Prolonged expiration of [{}] tokens was persisted.", prolonged);
+	}
+	
+	/**
+	 * Prolonged expirations are persisted before application is stopped.
+	 */
+	@PreDestroy
+	public void destroy() {
+		try {
+			flushExpirations();
+		} catch (Exception ex) {
+			LOG.warn("Prolonged expiration of [{}] tokens cannot be persisted.", prolongedTokens.size(), ex);
+		}
+	}
+	
 	@Override
 	public List<IdmTokenDto> getTokens(Identifiable owner, BasePermission... permission) {
 		Assert.notNull(owner, "Owner is required.");
@@ -139,6 +234,7 @@ public class DefaultTokenManager implements TokenManager {
 		getTokens(owner) // permissions are evaluated below, we want to delete all tokens (e.g. referential integrity)
 			.forEach(token -> {
 				tokenService.delete(token, permission);
+				prolongedTokens.remove(token.getId());
 			});
 	}
 	
@@ -146,6 +242,7 @@ public class DefaultTokenManager implements TokenManager {
 	@Transactional
 	public void deleteToken(UUID tokenId, BasePermission... permission) {
 		tokenService.deleteById(tokenId, permission);
+		prolongedTokens.remove(tokenId);
 	}
 	
 	@Override
@@ -226,6 +323,20 @@ public class DefaultTokenManager implements TokenManager {
 		this.tokenService = tokenService;
 	}
 	
+	/**
+	 * Token hash with prolonged expiration, if token expiration was prolonged - client has token with prolonged expiration.
+	 * 
+	 * @param token persisted token
+	 * @return token hash
+	 */
+	private String getTokenHash(IdmTokenDto token) {
+		IdmTokenDto prolongedToken = prolongedTokens.get(token.getId());
+		if (prolongedToken == null || prolongedToken.getToken() == null) {
+			return token.getToken();
+		}
+		return prolongedToken.getToken();
+	}
+	
 	/**
 	 * UUID identifier from given owner.
 	 * 
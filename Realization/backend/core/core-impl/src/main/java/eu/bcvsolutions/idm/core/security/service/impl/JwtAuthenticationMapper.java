@@ -200,7 +200,7 @@ public class JwtAuthenticationMapper {
 				token.getId(),
 				identity,
 				new IdmIdentityDto(dto.getOriginalIdentityId(), dto.getOriginalUsername()),
-				token.getExpiration(),
+				tokenManager.getExpiration(token),
 				token.getIssuedAt(),
 				null,
 				dto.getFromModule());
@@ -240,7 +240,7 @@ public class JwtAuthenticationMapper {
 				new IdmIdentityDto(
 						token.getProperties().getUuid(PROPERTY_ORIGINAL_IDENTITY_ID),
 						token.getProperties().getString(PROPERTY_ORIGINAL_USERNAME)),
-				token.getExpiration(),
+				tokenManager.getExpiration(token),
 				token.getIssuedAt(),
 				grantedAuthorities,
 				token.getModuleId());
@@ -318,7 +318,8 @@ public class JwtAuthenticationMapper {
 
 	/**
 	 * Prolong authentication expiration - but only if difference from old expiration is greater than one minute.
-	 * If persistent token for given authentication is found, then persisted token is updated
+	 * If persistent token for given authentication is found, then persisted token expiration is prolonged 
+	 * - prolonged expiration is persisted asynchronously by {@link TokenManager}.
 	 *
 	 * @param tokenId
 	 * @return returns actual token
@@ -352,12 +353,12 @@ public class JwtAuthenticationMapper {
 			return authenticationDto;
 		}
 		//
-		// expiration and token attribute has to be updated
-		token.setExpiration(newExpiration);
-		token.setToken(getTokenHash(token));
-		token = tokenManager.saveToken(new IdmIdentityDto(token.getOwnerId()), token);
+		// expiration and token attribute has to be updated - persisted (cached) token is not changed, expiration is persisted later
+		IdmJwtAuthenticationDto prolongedAuthenticationDto = toDto(token);
+		prolongedAuthenticationDto.setExpiration(newExpiration);
+		tokenManager.prolongExpiration(token, newExpiration, getTokenHash(prolongedAuthenticationDto));
 		//
-		return toDto(token);
+		return prolongedAuthenticationDto;
 	}
 
 	public void disableToken(UUID tokenId) {
@@ -454,7 +455,11 @@ public class JwtAuthenticationMapper {
 	 * @throws IOException
 	 */
 	private String getTokenHash(IdmTokenDto token) {
-		return Hashing.sha256().hashString(writeToken(toDto(token)), StandardCharsets.UTF_8).toString();
+		return getTokenHash(toDto(token));
+	}
+	
+	private String getTokenHash(IdmJwtAuthenticationDto authenticationDto) {
+		return Hashing.sha256().hashString(writeToken(authenticationDto), StandardCharsets.UTF_8).toString();
 	}
 
 }
@@ -0,0 +1,50 @@
+--
+-- CzechIdM 12 Flyway script 
+-- BCV solutions s.r.o.
+--
+-- asynchronous events processing in cluster - owner hash partitions leased by server instances
+
+ALTER TABLE idm_entity_event ADD COLUMN owner_hash int4 NULL;
+CREATE INDEX idx_idm_entity_event_o_hash ON idm_entity_event USING btree (owner_hash);
+
+CREATE TABLE idm_entity_event_node (
+	id bytea NOT NULL,
+	created timestamp NOT NULL,
+	creator varchar(255) NOT NULL,
+	creator_id bytea NULL,
+	modified timestamp NULL,
+	modifier varchar(255) NULL,
+	modifier_id bytea NULL,
+	original_creator varchar(255) NULL,
+	original_creator_id bytea NULL,
+	original_modifier varchar(255) NULL,
+	original_modifier_id bytea NULL,
+	realm_id bytea NULL,
+	transaction_id bytea NULL,
+	instance_id varchar(255) NOT NULL,
+	heartbeat timestamp NOT NULL,
+	CONSTRAINT idm_entity_event_node_pkey PRIMARY KEY (id)
+);
+CREATE UNIQUE INDEX ux_idm_entity_event_node_inst ON idm_entity_event_node USING btree (instance_id);
+
+CREATE TABLE idm_entity_event_lease (
+	id bytea NOT NULL,
+	created timestamp NOT NULL,
+	creator varchar(255) NOT NULL,
+	creator_id bytea NULL,
+	modified timestamp NULL,
+	modifier varchar(255) NULL,
+	modifier_id bytea NULL,
+	original_creator varchar(255) NULL,
+	original_creator_id bytea NULL,
+	original_modifier varchar(255) NULL,
+	original_modifier_id bytea NULL,
+	realm_id bytea NULL,
+	transaction_id bytea NULL,
+	partition_number int4 NOT NULL,
+	instance_id varchar(255) NULL,
+	expiration timestamp NULL,
+	CONSTRAINT idm_entity_event_lease_pkey PRIMARY KEY (id)
+);
+CREATE UNIQUE INDEX ux_idm_entity_event_lease_part ON idm_entity_event_lease USING btree (partition_number);
+CREATE INDEX idx_idm_entity_event_lease_inst ON idm_entity_event_lease USING btree (instance_id);
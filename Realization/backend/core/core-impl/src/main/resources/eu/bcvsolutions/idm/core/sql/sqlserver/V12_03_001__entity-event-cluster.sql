@@ -0,0 +1,50 @@
+--
+-- CzechIdM 12 Flyway script 
+-- BCV solutions s.r.o.
+--
+-- asynchronous events processing in cluster - owner hash partitions leased by server instances
+
+ALTER TABLE idm_entity_event ADD owner_hash int NULL;
+CREATE INDEX idx_idm_entity_event_o_hash ON idm_entity_event (owner_hash);
+
+CREATE TABLE idm_entity_event_node (
+	id binary(16) NOT NULL,
+	created datetime2(7) NOT NULL,
+	creator nvarchar(255) NOT NULL,
+	creator_id binary(16) NULL,
+	modified datetime2(7) NULL,
+	modifier nvarchar(255) NULL,
+	modifier_id binary(16) NULL,
+	original_creator nvarchar(255) NULL,
+	original_creator_id binary(16) NULL,
+	original_modifier nvarchar(255) NULL,
+	original_modifier_id binary(16) NULL,
+	realm_id binary(16) NULL,
+	transaction_id binary(16) NULL,
+	instance_id nvarchar(255) NOT NULL,
+	heartbeat datetime2(7) NOT NULL,
+	CONSTRAINT idm_entity_event_node_pkey PRIMARY KEY (id)
+);
+CREATE UNIQUE INDEX ux_idm_entity_event_node_inst ON idm_entity_event_node (instance_id);
+
+CREATE TABLE idm_entity_event_lease (
+	id binary(16) NOT NULL,
+	created datetime2(7) NOT NULL,
+	creator nvarchar(255) NOT NULL,
+	creator_id binary(16) NULL,
+	modified datetime2(7) NULL,
+	modifier nvarchar(255) NULL,
+	modifier_id binary(16) NULL,
+	original_creator nvarchar(255) NULL,
+	original_creator_id binary(16) NULL,
+	original_modifier nvarchar(255) NULL,
+	original_modifier_id binary(16) NULL,
+	realm_id binary(16) NULL,
+	transaction_id binary(16) NULL,
+	partition_number int NOT NULL,
+	instance_id nvarchar(255) NULL,
+	expiration datetime2(7) NULL,
+	CONSTRAINT idm_entity_event_lease_pkey PRIMARY KEY (id)
+);
+CREATE UNIQUE INDEX ux_idm_entity_event_lease_part ON idm_entity_event_lease (partition_number);
+CREATE INDEX idx_idm_entity_event_lease_inst ON idm_entity_event_lease (instance_id);
@@ -0,0 +1,83 @@
+package eu.bcvsolutions.idm.core.api.domain;
+
+import java.util.UUID;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+
+import eu.bcvsolutions.idm.core.api.dto.IdmAutomaticRoleAttributeRuleDto;
+import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
+import eu.bcvsolutions.idm.core.model.entity.IdmIdentity_;
+import eu.bcvsolutions.idm.test.api.AbstractUnitTest;
+
+/**
+ * Changed inputs of automatic role by attribute rules
+ * - identity attributes are compared
+ * - saved form attributes
+ * - all rules of type
+ *
+ * @since 12.3.0
+ */
+public class AutomaticRoleAttributeRuleChangesUnitTest extends AbstractUnitTest {
+
+	@Test
+	public void testIdentityAttributeChanged() {
+		IdmIdentityDto previous = new IdmIdentityDto(UUID.randomUUID());
+		previous.setDescription("one");
+		previous.setFirstName("first");
+		IdmIdentityDto current = new IdmIdentityDto(previous.getId());
+		current.setDescription("two");
+		current.setFirstName("first");
+		//
+		AutomaticRoleAttributeRuleChanges changes = new AutomaticRoleAttributeRuleChanges()
+				.setChanged(AutomaticRoleAttributeRuleType.IDENTITY, previous, current);
+		//
+		Assert.assertTrue(changes.hasChanges());
+		Assert.assertTrue(changes.isChanged(createRule(AutomaticRoleAttributeRuleType.IDENTITY, IdmIdentity_.description.getName())));
+		Assert.assertFalse(changes.isChanged(createRule(AutomaticRoleAttributeRuleType.IDENTITY, IdmIdentity_.firstName.getName())));
+		Assert.assertFalse(changes.isChanged(createRule(AutomaticRoleAttributeRuleType.CONTRACT, IdmIdentity_.description.getName())));
+		// unknown attribute cannot be compared
+		Assert.assertTrue(changes.isChanged(createRule(AutomaticRoleAttributeRuleType.IDENTITY, "wrong")));
+	}
+
+	@Test
+	public void testFormAttributeChanged() {
+		UUID formAttributeId = UUID.randomUUID();
+		AutomaticRoleAttributeRuleChanges changes = new AutomaticRoleAttributeRuleChanges()
+				.addChangedFormAttributes(AutomaticRoleAttributeRuleType.IDENTITY_EAV, Lists.newArrayList(formAttributeId));
+		//
+		IdmAutomaticRoleAttributeRuleDto rule = createRule(AutomaticRoleAttributeRuleType.IDENTITY_EAV, null);
+		rule.setFormAttribute(formAttributeId);
+		Assert.assertTrue(changes.isChanged(rule));
+		rule.setFormAttribute(UUID.randomUUID());
+		Assert.assertFalse(changes.isChanged(rule));
+		rule.setType(AutomaticRoleAttributeRuleType.CONTRACT_EAV);
+		rule.setFormAttribute(formAttributeId);
+		Assert.assertFalse(changes.isChanged(rule));
+	}
+
+	@Test
+	public void testAllChanged() {
+		AutomaticRoleAttributeRuleChanges changes = new AutomaticRoleAttributeRuleChanges();
+		Assert.assertFalse(changes.hasChanges());
+		//
+		changes.setChanged(AutomaticRoleAttributeRuleType.CONTRACT_EAV);
+		Assert.assertTrue(changes.hasChanges());
+		Assert.assertTrue(changes.isChanged(createRule(AutomaticRoleAttributeRuleType.CONTRACT_EAV, null)));
+		Assert.assertFalse(changes.isChanged(createRule(AutomaticRoleAttributeRuleType.IDENTITY_EAV, null)));
+		//
+		changes.setAllChanged();
+		for (AutomaticRoleAttributeRuleType type : AutomaticRoleAttributeRuleType.values()) {
+			Assert.assertTrue(changes.isChanged(createRule(type, IdmIdentity_.description.getName())));
+		}
+	}
+
+	private IdmAutomaticRoleAttributeRuleDto createRule(AutomaticRoleAttributeRuleType type, String attributeName) {
+		IdmAutomaticRoleAttributeRuleDto rule = new IdmAutomaticRoleAttributeRuleDto();
+		rule.setType(type);
+		rule.setAttributeName(attributeName);
+		return rule;
+	}
+}
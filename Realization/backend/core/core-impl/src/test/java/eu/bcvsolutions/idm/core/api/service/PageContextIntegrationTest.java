@@ -0,0 +1,134 @@
+package eu.bcvsolutions.idm.core.api.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
+import eu.bcvsolutions.idm.core.api.dto.filter.IdmIdentityFilter;
+import eu.bcvsolutions.idm.core.api.entity.BaseEntity;
+import eu.bcvsolutions.idm.core.api.exception.ResultCodeException;
+import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
+import eu.bcvsolutions.idm.test.api.AbstractIntegrationTest;
+
+/**
+ * Page context - load pages without total count, projection.
+ *
+ * @since 12.3.0
+ */
+@Transactional
+public class PageContextIntegrationTest extends AbstractIntegrationTest {
+
+	@Autowired private IdmIdentityService identityService;
+
+	@Test
+	public void testFindWithoutCount() {
+		String prefix = getHelper().createName();
+		Set<UUID> identityIds = Sets.newHashSet(
+				getHelper().createIdentity(prefix + "-one", (GuardedString) null).getId(),
+				getHelper().createIdentity(prefix + "-two", (GuardedString) null).getId(),
+				getHelper().createIdentity(prefix + "-three", (GuardedString) null).getId());
+		//
+		IdmIdentityFilter filter = new IdmIdentityFilter();
+		filter.setText(prefix);
+		filter.setCount(false);
+		PageRequest pageable = PageRequest.of(0, 2, new Sort(Direction.ASC, BaseEntity.PROPERTY_ID));
+		//
+		Page<IdmIdentityDto> page = identityService.find(filter, pageable);
+		Assert.assertEquals(2, page.getNumberOfElements());
+		Assert.assertEquals(3, page.getTotalElements()); // next page exists
+		Assert.assertTrue(page.hasNext());
+		List<UUID> results = new ArrayList<>(page.getContent().stream().map(IdmIdentityDto::getId).collect(Collectors.toList()));
+		//
+		// keyset pagination
+		filter.setIdAfter(page.getContent().get(1).getId());
+		page = identityService.find(filter, pageable);
+		Assert.assertEquals(1, page.getNumberOfElements());
+		Assert.assertEquals(1, page.getTotalElements());
+		Assert.assertFalse(page.hasNext());
+		results.add(page.getContent().get(0).getId());
+		//
+		Assert.assertEquals(identityIds, Sets.newHashSet(results));
+	}
+
+	@Test
+	public void testFindIdsWithoutCount() {
+		String prefix = getHelper().createName();
+		Set<UUID> identityIds = Sets.newHashSet(
+				getHelper().createIdentity(prefix + "-one", (GuardedString) null).getId(),
+				getHelper().createIdentity(prefix + "-two", (GuardedString) null).getId(),
+				getHelper().createIdentity(prefix + "-three", (GuardedString) null).getId());
+		//
+		IdmIdentityFilter filter = new IdmIdentityFilter();
+		filter.setText(prefix);
+		filter.setCount(false);
+		PageRequest pageable = PageRequest.of(0, 2, new Sort(Direction.ASC, BaseEntity.PROPERTY_ID));
+		//
+		Page<UUID> page = identityService.findIds(filter, pageable);
+		Assert.assertEquals(2, page.getNumberOfElements());
+		Assert.assertTrue(page.hasNext());
+		List<UUID> results = new ArrayList<>(page.getContent());
+		//
+		// keyset pagination
+		filter.setIdAfter(page.getContent().get(1));
+		page = identityService.findIds(filter, pageable);
+		Assert.assertEquals(1, page.getNumberOfElements());
+		Assert.assertFalse(page.hasNext());
+		results.addAll(page.getContent());
+		//
+		Assert.assertEquals(identityIds, Sets.newHashSet(results));
+	}
+
+	@Test
+	public void testFindProjection() {
+		String prefix = getHelper().createName();
+		IdmIdentityDto identityOne = getHelper().createIdentity(prefix + "-one", (GuardedString) null);
+		getHelper().createIdentity(prefix + "-two", (GuardedString) null);
+		//
+		IdmIdentityFilter filter = new IdmIdentityFilter();
+		filter.setText(prefix);
+		filter.setFields(Lists.newArrayList(" username, lastName", "formProjection"));
+		//
+		List<IdmIdentityDto> identities = identityService.find(filter, null).getContent();
+		Assert.assertEquals(2, identities.size());
+		IdmIdentityDto identity = identities
+				.stream()
+				.filter(i -> i.getId().equals(identityOne.getId()))
+				.findFirst()
+				.get();
+		Assert.assertTrue(identity.isTrimmed());
+		Assert.assertEquals(identityOne.getUsername(), identity.getUsername());
+		Assert.assertEquals(identityOne.getLastName(), identity.getLastName());
+		Assert.assertEquals(identityOne.getFormProjection(), identity.getFormProjection());
+		Assert.assertNull(identity.getFirstName());
+		Assert.assertNull(identity.getCreated());
+		//
+		// projection without count
+		filter.setCount(false);
+		Page<IdmIdentityDto> page = identityService.find(filter, PageRequest.of(0, 1));
+		Assert.assertEquals(1, page.getNumberOfElements());
+		Assert.assertEquals(2, page.getTotalElements());
+	}
+
+	@Test(expected = ResultCodeException.class)
+	public void testFindProjectionWithWrongField() {
+		IdmIdentityFilter filter = new IdmIdentityFilter();
+		filter.setFields(Lists.newArrayList("wrong"));
+		//
+		identityService.find(filter, null);
+	}
+}
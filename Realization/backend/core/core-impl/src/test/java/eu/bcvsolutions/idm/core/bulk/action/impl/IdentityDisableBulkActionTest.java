@@ -16,6 +16,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import com.google.common.collect.Sets;
 
+import eu.bcvsolutions.idm.core.api.bulk.action.IdmBulkAction;
 import eu.bcvsolutions.idm.core.api.bulk.action.dto.IdmBulkActionDto;
 import eu.bcvsolutions.idm.core.api.domain.IdentityState;
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
@@ -49,6 +50,8 @@ public class IdentityDisableBulkActionTest extends AbstractBulkActionTest {
 	private IdmIdentityService identityService;
 	@Autowired
 	private IdmNotificationLogService notificationLogService;
+	@Autowired
+	private IdentityDisableBulkAction identityDisableBulkAction;
 	
 	private IdmIdentityDto loginIdentity;
 	
@@ -148,6 +151,72 @@ public class IdentityDisableBulkActionTest extends AbstractBulkActionTest {
 		}
 	}
 	
+	@Test
+	public void processBulkActionByFilterInChunks() {
+		String chunkSizeProperty = identityDisableBulkAction.getConfigurationPropertyName(IdmBulkAction.PROPERTY_CHUNK_SIZE);
+		String workersProperty = identityDisableBulkAction.getConfigurationPropertyName(IdmBulkAction.PROPERTY_WORKERS);
+		try {
+			getHelper().setConfigurationValue(chunkSizeProperty, "2");
+			getHelper().setConfigurationValue(workersProperty, "2");
+			//
+			String testLastName = getHelper().createName();
+			List<IdmIdentityDto> identities = this.createIdentities(7);
+			IdmIdentityDto removedIdentity = identities.get(0);
+			for (IdmIdentityDto identity : identities) {
+				identity.setLastName(testLastName);
+				identityService.save(identity);
+			}
+			//
+			IdmIdentityFilter filter = new IdmIdentityFilter();
+			filter.setLastName(testLastName);
+			IdmBulkActionDto bulkAction = this.findBulkAction(IdmIdentity.class, IdentityDisableBulkAction.NAME);
+			bulkAction.setTransformedFilter(filter);
+			bulkAction.setFilter(toMap(filter));
+			bulkAction.setRemoveIdentifiers(Sets.newHashSet(removedIdentity.getId()));
+			IdmBulkActionDto processAction = bulkActionManager.processAction(bulkAction);
+			//
+			IdmLongRunningTaskDto lrt = checkResultLrt(processAction, 6l, 0l, 0l);
+			assertEquals(Long.valueOf(6), lrt.getCount());
+			assertEquals(Long.valueOf(6), lrt.getCounter());
+			checkProcessItemsCount(processAction, 6);
+			//
+			for (IdmIdentityDto identity : identities) {
+				IdmIdentityDto dto = identityService.get(identity.getId());
+				if (dto.getId().equals(removedIdentity.getId())) {
+					assertTrue(dto.getState() != IdentityState.DISABLED_MANUALLY);
+					continue;
+				}
+				assertTrue(dto.getState() == IdentityState.DISABLED_MANUALLY);
+			}
+		} finally {
+			getHelper().deleteConfigurationValue(chunkSizeProperty);
+			getHelper().deleteConfigurationValue(workersProperty);
+		}
+	}
+	
+	@Test
+	public void processBulkActionInChunksWithoutPermission() {
+		String chunkSizeProperty = identityDisableBulkAction.getConfigurationPropertyName(IdmBulkAction.PROPERTY_CHUNK_SIZE);
+		try {
+			getHelper().setConfigurationValue(chunkSizeProperty, "2");
+			// user hasn't permission for update identity
+			IdmIdentityDto adminIdentity = this.createUserWithAuthorities(IdmBasePermission.READ);
+			loginAsNoAdmin(adminIdentity.getUsername());
+			//
+			List<IdmIdentityDto> identities = this.createIdentities(5);
+			IdmBulkActionDto bulkAction = this.findBulkAction(IdmIdentity.class, IdentityDisableBulkAction.NAME);
+			bulkAction.setIdentifiers(this.getIdFromList(identities));
+			IdmBulkActionDto processAction = bulkActionManager.processAction(bulkAction);
+			//
+			checkResultLrt(processAction, 0l, 0l, 5l);
+			for (IdmIdentityDto identity : identities) {
+				assertTrue(identityService.get(identity.getId()).getState() != IdentityState.DISABLED_MANUALLY);
+			}
+		} finally {
+			getHelper().deleteConfigurationValue(chunkSizeProperty);
+		}
+	}
+	
 	@Test
 	public void processBulkActionWithoutPermission() {
 		// user hasn't permission for update identity
@@ -0,0 +1,300 @@
+package eu.bcvsolutions.idm.core.model.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.google.common.collect.Sets;
+
+import eu.bcvsolutions.idm.core.api.domain.PriorityType;
+import eu.bcvsolutions.idm.core.api.dto.IdmEntityEventDto;
+import eu.bcvsolutions.idm.test.api.AbstractUnitTest;
+
+/**
+ * Partitioned event dispatcher
+ * - order of events for the same owner
+ * - duplicate events
+ * - partition capacity
+ *
+ * @since 12.3.0
+ */
+public class PartitionedEntityEventDispatcherUnitTest extends AbstractUnitTest {
+
+	@Test
+	public void testPreserveOrderForTheSameOwner() throws Exception {
+		int count = 100;
+		UUID ownerOne = UUID.randomUUID();
+		UUID ownerTwo = UUID.randomUUID();
+		CountDownLatch latch = new CountDownLatch(count * 2);
+		Map<UUID, List<Integer>> executed = new ConcurrentHashMap<>();
+		//
+		PartitionedEntityEventDispatcher dispatcher = new PartitionedEntityEventDispatcher("test-partition", 4, count * 2, new TestHandler() {
+
+			@Override
+			public void execute(IdmEntityEventDto event) {
+				executed
+					.computeIfAbsent(event.getOwnerId(), k -> Collections.synchronizedList(new ArrayList<>()))
+					.add((Integer) event.getProperties().get("order"));
+				latch.countDown();
+			}
+		});
+		try {
+			dispatcher.start();
+			for (int i = 0; i < count; i++) {
+				Assert.assertTrue(dispatcher.dispatch(createEvent(ownerOne, i, i % 2 == 0 ? PriorityType.HIGH : PriorityType.NORMAL)));
+				Assert.assertTrue(dispatcher.dispatch(createEvent(ownerTwo, i, PriorityType.NORMAL)));
+			}
+			//
+			Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+			for (UUID owner : new UUID[] { ownerOne, ownerTwo }) {
+				List<Integer> ownerEvents = executed.get(owner);
+				Assert.assertEquals(count, ownerEvents.size());
+				for (int i = 0; i < count; i++) {
+					Assert.assertEquals(i, ownerEvents.get(i).intValue());
+				}
+			}
+		} finally {
+			dispatcher.stop();
+		}
+	}
+
+	@Test
+	public void testSuperOwnerIsUsedForPartitioning() {
+		PartitionedEntityEventDispatcher dispatcher = new PartitionedEntityEventDispatcher("test-partition", 8, 10, new TestHandler());
+		UUID superOwner = UUID.randomUUID();
+		IdmEntityEventDto event = createEvent(UUID.randomUUID(), 0, PriorityType.NORMAL);
+		event.setSuperOwnerId(superOwner);
+		//
+		Assert.assertEquals(superOwner, PartitionedEntityEventDispatcher.getPartitionKey(event));
+		Assert.assertEquals(
+				dispatcher.getPartitionIndex(superOwner),
+				dispatcher.getPartitionIndex(PartitionedEntityEventDispatcher.getPartitionKey(event)));
+	}
+
+	@Test
+	public void testPartitionKeysOfDispatchedEvents() {
+		CountDownLatch block = new CountDownLatch(1);
+		PartitionedEntityEventDispatcher dispatcher = new PartitionedEntityEventDispatcher("test-partition", 2, 10, new BlockingHandler(block));
+		try {
+			dispatcher.start();
+			UUID superOwner = UUID.randomUUID();
+			UUID owner = UUID.randomUUID();
+			IdmEntityEventDto event = createEvent(UUID.randomUUID(), 0, PriorityType.NORMAL);
+			event.setSuperOwnerId(superOwner);
+			Assert.assertTrue(dispatcher.dispatch(event));
+			Assert.assertTrue(dispatcher.dispatch(createEvent(owner, 0, PriorityType.NORMAL)));
+			//
+			Assert.assertEquals(Sets.newHashSet(superOwner, owner), dispatcher.getPartitionKeys());
+			Assert.assertEquals(Sets.newHashSet(event.getId()), dispatcher.getEventIds(superOwner));
+			Assert.assertTrue(dispatcher.getEventIds(UUID.randomUUID()).isEmpty());
+		} finally {
+			block.countDown();
+			dispatcher.stop();
+		}
+	}
+
+	@Test
+	public void testNotStartedDispatcher() {
+		PartitionedEntityEventDispatcher dispatcher = new PartitionedEntityEventDispatcher("test-partition", 1, 10, new TestHandler());
+		//
+		Assert.assertFalse(dispatcher.dispatch(createEvent(UUID.randomUUID(), 0, PriorityType.NORMAL)));
+		Assert.assertEquals(0, dispatcher.size());
+	}
+
+	@Test
+	public void testDispatchEventOnce() throws Exception {
+		CountDownLatch block = new CountDownLatch(1);
+		PartitionedEntityEventDispatcher dispatcher = new PartitionedEntityEventDispatcher("test-partition", 1, 10, new BlockingHandler(block));
+		try {
+			dispatcher.start();
+			IdmEntityEventDto event = createEvent(UUID.randomUUID(), 0, PriorityType.NORMAL);
+			//
+			Assert.assertTrue(dispatcher.dispatch(event));
+			Assert.assertFalse(dispatcher.dispatch(event));
+			Assert.assertTrue(dispatcher.contains(event.getId()));
+		} finally {
+			block.countDown();
+			dispatcher.stop();
+		}
+	}
+
+	@Test
+	public void testPartitionCapacity() throws Exception {
+		CountDownLatch block = new CountDownLatch(1);
+		PartitionedEntityEventDispatcher dispatcher = new PartitionedEntityEventDispatcher("test-partition", 1, 2, new BlockingHandler(block));
+		try {
+			dispatcher.start();
+			Assert.assertTrue(dispatcher.dispatch(createEvent(UUID.randomUUID(), 0, PriorityType.NORMAL)));
+			Assert.assertTrue(dispatcher.dispatch(createEvent(UUID.randomUUID(), 0, PriorityType.NORMAL)));
+			Assert.assertTrue(dispatcher.dispatch(createEvent(UUID.randomUUID(), 0, PriorityType.NORMAL)));
+			// two events are waiting at least (one can be running)
+			waitForSize(dispatcher, 3);
+			IdmEntityEventDto event = createEvent(UUID.randomUUID(), 0, PriorityType.NORMAL);
+			Assert.assertFalse(dispatcher.dispatch(event));
+			Assert.assertFalse(dispatcher.contains(event.getId()));
+		} finally {
+			block.countDown();
+			dispatcher.stop();
+		}
+	}
+
+	@Test
+	public void testReplaceDuplicateEvent() throws Exception {
+		CountDownLatch block = new CountDownLatch(1);
+		List<UUID> canceled = Collections.synchronizedList(new ArrayList<>());
+		UUID owner = UUID.randomUUID();
+		PartitionedEntityEventDispatcher dispatcher = new PartitionedEntityEventDispatcher("test-partition", 1, 10, new BlockingHandler(block) {
+
+			@Override
+			public boolean isDuplicate(IdmEntityEventDto olderEvent, IdmEntityEventDto event) {
+				return true;
+			}
+
+			@Override
+			public void duplicateCanceled(IdmEntityEventDto olderEvent, IdmEntityEventDto event) {
+				canceled.add(olderEvent.getId());
+			}
+		});
+		try {
+			dispatcher.start();
+			// blocking event for the other owner
+			Assert.assertTrue(dispatcher.dispatch(createEvent(UUID.randomUUID(), 0, PriorityType.NORMAL)));
+			IdmEntityEventDto eventOne = createEvent(owner, 1, PriorityType.HIGH);
+			IdmEntityEventDto eventTwo = createEvent(owner, 2, PriorityType.NORMAL);
+			Assert.assertTrue(dispatcher.dispatch(eventOne));
+			Assert.assertTrue(dispatcher.dispatch(eventTwo));
+			//
+			Assert.assertEquals(1, canceled.size());
+			Assert.assertEquals(eventOne.getId(), canceled.get(0));
+			Assert.assertFalse(dispatcher.contains(eventOne.getId()));
+			Assert.assertTrue(dispatcher.contains(eventTwo.getId()));
+			Assert.assertEquals(PriorityType.HIGH, eventTwo.getPriority());
+		} finally {
+			block.countDown();
+			dispatcher.stop();
+		}
+	}
+
+	@Test
+	public void testEscalatedDuplicateEventIsMovedToHighPriority() throws Exception {
+		CountDownLatch block = new CountDownLatch(1);
+		CountDownLatch latch = new CountDownLatch(3);
+		List<UUID> executed = Collections.synchronizedList(new ArrayList<>());
+		UUID blockingOwner = UUID.randomUUID();
+		UUID ownerOne = UUID.randomUUID();
+		UUID ownerTwo = UUID.randomUUID();
+		PartitionedEntityEventDispatcher dispatcher = new PartitionedEntityEventDispatcher("test-partition", 1, 10, new BlockingHandler(block) {
+			
+			@Override
+			public void execute(IdmEntityEventDto event) {
+				if (event.getOwnerId().equals(blockingOwner)) {
+					super.execute(event);
+				}
+				executed.add(event.getId());
+				latch.countDown();
+			}
+
+			@Override
+			public boolean isDuplicate(IdmEntityEventDto olderEvent, IdmEntityEventDto event) {
+				return true;
+			}
+		});
+		try {
+			dispatcher.start();
+			Assert.assertTrue(dispatcher.dispatch(createEvent(blockingOwner, 0, PriorityType.NORMAL)));
+			waitForSize(dispatcher, 1);
+			IdmEntityEventDto normalEvent = createEvent(ownerOne, 1, PriorityType.NORMAL);
+			Assert.assertTrue(dispatcher.dispatch(normalEvent));
+			Assert.assertTrue(dispatcher.dispatch(createEvent(ownerTwo, 1, PriorityType.NORMAL)));
+			IdmEntityEventDto highEvent = createEvent(ownerTwo, 2, PriorityType.HIGH);
+			Assert.assertTrue(dispatcher.dispatch(highEvent));
+			Assert.assertEquals(3, dispatcher.size());
+			//
+			block.countDown();
+			Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+			waitForSize(dispatcher, 0);
+			// escalated owner is processed first and only once
+			Assert.assertEquals(3, executed.size());
+			Assert.assertEquals(highEvent.getId(), executed.get(1));
+			Assert.assertEquals(normalEvent.getId(), executed.get(2));
+		} finally {
+			block.countDown();
+			dispatcher.stop();
+		}
+	}
+
+	@Test
+	public void testFreeCapacity() throws Exception {
+		CountDownLatch block = new CountDownLatch(1);
+		PartitionedEntityEventDispatcher dispatcher = new PartitionedEntityEventDispatcher("test-partition", 2, 5, new BlockingHandler(block));
+		try {
+			Assert.assertEquals(10, dispatcher.getFreeCapacity());
+			dispatcher.start();
+			Assert.assertTrue(dispatcher.dispatch(createEvent(UUID.randomUUID(), 0, PriorityType.NORMAL)));
+			Assert.assertTrue(dispatcher.dispatch(createEvent(UUID.randomUUID(), 0, PriorityType.NORMAL)));
+			//
+			Assert.assertEquals(8, dispatcher.getFreeCapacity());
+		} finally {
+			block.countDown();
+			dispatcher.stop();
+		}
+	}
+
+	private void waitForSize(PartitionedEntityEventDispatcher dispatcher, int size) throws InterruptedException {
+		for (int i = 0; i < 50 && dispatcher.size() != size; i++) {
+			Thread.sleep(20);
+		}
+		Assert.assertEquals(size, dispatcher.size());
+	}
+
+	private IdmEntityEventDto createEvent(UUID ownerId, int order, PriorityType priority) {
+		IdmEntityEventDto event = new IdmEntityEventDto(UUID.randomUUID());
+		event.setOwnerId(ownerId);
+		event.setPriority(priority);
+		event.getProperties().put("order", order);
+		//
+		return event;
+	}
+
+	private static class TestHandler implements PartitionedEntityEventDispatcher.EventHandler {
+
+		@Override
+		public void execute(IdmEntityEventDto event) {
+		}
+
+		@Override
+		public boolean isDuplicate(IdmEntityEventDto olderEvent, IdmEntityEventDto event) {
+			return false;
+		}
+
+		@Override
+		public void duplicateCanceled(IdmEntityEventDto olderEvent, IdmEntityEventDto event) {
+		}
+	}
+
+	private static class BlockingHandler extends TestHandler {
+
+		private final CountDownLatch block;
+
+		BlockingHandler(CountDownLatch block) {
+			this.block = block;
+		}
+
+		@Override
+		public void execute(IdmEntityEventDto event) {
+			try {
+				block.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package eu.bcvsolutions.idm.core.model.repository.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.google.common.collect.Sets;
+
+import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
+import eu.bcvsolutions.idm.core.api.dto.filter.IdmIdentityFilter;
+import eu.bcvsolutions.idm.core.api.entity.BaseEntity;
+import eu.bcvsolutions.idm.core.api.service.IdmIdentityService;
+import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
+import eu.bcvsolutions.idm.test.api.AbstractIntegrationTest;
+
+/**
+ * IdAfterFilterBuilder test - keyset pagination.
+ *
+ * @since 12.3.0
+ */
+@Transactional
+public class IdAfterFilterBuilderIntegrationTest extends AbstractIntegrationTest {
+
+	@Autowired private IdmIdentityService identityService;
+
+	@Test
+	public void testKeysetPagination() {
+		String prefix = getHelper().createName();
+		Set<UUID> identityIds = Sets.newHashSet(
+				getHelper().createIdentity(prefix + "-one", (GuardedString) null).getId(),
+				getHelper().createIdentity(prefix + "-two", (GuardedString) null).getId(),
+				getHelper().createIdentity(prefix + "-three", (GuardedString) null).getId());
+		//
+		IdmIdentityFilter filter = new IdmIdentityFilter();
+		filter.setText(prefix);
+		PageRequest pageable = PageRequest.of(0, 2, new Sort(Direction.ASC, BaseEntity.PROPERTY_ID));
+		//
+		Page<IdmIdentityDto> page = identityService.find(filter, pageable);
+		Assert.assertEquals(3, page.getTotalElements());
+		Assert.assertEquals(2, page.getNumberOfElements());
+		List<UUID> results = new ArrayList<>(page.getContent().stream().map(IdmIdentityDto::getId).collect(Collectors.toList()));
+		//
+		filter.setIdAfter(page.getContent().get(1).getId());
+		page = identityService.find(filter, pageable);
+		Assert.assertEquals(1, page.getTotalElements());
+		results.add(page.getContent().get(0).getId());
+		//
+		Assert.assertEquals(3, results.size());
+		Assert.assertEquals(identityIds, Sets.newHashSet(results));
+		//
+		filter.setIdAfter(page.getContent().get(0).getId());
+		Assert.assertEquals(0, identityService.find(filter, pageable).getTotalElements());
+	}
+}
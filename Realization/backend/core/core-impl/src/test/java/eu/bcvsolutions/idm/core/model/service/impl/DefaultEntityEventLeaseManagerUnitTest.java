@@ -0,0 +1,162 @@
+package eu.bcvsolutions.idm.core.model.service.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+import eu.bcvsolutions.idm.core.api.config.domain.EventConfiguration;
+import eu.bcvsolutions.idm.core.api.dto.IdmEntityEventDto;
+import eu.bcvsolutions.idm.core.api.service.ConfigurationService;
+import eu.bcvsolutions.idm.core.model.entity.IdmEntityEventLease;
+import eu.bcvsolutions.idm.core.model.entity.IdmEntityEventNode;
+import eu.bcvsolutions.idm.core.model.repository.IdmEntityEventLeaseRepository;
+import eu.bcvsolutions.idm.core.model.repository.IdmEntityEventNodeRepository;
+import eu.bcvsolutions.idm.core.model.service.api.EntityEventLeaseManager;
+import eu.bcvsolutions.idm.test.api.AbstractUnitTest;
+
+/**
+ * Event cluster partition leases
+ * - rendezvous assignment
+ * - claim assigned partitions
+ * - busy partitions are not released
+ *
+ * @since 12.3.0
+ */
+public class DefaultEntityEventLeaseManagerUnitTest extends AbstractUnitTest {
+
+	private static final int PARTITION_COUNT = 16;
+	private static final String INSTANCE_ONE = "one";
+	private static final String INSTANCE_TWO = "two";
+	//
+	@Mock private IdmEntityEventNodeRepository nodeRepository;
+	@Mock private IdmEntityEventLeaseRepository leaseRepository;
+	@Mock private PlatformTransactionManager platformTransactionManager;
+	@Mock private EventConfiguration eventConfiguration;
+	@Mock private ConfigurationService configurationService;
+	//
+	@InjectMocks private DefaultEntityEventLeaseManager manager;
+
+	@Test
+	public void testOwnerHash() {
+		for (int i = 0; i < 100; i++) {
+			UUID ownerId = UUID.randomUUID();
+			int ownerHash = EntityEventLeaseManager.getOwnerHash(ownerId);
+			//
+			Assert.assertTrue(ownerHash >= 0);
+			Assert.assertTrue(ownerHash < EntityEventLeaseManager.OWNER_HASH_BUCKETS);
+			Assert.assertEquals(ownerHash, EntityEventLeaseManager.getOwnerHash(UUID.fromString(ownerId.toString())));
+		}
+	}
+
+	@Test
+	public void testRendezvousAssignmentMovesPartitionsOfLeftInstanceOnly() {
+		List<String> instances = Lists.newArrayList(INSTANCE_ONE, INSTANCE_TWO, "three");
+		List<String> assigned = new ArrayList<>();
+		for (int partition = 0; partition < PARTITION_COUNT; partition++) {
+			String instance = manager.getAssignedInstance(partition, instances);
+			Assert.assertTrue(instances.contains(instance));
+			// the same result regardless order
+			Assert.assertEquals(instance, manager.getAssignedInstance(partition, Lists.reverse(instances)));
+			assigned.add(instance);
+		}
+		//
+		List<String> aliveInstances = Lists.newArrayList(INSTANCE_ONE, INSTANCE_TWO);
+		for (int partition = 0; partition < PARTITION_COUNT; partition++) {
+			String instance = manager.getAssignedInstance(partition, aliveInstances);
+			if (!"three".equals(assigned.get(partition))) {
+				Assert.assertEquals(assigned.get(partition), instance);
+			} else {
+				Assert.assertTrue(aliveInstances.contains(instance));
+			}
+		}
+	}
+
+	@Test
+	public void testClaimAssignedPartitions() {
+		mockCluster(null, INSTANCE_ONE);
+		when(leaseRepository.claim(anyInt(), eq(INSTANCE_ONE), any(ZonedDateTime.class), any(ZonedDateTime.class))).thenReturn(1);
+		//
+		manager.heartbeat(null);
+		//
+		Assert.assertEquals(PARTITION_COUNT, manager.getLeasedPartitions().size());
+		verify(leaseRepository, never()).release(any(), any());
+		IdmEntityEventDto event = new IdmEntityEventDto();
+		event.setOwnerId(UUID.randomUUID());
+		Assert.assertTrue(manager.isLeased(event));
+	}
+
+	@Test
+	public void testBusyPartitionIsNotReleased() {
+		mockCluster(INSTANCE_ONE, INSTANCE_ONE, INSTANCE_TWO);
+		when(leaseRepository.claim(anyInt(), eq(INSTANCE_ONE), any(ZonedDateTime.class), any(ZonedDateTime.class))).thenReturn(1);
+		//
+		Set<Integer> assignedPartitions = new HashSet<>();
+		Set<Integer> otherPartitions = new HashSet<>();
+		List<String> instances = Lists.newArrayList(INSTANCE_ONE, INSTANCE_TWO);
+		for (int partition = 0; partition < PARTITION_COUNT; partition++) {
+			if (INSTANCE_ONE.equals(manager.getAssignedInstance(partition, instances))) {
+				assignedPartitions.add(partition);
+			} else {
+				otherPartitions.add(partition);
+			}
+		}
+		Assert.assertFalse(otherPartitions.isEmpty());
+		Integer busyPartition = otherPartitions.iterator().next();
+		//
+		manager.heartbeat(Lists.newArrayList(busyPartition));
+		//
+		// busy partition is renewed, but events are not loaded from it
+		Assert.assertEquals(assignedPartitions, manager.getLeasedPartitions());
+		verify(leaseRepository).claim(eq(busyPartition), eq(INSTANCE_ONE), any(ZonedDateTime.class), any(ZonedDateTime.class));
+		Set<Integer> releasedPartitions = Sets.difference(otherPartitions, Sets.newHashSet(busyPartition));
+		if (releasedPartitions.isEmpty()) {
+			verify(leaseRepository, never()).release(any(), any());
+		} else {
+			verify(leaseRepository).release(eq(releasedPartitions), eq(INSTANCE_ONE));
+		}
+	}
+
+	private void mockCluster(String leaseHolder, String instanceId, String... otherInstances) {
+		when(eventConfiguration.getClusterPartitionCount()).thenReturn(PARTITION_COUNT);
+		when(eventConfiguration.getClusterLeaseDuration()).thenReturn(30000L);
+		when(configurationService.getInstanceId()).thenReturn(instanceId);
+		when(nodeRepository.updateHeartbeat(eq(instanceId), any(ZonedDateTime.class))).thenReturn(1);
+		//
+		List<IdmEntityEventLease> leases = new ArrayList<>();
+		for (int partition = 0; partition < PARTITION_COUNT; partition++) {
+			IdmEntityEventLease lease = new IdmEntityEventLease();
+			lease.setPartitionNumber(partition);
+			lease.setInstanceId(leaseHolder);
+			leases.add(lease);
+		}
+		when(leaseRepository.findAllByOrderByPartitionNumberAsc()).thenReturn(leases);
+		//
+		List<IdmEntityEventNode> nodes = new ArrayList<>();
+		for (String instance : Lists.asList(instanceId, otherInstances)) {
+			IdmEntityEventNode node = new IdmEntityEventNode();
+			node.setInstanceId(instance);
+			node.setHeartbeat(ZonedDateTime.now());
+			nodes.add(node);
+		}
+		when(nodeRepository.findByHeartbeatAfter(any(ZonedDateTime.class))).thenReturn(nodes);
+	}
+}
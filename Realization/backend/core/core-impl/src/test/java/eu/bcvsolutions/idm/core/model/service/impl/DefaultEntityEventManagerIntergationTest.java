@@ -695,10 +695,11 @@ public class DefaultEntityEventManagerIntergationTest extends AbstractIntegratio
 	
 	@Test
 	public void testDeleteAll() {
+		// identity is created synchronously - created events are dispatched right after commit otherwise
+		IdmIdentityDto identity = getHelper().createIdentity((GuardedString) null);
+		//
 		try {
 			getHelper().enableAsynchronousProcessing();
-			//
-			IdmIdentityDto identity = getHelper().createIdentity((GuardedString) null);
 			Assert.assertFalse(manager.isRunningOwner(identity.getId()));
 			//
 			// publish never ends event
@@ -2,6 +2,14 @@ package eu.bcvsolutions.idm.core.model.service.impl;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.After;
 import org.junit.Test;
 import org.mockito.InjectMocks;
@@ -11,6 +19,7 @@ import org.mockito.Mockito;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 
+import eu.bcvsolutions.idm.core.api.config.cache.domain.ValueWrapper;
 import eu.bcvsolutions.idm.core.api.dto.BaseDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityRoleDto;
@@ -154,6 +163,38 @@ public class DefaultGroovyScriptServiceTest extends AbstractVerifiableUnitTest {
 		assertEquals(role.getEavs().get(0), result);
 	}
 
+	@Test
+	public void testConcurrentEvaluationOfCachedScript() throws Exception {
+		Map<Object, Object> cache = new ConcurrentHashMap<>();
+		Mockito
+			.when(cacheManager.getValue(Mockito.eq(DefaultGroovyScriptService.CACHE_NAME), Mockito.any()))
+			.then(invocation -> {
+				Object script = cache.get(invocation.getArgument(1));
+				return script == null ? null : (ValueWrapper) () -> script;
+			});
+		Mockito
+			.when(cacheManager.cacheValue(Mockito.eq(DefaultGroovyScriptService.CACHE_NAME), Mockito.any(), Mockito.any()))
+			.then(invocation -> cache.put(invocation.getArgument(1), invocation.getArgument(2)) == null);
+		String script = "return entity.username + '-' + index;";
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Object>> results = new ArrayList<>();
+			for (int index = 0; index < 200; index++) {
+				IdmIdentityDto identity = new IdmIdentityDto();
+				identity.setUsername(TEST_ONE);
+				Map<String, Object> variables = ImmutableMap.of("entity", identity, "index", index);
+				results.add(executor.submit(() -> groovyScriptService.evaluate(script, variables)));
+			}
+			for (int index = 0; index < results.size(); index++) {
+				assertEquals(TEST_ONE + "-" + index, results.get(index).get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+		// script is compiled once, evaluated by new instances
+		assertEquals(1, cache.size());
+	}
+
 	@Test(expected = IdmSecurityException.class)
 	public void testSecurityScriptFile() {
 		String script = "return new File();";
@@ -25,6 +25,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 
 import eu.bcvsolutions.idm.core.api.audit.dto.IdmAuditDto;
@@ -150,6 +151,38 @@ public class DefaultIdmConfidentialStorageIntegrationTest extends AbstractIntegr
 		Assert.assertArrayEquals(values.toArray(new String[]{}), ((List<String>) storageValueTwo).toArray(new String[]{}));
 	}
 	
+	@Test
+	@Transactional
+	public void testSaveAndGetAllValues() {
+		IdmIdentityDto identity = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto identityTwo = getHelper().createIdentity((GuardedString) null);
+		IdmIdentityDto identityWithoutValues = getHelper().createIdentity((GuardedString) null);
+		String storageKeyOne = getHelper().createName();
+		String storageKeyTwo = getHelper().createName();
+		String storageKeyThree = getHelper().createName();
+		//
+		confidentalStorage.save(identity.getId(), identity.getClass(), storageKeyOne, "one");
+		Map<String, Serializable> values = new HashMap<>();
+		values.put(storageKeyOne, "one_update");
+		values.put(storageKeyTwo, "two");
+		confidentalStorage.saveAll(identity.getId(), identity.getClass(), values);
+		confidentalStorage.saveAll(identityTwo.getId(), identityTwo.getClass(), ImmutableMap.of(storageKeyThree, "three"));
+		//
+		Map<String, Serializable> storageValues = confidentalStorage.getAll(identity.getId(), identity.getClass());
+		Assert.assertEquals(2, storageValues.size());
+		Assert.assertEquals("one_update", storageValues.get(storageKeyOne));
+		Assert.assertEquals("two", storageValues.get(storageKeyTwo));
+		Assert.assertEquals("one_update", confidentalStorage.get(identity.getId(), identity.getClass(), storageKeyOne));
+		//
+		Map<UUID, Map<String, Serializable>> ownersValues = confidentalStorage.getAll(
+				Lists.newArrayList(identity.getId(), identityTwo.getId(), identityWithoutValues.getId()),
+				IdmIdentityDto.class);
+		Assert.assertEquals(2, ownersValues.size());
+		Assert.assertEquals(storageValues, ownersValues.get(identity.getId()));
+		Assert.assertEquals("three", ownersValues.get(identityTwo.getId()).get(storageKeyThree));
+		Assert.assertFalse(ownersValues.containsKey(identityWithoutValues.getId()));
+	}
+	
 	@Test
 	@Transactional
 	public void testEditSavedValues() {	
@@ -518,6 +518,37 @@ public class DefaultIdmIdentityRoleServiceIntegrationTest extends AbstractIntegr
 		}
 	}
 
+	@Test
+	public void testMarkDuplicatesInManyConcepts() {
+		IdmIdentityDto identity = getHelper().createIdentity((GuardedString)null);
+		IdmIdentityContractDto contract = getHelper().createContract(identity);
+		IdmIdentityContractDto otherContract = getHelper().createContract(identity);
+		IdmRoleDto role = getHelper().createRole();
+		int rolesCount = 20;
+		//
+		List<IdmConceptRoleRequestDto> concepts = new ArrayList<>();
+		for (int i = 0; i < rolesCount; i++) {
+			IdmRoleDto otherRole = getHelper().createRole();
+			concepts.add(createConcept(otherRole, contract));
+			concepts.add(createConcept(otherRole, otherContract));
+		}
+		IdmConceptRoleRequestDto conceptOne = createConcept(role, contract);
+		IdmConceptRoleRequestDto conceptTwo = createConcept(role, contract);
+		IdmConceptRoleRequestDto conceptOtherContract = createConcept(role, otherContract);
+		concepts.add(conceptOne);
+		concepts.add(conceptTwo);
+		concepts.add(conceptOtherContract);
+		//
+		List<IdmConceptRoleRequestDto> duplicates = roleRequestService.markDuplicates(concepts, Lists.newArrayList());
+		//
+		assertEquals(rolesCount * 2 + 3, duplicates.size());
+		assertEquals(1, duplicates.stream().filter(concept -> concept.getDuplicate()).count());
+		assertFalse(conceptOne.getDuplicate());
+		assertTrue(conceptTwo.getDuplicate());
+		assertTrue(conceptTwo.getDuplicates().getConcepts().contains(conceptOne.getId()));
+		assertFalse(conceptOtherContract.getDuplicate());
+	}
+
 	@Test
 	public void testMarkDuplicatesBothSame() {
 		IdmIdentityDto identity = getHelper().createIdentity((GuardedString)null);
@@ -630,6 +661,29 @@ public class DefaultIdmIdentityRoleServiceIntegrationTest extends AbstractIntegr
 		assertEquals(identityRole.getId(), duplicateWithRoles.getIdentityRoles().get(0)); 
 	}
 
+	@Test
+	public void testGetRoleAttributeValuesTogether() {
+		IdmIdentityDto identity = getHelper().createIdentity((GuardedString) null);
+		IdmRoleDto role = createRoleWithAttributes(prepareAttributeOne());
+		IdmRoleDto roleWithoutAttributes = getHelper().createRole();
+		IdmIdentityRoleDto one = getHelper().createIdentityRole(identity, role);
+		IdmIdentityRoleDto two = getHelper().createIdentityRole(identity, role);
+		IdmIdentityRoleDto other = getHelper().createIdentityRole(identity, roleWithoutAttributes);
+		//
+		List<IdmIdentityRoleDto> identityRoles = service.findAllByIdentity(identity.getId());
+		identityRoles.forEach(identityRole -> identityRole.setEavs(null));
+		Map<UUID, IdmFormInstanceDto> roleAttributeValues = service.getRoleAttributeValues(identityRoles);
+		//
+		Assert.assertEquals(2, roleAttributeValues.size());
+		Assert.assertFalse(roleAttributeValues.containsKey(other.getId()));
+		for (UUID identityRoleId : Lists.newArrayList(one.getId(), two.getId())) {
+			List<IdmFormValueDto> values = roleAttributeValues.get(identityRoleId).getValues();
+			Assert.assertEquals(1, values.size());
+			Assert.assertEquals(identityRoleId, values.get(0).getOwnerId());
+			Assert.assertEquals(ATTRIBUTE_ONE_DEFAULT_VALUE, values.get(0).getValue());
+		}
+	}
+
 	private IdmRoleDto createRoleWithAttributes(IdmFormAttributeDto... attrs) {
 		IdmRoleDto role = getHelper().createRole();
 		assertNull(role.getIdentityRoleAttributeDefinition());
@@ -665,4 +719,15 @@ public class DefaultIdmIdentityRoleServiceIntegrationTest extends AbstractIntegr
 		identityRole.setEavs(service.getFormInstances(identityRole));
 		return identityRole;
 	}
+
+	private IdmConceptRoleRequestDto createConcept(IdmRoleDto role, IdmIdentityContractDto contract) {
+		IdmConceptRoleRequestDto concept = new IdmConceptRoleRequestDto();
+		concept.setId(UUID.randomUUID());
+		concept.setRole(role.getId());
+		concept.setIdentityContract(contract.getId());
+		concept.getEmbedded().put(IdmConceptRoleRequest_.identityContract.getName(), contract);
+		concept.setOperation(ConceptRoleRequestOperation.ADD);
+		//
+		return concept;
+	}
 }
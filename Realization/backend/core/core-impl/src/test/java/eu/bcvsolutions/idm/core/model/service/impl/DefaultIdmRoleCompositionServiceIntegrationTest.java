@@ -14,6 +14,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
 import org.springframework.transaction.annotation.Transactional;
 
+import eu.bcvsolutions.idm.core.api.config.cache.domain.ValueWrapper;
 import eu.bcvsolutions.idm.core.api.config.domain.EventConfiguration;
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityRoleDto;
@@ -25,6 +26,9 @@ import eu.bcvsolutions.idm.core.api.service.IdmCacheManager;
 import eu.bcvsolutions.idm.core.api.service.IdmIdentityRoleService;
 import eu.bcvsolutions.idm.core.api.service.IdmRoleCompositionService;
 import eu.bcvsolutions.idm.core.api.service.IdmRoleService;
+import eu.bcvsolutions.idm.core.api.utils.DtoUtils;
+import eu.bcvsolutions.idm.core.model.domain.RoleCompositionGraph;
+import eu.bcvsolutions.idm.core.model.entity.IdmRoleComposition_;
 import eu.bcvsolutions.idm.core.model.event.processor.ObserveRequestProcessor;
 import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
 import eu.bcvsolutions.idm.test.api.AbstractIntegrationTest;
@@ -564,11 +568,9 @@ public class DefaultIdmRoleCompositionServiceIntegrationTest extends AbstractInt
 		//
 		allSubRoles = service.findAllSubRoles(subOneSubSub.getId());
 		Assert.assertTrue(allSubRoles.isEmpty());
-		Assert.assertNotNull(cacheManager.getValue(IdmRoleCompositionService.ALL_SUB_ROLES_CACHE_NAME, subOneSubSub.getId()));
 		//
 		allSubRoles = service.findAllSubRoles(subOne.getId());
 		distinctRoles = service.getDistinctRoles(allSubRoles);
-		Assert.assertNotNull(cacheManager.getValue(IdmRoleCompositionService.ALL_SUB_ROLES_CACHE_NAME, subOne.getId()));
 		//
 		Assert.assertEquals(3, distinctRoles.size());
 		Assert.assertTrue(distinctRoles.stream().anyMatch(r -> r.equals(subOne.getId())));
@@ -577,13 +579,13 @@ public class DefaultIdmRoleCompositionServiceIntegrationTest extends AbstractInt
 		//
 		// add role composition
 		IdmRoleDto subOneSubTwo = getHelper().createRole();
-		getHelper().createRoleComposition(subOneSub, subOneSubTwo);
-		Assert.assertNull(cacheManager.getValue(IdmRoleCompositionService.ALL_SUB_ROLES_CACHE_NAME, subOneSubSub.getId()));
-		Assert.assertNull(cacheManager.getValue(IdmRoleCompositionService.ALL_SUB_ROLES_CACHE_NAME, subOne.getId()));
+		IdmRoleCompositionDto subOneSubTwoComposition = getHelper().createRoleComposition(subOneSub, subOneSubTwo);
+		// uncommitted composition is not cached
+		ValueWrapper graph = cacheManager.getValue(IdmRoleCompositionService.ROLE_COMPOSITION_GRAPH_CACHE_NAME, DefaultIdmRoleCompositionService.GRAPH_CACHE_KEY);
+		Assert.assertTrue(graph == null || !((RoleCompositionGraph) graph.get()).contains(subOneSubTwoComposition.getId()));
 		//
 		allSubRoles = service.findAllSubRoles(subOne.getId());
 		distinctRoles = service.getDistinctRoles(allSubRoles);
-		Assert.assertNotNull(cacheManager.getValue(IdmRoleCompositionService.ALL_SUB_ROLES_CACHE_NAME, subOne.getId()));
 		//
 		Assert.assertEquals(4, distinctRoles.size());
 		Assert.assertTrue(distinctRoles.stream().anyMatch(r -> r.equals(subOne.getId())));
@@ -592,4 +594,48 @@ public class DefaultIdmRoleCompositionServiceIntegrationTest extends AbstractInt
 		Assert.assertTrue(distinctRoles.stream().anyMatch(r -> r.equals(subOneSubTwo.getId())));
 	}
 	
+	@Test
+	public void testUpdateRoleCompositionGraph() {
+		IdmRoleDto superior = getHelper().createRole();
+		IdmRoleDto sub = getHelper().createRole();
+		IdmRoleDto subSub = getHelper().createRole();
+		getHelper().createRoleComposition(superior, sub);
+		IdmRoleCompositionDto subComposition = getHelper().createRoleComposition(sub, subSub);
+		//
+		Assert.assertEquals(2, service.findAllSubRoles(superior.getId()).size());
+		Assert.assertEquals(2, service.findAllSuperiorRoles(subSub.getId()).size());
+		Assert.assertEquals(1, service.findDirectSubRoles(sub.getId()).size());
+		//
+		// add composition => graph is updated
+		IdmRoleDto subSubSub = getHelper().createRole();
+		IdmRoleCompositionDto subSubComposition = getHelper().createRoleComposition(subSub, subSubSub);
+		// committed composition is cached
+		ValueWrapper graph = cacheManager.getValue(IdmRoleCompositionService.ROLE_COMPOSITION_GRAPH_CACHE_NAME, DefaultIdmRoleCompositionService.GRAPH_CACHE_KEY);
+		Assert.assertNotNull(graph);
+		Assert.assertTrue(((RoleCompositionGraph) graph.get()).contains(subSubComposition.getId()));
+		Assert.assertEquals(3, service.findAllSubRoles(superior.getId()).size());
+		List<IdmRoleCompositionDto> superiorRoles = service.findAllSuperiorRoles(subSubSub.getId());
+		Assert.assertEquals(3, superiorRoles.size());
+		Assert.assertEquals(subSub.getId(), superiorRoles.get(0).getSuperior());
+		Assert.assertEquals(superior.getId(), superiorRoles.get(2).getSuperior());
+		//
+		// updated role is refreshed in graph
+		subSub.setDisabled(true);
+		subSub = getHelper().getService(IdmRoleService.class).save(subSub);
+		IdmRoleDto embeddedSubSub = DtoUtils.getEmbedded(service.findDirectSubRoles(sub.getId()).get(0), IdmRoleComposition_.sub);
+		Assert.assertTrue(embeddedSubSub.isDisabled());
+		//
+		// remove composition => graph is updated
+		service.delete(subComposition);
+		Assert.assertEquals(1, service.findAllSubRoles(superior.getId()).size());
+		Assert.assertTrue(service.findDirectSubRoles(sub.getId()).isEmpty());
+		Assert.assertEquals(1, service.findAllSuperiorRoles(subSubSub.getId()).size());
+		Assert.assertTrue(service.findAllSuperiorRoles(subSub.getId()).isEmpty());
+		//
+		// graph loaded from database is the same
+		cacheManager.evictCache(IdmRoleCompositionService.ROLE_COMPOSITION_GRAPH_CACHE_NAME);
+		Assert.assertEquals(1, service.findAllSubRoles(superior.getId()).size());
+		Assert.assertEquals(1, service.findAllSuperiorRoles(subSubSub.getId()).size());
+		Assert.assertTrue(service.findAllSuperiorRoles(subSub.getId()).isEmpty());
+	}
 }
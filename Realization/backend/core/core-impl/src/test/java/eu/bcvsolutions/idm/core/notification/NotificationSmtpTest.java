@@ -1,11 +1,13 @@
 package eu.bcvsolutions.idm.core.notification;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.io.IOUtils;
 import org.junit.After;
@@ -29,10 +31,13 @@ import eu.bcvsolutions.idm.core.ecm.api.entity.AttachableEntity;
 import eu.bcvsolutions.idm.core.ecm.api.service.AttachmentManager;
 import eu.bcvsolutions.idm.core.model.event.processor.module.InitTestDataProcessor;
 import eu.bcvsolutions.idm.core.notification.api.domain.NotificationLevel;
+import eu.bcvsolutions.idm.core.notification.api.dto.IdmEmailLogDto;
 import eu.bcvsolutions.idm.core.notification.api.dto.IdmMessageDto;
 import eu.bcvsolutions.idm.core.notification.api.dto.IdmNotificationLogDto;
 import eu.bcvsolutions.idm.core.notification.api.dto.NotificationConfigurationDto;
 import eu.bcvsolutions.idm.core.notification.api.dto.filter.IdmNotificationFilter;
+import eu.bcvsolutions.idm.core.notification.api.service.EmailNotificationSender;
+import eu.bcvsolutions.idm.core.notification.api.service.IdmEmailLogService;
 import eu.bcvsolutions.idm.core.notification.api.service.IdmNotificationConfigurationService;
 import eu.bcvsolutions.idm.core.notification.api.service.IdmNotificationLogService;
 import eu.bcvsolutions.idm.core.notification.api.service.NotificationManager;
@@ -74,6 +79,10 @@ public class NotificationSmtpTest extends AbstractNotificationTest {
 	private IdmNotificationLogService notificationLogService;
 	@Autowired
 	private AttachmentManager attachmentManager;
+	@Autowired
+	private EmailNotificationSender emailNotificationSender;
+	@Autowired
+	private IdmEmailLogService emailLogService;
 
 	@Before
 	public void init() {
@@ -140,6 +149,39 @@ public class NotificationSmtpTest extends AbstractNotificationTest {
 		notificationConfigurationService.delete(config);
 	}
 
+	@Test
+	public void AB_sendEmailsInBatchViaSmtp() throws InterruptedException, BindPortException, OutOfRangePortException {
+		if (!this.isRunning()) {
+			this.startSmtpServer();
+		}
+		configurationService.setValue(EmailerConfiguration.PROPERTY_BATCH_SIZE, "2");
+		try {
+			NotificationObserver observer = new NotificationObserver(3);
+			this.addObserver(observer);
+			String subject = "subject-" + System.currentTimeMillis();
+			//
+			// three emails in one transaction => two batches
+			List<IdmEmailLogDto> emailLogs = getTransactionTemplate().execute(status -> {
+				return Lists.newArrayList(
+						emailNotificationSender.send(new IdmMessageDto.Builder().setSubject(subject).setTextMessage("one").build(), "one@example.tld"),
+						emailNotificationSender.send(new IdmMessageDto.Builder().setSubject(subject).setTextMessage("two").build(), "two@example.tld"),
+						emailNotificationSender.send(new IdmMessageDto.Builder().setSubject(subject).setTextMessage("three").build(), "three@example.tld"));
+			});
+			// emails are sent asynchronously
+			observer.setWaitForMails(10, TimeUnit.SECONDS);
+			//
+			assertEquals(3, observer.getEmails().stream().filter(email -> subject.equals(email.getSubject())).count());
+			helper.waitForResult(res -> {
+				return emailLogs.stream().anyMatch(emailLog -> emailLogService.get(emailLog.getId()).getSent() == null);
+			}, 500, 20);
+			emailLogs.forEach(emailLog -> {
+				assertNotNull(emailLogService.get(emailLog.getId()).getSent());
+			});
+		} finally {
+			configurationService.deleteValue(EmailerConfiguration.PROPERTY_BATCH_SIZE);
+		}
+	}
+
 	@Test
 	public void B_sendEmailViaSmtpByWf() throws InterruptedException, BindPortException, OutOfRangePortException {
 		assertTrue(this.isRunning());
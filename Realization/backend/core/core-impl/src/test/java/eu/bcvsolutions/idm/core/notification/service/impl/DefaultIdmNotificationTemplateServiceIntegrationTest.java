@@ -247,6 +247,35 @@ public class DefaultIdmNotificationTemplateServiceIntegrationTest extends Abstra
 		notificationTemplateService.buildMessage(message);
 	}
 
+	@Test
+	public void evaluateCompiledTemplate() {
+		IdmNotificationTemplateDto template = new IdmNotificationTemplateDto();
+		template.setCode(getHelper().createName());
+		template.setName(getHelper().createName());
+		template.setSubject("Hello $name");
+		template.setBodyText("Text $name");
+		template = notificationTemplateService.save(template);
+		//
+		IdmMessageDto message = notificationTemplateService.buildMessage(
+				new IdmMessageDto.Builder().setTemplate(template).addParameter("name", "one").build());
+		Assert.assertEquals("Hello one", message.getSubject());
+		Assert.assertEquals("Text one", message.getTextMessage());
+		// compiled template is reused with different parameters
+		message = notificationTemplateService.buildMessage(
+				new IdmMessageDto.Builder().setTemplate(template).addParameter("name", "two").build());
+		Assert.assertEquals("Hello two", message.getSubject());
+		Assert.assertEquals("Text two", message.getTextMessage());
+		//
+		// changed template is compiled again
+		template.setSubject("Bye $name");
+		template.setBodyHtml("<b>$name</b>");
+		template = notificationTemplateService.save(template);
+		message = notificationTemplateService.buildMessage(
+				new IdmMessageDto.Builder().setTemplate(template).addParameter("name", "one").build());
+		Assert.assertEquals("Bye one", message.getSubject());
+		Assert.assertEquals("<b>one</b>", message.getHtmlMessage());
+	}
+
 	@Test(expected = ConstraintViolationException.class)
 	public void evaluateEmptySubject() {
 		IdmNotificationTemplateDto template = new IdmNotificationTemplateDto();
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -263,9 +264,120 @@ public class AbstractSchedulableStatefulExecutorUnitTest extends AbstractVerifia
 		verify(itemService, never()).find(ArgumentMatchers.any(IdmProcessedTaskItemFilter.class), ArgumentMatchers.any(Pageable.class));
 	}
 	
+	@Test
+	public void testLoadProcessedQueueForPage() {
+		IdmLongRunningTaskDto lrt = new IdmLongRunningTaskDto();
+		lrt.setResult(new OperationResult.Builder(OperationState.RUNNING).build());
+		IdmScheduledTaskDto scheduledTask = new IdmScheduledTaskDto();
+		scheduledTask.setId(UUID.randomUUID());
+		//
+		IdmIdentityDto dto1 = getTestIdentityDto();
+		IdmIdentityDto dto2 = getTestIdentityDto();
+		IdmIdentityDto dto3 = getTestIdentityDto();
+		// stubs
+		doReturn(Optional.of(new OperationResult.Builder(OperationState.EXECUTED).build()))
+			.when(executor).processItem(ArgumentMatchers.any());
+		doReturn(Lists.newArrayList(dto1.getId()))
+			.when(executor).getProcessedItemRefsFromQueue();
+		doReturn(scheduledTask.getId())
+			.when(executor).getScheduledTaskId();
+		// matchers
+		when(longRunningTaskService.get(ArgumentMatchers.any()))
+			.thenReturn(lrt);
+		when(itemService.findRefEntityIdsInQueueByScheduledTaskId(ArgumentMatchers.any(), ArgumentMatchers.any()))
+			.thenReturn(Lists.newArrayList(dto1.getId()));
+		when(executor.getItemsToProcess(ArgumentMatchers.any()))
+			.thenReturn(new PageImpl<>(Lists.newArrayList(dto1, dto2, dto3)));
+		when(entityManager.getDelegate()).thenReturn(hiberanteSession);
+		when(hiberanteSession.isOpen()).thenReturn(false);
+		//
+		Boolean processingResult = executor.process();
+		assertTrue(processingResult);
+		//
+		verify(longRunningTaskService, times(2)).get(ArgumentMatchers.any());
+		verify(entityManager, times(3)).getDelegate();
+		verify(hiberanteSession, times(3)).isOpen();
+		// one query for the whole page, processed item is skipped
+		verify(itemService, times(1)).findRefEntityIdsInQueueByScheduledTaskId(ArgumentMatchers.any(), ArgumentMatchers.any());
+		verify(itemService, never()).find(ArgumentMatchers.any(IdmProcessedTaskItemFilter.class), ArgumentMatchers.any(Pageable.class));
+		verify(executor, never()).processItem(dto1);
+		verify(executor, times(1)).processItem(dto2);
+		verify(executor, times(1)).processItem(dto3);
+		verify(itemService, times(2)).createQueueItem(ArgumentMatchers.any(), ArgumentMatchers.any(), (UUID) ArgumentMatchers.any());
+		verify(itemService, times(2)).createLogItem(ArgumentMatchers.any(), ArgumentMatchers.any(), (UUID) ArgumentMatchers.any());
+		verify(itemService, never()).deleteItem(ArgumentMatchers.any(UUID.class), ArgumentMatchers.any(UUID.class));
+	}
+	
+	@Test
+	public void testKeysetPagination() {
+		IdmLongRunningTaskDto lrt = new IdmLongRunningTaskDto();
+		lrt.setResult(new OperationResult.Builder(OperationState.RUNNING).build());
+		//
+		IdmIdentityDto dto1 = getTestIdentityDto();
+		IdmIdentityDto dto2 = getTestIdentityDto();
+		IdmIdentityDto dto3 = getTestIdentityDto();
+		IdmScheduledTaskDto scheduledTask = new IdmScheduledTaskDto();
+		scheduledTask.setId(UUID.randomUUID());
+		List<UUID> lastItemIds = new ArrayList<>();
+		// stubs
+		executor.keysetPagination = true;
+		doReturn(Optional.of(new OperationResult.Builder(OperationState.EXECUTED).build()))
+			.when(executor).processItem(ArgumentMatchers.any());
+		doReturn(false)
+			.when(executor).isInProcessedQueue(ArgumentMatchers.any());
+		doReturn(Lists.newArrayList())
+			.when(executor).getProcessedItemRefsFromQueue();
+		doReturn(scheduledTask.getId())
+			.when(executor).getScheduledTaskId();
+		// matchers
+		when(longRunningTaskService.get(ArgumentMatchers.any()))
+			.thenReturn(lrt);
+		when(executor.getItemsToProcess(ArgumentMatchers.any(), ArgumentMatchers.any()))
+			.then(invocation -> {
+				Pageable pageable = invocation.getArgument(0);
+				UUID lastItemId = invocation.getArgument(1);
+				assertEquals(0, pageable.getPageNumber());
+				lastItemIds.add(lastItemId);
+				//
+				// page size 2 => the first page has next page
+				if (lastItemId == null) {
+					return new PageImpl<>(Lists.newArrayList(dto1, dto2), PageRequest.of(0, 2), 3);
+				}
+				return new PageImpl<>(Lists.newArrayList(dto3), PageRequest.of(0, 2), 1);
+			});
+		when(entityManager.getDelegate()).thenReturn(hiberanteSession);
+		when(hiberanteSession.isOpen()).thenReturn(false);
+		//
+		Boolean processingResult = executor.process();
+		assertTrue(processingResult);
+		//
+		assertEquals(Long.valueOf(3), executor.getCount());
+		assertEquals(Long.valueOf(3), executor.getCounter());
+		assertEquals(2, lastItemIds.size());
+		assertNull(lastItemIds.get(0));
+		assertEquals(dto2.getId(), lastItemIds.get(1));
+		verify(longRunningTaskService, times(2)).get(ArgumentMatchers.any());
+		verify(entityManager, times(3)).getDelegate();
+		verify(hiberanteSession, times(3)).isOpen();
+		verify(executor, times(3)).processItem(ArgumentMatchers.any(IdmIdentityDto.class));
+		verify(itemService, times(3)).createLogItem(ArgumentMatchers.any(), ArgumentMatchers.any(), (UUID) ArgumentMatchers.any());
+		verify(itemService, times(3)).createQueueItem(ArgumentMatchers.any(), ArgumentMatchers.any(), (UUID) ArgumentMatchers.any());
+	}
 	
 	public static class TestIdenityUnitExecutor extends AbstractSchedulableStatefulExecutor<IdmIdentityDto> {
 		
+		private boolean keysetPagination = false;
+		
+		@Override
+		public boolean supportsKeysetPagination() {
+			return keysetPagination;
+		}
+		
+		@Override
+		public Page<IdmIdentityDto> getItemsToProcess(Pageable pageable, UUID lastItemId) {
+			return super.getItemsToProcess(pageable, lastItemId);
+		}
+		
 		@Override
 		public Page<IdmIdentityDto> getItemsToProcess(Pageable pageable) {
 			return null;
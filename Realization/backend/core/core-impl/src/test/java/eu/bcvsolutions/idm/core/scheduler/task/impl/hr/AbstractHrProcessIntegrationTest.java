@@ -120,6 +120,10 @@ public abstract class AbstractHrProcessIntegrationTest<E extends AbstractDto> ex
 		when(executor.getItemsToProcess(any(Pageable.class)))
 			.thenReturn(new PageImpl<>(Lists.newArrayList(dto)))
 			.thenReturn(new PageImpl<>(Lists.newArrayList()));
+		// keyset pagination
+		when(executor.getItemsToProcess(any(Pageable.class), any()))
+			.thenReturn(new PageImpl<>(Lists.newArrayList(dto)))
+			.thenReturn(new PageImpl<>(Lists.newArrayList()));
 		//
 		executor.process();
 	}
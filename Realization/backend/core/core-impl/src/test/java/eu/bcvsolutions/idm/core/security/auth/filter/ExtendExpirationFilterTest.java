@@ -7,6 +7,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -16,12 +17,15 @@ import org.springframework.security.jwt.JwtHelper;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.google.common.hash.Hashing;
+
 import eu.bcvsolutions.idm.core.api.dto.IdmTokenDto;
 import eu.bcvsolutions.idm.core.api.rest.BaseDtoController;
 import eu.bcvsolutions.idm.core.api.service.IdmTokenService;
 import eu.bcvsolutions.idm.core.security.api.dto.IdmJwtAuthenticationDto;
 import eu.bcvsolutions.idm.core.security.api.dto.LoginDto;
 import eu.bcvsolutions.idm.core.security.api.service.SecurityService;
+import eu.bcvsolutions.idm.core.security.api.service.TokenManager;
 import eu.bcvsolutions.idm.core.security.service.impl.JwtAuthenticationMapper;
 import eu.bcvsolutions.idm.test.api.AbstractRestTest;
 import eu.bcvsolutions.idm.test.api.TestHelper;
@@ -38,6 +42,7 @@ public class ExtendExpirationFilterTest extends AbstractRestTest {
 	@Autowired private JwtAuthenticationMapper jwtMapper;
 	@Autowired private IdmTokenService tokenService; 
 	@Autowired private SecurityService securityService; 
+	@Autowired private TokenManager tokenManager;
 	
 	/**
 	 * Token is not prolonged in the same minute
@@ -96,6 +101,43 @@ public class ExtendExpirationFilterTest extends AbstractRestTest {
 				< extended.getExpiration().toInstant().toEpochMilli());
 	}
 
+	/**
+	 * Prolonged expiration is persisted asynchronously
+	 * 
+	 * @throws Exception
+	 */
+	@Test
+	public void testFlushProlongedExpiration() throws Exception {
+		LoginDto login = getHelper().loginAdmin();
+		securityService.logout();
+		//
+		IdmTokenDto originalToken = tokenService.get(login.getAuthentication().getId());
+		originalToken.setExpiration(originalToken.getExpiration().minusMinutes(2));
+		originalToken = tokenService.save(originalToken);
+		//
+		MvcResult result = getMockMvc().perform(get(getSelfPath(TestHelper.ADMIN_USERNAME))
+				.header(JwtAuthenticationMapper.AUTHENTICATION_TOKEN_NAME, login.getToken())
+				.contentType(TestHelper.HAL_CONTENT_TYPE))
+			.andExpect(status().isOk())
+			.andReturn();
+		IdmJwtAuthenticationDto extended = getIdmJwtDto(result);
+		//
+		// persisted token is not changed by request
+		IdmTokenDto token = tokenService.get(originalToken.getId());
+		Assert.assertEquals(originalToken.getExpiration().toInstant().toEpochMilli(), token.getExpiration().toInstant().toEpochMilli());
+		Assert.assertEquals(originalToken.getToken(), token.getToken());
+		Assert.assertEquals(
+				extended.getExpiration().toInstant().toEpochMilli(), 
+				tokenManager.getExpiration(token).toInstant().toEpochMilli());
+		//
+		tokenManager.flushExpirations();
+		//
+		token = tokenService.get(originalToken.getId());
+		Assert.assertEquals(extended.getExpiration().toInstant().toEpochMilli(), token.getExpiration().toInstant().toEpochMilli());
+		String extendedToken = result.getResponse().getHeader(JwtAuthenticationMapper.AUTHENTICATION_TOKEN_NAME);
+		Assert.assertEquals(Hashing.sha256().hashString(extendedToken, StandardCharsets.UTF_8).toString(), token.getToken());
+	}
+
 	@Test
 	public void testSuccBasicAuthNoExtension() throws Exception {
 		String basicAuth = getBasicAuth(TestHelper.ADMIN_USERNAME, TestHelper.ADMIN_PASSWORD);
@@ -346,7 +346,8 @@ public class DefaultAuthorizationManagerIntegrationTest extends AbstractEvaluato
 					((IdmAuthorizationPolicyDto) cacheManager.getValue(AuthorizationManager.AUTHORIZATION_POLICY_DEFINITION_CACHE_NAME, 
 							cachedPolicies.get(0)).get()).getEvaluatorType());
 			cacheValue = cacheManager.getValue(AuthorizationManager.PERMISSION_CACHE_NAME, identity.getId());
-			permissions = (Set) ((Map) cacheValue.get()).get(role.getId());
+			cacheValue = cacheManager.getValue(AuthorizationManager.PERMISSION_ENTRY_CACHE_NAME, String.format("%s:%s", cacheValue.get(), role.getId()));
+			permissions = (Set) cacheValue.get();
 			Assert.assertEquals(2, permissions.size());
 			Assert.assertTrue(permissions.stream().anyMatch(p -> p.equals(IdmBasePermission.AUTOCOMPLETE.getName())));
 			Assert.assertTrue(permissions.stream().anyMatch(p -> p.equals(IdmBasePermission.READ.getName())));
@@ -437,7 +438,8 @@ public class DefaultAuthorizationManagerIntegrationTest extends AbstractEvaluato
 					((IdmAuthorizationPolicyDto) cacheManager.getValue(AuthorizationManager.AUTHORIZATION_POLICY_DEFINITION_CACHE_NAME, 
 							cachedPolicies.get(0)).get()).getEvaluatorType());
 			cacheValue = cacheManager.getValue(AuthorizationManager.PERMISSION_CACHE_NAME, identity.getId());
-			permissions = (Set) ((Map) cacheValue.get()).get(role.getId());
+			cacheValue = cacheManager.getValue(AuthorizationManager.PERMISSION_ENTRY_CACHE_NAME, String.format("%s:%s", cacheValue.get(), role.getId()));
+			permissions = (Set) cacheValue.get();
 			Assert.assertEquals(2, permissions.size());
 			Assert.assertTrue(permissions.stream().anyMatch(p -> p.equals(IdmBasePermission.AUTOCOMPLETE.getName())));
 			Assert.assertTrue(permissions.stream().anyMatch(p -> p.equals(IdmBasePermission.READ.getName())));
@@ -455,6 +457,44 @@ public class DefaultAuthorizationManagerIntegrationTest extends AbstractEvaluato
 		}
 	}
 	
+	@Test
+	@Transactional
+	public void testCacheAfterIdentityRoleIsChanged() {
+		IdmIdentityDto identity = getHelper().createIdentity();
+		UUID mockIdentity = UUID.randomUUID();
+		IdmRoleDto role = getHelper().createRole();
+		getHelper().createBasePolicy(role.getId(), IdmBasePermission.AUTOCOMPLETE, IdmBasePermission.READ);
+		IdmRoleDto roleTwo = getHelper().createRole();
+		getHelper().createBasePolicy(roleTwo.getId(), IdmBasePermission.UPDATE);
+		getHelper().createIdentityRole(identity, role);
+		//
+		cacheManager.cacheValue(AuthorizationManager.AUTHORIZATION_POLICY_CACHE_NAME, mockIdentity, new HashMap<>());
+		cacheManager.cacheValue(AuthorizationManager.PERMISSION_CACHE_NAME, mockIdentity, UUID.randomUUID());
+		//
+		try {
+			getHelper().login(identity);
+			//
+			Set<String> permissions = manager.getPermissions(role);
+			Assert.assertEquals(2, permissions.size());
+			Assert.assertNotNull(cacheManager.getValue(AuthorizationManager.AUTHORIZATION_POLICY_CACHE_NAME, identity.getId()));
+			Assert.assertNotNull(cacheManager.getValue(AuthorizationManager.PERMISSION_CACHE_NAME, identity.getId()));
+			//
+			// assign role => evict cache of role owner
+			getHelper().createIdentityRole(identity, roleTwo);
+			//
+			Assert.assertNull(cacheManager.getValue(AuthorizationManager.AUTHORIZATION_POLICY_CACHE_NAME, identity.getId()));
+			Assert.assertNull(cacheManager.getValue(AuthorizationManager.PERMISSION_CACHE_NAME, identity.getId()));
+			Assert.assertNotNull(cacheManager.getValue(AuthorizationManager.AUTHORIZATION_POLICY_CACHE_NAME, mockIdentity));
+			Assert.assertNotNull(cacheManager.getValue(AuthorizationManager.PERMISSION_CACHE_NAME, mockIdentity));
+			//
+			permissions = manager.getPermissions(role);
+			Assert.assertEquals(3, permissions.size());
+			Assert.assertTrue(permissions.stream().anyMatch(p -> p.equals(IdmBasePermission.UPDATE.getName())));
+		} finally {
+			logout();
+		}
+	}
+	
 	@Test
 	@Transactional
 	public void testDistictPolicies() {
@@ -18,6 +18,7 @@ import eu.bcvsolutions.idm.core.api.exception.ResultCodeException;
 import eu.bcvsolutions.idm.core.api.service.IdmCacheManager;
 import eu.bcvsolutions.idm.core.api.service.IdmIdentityService;
 import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
+import eu.bcvsolutions.idm.core.security.api.exception.TwoFactorAuthenticationRequiredException;
 import eu.bcvsolutions.idm.core.security.api.service.TokenManager;
 import eu.bcvsolutions.idm.test.api.AbstractIntegrationTest;
 
@@ -120,6 +121,60 @@ public class DefaultTokenManagerIntegrationTest extends AbstractIntegrationTest
 		manager.verifyToken(token.getId());
 	}
 	
+	@Test
+	public void testProlongExpirationInMemory() {
+		IdmIdentityDto owner = new IdmIdentityDto(UUID.randomUUID());
+		ZonedDateTime expiration = ZonedDateTime.now().plusHours(1).truncatedTo(ChronoUnit.SECONDS);
+		IdmTokenDto token = createToken(owner, null, expiration);
+		ZonedDateTime prolongedExpiration = expiration.plusHours(1);
+		//
+		manager.prolongExpiration(token, prolongedExpiration, "prolonged");
+		//
+		Assert.assertEquals(prolongedExpiration, manager.getExpiration(token));
+		cacheManager.evictValue(TokenManager.TOKEN_CACHE_NAME, token.getId());
+		Assert.assertEquals("mock", manager.getToken(token.getId()).getToken());
+		//
+		manager.flushExpirations();
+		//
+		IdmTokenDto persistedToken = manager.getToken(token.getId());
+		Assert.assertEquals("prolonged", persistedToken.getToken());
+		Assert.assertEquals(prolongedExpiration.toInstant(), persistedToken.getExpiration().toInstant());
+	}
+	
+	@Test
+	public void testProlongExpirationImmediatelyBeforeFlush() {
+		IdmIdentityDto owner = new IdmIdentityDto(UUID.randomUUID());
+		ZonedDateTime expiration = ZonedDateTime.now().plusSeconds(30).truncatedTo(ChronoUnit.SECONDS);
+		IdmTokenDto token = createToken(owner, null, expiration);
+		ZonedDateTime prolongedExpiration = expiration.plusHours(1);
+		//
+		manager.prolongExpiration(token, prolongedExpiration, "prolonged");
+		//
+		IdmTokenDto persistedToken = manager.getToken(token.getId());
+		Assert.assertEquals("prolonged", persistedToken.getToken());
+		Assert.assertEquals(prolongedExpiration.toInstant(), persistedToken.getExpiration().toInstant());
+	}
+	
+	@Test
+	public void testVerifyTokenTwoFactorWithProlongedHash() {
+		IdmIdentityDto owner = new IdmIdentityDto(UUID.randomUUID());
+		IdmTokenDto token = new IdmTokenDto();
+		token.setIssuedAt(ZonedDateTime.now());
+		token.setToken("mock");
+		token.setTokenType("mock");
+		token.setExpiration(ZonedDateTime.now().plusHours(1));
+		token.setSecretVerified(false);
+		token = manager.saveToken(owner, token);
+		manager.prolongExpiration(token, token.getExpiration().plusHours(1), "prolonged");
+		//
+		try {
+			manager.verifyToken(token.getId());
+			Assert.fail();
+		} catch (TwoFactorAuthenticationRequiredException ex) {
+			Assert.assertEquals("prolonged", ex.getToken());
+		}
+	}
+	
 	/**
 	 * Disabled token has to set expiration
 	 */
@@ -68,6 +68,12 @@ public class IdentityUsernameExportBulkAction extends AbstractBulkAction<IdmIden
 		return super.processEntities(entitiesId);
 	}
 
+	@Override
+	protected boolean supportsChunks() {
+		// export is not thread safe and entities are processed in custom way
+		return false;
+	}
+	
 	@Override
 	protected OperationResult processDto(IdmIdentityDto dto) {
 		String splitCharacter = getSplitCharacter();
@@ -1,5 +1,7 @@
 package eu.bcvsolutions.idm.ic.api;
 
+import java.util.UUID;
+
 /**
  * Interface for ic facade. Identifies connector by {@link IcConnectorKey} and
  * {@link IcConnectorServer}.
@@ -35,4 +37,14 @@ public interface IcConnectorInstance {
 	 * @return
 	 */
 	boolean isRemote();
+	
+	/**
+	 * Owner of connector instance (e.g. system identifier). Connector facades are cached by owner and can be evicted by owner.
+	 * 
+	 * @return owner identifier, {@code null} if owner is not known
+	 * @since 12.3.0
+	 */
+	default UUID getOwnerId() {
+		return null;
+	}
 }
@@ -81,18 +81,22 @@ public class ConnIdIcConnectorService implements IcConnectorService {
 		LOG.debug("Create object - ConnId ({} {})", connectorInstance.getConnectorKey().toString(), attributes.toString());
 
 		ConnectorFacade conn = facadeFactory.getConnectorFacade(connectorInstance, connectorConfiguration);
-		Set<Attribute> connIdAttributes = new HashSet<>(attributes.size());
-		for (IcAttribute icAttribute : attributes) {
-			connIdAttributes.add(ConnIdIcConvertUtil.convertIcAttribute(icAttribute));
-		}
-		ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
-		if (objectClassConnId == null) {
-			objectClassConnId = ObjectClass.ACCOUNT;
-		}
+		try {
+			Set<Attribute> connIdAttributes = new HashSet<>(attributes.size());
+			for (IcAttribute icAttribute : attributes) {
+				connIdAttributes.add(ConnIdIcConvertUtil.convertIcAttribute(icAttribute));
+			}
+			ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
+			if (objectClassConnId == null) {
+				objectClassConnId = ObjectClass.ACCOUNT;
+			}
 
-		Uid uid = conn.create(objectClassConnId, connIdAttributes, new OperationOptions(connectorConfiguration.getSystemOperationOptions()));
-		LOG.debug("Created object - ConnId ({} {}) Uid= {}", connectorInstance.getConnectorKey().toString(), attributes.toString(), uid);
-		return ConnIdIcConvertUtil.convertConnIdUid(uid);
+			Uid uid = conn.create(objectClassConnId, connIdAttributes, new OperationOptions(connectorConfiguration.getSystemOperationOptions()));
+			LOG.debug("Created object - ConnId ({} {}) Uid= {}", connectorInstance.getConnectorKey().toString(), attributes.toString(), uid);
+			return ConnIdIcConvertUtil.convertConnIdUid(uid);
+		} finally {
+			facadeFactory.releaseConnectorFacade(conn);
+		}
 	}
 
 	@Override
@@ -107,19 +111,23 @@ public class ConnIdIcConnectorService implements IcConnectorService {
 		LOG.debug("Update object - ConnId (Uid= {} {} {})", uid, connectorInstance.getConnectorKey().toString(), replaceAttributes.toString());
 
 		ConnectorFacade conn = facadeFactory.getConnectorFacade(connectorInstance, connectorConfiguration);
-		Set<Attribute> connIdAttributes = new HashSet<>(replaceAttributes.size());
-		for (IcAttribute icAttribute : replaceAttributes) {
-			connIdAttributes.add(ConnIdIcConvertUtil.convertIcAttribute(icAttribute));
-		}
-		ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
-		if (objectClassConnId == null) {
-			objectClassConnId = ObjectClass.ACCOUNT;
-		}
+		try {
+			Set<Attribute> connIdAttributes = new HashSet<>(replaceAttributes.size());
+			for (IcAttribute icAttribute : replaceAttributes) {
+				connIdAttributes.add(ConnIdIcConvertUtil.convertIcAttribute(icAttribute));
+			}
+			ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
+			if (objectClassConnId == null) {
+				objectClassConnId = ObjectClass.ACCOUNT;
+			}
 
-		Uid updatedUid = conn.update(objectClassConnId, ConnIdIcConvertUtil.convertIcUid(uid), connIdAttributes,
-				new OperationOptions(connectorConfiguration.getSystemOperationOptions()));
-		LOG.debug("Updated object - ConnId ({} {}) Uid= {})", connectorInstance.getConnectorKey().toString(), replaceAttributes.toString(), updatedUid);
-		return ConnIdIcConvertUtil.convertConnIdUid(updatedUid);
+			Uid updatedUid = conn.update(objectClassConnId, ConnIdIcConvertUtil.convertIcUid(uid), connIdAttributes,
+					new OperationOptions(connectorConfiguration.getSystemOperationOptions()));
+			LOG.debug("Updated object - ConnId ({} {}) Uid= {})", connectorInstance.getConnectorKey().toString(), replaceAttributes.toString(), updatedUid);
+			return ConnIdIcConvertUtil.convertConnIdUid(updatedUid);
+		} finally {
+			facadeFactory.releaseConnectorFacade(conn);
+		}
 	}
 
 	@Override
@@ -132,14 +140,17 @@ public class ConnIdIcConnectorService implements IcConnectorService {
 		LOG.debug("Delete object - ConnId (Uid= {} {})", uid, connectorInstance.getConnectorKey().toString());
 
 		ConnectorFacade conn = facadeFactory.getConnectorFacade(connectorInstance, connectorConfiguration);
+		try {
+			ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
+			if (objectClassConnId == null) {
+				objectClassConnId = ObjectClass.ACCOUNT;
+			}
 
-		ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
-		if (objectClassConnId == null) {
-			objectClassConnId = ObjectClass.ACCOUNT;
+			conn.delete(objectClassConnId, ConnIdIcConvertUtil.convertIcUid(uid), new OperationOptions(connectorConfiguration.getSystemOperationOptions()));
+			LOG.debug("Deleted object - ConnId ({}) Uid= {}", connectorInstance.getConnectorKey().toString(), uid);
+		} finally {
+			facadeFactory.releaseConnectorFacade(conn);
 		}
-
-		conn.delete(objectClassConnId, ConnIdIcConvertUtil.convertIcUid(uid), new OperationOptions(connectorConfiguration.getSystemOperationOptions()));
-		LOG.debug("Deleted object - ConnId ({}) Uid= {}", connectorInstance.getConnectorKey().toString(), uid);
 	}
 
 	@Override
@@ -152,16 +163,19 @@ public class ConnIdIcConnectorService implements IcConnectorService {
 		LOG.debug("Read object - ConnId (Uid= {} {})", uid, connectorInstance.getConnectorKey().toString());
 
 		ConnectorFacade conn = facadeFactory.getConnectorFacade(connectorInstance, connectorConfiguration);
+		try {
+			ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
+			if (objectClassConnId == null) {
+				objectClassConnId = ObjectClass.ACCOUNT;
+			}
 
-		ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
-		if (objectClassConnId == null) {
-			objectClassConnId = ObjectClass.ACCOUNT;
+			ConnectorObject connObject = conn.getObject(objectClassConnId, ConnIdIcConvertUtil.convertIcUid(uid),
+					new OperationOptions(connectorConfiguration.getSystemOperationOptions()));
+			LOG.debug("Readed object - ConnId ({}) Uid= {}", connObject, uid);
+			return ConnIdIcConvertUtil.convertConnIdConnectorObject(connObject);
+		} finally {
+			facadeFactory.releaseConnectorFacade(conn);
 		}
-
-		ConnectorObject connObject = conn.getObject(objectClassConnId, ConnIdIcConvertUtil.convertIcUid(uid),
-				new OperationOptions(connectorConfiguration.getSystemOperationOptions()));
-		LOG.debug("Readed object - ConnId ({}) Uid= {}", connObject, uid);
-		return ConnIdIcConvertUtil.convertConnIdConnectorObject(connObject);
 	}
 
 	@Override
@@ -174,21 +188,23 @@ public class ConnIdIcConnectorService implements IcConnectorService {
 		LOG.debug("Authenticate object - ConnId (username= {} {})", username, connectorInstance.getConnectorKey().toString());
 
 		ConnectorFacade conn = facadeFactory.getConnectorFacade(connectorInstance, connectorConfiguration);
-
-		ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
-		if (objectClassConnId == null) {
-			objectClassConnId = ObjectClass.ACCOUNT;
-		}
 		try {
-			IcUidAttribute uid = ConnIdIcConvertUtil.convertConnIdUid(conn.authenticate(objectClassConnId, username,
-					new org.identityconnectors.common.security.GuardedString(password.asString().toCharArray()),
-					new OperationOptions(connectorConfiguration.getSystemOperationOptions())));
-			LOG.debug("Authenticated object - ConnId (Uid= {})", uid);
-			return uid;
-		} catch (InvalidCredentialException ex) {
-			throw new ResultCodeException(IcResultCode.AUTH_FAILED, ex);
+			ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
+			if (objectClassConnId == null) {
+				objectClassConnId = ObjectClass.ACCOUNT;
+			}
+			try {
+				IcUidAttribute uid = ConnIdIcConvertUtil.convertConnIdUid(conn.authenticate(objectClassConnId, username,
+						new org.identityconnectors.common.security.GuardedString(password.asString().toCharArray()),
+						new OperationOptions(connectorConfiguration.getSystemOperationOptions())));
+				LOG.debug("Authenticated object - ConnId (Uid= {})", uid);
+				return uid;
+			} catch (InvalidCredentialException ex) {
+				throw new ResultCodeException(IcResultCode.AUTH_FAILED, ex);
+			}
+		} finally {
+			facadeFactory.releaseConnectorFacade(conn);
 		}
-
 	}
 
 	@Override
@@ -202,25 +218,27 @@ public class ConnIdIcConnectorService implements IcConnectorService {
 		LOG.debug("Start synchronization for connector {} and objectClass {} - ConnId", connectorInstance.getConnectorKey().toString(), objectClass.getDisplayName());
 		
 		ConnectorFacade conn = facadeFactory.getConnectorFacade(connectorInstance, connectorConfiguration);
-
-		ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
-		if (objectClassConnId == null) {
-			objectClassConnId = ObjectClass.ACCOUNT;
-		}
+		try {
+			ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
+			if (objectClassConnId == null) {
+				objectClassConnId = ObjectClass.ACCOUNT;
+			}
 		
-		SyncToken syncToken = ConnIdIcConvertUtil.convertIcSyncToken(token);
+			SyncToken syncToken = ConnIdIcConvertUtil.convertIcSyncToken(token);
 		
-		SyncResultsHandler handlerConnId = new SyncResultsHandler() {
+			SyncResultsHandler handlerConnId = new SyncResultsHandler() {
 			
-			@Override
-			public boolean handle(SyncDelta delta) {
-				return handler.handle(ConnIdIcConvertUtil.convertConnIdSyncDelta(delta));
-			}
-		};
+				@Override
+				public boolean handle(SyncDelta delta) {
+					return handler.handle(ConnIdIcConvertUtil.convertConnIdSyncDelta(delta));
+				}
+			};
 		
-		SyncToken resultToken =  conn.sync(objectClassConnId, syncToken, handlerConnId, new OperationOptions(connectorConfiguration.getSystemOperationOptions()));
-		return ConnIdIcConvertUtil.convertConnIdSyncToken(resultToken);
-
+			SyncToken resultToken =  conn.sync(objectClassConnId, syncToken, handlerConnId, new OperationOptions(connectorConfiguration.getSystemOperationOptions()));
+			return ConnIdIcConvertUtil.convertConnIdSyncToken(resultToken);
+		} finally {
+			facadeFactory.releaseConnectorFacade(conn);
+		}
 	}
 
 	@Override
@@ -234,29 +252,32 @@ public class ConnIdIcConnectorService implements IcConnectorService {
 		
 		LOG.debug("Start search for connector {} and objectClass {} and filter {} - ConnId", connectorInstance.getConnectorKey().toString(), objectClass.getDisplayName(), filter);
 		ConnectorFacade conn = facadeFactory.getConnectorFacade(connectorInstance, connectorConfiguration);
-
-		ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
-		if (objectClassConnId == null) {
-			objectClassConnId = ObjectClass.ACCOUNT;
-		}
+		try {
+			ObjectClass objectClassConnId = ConnIdIcConvertUtil.convertIcObjectClass(objectClass);
+			if (objectClassConnId == null) {
+				objectClassConnId = ObjectClass.ACCOUNT;
+			}
 		
-		final SearchResultsHandler handlerConnId = new SearchResultsHandler() {
+			final SearchResultsHandler handlerConnId = new SearchResultsHandler() {
 			
-			@Override
-			public boolean handle(ConnectorObject connectorObject) {
+				@Override
+				public boolean handle(ConnectorObject connectorObject) {
 				
-				return handler.handle(ConnIdIcConvertUtil.convertConnIdConnectorObject(connectorObject));
-			}
-
-			@Override
-			public void handleResult(SearchResult result) {
-				// VS TODO: For all my tests was search result Null and this method (handle result) was not called!
-				LOG.debug("SearchResul was returned (pagination): cookie: {}  --- remaining paged results: {}", result.getPagedResultsCookie(), result.getRemainingPagedResults());
-			}
-		};
-		Filter filterConnId = ConnIdIcConvertUtil.convertIcFilter(filter);
+					return handler.handle(ConnIdIcConvertUtil.convertConnIdConnectorObject(connectorObject));
+				}
+
+				@Override
+				public void handleResult(SearchResult result) {
+					// VS TODO: For all my tests was search result Null and this method (handle result) was not called!
+					LOG.debug("SearchResul was returned (pagination): cookie: {}  --- remaining paged results: {}", result.getPagedResultsCookie(), result.getRemainingPagedResults());
+				}
+			};
+			Filter filterConnId = ConnIdIcConvertUtil.convertIcFilter(filter);
 	    	
-		this.pageSearch(conn, objectClassConnId, filterConnId, handlerConnId, new OperationOptions(connectorConfiguration.getSystemOperationOptions()));
+			this.pageSearch(conn, objectClassConnId, filterConnId, handlerConnId, new OperationOptions(connectorConfiguration.getSystemOperationOptions()));
+		} finally {
+			facadeFactory.releaseConnectorFacade(conn);
+		}
 	}
 	
 	private void pageSearch(ConnectorFacade conn, ObjectClass objectClass, Filter filter,
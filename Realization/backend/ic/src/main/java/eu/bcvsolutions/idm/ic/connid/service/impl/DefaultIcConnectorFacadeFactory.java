@@ -1,28 +1,80 @@
 package eu.bcvsolutions.idm.ic.connid.service.impl;
 
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.identityconnectors.common.security.GuardedByteArray;
 import org.identityconnectors.framework.api.APIConfiguration;
 import org.identityconnectors.framework.api.ConnectorFacade;
 import org.identityconnectors.framework.api.ConnectorFacadeFactory;
 import org.identityconnectors.framework.api.ConnectorInfo;
+import org.identityconnectors.framework.impl.api.local.LocalConnectorFacadeImpl;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListener;
+import com.google.common.collect.MapMaker;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import eu.bcvsolutions.idm.core.api.exception.CoreException;
+import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
+import eu.bcvsolutions.idm.ic.api.IcConfigurationProperty;
 import eu.bcvsolutions.idm.ic.api.IcConnectorConfiguration;
 import eu.bcvsolutions.idm.ic.api.IcConnectorInstance;
+import eu.bcvsolutions.idm.ic.api.IcConnectorServer;
+import eu.bcvsolutions.idm.ic.api.IcObjectPoolConfiguration;
 import eu.bcvsolutions.idm.ic.connid.domain.ConnIdIcConvertUtil;
 import eu.bcvsolutions.idm.ic.service.api.IcConnectorFacadeFactory;
 
 /**
  * Basic factory to provide {@link ConnectorFacade} instances.
  *
+ * Created and validated facade is cached by connector instance owner (e.g. system), connector key and configuration fingerprint
+ * => configuration conversion and validation is not executed for each connector operation.
+ * Changed system configuration (including connector pool configuration and remote server)
+ * has different fingerprint => new facade (with new connector pool) is created.
+ * Facades are cached locally only (connector pool cannot be shared) and are disposed (with connector pool),
+ * when they are evicted from cache (expired, system was changed or factory is destroyed) and released by the last user
+ * - facade used by running operation (e.g. search) is not disposed.
+ *
  * @author Peter Štrunc <peter.strunc@bcvsolutions.eu>
  */
 @Service
-public class DefaultIcConnectorFacadeFactory implements IcConnectorFacadeFactory {
+public class DefaultIcConnectorFacadeFactory implements IcConnectorFacadeFactory, DisposableBean {
 
+	private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(DefaultIcConnectorFacadeFactory.class);
+	private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+	private static final long FACADE_EXPIRE_HOURS = 1;
+	//
 	@Autowired
 	private ConnIdIcConfigurationService configurationServiceConnId;
+	//
+	private final Cache<String, CachedConnectorFacade> facades = CacheBuilder
+			.newBuilder()
+			.expireAfterAccess(FACADE_EXPIRE_HOURS, TimeUnit.HOURS)
+			.recordStats()
+			.removalListener((RemovalListener<String, CachedConnectorFacade>) notification -> notification.getValue().evict())
+			.build();
+	// facades returned from cache and not disposed yet - weak keys are compared by identity
+	private final Map<ConnectorFacade, CachedConnectorFacade> cachedFacades = new MapMaker().weakKeys().makeMap();
 
 	/**
 	 * Basic factory method to obtain {@link ConnectorFacade} instance based on given configuration. It uses
@@ -30,12 +82,98 @@ public class DefaultIcConnectorFacadeFactory implements IcConnectorFacadeFactory
 	 *
 	 * @param connectorInstance {@link IcConnectorInstance} to obtain connector info
 	 * @param connectorConfiguration {@link IcConnectorConfiguration} to create api configuration
-	 * @return New instance of {@link ConnectorFacade} created based on given arguments
+	 * @return Instance of {@link ConnectorFacade} created based on given arguments
 	 */
 	@Override
 	public ConnectorFacade getConnectorFacade(IcConnectorInstance connectorInstance, IcConnectorConfiguration connectorConfiguration) {
 		Assert.notNull(connectorInstance.getConnectorKey(), "Connector key is required.");
 		Assert.notNull(connectorConfiguration, "Configuration is required.");
+		//
+		String cacheKey = getCacheKey(connectorInstance, connectorConfiguration);
+		while (true) {
+			CachedConnectorFacade cachedFacade;
+			try {
+				cachedFacade = facades.get(cacheKey, () -> {
+					LOG.debug("Connector facade for connector [{}] will be created.", connectorInstance.getConnectorKey().getFullName());
+					//
+					CachedConnectorFacade createdFacade = new CachedConnectorFacade(
+							cacheKey, 
+							createConnectorFacade(connectorInstance, connectorConfiguration));
+					cachedFacades.put(createdFacade.getFacade(), createdFacade);
+					//
+					return createdFacade;
+				});
+			} catch (ExecutionException | UncheckedExecutionException ex) {
+				// validation exception is thrown as it is
+				if (ex.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) ex.getCause();
+				}
+				throw new CoreException(ex.getCause());
+			}
+			if (cachedFacade.acquire()) {
+				return cachedFacade.getFacade();
+			}
+			// facade was evicted in the meantime => new facade will be created
+			facades.asMap().remove(cacheKey, cachedFacade);
+		}
+	}
+
+	@Override
+	public void releaseConnectorFacade(ConnectorFacade connectorFacade) {
+		if (connectorFacade == null) {
+			return;
+		}
+		CachedConnectorFacade cachedFacade = cachedFacades.get(connectorFacade);
+		if (cachedFacade != null) {
+			cachedFacade.release();
+		}
+	}
+
+	@Override
+	public void evictConnectorFacades(UUID ownerId) {
+		Assert.notNull(ownerId, "Connector instance owner is required.");
+		//
+		String keyPrefix = getCacheKeyPrefix(ownerId);
+		// removal listener disposes facades, when they are released by the last user
+		facades.asMap().keySet().removeIf(cacheKey -> cacheKey.startsWith(keyPrefix));
+	}
+
+	@Override
+	public long getCacheHitCount() {
+		return facades.stats().hitCount();
+	}
+
+	@Override
+	public long getCacheMissCount() {
+		return facades.stats().missCount();
+	}
+
+	@Override
+	public void destroy() {
+		facades.invalidateAll();
+	}
+
+	/**
+	 * Dispose facade removed from cache - connector pool is closed.
+	 *
+	 * @param cacheKey cache key
+	 * @param facade removed facade
+	 */
+	private void dispose(String cacheKey, ConnectorFacade facade) {
+		cachedFacades.remove(facade);
+		if (!(facade instanceof LocalConnectorFacadeImpl)) {
+			// remote facade doesn't have local connector pool
+			return;
+		}
+		try {
+			((LocalConnectorFacadeImpl) facade).dispose();
+			LOG.debug("Connector facade [{}] was disposed.", cacheKey);
+		} catch (Exception ex) {
+			LOG.warn("Connector facade [{}] cannot be disposed.", cacheKey, ex);
+		}
+	}
+
+	private ConnectorFacade createConnectorFacade(IcConnectorInstance connectorInstance, IcConnectorConfiguration connectorConfiguration) {
 		ConnectorInfo connIdInfo = configurationServiceConnId.getConnIdConnectorInfo(connectorInstance);
 		Assert.notNull(connIdInfo, "ConnId connector info not found!");
 		APIConfiguration config = connIdInfo.createDefaultAPIConfiguration();
@@ -49,4 +187,175 @@ public class DefaultIcConnectorFacadeFactory implements IcConnectorFacadeFactory
 		return conn;
 	}
 
+	/**
+	 * Connector instance owner, connector key and fingerprint of all configuration used for creating facade.
+	 * Confidential values are digested only - key doesn't contain them as plain text.
+	 *
+	 * @param connectorInstance connector
+	 * @param connectorConfiguration configuration
+	 * @return cache key
+	 */
+	private String getCacheKey(IcConnectorInstance connectorInstance, IcConnectorConfiguration connectorConfiguration) {
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+		} catch (NoSuchAlgorithmException ex) {
+			throw new CoreException(ex);
+		}
+		//
+		// remote server
+		IcConnectorServer connectorServer = connectorInstance.getConnectorServer();
+		if (connectorInstance.isRemote() && connectorServer != null) {
+			update(digest, connectorServer.getHost());
+			update(digest, connectorServer.getPort());
+			update(digest, connectorServer.isUseSsl());
+			update(digest, connectorServer.getTimeout());
+			update(digest, connectorServer.getPassword());
+		}
+		// pool
+		update(digest, connectorConfiguration.isConnectorPoolingSupported());
+		IcObjectPoolConfiguration poolConfiguration = connectorConfiguration.getConnectorPoolConfiguration();
+		if (poolConfiguration != null) {
+			update(digest, poolConfiguration.getMaxObjects());
+			update(digest, poolConfiguration.getMaxIdle());
+			update(digest, poolConfiguration.getMaxWait());
+			update(digest, poolConfiguration.getMinEvictableIdleTimeMillis());
+			update(digest, poolConfiguration.getMinIdle());
+		}
+		update(digest, connectorConfiguration.getProducerBufferSize());
+		// operation options (e.g. filter validation)
+		Map<String, Object> systemOperationOptions = connectorConfiguration.getSystemOperationOptions();
+		if (systemOperationOptions != null) {
+			new TreeMap<>(systemOperationOptions).forEach((name, value) -> {
+				update(digest, name);
+				update(digest, value);
+			});
+		}
+		// configuration properties
+		if (connectorConfiguration.getConfigurationProperties() != null
+				&& connectorConfiguration.getConfigurationProperties().getProperties() != null) {
+			List<IcConfigurationProperty> properties = new ArrayList<>(connectorConfiguration.getConfigurationProperties().getProperties());
+			properties.sort(Comparator.comparing(IcConfigurationProperty::getName, Comparator.nullsFirst(Comparator.naturalOrder())));
+			for (IcConfigurationProperty property : properties) {
+				update(digest, property.getName());
+				update(digest, property.getValue());
+			}
+		}
+		//
+		return String.format(
+				"%s%s:%s",
+				getCacheKeyPrefix(connectorInstance.getOwnerId()),
+				connectorInstance.getConnectorKey().getFullName(),
+				Base64.getEncoder().encodeToString(digest.digest()));
+	}
+
+	/**
+	 * Facades are cached by connector instance owner => facades of other owners (e.g. systems) with the same connector are not evicted.
+	 * 
+	 * @param ownerId connector instance owner
+	 * @return cache key prefix
+	 */
+	private String getCacheKeyPrefix(UUID ownerId) {
+		return String.format("%s:", ownerId == null ? "" : ownerId);
+	}
+
+	private void update(MessageDigest digest, Object value) {
+		if (value == null) {
+			digest.update((byte) 0);
+			return;
+		}
+		digest.update((byte) 1);
+		if (value instanceof org.identityconnectors.common.security.GuardedString) {
+			// confidential value is not converted to string
+			((org.identityconnectors.common.security.GuardedString) value).access(chars -> {
+				ByteBuffer bytes = StandardCharsets.UTF_8.encode(CharBuffer.wrap(chars));
+				try {
+					digest.update(bytes.duplicate());
+					digest.update((byte) 0);
+				} finally {
+					if (bytes.hasArray()) {
+						Arrays.fill(bytes.array(), (byte) 0);
+					}
+				}
+			});
+		} else if (value instanceof GuardedByteArray) {
+			((GuardedByteArray) value).access(bytes -> {
+				digest.update(bytes);
+				digest.update((byte) 0);
+			});
+		} else if (value instanceof GuardedString) {
+			update(digest, ((GuardedString) value).asString());
+		} else if (value.getClass().isArray()) {
+			int length = Array.getLength(value);
+			update(digest, length);
+			for (int index = 0; index < length; index++) {
+				update(digest, Array.get(value, index));
+			}
+		} else {
+			// value type is included => e.g. 1 and "1" are different
+			byte[] bytes = (value.getClass().getName() + ":" + value).getBytes(StandardCharsets.UTF_8);
+			digest.update(bytes);
+			digest.update((byte) 0);
+		}
+	}
+
+	/**
+	 * Cached facade with users counter - evicted facade is disposed, when the last user releases it.
+	 */
+	private class CachedConnectorFacade {
+
+		private final String cacheKey;
+		private final ConnectorFacade facade;
+		private int users = 0;
+		private boolean evicted = false;
+		private boolean disposed = false;
+
+		CachedConnectorFacade(String cacheKey, ConnectorFacade facade) {
+			this.cacheKey = cacheKey;
+			this.facade = facade;
+		}
+
+		ConnectorFacade getFacade() {
+			return facade;
+		}
+
+		/**
+		 * Evicted facade cannot be acquired - new facade has to be created.
+		 *
+		 * @return true - facade was acquired
+		 */
+		synchronized boolean acquire() {
+			if (evicted) {
+				return false;
+			}
+			users++;
+			return true;
+		}
+
+		synchronized void release() {
+			if (users > 0) {
+				users--;
+			}
+			if (evicted && users == 0) {
+				disposeFacade();
+			}
+		}
+
+		synchronized void evict() {
+			evicted = true;
+			if (users == 0) {
+				disposeFacade();
+			} else {
+				LOG.debug("Connector facade [{}] is used by [{}] operations, facade will be disposed after they end.", cacheKey, users);
+			}
+		}
+
+		private void disposeFacade() {
+			if (disposed) {
+				return;
+			}
+			disposed = true;
+			dispose(cacheKey, facade);
+		}
+	}
 }
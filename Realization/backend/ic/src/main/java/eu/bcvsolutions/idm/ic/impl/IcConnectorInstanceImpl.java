@@ -3,6 +3,8 @@
  */
 package eu.bcvsolutions.idm.ic.impl;
 
+import java.util.UUID;
+
 import eu.bcvsolutions.idm.ic.api.IcConnectorInstance;
 import eu.bcvsolutions.idm.ic.api.IcConnectorKey;
 import eu.bcvsolutions.idm.ic.api.IcConnectorServer;
@@ -21,6 +23,8 @@ public class IcConnectorInstanceImpl implements IcConnectorInstance {
 	
 	private boolean remote = false;
 	
+	private UUID ownerId;
+	
 	public IcConnectorInstanceImpl(IcConnectorServer connectorServer, IcConnectorKey connectorKey, boolean remote) {
 		this.connectorKey = connectorKey;
 		this.connectorServer = connectorServer;
@@ -28,6 +32,20 @@ public class IcConnectorInstanceImpl implements IcConnectorInstance {
 		
 	}
 	
+	/**
+	 * Connector instance with owner
+	 * 
+	 * @param connectorServer
+	 * @param connectorKey
+	 * @param remote
+	 * @param ownerId e.g. system identifier
+	 * @since 12.3.0
+	 */
+	public IcConnectorInstanceImpl(IcConnectorServer connectorServer, IcConnectorKey connectorKey, boolean remote, UUID ownerId) {
+		this(connectorServer, connectorKey, remote);
+		this.ownerId = ownerId;
+	}
+	
 	public IcConnectorInstanceImpl() {
 	}	
 	
@@ -66,4 +84,13 @@ public class IcConnectorInstanceImpl implements IcConnectorInstance {
 	public boolean isRemote() {
 		return remote;
 	}
+	
+	public void setOwnerId(UUID ownerId) {
+		this.ownerId = ownerId;
+	}
+	
+	@Override
+	public UUID getOwnerId() {
+		return ownerId;
+	}
 }
@@ -1,5 +1,7 @@
 package eu.bcvsolutions.idm.ic.service.api;
 
+import java.util.UUID;
+
 import org.identityconnectors.framework.api.ConnectorFacade;
 import org.identityconnectors.framework.api.ConnectorFacadeFactory;
 
@@ -15,12 +17,47 @@ public interface IcConnectorFacadeFactory {
 
 	/**
 	 * Basic factory method to obtain {@link ConnectorFacade} instance based on given configuration. It uses
-	 * {@link ConnectorFacadeFactory} internally.
+	 * {@link ConnectorFacadeFactory} internally. Facade created for the same connector instance owner, connector and configuration is reused.
+	 * Returned facade has to be released by {@link #releaseConnectorFacade(ConnectorFacade)}, when operation ends
+	 * - evicted facade is disposed, when it's released by the last user.
 	 *
 	 * @param connectorInstance {@link IcConnectorInstance} to obtain connector info
 	 * @param connectorConfiguration {@link IcConnectorConfiguration} to create api configuration
-	 * @return New instance of {@link ConnectorFacade} created based on given arguments
+	 * @return Instance of {@link ConnectorFacade} created based on given arguments
 	 */
 	ConnectorFacade getConnectorFacade(IcConnectorInstance connectorInstance, IcConnectorConfiguration connectorConfiguration);
 
+	/**
+	 * Release facade returned by {@link #getConnectorFacade(IcConnectorInstance, IcConnectorConfiguration)} - operation with facade ended.
+	 *
+	 * @param connectorFacade used facade
+	 * @since 12.3.0
+	 */
+	void releaseConnectorFacade(ConnectorFacade connectorFacade);
+
+	/**
+	 * Evict cached facades created for given connector instance owner - e.g. system or its connector configuration was changed.
+	 * Facades of other owners with the same connector are not evicted. Evicted facade is disposed, when it's not used.
+	 *
+	 * @see IcConnectorInstance#getOwnerId()
+	 * @param ownerId connector instance owner (e.g. system identifier)
+	 * @since 12.3.0
+	 */
+	void evictConnectorFacades(UUID ownerId);
+
+	/**
+	 * Count of connector facades returned from cache.
+	 *
+	 * @return hit count
+	 * @since 12.3.0
+	 */
+	long getCacheHitCount();
+
+	/**
+	 * Count of connector facades created (not found in cache).
+	 *
+	 * @return miss count
+	 * @since 12.3.0
+	 */
+	long getCacheMissCount();
 }
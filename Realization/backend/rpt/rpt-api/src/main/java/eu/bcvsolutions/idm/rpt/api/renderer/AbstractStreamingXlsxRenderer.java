@@ -0,0 +1,116 @@
+package eu.bcvsolutions.idm.rpt.api.renderer;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.core.GenericTypeResolver;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import eu.bcvsolutions.idm.rpt.api.dto.RptReportDto;
+import eu.bcvsolutions.idm.rpt.api.exception.ReportRenderException;
+
+/**
+ * Render report into xlsx with bounded memory.
+ *
+ * Report data (json array of items) are read incrementally item by item and rows are written
+ * through streaming workbook - only configured window of rows is kept in memory (see {@link #getRowAccessWindowSize()}).
+ * Rows has to be written in order - rows flushed from window cannot be accessed anymore.
+ *
+ * @param <T> rendered item type - json array item
+ * @since 12.3.0
+ */
+public abstract class AbstractStreamingXlsxRenderer<T> extends AbstractXlsxRenderer {
+
+	public static final String DEFAULT_SHEET_NAME = "Report";
+	//
+	private final Class<T> itemType;
+
+	@SuppressWarnings("unchecked")
+	public AbstractStreamingXlsxRenderer() {
+		itemType = (Class<T>) GenericTypeResolver.resolveTypeArgument(getClass(), AbstractStreamingXlsxRenderer.class);
+	}
+
+	@Override
+	public InputStream render(RptReportDto report) {
+		SXSSFWorkbook workbook = createStreamingWorkbook();
+		// read json stream
+		try (JsonParser jParser = getMapper().getFactory().createParser(getReportData(report))) {
+			Sheet sheet = workbook.createSheet(getSheetName());
+			int rowNum = renderHeader(sheet, 0);
+			//
+			// json is array of items
+			if (jParser.nextToken() == JsonToken.START_ARRAY) {
+				ObjectReader reader = getMapper().readerFor(getItemType());
+				// write single item
+				while (jParser.nextToken() == JsonToken.START_OBJECT) {
+					T item = reader.readValue(jParser);
+					//
+					rowNum = renderItem(item, sheet, rowNum);
+				}
+			}
+			rowNum = renderFooter(sheet, rowNum);
+			//
+			// close and return input stream
+			return getInputStream(workbook);
+		} catch (IOException ex) {
+			workbook.dispose();
+			//
+			throw new ReportRenderException(report.getName(), ex);
+		}
+	}
+
+	/**
+	 * Rendered item type.
+	 *
+	 * @return json array item type
+	 */
+	protected Class<T> getItemType() {
+		return itemType;
+	}
+
+	/**
+	 * Rendered sheet name.
+	 *
+	 * @return sheet name
+	 */
+	protected String getSheetName() {
+		return DEFAULT_SHEET_NAME;
+	}
+
+	/**
+	 * Render header rows. Nothing is rendered by default.
+	 *
+	 * @param sheet rendered sheet
+	 * @param rowNum first header row index
+	 * @return next row index
+	 */
+	protected int renderHeader(Sheet sheet, int rowNum) {
+		return rowNum;
+	}
+
+	/**
+	 * Render single item - one or more rows can be rendered for the item.
+	 *
+	 * @param item item read from report data
+	 * @param sheet rendered sheet
+	 * @param rowNum first item row index
+	 * @return next row index
+	 */
+	protected abstract int renderItem(T item, Sheet sheet, int rowNum);
+
+	/**
+	 * Render footer rows after all items. Nothing is rendered by default.
+	 *
+	 * @param sheet rendered sheet
+	 * @param rowNum first footer row index
+	 * @return next row index
+	 */
+	protected int renderFooter(Sheet sheet, int rowNum) {
+		return rowNum;
+	}
+}
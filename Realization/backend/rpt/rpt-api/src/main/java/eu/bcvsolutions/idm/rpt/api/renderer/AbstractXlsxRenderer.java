@@ -6,8 +6,9 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
+import org.apache.poi.ss.usermodel.Workbook;
 import org.apache.poi.util.IOUtils;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.http.MediaType;
 
 /**
@@ -19,6 +20,12 @@ import org.springframework.http.MediaType;
 public abstract class AbstractXlsxRenderer extends AbstractReportRenderer {
 
 	public static final String RENDERER_EXTENSION = "xlsx";
+	/**
+	 * Count of rows kept in memory by streaming workbook - older rows are flushed to temp file.
+	 * 
+	 * @since 12.3.0
+	 */
+	public static final int DEFAULT_ROW_ACCESS_WINDOW_SIZE = 100;
 	
 	@Override
 	public MediaType getFormat() {
@@ -31,13 +38,38 @@ public abstract class AbstractXlsxRenderer extends AbstractReportRenderer {
 	}
 	
 	/**
-	 * Close workbook and get output as input stream
+	 * Create streaming workbook with bounded memory - only {@link #getRowAccessWindowSize()} rows are kept in memory,
+	 * older rows are flushed (compressed) into temp file. Rows flushed from window cannot be accessed anymore
+	 * => rows has to be written in order.
+	 * 
+	 * @return streaming workbook
+	 * @since 12.3.0
+	 */
+	protected SXSSFWorkbook createStreamingWorkbook() {
+		SXSSFWorkbook workbook = new SXSSFWorkbook(getRowAccessWindowSize());
+		workbook.setCompressTempFiles(true);
+		//
+		return workbook;
+	}
+	
+	/**
+	 * Count of rows kept in memory by streaming workbook.
+	 * 
+	 * @return window size
+	 * @since 12.3.0
+	 */
+	protected int getRowAccessWindowSize() {
+		return DEFAULT_ROW_ACCESS_WINDOW_SIZE;
+	}
+	
+	/**
+	 * Close workbook and get output as input stream. Temp files of streaming workbook are disposed.
 	 * 
 	 * @param workbook
 	 * @return
 	 * @throws IOException
 	 */
-	protected InputStream getInputStream(XSSFWorkbook workbook) throws IOException {
+	protected InputStream getInputStream(Workbook workbook) throws IOException {
 		//
         // save temp file
     	File temp = getAttachmentManager().createTempFile();
@@ -49,6 +81,9 @@ public abstract class AbstractXlsxRenderer extends AbstractReportRenderer {
             return new FileInputStream(temp);
         } finally {
         	IOUtils.closeQuietly(outputStream);
+        	if (workbook instanceof SXSSFWorkbook) {
+        		((SXSSFWorkbook) workbook).dispose();
+        	}
         }  
 	}
 }
@@ -9,8 +9,8 @@ import java.util.Map;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.context.annotation.Description;
 import org.springframework.stereotype.Component;
 
@@ -37,8 +37,8 @@ public class FormableEntityXlsxRenderer extends AbstractXlsxRenderer implements
 	@SuppressWarnings("unchecked")
 	public InputStream render(RptReportDto report) {
 		try (JsonParser jParser = getMapper().getFactory().createParser(getReportData(report));
-			 XSSFWorkbook workbook = new XSSFWorkbook()) {
-			XSSFSheet sheet = workbook.createSheet("Report");
+			 SXSSFWorkbook workbook = createStreamingWorkbook()) {
+			Sheet sheet = workbook.createSheet("Report");
 			//
 			CellStyle cellStyle = workbook.createCellStyle();
 			cellStyle.setWrapText(true);
@@ -66,7 +66,7 @@ public class FormableEntityXlsxRenderer extends AbstractXlsxRenderer implements
 		return null;
 	}
 
-	private int writeHeader(List<String> header, int rowNum, XSSFSheet sheet) {
+	private int writeHeader(List<String> header, int rowNum, Sheet sheet) {
 		Row row = sheet.createRow(rowNum++);
 
 		for (int i = 0; i < header.size(); i++) {
@@ -77,7 +77,7 @@ public class FormableEntityXlsxRenderer extends AbstractXlsxRenderer implements
 		return rowNum;
 	}
 
-	private int createRow(Map<String, Object> item, int rowNum, XSSFSheet sheet, List<String> header) {
+	private int createRow(Map<String, Object> item, int rowNum, Sheet sheet, List<String> header) {
 		Row row = sheet.createRow(rowNum++);
 
 		item.forEach((key, val) -> {
@@ -1,86 +1,60 @@
 package eu.bcvsolutions.idm.rpt.report.identity;
 
-import java.io.IOException;
-import java.io.InputStream;
-
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.CellStyle;
 import org.apache.poi.ss.usermodel.Row;
-import org.apache.poi.xssf.usermodel.XSSFSheet;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.ss.usermodel.Sheet;
 import org.springframework.context.annotation.Description;
 import org.springframework.stereotype.Component;
 
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.JsonToken;
-
-import eu.bcvsolutions.idm.rpt.api.dto.RptReportDto;
-import eu.bcvsolutions.idm.rpt.api.exception.ReportRenderException;
+import eu.bcvsolutions.idm.rpt.api.renderer.AbstractStreamingXlsxRenderer;
 import eu.bcvsolutions.idm.rpt.api.renderer.AbstractXlsxRenderer;
 import eu.bcvsolutions.idm.rpt.api.renderer.RendererRegistrar;
 import eu.bcvsolutions.idm.rpt.dto.RptIdentityWithFormValueDto;
 
 /**
- * Report for identity with chosen eav - xlsx renderer
+ * Report for identity with chosen eav - xlsx renderer (streaming workbook, bounded memory).
  *
  * @author Marek Klement
  */
 @Component("identityEavReportRenderer")
 @Description(AbstractXlsxRenderer.RENDERER_EXTENSION) // will be show as format for download
-public class IdentityEavReportXlsxRenderer extends AbstractXlsxRenderer
+public class IdentityEavReportXlsxRenderer extends AbstractStreamingXlsxRenderer<RptIdentityWithFormValueDto>
 		implements RendererRegistrar {
 
 	@Override
-	public InputStream render(RptReportDto report) {
-		try {
-			// read json stream
-			JsonParser jParser = getMapper().getFactory().createParser(getReportData(report));
-			XSSFWorkbook workbook = new XSSFWorkbook();
-			XSSFSheet sheet = workbook.createSheet("Report");
-			//
-			CellStyle cellStyle = workbook.createCellStyle();
-			cellStyle.setWrapText(true);
-			// header
-			Row row = sheet.createRow(0);
-			Cell cell = row.createCell(0);
-			cell.setCellValue("External code");
-			cell = row.createCell(1);
-			cell.setCellValue("Username");
-			cell = row.createCell(2);
-			cell.setCellValue("Title before");
-			cell = row.createCell(3);
-			cell.setCellValue("First name");
-			cell = row.createCell(4);
-			cell.setCellValue("Last name");
-			cell = row.createCell(5);
-			cell.setCellValue("Title after");
-			cell = row.createCell(6);
-			cell.setCellValue("Disabled");
-			cell = row.createCell(7);
-			cell.setCellValue("Form value");
-			cell.setCellStyle(cellStyle);
-			int rowNum = 1;
-			//
-			// json is array of identities
-			if (jParser.nextToken() == JsonToken.START_ARRAY) {
-				// write single identity
-				while (jParser.nextToken() == JsonToken.START_OBJECT) {
-					RptIdentityWithFormValueDto item = getMapper().readValue(jParser,
-							RptIdentityWithFormValueDto.class);
-					//
-					rowNum = createRow(item, rowNum,sheet);
-				}
-			}
-			// close json stream
-			jParser.close();
-			// close and return input stream
-			return getInputStream(workbook);
-		} catch (IOException ex) {
-			throw new ReportRenderException(report.getName(), ex);
-		}
+	protected int renderHeader(Sheet sheet, int rowNum) {
+		CellStyle cellStyle = sheet.getWorkbook().createCellStyle();
+		cellStyle.setWrapText(true);
+		// header
+		Row row = sheet.createRow(rowNum++);
+		Cell cell = row.createCell(0);
+		cell.setCellValue("External code");
+		cell = row.createCell(1);
+		cell.setCellValue("Username");
+		cell = row.createCell(2);
+		cell.setCellValue("Title before");
+		cell = row.createCell(3);
+		cell.setCellValue("First name");
+		cell = row.createCell(4);
+		cell.setCellValue("Last name");
+		cell = row.createCell(5);
+		cell.setCellValue("Title after");
+		cell = row.createCell(6);
+		cell.setCellValue("Disabled");
+		cell = row.createCell(7);
+		cell.setCellValue("Form value");
+		cell.setCellStyle(cellStyle);
+		//
+		return rowNum;
+	}
+	
+	@Override
+	protected int renderItem(RptIdentityWithFormValueDto item, Sheet sheet, int rowNum) {
+		return createRow(item, rowNum, sheet);
 	}
 
-	private int createRow(RptIdentityWithFormValueDto item, int rowNum, XSSFSheet sheet){
+	private int createRow(RptIdentityWithFormValueDto item, int rowNum, Sheet sheet){
 		Row row = sheet.createRow(rowNum++);
 		Cell cell = row.createCell(0);
 		cell.setCellValue(item.getExternalCode());
@@ -3,16 +3,22 @@ package eu.bcvsolutions.idm.rpt.report.identity;
 import java.io.IOException;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.Lists;
 
 import eu.bcvsolutions.idm.core.api.dto.IdmIdentityDto;
 import eu.bcvsolutions.idm.core.api.dto.filter.IdmIdentityFilter;
@@ -42,6 +48,7 @@ public class IdentityReportExecutorIntegrationTest extends AbstractIntegrationTe
 	@Autowired private ObjectMapper mapper;
 	@Autowired private LoginService loginService;
 	@Autowired private IdentityReportXlsxRenderer xlsxRenderer;
+	@Autowired private ApplicationContext context;
 	
 	@Before
 	public void before() {
@@ -101,4 +108,45 @@ public class IdentityReportExecutorIntegrationTest extends AbstractIntegrationTe
 		//
 		Assert.assertNotNull(xlsxRenderer.render(report));
 	}
+	
+	@Test
+	@Transactional
+	public void testRenderStreamingXlsx() throws IOException {
+		String prefix = getHelper().createName();
+		IdmIdentityDto identityOne = getHelper().createIdentity(prefix + "-one", (GuardedString) null);
+		IdmIdentityDto identityTwo = getHelper().createIdentity(prefix + "-two", (GuardedString) null);
+		IdmIdentityDto identityThree = getHelper().createIdentity(prefix + "-three", (GuardedString) null);
+		//
+		RptReportDto report = new RptReportDto(UUID.randomUUID());
+		report.setExecutorName(reportExecutor.getName());
+		report = reportExecutor.generate(report);
+		List<IdmIdentityDto> identities = mapper.readValue(
+				attachmentManager.getAttachmentData(report.getData()), 
+				new TypeReference<List<IdmIdentityDto>>(){});
+		//
+		// only one row is kept in memory => all rows are flushed during rendering
+		IdentityReportXlsxRenderer renderer = new IdentityReportXlsxRenderer() {
+			
+			@Override
+			protected int getRowAccessWindowSize() {
+				return 1;
+			}
+		};
+		context.getAutowireCapableBeanFactory().autowireBean(renderer);
+		//
+		try (XSSFWorkbook workbook = new XSSFWorkbook(renderer.render(report))) {
+			Sheet sheet = workbook.getSheetAt(0);
+			Assert.assertEquals("Username", sheet.getRow(0).getCell(0).getStringCellValue());
+			for (int index = 0; index < identities.size(); index++) {
+				Assert.assertEquals(identities.get(index).getUsername(), sheet.getRow(index + 1).getCell(0).getStringCellValue());
+			}
+			List<String> usernames = Lists.newArrayList(identityOne.getUsername(), identityTwo.getUsername(), identityThree.getUsername());
+			Assert.assertTrue(identities.stream().map(IdmIdentityDto::getUsername).collect(Collectors.toList()).containsAll(usernames));
+			// footer
+			Cell linkCell = sheet.getRow(identities.size() + 4).getCell(0);
+			Assert.assertNotNull(linkCell.getHyperlink());
+		} finally {
+			attachmentManager.deleteAttachments(report);
+		}
+	}
 }
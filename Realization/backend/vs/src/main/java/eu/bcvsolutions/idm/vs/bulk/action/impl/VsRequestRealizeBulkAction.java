@@ -68,6 +68,12 @@ public class VsRequestRealizeBulkAction extends AbstractBulkAction<VsRequestDto,
 		return super.processEntities(sortedIds);
 	}
 
+	@Override
+	protected boolean supportsChunks() {
+		// requests are processed ordered by date of creation
+		return false;
+	}
+	
 	@Override
 	protected OperationResult processDto(VsRequestDto dto) {
 		Assert.notNull(dto, "Request is required!");
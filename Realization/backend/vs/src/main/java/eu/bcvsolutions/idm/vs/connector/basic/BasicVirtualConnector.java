@@ -7,7 +7,9 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import java.time.ZonedDateTime;
 import org.slf4j.Logger;
@@ -16,6 +18,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.util.Assert;
 
 import com.google.common.collect.Lists;
@@ -25,6 +28,7 @@ import eu.bcvsolutions.idm.acc.dto.SysSystemEntityDto;
 import eu.bcvsolutions.idm.acc.dto.filter.SysSystemEntityFilter;
 import eu.bcvsolutions.idm.acc.service.api.SysSystemEntityService;
 import eu.bcvsolutions.idm.acc.service.api.SysSystemService;
+import eu.bcvsolutions.idm.core.api.entity.AbstractEntity_;
 import eu.bcvsolutions.idm.core.eav.api.domain.PersistentType;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormAttributeDto;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormDefinitionDto;
@@ -45,6 +49,13 @@ import eu.bcvsolutions.idm.ic.czechidm.domain.IcConnectorConfigurationCzechIdMIm
 import eu.bcvsolutions.idm.ic.exception.IcException;
 import eu.bcvsolutions.idm.ic.filter.api.IcFilter;
 import eu.bcvsolutions.idm.ic.filter.api.IcResultsHandler;
+import eu.bcvsolutions.idm.ic.filter.impl.IcAndFilter;
+import eu.bcvsolutions.idm.ic.filter.impl.IcAttributeFilter;
+import eu.bcvsolutions.idm.ic.filter.impl.IcCompositeFilter;
+import eu.bcvsolutions.idm.ic.filter.impl.IcContainsFilter;
+import eu.bcvsolutions.idm.ic.filter.impl.IcEqualsFilter;
+import eu.bcvsolutions.idm.ic.filter.impl.IcNotFilter;
+import eu.bcvsolutions.idm.ic.filter.impl.IcOrFilter;
 import eu.bcvsolutions.idm.ic.impl.IcAttributeImpl;
 import eu.bcvsolutions.idm.ic.impl.IcAttributeInfoImpl;
 import eu.bcvsolutions.idm.ic.impl.IcConnectorObjectImpl;
@@ -67,6 +78,7 @@ import eu.bcvsolutions.idm.vs.service.api.VsRequestService;
 public class BasicVirtualConnector implements VsVirtualConnector {
 
 	private static final Logger LOG = LoggerFactory.getLogger(BasicVirtualConnector.class);
+	private static final int SEARCH_PAGE_SIZE = 100;
 
 	@Autowired
 	private FormService formService;
@@ -344,46 +356,24 @@ public class BasicVirtualConnector implements VsVirtualConnector {
 
 		// Find account by UID and System ID
 		VsAccountDto account = accountService.findByUidSystem(uidValue, systemId);
-
-		// All attributes from VS account
-		List<IcAttribute> vsAttributes = new ArrayList<>();
-
-		// Create uid attribute
-		IcAttributeImpl uidAttribute = new IcAttributeImpl(IcAttributeInfo.NAME, uidValue);
-		vsAttributes.add(uidAttribute);
-
+		
+		// Attributes from definition and configuration
+		List<IcAttribute> accountAttributes = null;
 		if (account != null) {
-
-			// Create enable attribute
-			if (this.virtualConfiguration.isDisableSupported()) {
-				IcAttributeImpl enableAttribute = new IcAttributeImpl(IcAttributeInfo.ENABLE, account.isEnable());
-				vsAttributes.add(enableAttribute);
-			}
-			// Attributes from definition and configuration
-			UUID accountId = account.getId();
-			Arrays.asList(virtualConfiguration.getAttributes()).forEach(virtualAttirbute -> {
-				IcAttribute attribute = accountService.getIcAttribute(accountId, virtualAttirbute, formDefinition);
-				if (attribute == null) {
-					return;
-				}
-				vsAttributes.add(attribute);
-			});
+			accountAttributes = accountService
+					.getIcAttributes(Lists.newArrayList(account.getId()), getVirtualAttributes(), formDefinition)
+					.get(account.getId());
 		}
 
-		// Overwrite attributes form VS account with attributes from unresloved
-		// requests
-		List<IcAttribute> attributes = this.overwriteAttributesByUnresolvedRequests(account, uidValue, vsAttributes);
-		if (attributes == null) {
-			return null;
-		}
-
-		IcConnectorObjectImpl connectorObject = new IcConnectorObjectImpl();
-		connectorObject.setUidValue(uidValue);
-		connectorObject.setObjectClass(new IcObjectClassImpl(IcObjectClassInfo.ACCOUNT));
-		connectorObject.setAttributes(attributes);
-		return connectorObject;
+		return toConnectorObject(uidValue, account, accountAttributes, requestService.findDuplicities(uidValue, this.systemId));
 	}
 
+	/**
+	 * Accounts are loaded iteratively by pages (keyset pagination by account identifier, without count).
+	 * Attributes and unresolved requests are loaded for the whole page at once.
+	 * Filter by UID is used in account query, all filters are evaluated on the loaded connector object.
+	 * EQUALS and CONTAINS filters (combined by AND, OR, NOT) are supported.
+	 */
 	@Override
 	public void search(IcObjectClass objectClass, IcFilter filter, IcResultsHandler handler) {
 		Assert.notNull(objectClass, "Object class cannot be null!");
@@ -392,16 +382,52 @@ public class BasicVirtualConnector implements VsVirtualConnector {
 		if (!IcObjectClassInfo.ACCOUNT.equals(objectClass.getType())) {
 			throw new IcException("Only ACCOUNT object class is supported now!");
 		}
-
-		if (filter == null) {
-			Pageable pageable = PageRequest.of(0, 10);
-			searchByPage(handler, pageable);
-		} else {
-			// TODO: Search by filter
-			throw new IcException(
-					"Virtual system connector does not support search by filter! Filter must be null!. It means search return always all accounts.");
-		}
-
+		validateFilter(filter);
+		
+		VsAccountFilter accountFilter = new VsAccountFilter();
+		accountFilter.setSystemId(systemId);
+		accountFilter.setCount(false);
+		IcAttributeFilter uidFilter = getUidFilter(filter);
+		if (uidFilter instanceof IcEqualsFilter) {
+			accountFilter.setUid(String.valueOf(uidFilter.getAttribute().getValue()));
+		} else if (uidFilter instanceof IcContainsFilter) {
+			accountFilter.setText(((IcContainsFilter) uidFilter).getValue());
+		}
+		Pageable pageable = PageRequest.of(0, SEARCH_PAGE_SIZE, Sort.by(AbstractEntity_.id.getName()));
+		List<String> virtualAttributes = getVirtualAttributes();
+		//
+		Page<VsAccountDto> resultsPage;
+		do {
+			resultsPage = accountService.find(accountFilter, pageable);
+			List<VsAccountDto> accounts = resultsPage.getContent();
+			if (accounts.isEmpty()) {
+				return;
+			}
+			Map<UUID, List<IcAttribute>> accountAttributes = accountService.getIcAttributes(
+					accounts.stream().map(VsAccountDto::getId).collect(Collectors.toList()),
+					virtualAttributes,
+					formDefinition);
+			Map<String, List<VsRequestDto>> unresolvedRequests = requestService.findDuplicities(
+					accounts.stream().map(VsAccountDto::getUid).collect(Collectors.toList()),
+					systemId);
+			//
+			for (VsAccountDto account : accounts) {
+				IcConnectorObject connectorObject = toConnectorObject(
+						account.getUid(),
+						account,
+						accountAttributes.get(account.getId()),
+						unresolvedRequests.getOrDefault(account.getUid(), new ArrayList<>()));
+				if (connectorObject == null || (filter != null && !accept(filter, connectorObject))) {
+					continue;
+				}
+				if (!handler.handle(connectorObject)) {
+					// Handler stop next searching
+					return;
+				}
+			}
+			// next page - keyset
+			accountFilter.setIdAfter(accounts.get(accounts.size() - 1).getId());
+		} while (resultsPage.hasNext());
 	}
 
 	@Override
@@ -424,18 +450,61 @@ public class BasicVirtualConnector implements VsVirtualConnector {
 	}
 
 	/**
-	 * Overwrite attributes form VS account with attributes from unresloved requests
+	 * Create connector object from VS account attributes and unresolved requests.
 	 * 
-	 * @param account
+	 * @param uidValue account uid
+	 * @param account VS account, can be {@code null} (account will be created by unresolved request)
+	 * @param accountAttributes loaded attributes from definition and configuration
+	 * @param unresolvedRequests unresolved requests (sorted from the newest)
+	 * @return connector object, or {@code null} if account doesn't exist (or will be deleted)
+	 */
+	private IcConnectorObject toConnectorObject(String uidValue, VsAccountDto account, List<IcAttribute> accountAttributes,
+			List<VsRequestDto> unresolvedRequests) {
+		// All attributes from VS account
+		List<IcAttribute> vsAttributes = new ArrayList<>();
+
+		// Create uid attribute
+		IcAttributeImpl uidAttribute = new IcAttributeImpl(IcAttributeInfo.NAME, uidValue);
+		vsAttributes.add(uidAttribute);
+
+		if (account != null) {
+
+			// Create enable attribute
+			if (this.virtualConfiguration.isDisableSupported()) {
+				IcAttributeImpl enableAttribute = new IcAttributeImpl(IcAttributeInfo.ENABLE, account.isEnable());
+				vsAttributes.add(enableAttribute);
+			}
+			// Attributes from definition and configuration
+			if (accountAttributes != null) {
+				vsAttributes.addAll(accountAttributes);
+			}
+		}
+
+		// Overwrite attributes form VS account with attributes from unresloved
+		// requests
+		List<IcAttribute> attributes = this.overwriteAttributesByUnresolvedRequests(account, unresolvedRequests, vsAttributes);
+		if (attributes == null) {
+			return null;
+		}
+
+		IcConnectorObjectImpl connectorObject = new IcConnectorObjectImpl();
+		connectorObject.setUidValue(uidValue);
+		connectorObject.setObjectClass(new IcObjectClassImpl(IcObjectClassInfo.ACCOUNT));
+		connectorObject.setAttributes(attributes);
+		return connectorObject;
+	}
+
+	/**
+	 * Overwrite attributes form VS account with attributes from unresloved requests
 	 * 
 	 * @param account
+	 * @param unresolvedRequests unresolved requests (sorted from the newest)
 	 * @param vsAttributes
 	 * @return
 	 */
-	private List<IcAttribute> overwriteAttributesByUnresolvedRequests(VsAccountDto account, String uid,
-			List<IcAttribute> vsAttributes) {
+	private List<IcAttribute> overwriteAttributesByUnresolvedRequests(VsAccountDto account,
+			List<VsRequestDto> unresolvedRequests, List<IcAttribute> vsAttributes) {
 		Map<String, IcAttribute> attributesMap = new HashMap<>();
-		List<VsRequestDto> unresolvedRequests = requestService.findDuplicities(uid, this.systemId);
 
 		vsAttributes.forEach(attribute -> {
 			attributesMap.put(attribute.getName(), attribute);
@@ -480,28 +549,107 @@ public class BasicVirtualConnector implements VsVirtualConnector {
 	}
 
 	/**
-	 * Do search for given page and invoke result handler
+	 * Virtual attributes from configuration.
 	 * 
-	 * @param handler
-	 * @param pageable
+	 * @return attribute names
 	 */
-	private void searchByPage(IcResultsHandler handler, Pageable pageable) {
-		VsAccountFilter accountFilter = new VsAccountFilter();
-		accountFilter.setSystemId(systemId);
-		Page<VsAccountDto> resultsPage = accountService.find(accountFilter, pageable);
-		List<VsAccountDto> results = resultsPage.getContent();
-		for(VsAccountDto account : results) {
-			boolean canContinue = handler
-					.handle(this.read(new IcUidAttributeImpl(IcAttributeInfo.NAME, account.getUid(), null),
-							new IcObjectClassImpl(IcObjectClassInfo.ACCOUNT)));
-			if (!canContinue) {
-				// Handler stop next searching
-				return;
+	private List<String> getVirtualAttributes() {
+		if (virtualConfiguration.getAttributes() == null) {
+			return new ArrayList<>();
+		}
+		return Arrays.asList(virtualConfiguration.getAttributes());
+	}
+
+	/**
+	 * Only EQUALS and CONTAINS filters (combined by AND, OR, NOT) are supported.
+	 * 
+	 * @param filter search filter, can be {@code null} - all accounts will be returned
+	 */
+	private void validateFilter(IcFilter filter) {
+		if (filter == null || filter instanceof IcEqualsFilter || filter instanceof IcContainsFilter) {
+			return;
+		}
+		if (filter instanceof IcNotFilter) {
+			validateFilter(((IcNotFilter) filter).getFilter());
+			return;
+		}
+		if (filter instanceof IcAndFilter || filter instanceof IcOrFilter) {
+			((IcCompositeFilter) filter).getFilters().forEach(this::validateFilter);
+			return;
+		}
+		throw new IcException(MessageFormat.format(
+				"Virtual system connector does not support search by filter [{0}]! Only EQUALS and CONTAINS filters (combined by AND, OR, NOT) are supported.",
+				filter));
+	}
+
+	/**
+	 * Filter by account UID, which can be used in account query - UID filter on the root or in the root AND filter.
+	 * 
+	 * @param filter search filter
+	 * @return UID filter or {@code null}
+	 */
+	private IcAttributeFilter getUidFilter(IcFilter filter) {
+		if (filter instanceof IcAndFilter) {
+			for (IcFilter subFilter : ((IcAndFilter) filter).getFilters()) {
+				IcAttributeFilter uidFilter = getUidFilter(subFilter);
+				if (uidFilter != null) {
+					return uidFilter;
+				}
 			}
+			return null;
+		}
+		if (!(filter instanceof IcEqualsFilter) && !(filter instanceof IcContainsFilter)) {
+			return null;
+		}
+		IcAttributeFilter attributeFilter = (IcAttributeFilter) filter;
+		if (!isUidAttribute(attributeFilter.getName())) {
+			return null;
 		}
-		if (resultsPage.hasNext()) {
-			this.searchByPage(handler, resultsPage.nextPageable());
+		if (attributeFilter instanceof IcEqualsFilter && attributeFilter.getAttribute().getValue() == null) {
+			return null;
 		}
+		return attributeFilter;
+	}
+
+	/**
+	 * Evaluate filter on connector object.
+	 * 
+	 * @param filter validated search filter
+	 * @param connectorObject connector object
+	 * @return true - connector object matches filter
+	 */
+	private boolean accept(IcFilter filter, IcConnectorObject connectorObject) {
+		if (filter instanceof IcNotFilter) {
+			return !accept(((IcNotFilter) filter).getFilter(), connectorObject);
+		}
+		if (filter instanceof IcAndFilter) {
+			return ((IcAndFilter) filter).getFilters().stream().allMatch(subFilter -> accept(subFilter, connectorObject));
+		}
+		if (filter instanceof IcOrFilter) {
+			return ((IcOrFilter) filter).getFilters().stream().anyMatch(subFilter -> accept(subFilter, connectorObject));
+		}
+		IcAttributeFilter attributeFilter = (IcAttributeFilter) filter;
+		List<Object> values;
+		if (isUidAttribute(attributeFilter.getName())) {
+			values = Lists.newArrayList(connectorObject.getUidValue());
+		} else {
+			IcAttribute attribute = connectorObject.getAttributeByName(attributeFilter.getName());
+			values = attribute == null || attribute.getValues() == null ? new ArrayList<>() : attribute.getValues();
+		}
+		if (filter instanceof IcContainsFilter) {
+			String value = ((IcContainsFilter) filter).getValue();
+			//
+			return values
+					.stream()
+					.anyMatch(attributeValue -> attributeValue instanceof String && ((String) attributeValue).contains(value));
+		}
+		List<Object> filterValues = attributeFilter.getAttribute().getValues();
+		//
+		return Objects.equals(filterValues == null ? new ArrayList<>() : filterValues, values);
+	}
+
+	private boolean isUidAttribute(String attributeName) {
+		return IcAttributeInfo.NAME.equals(attributeName) || IcUidAttribute.NAME.equals(attributeName);
 	}
 
 	/**
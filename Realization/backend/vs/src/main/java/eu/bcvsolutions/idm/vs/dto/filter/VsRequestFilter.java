@@ -36,6 +36,7 @@ public class VsRequestFilter extends DataFilter implements ExternalIdentifiableF
 	private ZonedDateTime modifiedBefore; // TODO: modifiedTill alias
 	private boolean includeOwner; // Context property - if true, then entity owns this request will be load and setts to a request DTO.
 	private List<UUID> implementers; // OR
+	private List<String> uids; // OR
 	
 	public VsRequestFilter() {
 		this(new LinkedMultiValueMap<>());
@@ -158,4 +159,22 @@ public class VsRequestFilter extends DataFilter implements ExternalIdentifiableF
 	public void setImplementers(List<UUID> implementers) {
 		this.implementers = implementers;
 	}
+
+	/**
+	 * Requests for more accounts - OR.
+	 * 
+	 * @since 12.3.0
+	 */
+	public List<String> getUids() {
+		return uids;
+	}
+
+	/**
+	 * Requests for more accounts - OR.
+	 * 
+	 * @since 12.3.0
+	 */
+	public void setUids(List<String> uids) {
+		this.uids = uids;
+	}
 }
@@ -1,6 +1,8 @@
 package eu.bcvsolutions.idm.vs.service.api;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import eu.bcvsolutions.idm.core.api.service.ReadWriteDtoService;
@@ -36,6 +38,18 @@ public interface VsAccountService
 	 * @return
 	 */
 	IcAttribute getIcAttribute(UUID accountId, String name, IdmFormDefinitionDto formDefinition);
+	
+	/**
+	 * Load data from extended attributes of more accounts at once (~ page of accounts) and create IcAttributes.
+	 * Attributes are returned in the same order as given attribute names.
+	 * 
+	 * @param accountIds accounts
+	 * @param names attribute names (~ codes in form definition)
+	 * @param formDefinition virtual system form definition
+	 * @return attributes by account identifier
+	 * @since 12.3.0
+	 */
+	Map<UUID, List<IcAttribute>> getIcAttributes(Collection<UUID> accountIds, List<String> names, IdmFormDefinitionDto formDefinition);
 
 	/**
 	 * Load attributes for given VsAccount
@@ -1,6 +1,8 @@
 package eu.bcvsolutions.idm.vs.service.api;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import eu.bcvsolutions.idm.acc.dto.SysSystemDto;
@@ -80,6 +82,17 @@ public interface VsRequestService
 	 * @return
 	 */
 	List<VsRequestDto> findDuplicities(String uid, UUID systemId);
+	
+	/**
+	 * Find duplicity requests for more accounts at once. All request in state IN_PROGRESS for given UIDs
+	 * and system. For all operation types.
+	 * 
+	 * @param uids account UIDs
+	 * @param systemId system
+	 * @return requests by UID, requests are sorted from the newest (as {@link #findDuplicities(String, UUID)})
+	 * @since 12.3.0
+	 */
+	Map<String, List<VsRequestDto>> findDuplicities(Collection<String> uids, UUID systemId);
 
 	/**
 	 * Return account from connector. Account will be contained "wish"
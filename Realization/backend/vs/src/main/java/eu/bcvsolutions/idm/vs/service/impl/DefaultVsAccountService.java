@@ -2,7 +2,12 @@ package eu.bcvsolutions.idm.vs.service.impl;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -14,6 +19,8 @@ import javax.persistence.criteria.Root;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
@@ -22,8 +29,10 @@ import eu.bcvsolutions.idm.core.api.service.EntityEventManager;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormAttributeDto;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormDefinitionDto;
 import eu.bcvsolutions.idm.core.eav.api.dto.IdmFormValueDto;
+import eu.bcvsolutions.idm.core.eav.api.dto.filter.IdmFormValueFilter;
 import eu.bcvsolutions.idm.core.eav.api.service.FormService;
 import eu.bcvsolutions.idm.core.eav.api.service.IdmFormAttributeService;
+import eu.bcvsolutions.idm.core.eav.entity.AbstractFormValue_;
 import eu.bcvsolutions.idm.core.security.api.dto.AuthorizableType;
 import eu.bcvsolutions.idm.ic.api.IcAttribute;
 import eu.bcvsolutions.idm.ic.api.IcAttributeInfo;
@@ -77,7 +86,7 @@ public class DefaultVsAccountService extends AbstractReadWriteDtoService<VsAccou
 		//
 		// quick - "fulltext"
 		if (StringUtils.isNotEmpty(filter.getText())) {
-			predicates.add(builder.or(builder.equal(builder.lower(root.get(VsAccount_.uid)),
+			predicates.add(builder.or(builder.like(builder.lower(root.get(VsAccount_.uid)),
 					"%" + filter.getText().toLowerCase() + "%")));
 		}
 
@@ -135,6 +144,59 @@ public class DefaultVsAccountService extends AbstractReadWriteDtoService<VsAccou
 
 		return attribute;
 	}
+	
+	@Override
+	public Map<UUID, List<IcAttribute>> getIcAttributes(Collection<UUID> accountIds, List<String> names, IdmFormDefinitionDto formDefinition) {
+		Assert.notNull(accountIds, "Accounts are required.");
+		Assert.notNull(names, "Attribute names are required.");
+		Assert.notNull(formDefinition, "Form definition is required.");
+		//
+		Map<UUID, List<IcAttribute>> results = new HashMap<>(accountIds.size());
+		List<IdmFormAttributeDto> attributeDefinitions = names
+				.stream()
+				.map(formDefinition::getMappedAttributeByCode)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList());
+		if (accountIds.isEmpty()) {
+			return results;
+		}
+		// values of all accounts and attributes by one query
+		Map<UUID, Map<UUID, List<Object>>> accountValues = new HashMap<>(accountIds.size());
+		if (!attributeDefinitions.isEmpty()) {
+			IdmFormValueFilter<VsAccount> filter = new IdmFormValueFilter<>();
+			filter.setDefinitionId(formDefinition.getId());
+			filter.setOwnerIds(new ArrayList<>(accountIds));
+			filter.setAttributeIds(attributeDefinitions.stream().map(IdmFormAttributeDto::getId).collect(Collectors.toList()));
+			Sort sort = Sort.by(AbstractFormValue_.seq.getName());
+			//
+			formService
+				.findValues(filter, PageRequest.of(0, Integer.MAX_VALUE, sort))
+				.forEach(value -> {
+					accountValues
+						.computeIfAbsent((UUID) value.getOwnerId(), accountId -> new HashMap<>())
+						.computeIfAbsent(value.getFormAttribute(), attributeId -> new ArrayList<>())
+						.add(value.getValue());
+				});
+		}
+		//
+		accountIds.forEach(accountId -> {
+			Map<UUID, List<Object>> values = accountValues.getOrDefault(accountId, Collections.emptyMap());
+			List<IcAttribute> attributes = new ArrayList<>(attributeDefinitions.size());
+			attributeDefinitions.forEach(attributeDefinition -> {
+				IcAttributeImpl attribute = new IcAttributeImpl();
+				attribute.setMultiValue(attributeDefinition.isMultiple());
+				attribute.setName(attributeDefinition.getCode());
+				List<Object> attributeValues = values.get(attributeDefinition.getId());
+				if (!CollectionUtils.isEmpty(attributeValues)) {
+					attribute.setValues(attributeValues);
+				}
+				attributes.add(attribute);
+			});
+			results.put(accountId, attributes);
+		});
+		//
+		return results;
+	}
 
 	@Override
 	public List<IcAttribute> getIcAttributes(VsAccountDto account) {
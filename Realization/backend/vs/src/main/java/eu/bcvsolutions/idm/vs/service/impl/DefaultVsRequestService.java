@@ -1,7 +1,11 @@
 package eu.bcvsolutions.idm.vs.service.impl;
 
 import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import javax.persistence.criteria.CriteriaBuilder;
@@ -489,6 +493,29 @@ public class DefaultVsRequestService extends AbstractReadWriteDtoService<VsReque
 		Sort sort = new Sort(Direction.DESC, VsRequest_.created.getName());
 		return this.find(filter, PageRequest.of(0, Integer.MAX_VALUE, sort)).getContent();
 	}
+	
+	@Override
+	public Map<String, List<VsRequestDto>> findDuplicities(Collection<String> uids, UUID systemId) {
+		Assert.notNull(uids, "Uids are required.");
+		Assert.notNull(systemId, "System identifier is required.");
+		//
+		Map<String, List<VsRequestDto>> duplicities = new HashMap<>(uids.size());
+		if (uids.isEmpty()) {
+			return duplicities;
+		}
+		VsRequestFilter filter = new VsRequestFilter();
+		filter.setUids(new ArrayList<>(uids));
+		filter.setSystemId(systemId);
+		filter.setState(VsRequestState.IN_PROGRESS);
+		Sort sort = new Sort(Direction.DESC, VsRequest_.created.getName());
+		this
+			.find(filter, PageRequest.of(0, Integer.MAX_VALUE, sort))
+			.forEach(request -> {
+				duplicities.computeIfAbsent(request.getUid(), uid -> new ArrayList<>()).add(request);
+			});
+		//
+		return duplicities;
+	}
 
 	@Override
 	protected List<Predicate> toPredicates(Root<VsRequest> root, CriteriaQuery<?> query, CriteriaBuilder builder,
@@ -506,6 +533,10 @@ public class DefaultVsRequestService extends AbstractReadWriteDtoService<VsReque
 		if (StringUtils.isNotEmpty(filter.getUid())) {
 			predicates.add(builder.equal(root.get(VsRequest_.uid), filter.getUid()));
 		}
+		List<String> uids = filter.getUids();
+		if (!CollectionUtils.isEmpty(uids)) {
+			predicates.add(root.get(VsRequest_.uid).in(uids));
+		}
 
 		// System ID
 		if (filter.getSystemId() != null) {
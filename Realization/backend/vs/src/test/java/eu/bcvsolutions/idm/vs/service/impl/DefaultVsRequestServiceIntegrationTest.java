@@ -44,10 +44,15 @@ import eu.bcvsolutions.idm.core.security.api.domain.GuardedString;
 import eu.bcvsolutions.idm.core.security.api.domain.IdmBasePermission;
 import eu.bcvsolutions.idm.core.security.api.dto.LoginDto;
 import eu.bcvsolutions.idm.core.security.api.service.LoginService;
+import eu.bcvsolutions.idm.ic.api.IcAttributeInfo;
 import eu.bcvsolutions.idm.ic.api.IcConnectorConfiguration;
 import eu.bcvsolutions.idm.ic.api.IcConnectorObject;
 import eu.bcvsolutions.idm.ic.api.IcObjectClass;
+import eu.bcvsolutions.idm.ic.api.IcObjectClassInfo;
+import eu.bcvsolutions.idm.ic.filter.api.IcFilter;
 import eu.bcvsolutions.idm.ic.filter.api.IcResultsHandler;
+import eu.bcvsolutions.idm.ic.filter.impl.IcFilterBuilder;
+import eu.bcvsolutions.idm.ic.impl.IcAttributeImpl;
 import eu.bcvsolutions.idm.ic.impl.IcObjectClassImpl;
 import eu.bcvsolutions.idm.ic.service.api.IcConnectorFacade;
 import eu.bcvsolutions.idm.test.api.AbstractIntegrationTest;
@@ -299,6 +304,35 @@ public class DefaultVsRequestServiceIntegrationTest extends AbstractIntegrationT
 		Assert.assertEquals(USER_ONE_NAME, uids.get(0));
 	}
 
+	@Test
+	public void systemAccountSearchByFilterTest() {
+		SysSystemDto system = this.createVirtualSystem(USER_IMPLEMENTER_NAME, null);
+		this.assignRoleSystem(system, helper.createIdentity(USER_ONE_NAME), ROLE_ONE_NAME);
+		VsRequestFilter requestFilter = new VsRequestFilter();
+		requestFilter.setSystemId(system.getId());
+		requestFilter.setUid(USER_ONE_NAME);
+		VsRequestDto request = requestService.find(requestFilter, null).getContent().get(0);
+		super.logout();
+		loginService.login(new LoginDto(USER_IMPLEMENTER_NAME, new GuardedString("password")));
+		requestService.realize(request);
+		Assert.assertNotNull(accountService.findByUidSystem(USER_ONE_NAME, system.getId()));
+		//
+		IcFilter filter = IcFilterBuilder.equalTo(new IcAttributeImpl(IcAttributeInfo.NAME, USER_ONE_NAME));
+		Assert.assertEquals(Lists.newArrayList(USER_ONE_NAME), searchUids(system, filter));
+		filter = IcFilterBuilder.contains(new IcAttributeImpl(IcAttributeInfo.NAME, USER_ONE_NAME.substring(2, 6)));
+		Assert.assertEquals(Lists.newArrayList(USER_ONE_NAME), searchUids(system, filter));
+		filter = IcFilterBuilder.equalTo(new IcAttributeImpl(IcAttributeInfo.NAME, USER_ONE_CHANGED_NAME));
+		Assert.assertTrue(searchUids(system, filter).isEmpty());
+		filter = IcFilterBuilder.and(
+				IcFilterBuilder.contains(new IcAttributeImpl(IcAttributeInfo.NAME, USER_ONE_NAME)),
+				IcFilterBuilder.not(IcFilterBuilder.equalTo(new IcAttributeImpl(IcAttributeInfo.NAME, USER_ONE_NAME))));
+		Assert.assertTrue(searchUids(system, filter).isEmpty());
+		filter = IcFilterBuilder.or(
+				IcFilterBuilder.equalTo(new IcAttributeImpl(IcAttributeInfo.NAME, USER_ONE_CHANGED_NAME)),
+				IcFilterBuilder.equalTo(new IcAttributeImpl(IcAttributeInfo.NAME, USER_ONE_NAME)));
+		Assert.assertEquals(Lists.newArrayList(USER_ONE_NAME), searchUids(system, filter));
+	}
+
 	@Test
 	public void createAndCancelRequestTest() {
 		String reason = "cancel \"request\" reason!";
@@ -1113,6 +1147,20 @@ public class DefaultVsRequestServiceIntegrationTest extends AbstractIntegrationT
 		return system;
 	}
 
+	private List<String> searchUids(SysSystemDto system, IcFilter filter) {
+		List<String> uids = new ArrayList<>();
+		connectorFacade.search(
+				systemService.getConnectorInstance(system),
+				systemService.getConnectorConfiguration(system),
+				new IcObjectClassImpl(IcObjectClassInfo.ACCOUNT),
+				filter,
+				connectorObject -> {
+					uids.add(connectorObject.getUidValue());
+					return true;
+				});
+		return uids;
+	}
+
 	public SysSystemDto createVirtualSystem(String userImplementerName, List<String> attributes) {
 		IdmIdentityDto userImplementer = helper.createIdentity(userImplementerName);
 		VsSystemDto config = new VsSystemDto();